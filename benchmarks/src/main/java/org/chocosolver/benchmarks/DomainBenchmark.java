@@ -0,0 +1,101 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the domain operations of {@link org.chocosolver.solver.variables.impl.BitsetIntVarImpl}
+ * and {@link org.chocosolver.solver.variables.impl.IntervalIntVarImpl}.
+ * Each operation is done in a new world, which is popped afterwards.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainBenchmark {
+
+    @Param({"bitset", "interval"})
+    public String domain;
+
+    @Param({"64", "4096"})
+    public int size;
+
+    private Solver solver;
+
+    private IntVar var;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Model model = new Model("domain");
+        var = model.intVar("x", 0, size - 1, "interval".equals(domain));
+        solver = model.getSolver();
+    }
+
+    @Benchmark
+    public int updateBounds() throws ContradictionException {
+        solver.getEnvironment().worldPush();
+        try {
+            for (int i = 1; i < 8; i++) {
+                var.updateBounds(i, size - 1 - i, Cause.Null);
+            }
+            return var.getDomainSize();
+        } finally {
+            solver.getEngine().flush();
+            solver.getEnvironment().worldPop();
+        }
+    }
+
+    @Benchmark
+    public int removeValues() throws ContradictionException {
+        solver.getEnvironment().worldPush();
+        try {
+            // only bounds can be removed from an interval domain
+            if (var.hasEnumeratedDomain()) {
+                for (int i = 1; i < size - 1; i += 3) {
+                    var.removeValue(i, Cause.Null);
+                }
+            }
+            var.removeValue(0, Cause.Null);
+            var.removeValue(size - 1, Cause.Null);
+            return var.getDomainSize();
+        } finally {
+            solver.getEngine().flush();
+            solver.getEnvironment().worldPop();
+        }
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        DisposableValueIterator it = var.getValueIterator(true);
+        while (it.hasNext()) {
+            sum += it.next();
+        }
+        it.dispose();
+        for (int v = var.getLB(); v <= var.getUB(); v = var.nextValue(v)) {
+            sum -= v;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link org.chocosolver.solver.propagation.PropagationEngine#propagate()}:
+ * a modification of the first variable of a chain of <i>x<sub>i</sub> &lt; x<sub>i+1</sub></i>
+ * is propagated along the whole chain, then undone.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({"100", "1000"})
+    public int length;
+
+    private Solver solver;
+
+    private IntVar[] xs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ContradictionException {
+        Model model = new Model("chain");
+        xs = model.intVarArray("x", length, 0, 10 * length, true);
+        for (int i = 0; i < length - 1; i++) {
+            model.arithm(xs[i], "<", xs[i + 1]).post();
+        }
+        solver = model.getSolver();
+        solver.propagate();
+    }
+
+    @Benchmark
+    public int propagate() throws ContradictionException {
+        solver.getEnvironment().worldPush();
+        try {
+            xs[0].updateLowerBound(xs[0].getLB() + 5, Cause.Null);
+            solver.getEngine().propagate();
+            return xs[length - 1].getLB();
+        } finally {
+            solver.getEnvironment().worldPop();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link IEnvironment#worldPush()} and {@link IEnvironment#worldPop()}
+ * for each backtracking environment, with a given number of stored integers
+ * modified in each world.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvironmentBenchmark {
+
+    /**
+     * Number of nested worlds
+     */
+    private static final int DEPTH = 64;
+
+    @Param({"flat", "arena", "copy", "hybrid"})
+    public String env;
+
+    @Param({"1", "16", "256"})
+    public int writes;
+
+    private IEnvironment environment;
+
+    private IStateInt[] ints;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EnvironmentBuilder builder = new EnvironmentBuilder();
+        switch (env) {
+            case "flat":
+                builder.fromFlat();
+                break;
+            case "arena":
+                builder.fromArena();
+                break;
+            case "copy":
+                builder.fromCopy();
+                break;
+            case "hybrid":
+                builder.fromHybrid();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown environment " + env);
+        }
+        environment = builder.build();
+        ints = new IStateInt[1024];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = environment.makeInt(i);
+        }
+    }
+
+    @Benchmark
+    public int pushWritePop() {
+        int w = environment.getWorldIndex();
+        for (int d = 0; d < DEPTH; d++) {
+            environment.worldPush();
+            for (int i = 0; i < writes; i++) {
+                ints[(d * writes + i) & 1023].add(1);
+            }
+        }
+        for (int d = 0; d < DEPTH; d++) {
+            environment.worldPop();
+        }
+        assert environment.getWorldIndex() == w;
+        return ints[0].get();
+    }
+}
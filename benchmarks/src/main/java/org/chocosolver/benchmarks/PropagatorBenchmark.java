@@ -0,0 +1,119 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the filtering of some propagators:
+ * {@link org.chocosolver.solver.constraints.nary.sum.PropSum},
+ * {@link org.chocosolver.solver.constraints.extension.nary.PropCompactTable},
+ * {@link org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffAC}
+ * and {@link org.chocosolver.solver.constraints.nary.cumulative.PropCumulative}.
+ * <p>
+ * Each invocation instantiates a randomly chosen variable, in a new world, propagates,
+ * then restores the state.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropagatorBenchmark {
+
+    @Param({"sum", "table", "alldiff", "cumulative"})
+    public String propagator;
+
+    @Param({"10", "50"})
+    public int n;
+
+    private Solver solver;
+
+    private IntVar[] vars;
+
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ContradictionException {
+        Model model = new Model(propagator);
+        random = new Random(0);
+        switch (propagator) {
+            case "sum": {
+                vars = model.intVarArray("x", n, 0, n, false);
+                model.sum(vars, "=", n * n / 2).post();
+                break;
+            }
+            case "table": {
+                vars = model.intVarArray("x", 4, 0, n, false);
+                Tuples tuples = new Tuples(true);
+                for (int t = 0; t < n * n; t++) {
+                    tuples.add(random.ints(4, 0, n + 1).toArray());
+                }
+                model.table(vars, tuples, "CT+").post();
+                break;
+            }
+            case "alldiff": {
+                vars = model.intVarArray("x", n, 0, n + n / 5, false);
+                model.allDifferent(vars, "AC").post();
+                break;
+            }
+            case "cumulative": {
+                vars = model.intVarArray("s", n, 0, 5 * n, false);
+                Task[] tasks = new Task[n];
+                IntVar[] heights = new IntVar[n];
+                for (int i = 0; i < n; i++) {
+                    tasks[i] = new Task(vars[i], 1 + random.nextInt(10));
+                    heights[i] = model.intVar(1 + random.nextInt(4));
+                }
+                model.cumulative(tasks, heights, model.intVar(n / 2)).post();
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown propagator " + propagator);
+        }
+        solver = model.getSolver();
+        solver.propagate();
+    }
+
+    @Benchmark
+    public boolean instantiateAndPropagate() {
+        IntVar var = vars[random.nextInt(vars.length)];
+        solver.getEnvironment().worldPush();
+        try {
+            // pick the k-th value of the domain, which may have holes
+            int value = var.getLB();
+            for (int k = random.nextInt(var.getDomainSize()); k > 0; k--) {
+                value = var.nextValue(value);
+            }
+            var.instantiateTo(value, Cause.Null);
+            solver.getEngine().propagate();
+            return true;
+        } catch (ContradictionException e) {
+            solver.getEngine().flush();
+            return false;
+        } finally {
+            solver.getEnvironment().worldPop();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.examples.AbstractProblem;
+import org.chocosolver.examples.integer.AllIntervalSeries;
+import org.chocosolver.examples.integer.GolombRuler;
+import org.chocosolver.examples.integer.Langford;
+import org.chocosolver.examples.integer.MagicSquare;
+import org.chocosolver.parser.SetUpException;
+import org.chocosolver.solver.Solver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Macro benchmarks: solve some problems of the examples module up to a fixed node budget.
+ * Since the search is deterministic, the same tree is explored from one commit to another
+ * (as long as the filtering is unchanged), the running times are then comparable.
+ * <p>
+ * The number of explored nodes is returned to make a change in the search visible.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({"golomb", "ais", "magic", "langford"})
+    public String problem;
+
+    @Param({"20000"})
+    public long nodes;
+
+    private AbstractProblem instance;
+
+    @Setup(Level.Invocation)
+    public void setUp() throws SetUpException {
+        Supplier<AbstractProblem> maker;
+        String[] args;
+        switch (problem) {
+            case "golomb":
+                maker = GolombRuler::new;
+                args = new String[]{"-m", "10"};
+                break;
+            case "ais":
+                maker = AllIntervalSeries::new;
+                args = new String[]{"-o", "30"};
+                break;
+            case "magic":
+                maker = MagicSquare::new;
+                args = new String[]{"-n", "6"};
+                break;
+            case "langford":
+                maker = Langford::new;
+                args = new String[]{"-k", "2", "-n", "24"};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown problem " + problem);
+        }
+        instance = maker.get();
+        instance.setUp(args);
+        instance.buildModel();
+        instance.configureSearch();
+    }
+
+    @Benchmark
+    public long solve() {
+        Solver solver = instance.getModel().getSolver();
+        solver.limitNode(nodes);
+        while (solver.solve()) ;
+        return solver.getNodeCount();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of examples, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.examples;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.kohsuke.args4j.CmdLineException;
+import org.kohsuke.args4j.CmdLineParser;
+import org.kohsuke.args4j.Option;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static org.chocosolver.solver.search.strategy.Search.*;
+
+/**
+ * Compare the backtracking environments (flat trailing, arena trailing, copying and hybrid)
+ * on some of the problems of this module.
+ * <p>
+ * Each problem is solved with each environment until a node limit is reached,
+ * the best wall-clock time over several runs is reported.
+ * Since the search is deterministic, all environments must explore the same number of nodes.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class EnvironmentComparison {
+
+    @Option(name = "-limit", usage = "Node limit per run.", required = false)
+    private long limit = 200_000;
+
+    @Option(name = "-runs", usage = "Number of runs per problem and environment.", required = false)
+    private int runs = 5;
+
+    @Option(name = "-env", usage = "Restrict to one environment (flat, arena, copy or hybrid).", required = false)
+    private String only = null;
+
+    private static final Map<String, Supplier<IEnvironment>> ENVIRONMENTS = new LinkedHashMap<>();
+
+    static {
+        ENVIRONMENTS.put("flat", () -> new EnvironmentBuilder().fromFlat().build());
+        ENVIRONMENTS.put("arena", () -> new EnvironmentBuilder().fromArena().build());
+        ENVIRONMENTS.put("copy", () -> new EnvironmentBuilder().fromCopy().build());
+        ENVIRONMENTS.put("hybrid", () -> new EnvironmentBuilder().fromHybrid().build());
+    }
+
+    private static final Map<String, BiFunction<IEnvironment, Long, Model>> PROBLEMS = new LinkedHashMap<>();
+
+    static {
+        PROBLEMS.put("NQueenGlobal(60)", EnvironmentComparison::nqueen);
+        PROBLEMS.put("GolombRuler(10)", EnvironmentComparison::golomb);
+        PROBLEMS.put("CumulativeSample(30)", EnvironmentComparison::cumulative);
+        PROBLEMS.put("MagicSquare(5)", EnvironmentComparison::magicSquare);
+    }
+
+    /**
+     * Same as {@link org.chocosolver.examples.nqueen.NQueenGlobal}, all solutions.
+     */
+    private static Model nqueen(IEnvironment env, long limit) {
+        int n = 60;
+        Model model = new Model(env, "NQueen", Settings.init());
+        IntVar[] vars = new IntVar[n];
+        IntVar[] diag1 = new IntVar[n];
+        IntVar[] diag2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = model.intVar("Q_" + i, 1, n, false);
+            diag1[i] = model.offset(vars[i], i);
+            diag2[i] = model.offset(vars[i], -i);
+        }
+        model.allDifferent(vars, "BC").post();
+        model.allDifferent(diag1, "BC").post();
+        model.allDifferent(diag2, "BC").post();
+        model.getSolver().setSearch(minDomLBSearch(vars));
+        model.getSolver().limitNode(limit);
+        return model;
+    }
+
+    /**
+     * Same as {@link org.chocosolver.examples.integer.GolombRuler}, optimization.
+     */
+    private static Model golomb(IEnvironment env, long limit) {
+        int m = 10;
+        Model model = new Model(env, "GolombRuler", Settings.init());
+        IntVar[] ticks = model.intVarArray("a", m, 0, (1 << (m + 1)) - 1, false);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, (1 << (m + 1)) - 1, false);
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.scalar(new IntVar[]{ticks[j], ticks[i]}, new int[]{1, -1}, "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+            }
+        }
+        model.allDifferent(diffs, "BC").post();
+        model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        model.getSolver().setSearch(inputOrderLBSearch(ticks));
+        model.getSolver().limitNode(limit);
+        return model;
+    }
+
+    /**
+     * Same as {@link org.chocosolver.examples.integer.CumulativeSample}, with more tasks.
+     */
+    private static Model cumulative(IEnvironment env, long limit) {
+        int n = 30;
+        int max = 1000;
+        Model model = new Model(env, "Cumulative", Settings.init());
+        IntVar capa = model.intVar(6);
+        IntVar makespan = model.intVar("makespan", 0, max, true);
+        IntVar[] start = model.intVarArray("start", n, 0, max, true);
+        IntVar[] end = new IntVar[n];
+        IntVar[] height = new IntVar[n];
+        Task[] task = new Task[n];
+        Random rd = new Random(0);
+        for (int i = 0; i < n; i++) {
+            int d = rd.nextInt(20) + 1;
+            height[i] = model.intVar(rd.nextInt(5) + 1);
+            end[i] = model.offset(start[i], d);
+            task[i] = new Task(start[i], model.intVar(d), end[i]);
+        }
+        model.cumulative(task, height, capa).post();
+        model.max(makespan, end).post();
+        model.setObjective(Model.MINIMIZE, makespan);
+        model.getSolver().setSearch(lastConflict(minDomLBSearch(start)));
+        model.getSolver().limitNode(limit);
+        return model;
+    }
+
+    /**
+     * Same as {@link org.chocosolver.examples.integer.MagicSquare}, all solutions.
+     */
+    private static Model magicSquare(IEnvironment env, long limit) {
+        int n = 5;
+        int ms = n * (n * n + 1) / 2;
+        Model model = new Model(env, "MagicSquare", Settings.init());
+        IntVar[][] matrix = model.intVarMatrix("square", n, n, 1, n * n);
+        IntVar[] vars = Arrays.stream(matrix).flatMap(Arrays::stream).toArray(IntVar[]::new);
+        model.allDifferent(vars, "BC").post();
+        IntVar[] diag1 = new IntVar[n];
+        IntVar[] diag2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            model.sum(matrix[i], "=", ms).post();
+            IntVar[] col = new IntVar[n];
+            for (int j = 0; j < n; j++) {
+                col[j] = matrix[j][i];
+            }
+            model.sum(col, "=", ms).post();
+            diag1[i] = matrix[i][i];
+            diag2[i] = matrix[(n - 1) - i][i];
+        }
+        model.sum(diag1, "=", ms).post();
+        model.sum(diag2, "=", ms).post();
+        model.arithm(matrix[0][n - 1], "<", matrix[n - 1][0]).post();
+        model.arithm(matrix[0][0], "<", matrix[n - 1][n - 1]).post();
+        model.arithm(matrix[0][0], "<", matrix[n - 1][0]).post();
+        model.getSolver().setSearch(inputOrderLBSearch(vars));
+        model.getSolver().limitNode(limit);
+        return model;
+    }
+
+    private void run() {
+        System.out.printf("%-24s %-8s %12s %12s %12s%n", "problem", "env", "nodes", "best (ms)", "nodes/s");
+        for (Map.Entry<String, BiFunction<IEnvironment, Long, Model>> pb : PROBLEMS.entrySet()) {
+            for (Map.Entry<String, Supplier<IEnvironment>> env : ENVIRONMENTS.entrySet()) {
+                if (only != null && !only.equals(env.getKey())) {
+                    continue;
+                }
+                long best = Long.MAX_VALUE;
+                long nodes = 0;
+                for (int r = 0; r < runs; r++) {
+                    Model model = pb.getValue().apply(env.getValue().get(), limit);
+                    Solver solver = model.getSolver();
+                    long t = System.nanoTime();
+                    //noinspection StatementWithEmptyBody
+                    while (solver.solve()) ;
+                    best = Math.min(best, System.nanoTime() - t);
+                    nodes = solver.getNodeCount();
+                }
+                System.out.printf("%-24s %-8s %12d %12.1f %12.0f%n", pb.getKey(), env.getKey(), nodes,
+                        best / 1e6, nodes / (best / 1e9));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws CmdLineException {
+        EnvironmentComparison bench = new EnvironmentComparison();
+        new CmdLineParser(bench).parseArgument(args);
+        bench.run();
+    }
+}
@@ -34,8 +34,15 @@ import org.kohsuke.args4j.Option;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
 
 /**
  * A regular parser with default and common services
@@ -294,6 +301,48 @@ public abstract class RegParser implements IParser {
         }
     }
 
+    /**
+     * Call <i>builder</i> on the index of each model of the portfolio.
+     * When there are more than one model, they are built concurrently, one thread per model,
+     * and this method returns once all of them are built.
+     * Each model being declared independently of the others, <i>builder</i> must only modify the model it is given.
+     *
+     * @param builder builds the i-th model of the portfolio
+     */
+    protected void buildModelsConcurrently(IntConsumer builder) {
+        int n = portfolio.getModels().size();
+        if (n == 1) {
+            builder.accept(0);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(n);
+        try {
+            List<Future<?>> futures = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                int k = i;
+                futures.add(executor.submit(() -> builder.accept(k)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+                    throw new RuntimeException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Override
     public void configureSearch() {
         Solver solver = portfolio.getModels().get(0).getSolver();
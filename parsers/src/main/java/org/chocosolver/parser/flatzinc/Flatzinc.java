@@ -34,7 +34,6 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.VariableUtils;
 import org.kohsuke.args4j.Option;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
@@ -143,54 +142,99 @@ public class Flatzinc extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
-            Model m = models.get(i);
+        long ptime = -System.currentTimeMillis();
+        if (models.size() == 1) {
+            // a single model is built while streaming the instance, which is never loaded as a whole
+            try (InputStream is = Files.newInputStream(Paths.get(instance))) {
+                parse(models.get(0), datas[0], is);
+            } catch (IOException e) {
+                throw new Error(e.getMessage());
+            }
+        } else {
+            // the instance is read and tokenized once, then each model is built from its own copy of the tokens
+            List<Token> tokens;
+            try {
+                tokens = tokenize(CharStreams.fromFileName(instance));
+            } catch (IOException e) {
+                throw new Error(e.getMessage());
+            }
+            buildModelsConcurrently(i -> parse(models.get(i), datas[i], tokens));
+        }
+        ptime += System.currentTimeMillis();
+        for (Model m : models) {
             Solver s = m.getSolver();
             try {
-                long ptime = -System.currentTimeMillis();
-                FileInputStream fileInputStream = new FileInputStream(instance);
-                parse(m, datas[i], fileInputStream);
-                fileInputStream.close();
                 if(logFilePath != null) {
                     s.log().remove(System.out);
                     s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
                 } else {
                     s.logWithANSI(ansi);
                 }
-                if (level.isLoggable(Level.INFO)) {
-                    s.log().white().printf(String.format("File parsed in %d ms%n", (ptime + System.currentTimeMillis())));
-                }
-                if (level.is(Level.JSON)) {
-                    s.getMeasures().setReadingTimeCount(System.nanoTime() - s.getModel().getCreationTime());
-                    s.log().printf(Locale.US,
-                            "{\t\"name\":\"%s\",\n" +
-                                    "\t\"variables\": %d,\n" +
-                                    "\t\"constraints\": %d,\n" +
-                                    "\t\"policy\": \"%s\",\n" +
-                                    "\t\"parsing time\": %.3f,\n" +
-                                    "\t\"building time\": %.3f,\n" +
-                                    "\t\"memory\": %d,\n" +
-                                    "\t\"stats\":[",
-                            instance,
-                            m.getNbVars(),
-                            m.getNbCstrs(),
-                            m.getSolver().getObjectiveManager().getPolicy(),
-                            (ptime + System.currentTimeMillis()) / 1000f,
-                            s.getReadingTimeCount(),
-                            m.getEstimatedMemory()
-                            );
-                }
             } catch (IOException e) {
                 throw new Error(e.getMessage());
             }
+            if (level.isLoggable(Level.INFO)) {
+                s.log().white().printf(String.format("File parsed in %d ms%n", ptime));
+            }
+            if (level.is(Level.JSON)) {
+                s.getMeasures().setReadingTimeCount(System.nanoTime() - s.getModel().getCreationTime());
+                s.log().printf(Locale.US,
+                        "{\t\"name\":\"%s\",\n" +
+                                "\t\"variables\": %d,\n" +
+                                "\t\"constraints\": %d,\n" +
+                                "\t\"policy\": \"%s\",\n" +
+                                "\t\"parsing time\": %.3f,\n" +
+                                "\t\"building time\": %.3f,\n" +
+                                "\t\"memory\": %d,\n" +
+                                "\t\"stats\":[",
+                        instance,
+                        m.getNbVars(),
+                        m.getNbCstrs(),
+                        m.getSolver().getObjectiveManager().getPolicy(),
+                        ptime / 1000f,
+                        s.getReadingTimeCount(),
+                        m.getEstimatedMemory()
+                        );
+            }
         }
     }
 
+    /**
+     * Read all the tokens of a FlatZinc instance.
+     *
+     * @param input the instance
+     * @return the tokens, which do not depend on <i>input</i> anymore
+     */
+    public List<Token> tokenize(CharStream input) {
+        Flatzinc4Lexer lexer = new Flatzinc4Lexer(input);
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+        return new ArrayList<>(lexer.getAllTokens());
+    }
+
     public void parse(Model target, Datas data, InputStream is) {
         CharStream input = new UnbufferedCharStream(is);
         Flatzinc4Lexer lexer = new Flatzinc4Lexer(input);
         lexer.setTokenFactory(new CommonTokenFactory(true));
-        TokenStream tokens = new UnbufferedTokenStream<CommonToken>(lexer);
+        parse(target, data, new UnbufferedTokenStream<CommonToken>(lexer));
+    }
+
+    /**
+     * Build <i>target</i> from tokens obtained with {@link #tokenize(CharStream)}.
+     * The tokens are copied beforehand, so that the same list can be used to build several models concurrently.
+     *
+     * @param target the model to build
+     * @param data   the data of <i>target</i>
+     * @param tokens tokens of the instance
+     */
+    public void parse(Model target, Datas data, List<Token> tokens) {
+        List<Token> copies = new ArrayList<>(tokens.size());
+        for (Token t : tokens) {
+            copies.add(new CommonToken(t));
+        }
+        parse(target, data, new CommonTokenStream(new ListTokenSource(copies)));
+    }
+
+    private void parse(Model target, Datas data, TokenStream tokens) {
         Flatzinc4Parser parser = new Flatzinc4Parser(tokens);
         parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
         parser.setBuildParseTree(false);
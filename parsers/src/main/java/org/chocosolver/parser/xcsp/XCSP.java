@@ -19,6 +19,7 @@ import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.SearchParams;
 import org.chocosolver.util.logger.Logger;
 import org.kohsuke.args4j.Option;
+import org.w3c.dom.Document;
 import org.xcsp.parser.callbacks.SolutionChecker;
 
 import java.io.ByteArrayInputStream;
@@ -85,12 +86,34 @@ public class XCSP extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
+        Exception[] failures = new Exception[models.size()];
+        long ptime = -System.currentTimeMillis();
+        try {
+            // the instance is read once, then each model is built from its own copy of the document
+            Document document = XCSPParser.readDocument(instance);
+            Document[] documents = new Document[models.size()];
+            documents[0] = document;
+            for (int i = 1; i < models.size(); i++) {
+                documents[i] = (Document) document.cloneNode(true);
+            }
+            buildModelsConcurrently(i -> {
+                try {
+                    parse(models.get(i), parsers[i], documents[i]);
+                } catch (Exception e) {
+                    failures[i] = e;
+                }
+            });
+        } catch (Exception e) {
+            failures[0] = e;
+        }
+        ptime += System.currentTimeMillis();
         for (int i = 0; i < models.size(); i++) {
             Model m = models.get(i);
             Solver s = m.getSolver();
             try {
-                long ptime = -System.currentTimeMillis();
-                parse(m, parsers[i]);
+                if (failures[i] != null) {
+                    throw failures[i];
+                }
                 if (logFilePath != null) {
                     s.log().remove(System.out);
                     s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
@@ -98,7 +121,7 @@ public class XCSP extends RegParser {
                     s.logWithANSI(ansi);
                 }
                 if (level.isLoggable(Level.INFO)) {
-                    s.log().white().printf("File parsed in %d ms%n", (ptime + System.currentTimeMillis()));
+                    s.log().white().printf("File parsed in %d ms%n", ptime);
                 }
                 if (level.is(Level.JSON)) {
                     s.getMeasures().setReadingTimeCount(System.nanoTime() - s.getModel().getCreationTime());
@@ -115,7 +138,7 @@ public class XCSP extends RegParser {
                             m.getNbVars(),
                             m.getNbCstrs(),
                             m.getSolver().getObjectiveManager().getPolicy(),
-                            (ptime + System.currentTimeMillis()) / 1000f,
+                            ptime / 1000f,
                             s.getReadingTimeCount(),
                             m.getEstimatedMemory()
                     );
@@ -132,7 +155,19 @@ public class XCSP extends RegParser {
     }
 
     public void parse(Model target, XCSPParser parser) throws Exception {
-        parser.model(target, instance);
+        parse(target, parser, XCSPParser.readDocument(instance));
+    }
+
+    /**
+     * Build <i>target</i> from an instance already loaded with {@link XCSPParser#readDocument(String)}.
+     *
+     * @param target   the model to build
+     * @param parser   the parser dedicated to <i>target</i>
+     * @param document the instance, not shared with another model being built concurrently
+     * @throws Exception if the instance cannot be loaded
+     */
+    public void parse(Model target, XCSPParser parser, Document document) throws Exception {
+        parser.model(target, document);
         // and define a search strategy
         freesearch(target.getSolver());
     }
@@ -35,8 +35,10 @@ import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeS
 import org.chocosolver.util.tools.ArrayUtils;
 import org.chocosolver.util.tools.MathUtils;
 import org.chocosolver.util.tools.VariableUtils;
+import org.w3c.dom.Document;
 import org.xcsp.common.Condition;
 import org.xcsp.common.Types;
+import org.xcsp.common.Utilities;
 import org.xcsp.common.predicates.XNode;
 import org.xcsp.common.predicates.XNodeParent;
 import org.xcsp.common.structures.Transition;
@@ -88,15 +90,39 @@ public class XCSPParser implements XCallbacks2 {
     Implem implem;
 
     public void model(Model model, String instance) throws Exception {
+        model(model, readDocument(instance));
+    }
+
+    /**
+     * Feed <i>model</i> with an instance already loaded with {@link #readDocument(String)}.
+     * The document is only read, but a DOM document is not safe to read from several threads,
+     * so each model built concurrently should be given its own copy.
+     *
+     * @param model    the model to feed
+     * @param document the instance
+     * @throws Exception if the instance cannot be loaded
+     */
+    public void model(Model model, Document document) throws Exception {
         this.model = model;
         this.mvars = new HashMap<>();
         this.symbolics = new HashSet<>();
         this.symbolToInt = new TObjectIntHashMap<>();
         this.intToSymbol = new TIntObjectHashMap<>();
         this.implem = new Implem(this);
+        loadInstance(document);
+    }
+
+    /**
+     * Read an XCSP3 instance, compressed or not
+     *
+     * @param instance path to the instance
+     * @return the document of the instance
+     * @throws Exception if the file does not exist or cannot be read
+     */
+    public static Document readDocument(String instance) throws Exception {
         File file = new File(instance);
         if (file.exists()) {
-            loadInstance(instance);
+            return Utilities.loadDocument(instance);
         } else {
             throw new RuntimeException("FILE DOES NOT EXIST");
         }
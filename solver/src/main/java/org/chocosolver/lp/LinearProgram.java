@@ -11,13 +11,21 @@ package org.chocosolver.lp;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Optional;
 
 /**
- * <p>A linear program, equipped with a Simplex method.</p>
- * <p>This is based on "Introduction to Algorithms, Third Edition",
- * By Thomas H. Cormen, Charles E. Leiserson, Ronald L. Rivest and Clifford Stein,
- * 29.3 The simplex algorithm.</p>
+ * <p>A linear program, equipped with a revised Simplex method.</p>
+ * <p>The constraints are stored as sparse rows, each of them being given a slack variable.
+ * The basis is factorized through its kernel, that is, the submatrix made of the basic structural
+ * variables and the rows whose slack is not basic (the other columns of the basis are unit columns),
+ * and updated with eta vectors between two refactorizations.
+ * Variables may be bounded, a nonbasic variable being either at its lower or at its upper bound:
+ * the primal ratio test flips the entering variable from one bound to the other when possible,
+ * without changing the basis.</p>
+ * <p>The last basis is kept from one call to {@link #simplex()} to the other.
+ * After adding a constraint or changing the bounds of a variable, the previous optimal basis is
+ * usually still dual feasible, and a dual Simplex restores optimality in a few pivots.</p>
+ * <p>This is based on "Linear Programming: Foundations and Extensions",
+ * By Robert J. Vanderbei, and "Computational Techniques of the Simplex Method", By Istvan Maros.</p>
  * <p>There are various ways to declare a LP.
  * Either, by giving it as a standard form providing the A nxm-matrix, the m-vector b and the n-vector c.
  * <pre> {@code
@@ -28,7 +36,8 @@ import java.util.Optional;
  * }</pre>
  * <p>
  * Or, by declaring the variables first and then adding some constraints and the objective function.
- * In that case, all the variables must be declared first and have to be nonnegative (&ge; 0).
+ * In that case, all the variables must be declared first and are nonnegative (&ge; 0) by default,
+ * see {@link #setBounds(int, double, double)} to modify their bounds.
  * <pre> {@code
  *  LinearProgram lp = new LinearProgram(false);
  *  lp.makeVariables(2);
@@ -49,157 +58,6 @@ import java.util.Optional;
  */
 public class LinearProgram {
 
-    private static class Slack {
-        // number of non-basic variables
-        private final int n;
-        // number of basic variables
-        private final int m;
-        // a mxn matrix
-        private final double[][] A;
-        // an m-vector
-        private final double[] b;
-        // an n-vector
-        private final double[] c;
-        // an m-vector, the basic variables
-        private final int[] B;
-        // an n-vector, the non-basic variables
-        private final int[] N;
-        // an integer
-        private double v;
-
-        /**
-         * Slack form of a linear program
-         *
-         * @param a an m.n matrix
-         * @param b an m-vector
-         * @param c an n-vector
-         */
-        public Slack(double[][] a, double[] b, double[] c) {
-            this.m = b.length;
-            this.n = c.length;
-            this.A = new double[a.length][];
-            for(int i = 0; i < a.length; i++){
-                this.A[i] = a[i].clone();
-            }
-            this.b = b.clone();
-            this.c = c.clone();
-            this.N = new int[n];
-            this.B = new int[m];
-            this.v = 0;
-            initialBasicSolution();
-        }
-
-        /**
-         * Slack form of a linear program with N and B already defined
-         *
-         * @param a an m.n matrix
-         * @param b an m-vector
-         * @param c an n-vector
-         * @param N an n-vector
-         * @param B an m-vector
-         * @param v a double
-         */
-        public Slack(double[][] a, double[] b, double[] c, int[] N, int[] B, double v) {
-            this.m = b.length;
-            this.n = c.length;
-            //clone?
-            this.A = a;
-            this.b = b;
-            this.c = c;
-            this.N = N;
-            this.B = B;
-            this.v = v;
-        }
-
-        /**
-         * Initialize N and B wrt basic solution
-         */
-        private void initialBasicSolution() {
-            this.v = 0;
-            for (int i = 0; i < n; i++) {
-                this.N[i] = i;
-            }
-            for (int i = 0; i < m; i++) {
-                this.B[i] = i + n;
-            }
-        }
-
-        /**
-         * The method takes as input a slack form and it modifies in-place A, b, c, v, N and B.
-         *
-         * @param l index of the leaving variable
-         * @param e index of the entering variable
-         */
-        void pivot(int l, int e, boolean trace) {
-            if (trace) System.out.printf("[pivot] e: x%d, l: x%d\n", B[l], N[e]);
-            // Compute the coefficients of the equation for new basic variable x_e
-            b[l] /= A[l][e];
-            for (int j = 0; j < n; j++) {
-                if (j != e) {
-                    A[l][j] /= A[l][e];
-                }
-            }
-            A[l][e] = 1 / A[l][e];
-            // Compute the coefficients of the remaining constraints
-            for (int i = 0; i < m; i++) {
-                if (i != l) {
-                    b[i] -= A[i][e] * b[l];
-                    for (int j = 0; j < n; j++) {
-                        if (j != e) {
-                            A[i][j] = A[i][j] - A[i][e] * A[l][j];
-                        }
-                    }
-                    A[i][e] *= -A[l][e];
-                }
-            }
-            // Compute the objective function
-            v += c[e] * b[l];
-            for (int j = 0; j < n; j++) {
-                if (j != e) {
-                    c[j] -= c[e] * A[l][j];
-                }
-            }
-            c[e] *= -A[l][e];
-
-            // Update basic and non-basic variables set
-            int x = N[e];
-            N[e] = B[l];
-            B[l] = x;
-        }
-
-        private void setValues(double[] x) {
-            for (int i = 0; i < m; ++i) {
-                if (B[i] < n) x[B[i]] = b[i];
-            }
-        }
-
-        @Override
-        public String toString() {
-            StringBuilder st = new StringBuilder();
-            st.append("z = ").append(v);
-            for (int i = 0; i < n; i++) {
-                st.append(c[i] >= 0. ? " + " : " - ")
-                        .append(String.format("%.4f", Math.abs(c[i])))
-                        .append(" * x").append(N[i]);
-            }
-            st.append("\n");
-            for (int j = 0; j < m; j++) {
-                st.append("x")
-                        .append(B[j])
-                        .append(" = ")
-                        .append(b[j]);
-                for (int i = 0; i < n; i++) {
-                    st.append(A[j][i] <= 0. ? " + " : " - ")
-                            .append(String.format("%.4f", Math.abs(A[j][i])))
-                            .append(" * x")
-                            .append(N[i]);
-                }
-                st.append("\n");
-            }
-            return st.toString();
-        }
-    }
-
     public enum Status {
         UNKNOWN,
         FEASIBLE,
@@ -207,23 +65,95 @@ public class LinearProgram {
         UNBOUNDED
     }
 
+    // primal and dual feasibility tolerance
+    private static final double TOL = 1e-9;
+    // smallest absolute value of a pivot
+    private static final double PIVOT_TOL = 1e-9;
+    // number of eta vectors before refactorizing the basis
+    private static final int REFACTOR = 64;
+    // number of consecutive degenerate pivots before perturbing the bounds, then before switching to Bland's rule
+    private static final int DEGENERATE = 50;
+    // relative perturbation of the bounds of the basic variables
+    private static final double PERTURBATION = 1e-6;
+
     // number of variables
     int n;
     // number of constraints
     int m;
-    // a mxn matrix
-    private double[][] A;
+    // sparse rows: indices of variables and coefficients
+    private int[][] rowIdx;
+    private double[][] rowVal;
     // an m-vector
     private double[] b;
     // an n-vector
     private double[] c;
+    // bounds of the variables, n-vectors
+    private double[] lb;
+    private double[] ub;
     // an n-vector
     double[] x;
     double z;
+    // reduced costs of the variables, an n-vector
+    private double[] d = new double[0];
     // feasibility of the LP
     Status status = Status.UNKNOWN;
     // trace the resolution
     final boolean trace;
+    // number of iterations of the last call to simplex()
+    private int nbIterations;
+
+    // sparse columns, built on demand
+    private int[] colStart;
+    private int[] colRow;
+    private double[] colVal;
+    private boolean colsValid;
+
+    // variables are indexed from 0 to n-1, slack of row i is indexed n+i
+    // basic variable at each position, null when no basis is known
+    private int[] head;
+    // position of each variable in the basis, -1 when nonbasic
+    private int[] posOf;
+    // for nonbasic variables, true when at upper bound
+    private boolean[] atUpper;
+    // current value of each variable
+    private double[] xv;
+    // relaxation of the bounds of each variable, while the bounds are perturbed
+    private double[] shift;
+    // true when the bounds are perturbed
+    private boolean perturbed;
+    // true when the bounds can still be perturbed during the current resolution
+    private boolean perturbable;
+
+    // factorization of the basis
+    private boolean factorized;
+    // basic variables when the basis was factorized
+    private int[] baseHead;
+    // size of the kernel
+    private int k;
+    // rows of the kernel, that is rows whose slack is nonbasic
+    private int[] kRow;
+    // positions of the kernel columns, that is positions of structural variables
+    private int[] kPos;
+    // index in the kernel of each basic structural variable, -1 otherwise
+    private int[] varInKernel;
+    // LU decomposition of the kernel, with row permutation
+    private double[][] lu;
+    private int[] perm;
+    // eta vectors: position, pivot and sparse column
+    private int nbEtas;
+    private int[] etaPos = new int[REFACTOR];
+    private double[] etaPivot = new double[REFACTOR];
+    private int[][] etaIdx = new int[REFACTOR][];
+    private double[][] etaVal = new double[REFACTOR][];
+
+    // working arrays
+    private double[] wRow;
+    private double[] wPos;
+    private double[] wPi;
+    private double[] wRho;
+    private double[] wCol;
+    private double[] wK1;
+    private double[] wK2;
 
     /**
      * Create a LinearProgram instance that takes a linear program in standard form as input.
@@ -235,16 +165,19 @@ public class LinearProgram {
      */
     public LinearProgram(double[][] matA, double[] vecB, double[] vecC, boolean trace) {
         super();
-        this.m = vecB.length;
         this.n = vecC.length;
-        this.A = new double[matA.length][];
-        for (int i = 0; i < matA.length; i++) {
-            this.A[i] = matA[i].clone();
-        }
-        this.b = vecB.clone();
         this.c = vecC.clone();
+        this.lb = new double[n];
+        this.ub = new double[n];
+        Arrays.fill(ub, Double.POSITIVE_INFINITY);
         this.x = new double[n];
         this.trace = trace;
+        this.rowIdx = new int[Math.max(8, vecB.length)][];
+        this.rowVal = new double[rowIdx.length][];
+        this.b = new double[rowIdx.length];
+        for (int i = 0; i < vecB.length; i++) {
+            addRow(matA[i], 1., vecB[i]);
+        }
     }
 
     /**
@@ -281,10 +214,8 @@ public class LinearProgram {
      * @return the index of the variable
      */
     public int makeVariable() {
-        if (m > 0) {
-            throw new UnsupportedOperationException("Some constraints are already declared");
-        }
-        return n++;
+        makeVariables(1);
+        return n - 1;
     }
 
     /**
@@ -295,6 +226,11 @@ public class LinearProgram {
             throw new UnsupportedOperationException("Some constraints are already declared");
         }
         this.n += n;
+        this.c = Arrays.copyOf(c, this.n);
+        this.lb = Arrays.copyOf(lb, this.n);
+        this.ub = Arrays.copyOf(ub, this.n);
+        Arrays.fill(ub, this.n - n, this.n, Double.POSITIVE_INFINITY);
+        this.head = null;
     }
 
     private void checkLength(double[] a) {
@@ -321,19 +257,86 @@ public class LinearProgram {
         }
     }
 
+    /**
+     * Set the bounds of a variable.
+     * The current basis is kept, so that the next call to {@link #simplex()} is warm started.
+     *
+     * @param var index of the variable
+     * @param l   its lower bound, must be finite
+     * @param u   its upper bound, may be {@link Double#POSITIVE_INFINITY}
+     */
+    public void setBounds(int var, double l, double u) {
+        if (Double.isInfinite(l)) {
+            throw new UnsupportedOperationException("The lower bound of a variable must be finite");
+        }
+        lb[var] = l;
+        ub[var] = u;
+        if (head != null && posOf[var] < 0 && Double.isInfinite(u)) {
+            atUpper[var] = false;
+        }
+    }
+
+    /**
+     * @param var index of the variable
+     * @return the lower bound of the variable
+     */
+    public double getLowerBound(int var) {
+        return lb[var];
+    }
+
+    /**
+     * @param var index of the variable
+     * @return the upper bound of the variable
+     */
+    public double getUpperBound(int var) {
+        return ub[var];
+    }
+
+    /**
+     * @return the number of constraints
+     */
+    public int getNbConstraints() {
+        return m;
+    }
+
+    /**
+     * @return the number of variables
+     */
+    public int getNbVariables() {
+        return n;
+    }
+
+    /**
+     * @return the number of iterations of the last call to {@link #simplex()}
+     */
+    public int getNbIterations() {
+        return nbIterations;
+    }
+
     /**
      * Drop the last declared constraint
      */
     public void dropLast() {
-        // decrease capacity of A
-        double[][] At = this.A;
-        A = new double[this.m - 1][this.n];
-        System.arraycopy(At, 0, this.A, 0, m -1);
-        // decrease capacity of b
-        double[] bt = this.b;
-        this.b = new double[this.m - 1];
-        System.arraycopy(bt, 0, this.b, 0, m - 1);
+        int r = m - 1;
+        int s = n + r;
+        if (head != null) {
+            if (posOf[s] < 0 && !pivotIn(s)) {
+                head = null;
+            } else {
+                // the slack is basic, its position is taken by the last one
+                int p = posOf[s];
+                if (p != r) {
+                    head[p] = head[r];
+                    posOf[head[p]] = p;
+                }
+                posOf[s] = -1;
+                factorized = false;
+            }
+        }
+        rowIdx[r] = null;
+        rowVal[r] = null;
         m--;
+        colsValid = false;
     }
 
     /**
@@ -344,19 +347,7 @@ public class LinearProgram {
      */
     public void addLeq(double[] ci, double b) {
         checkLength(ci);
-        // increase capacity of A
-        double[][] At = this.A;
-        A = new double[this.m + 1][this.n];
-        System.arraycopy(At, 0, this.A, 0, m);
-        // then add the new constraint
-        System.arraycopy(ci, 0, this.A[m], 0, n);
-        // increase capacity of b
-        double[] bt = this.b;
-        this.b = new double[this.m + 1];
-        System.arraycopy(bt, 0, this.b, 0, m);
-        // and add the new rhs
-        this.b[m] = b;
-        m++;
+        addRow(ci, 1., b);
     }
 
     /**
@@ -366,15 +357,11 @@ public class LinearProgram {
      * @param b   the right-hand side value
      */
     public void addLeq(HashMap<Integer, Double> map, double b) {
-        double[] ci = new double[n];
-        map.forEach((v, c) -> ci[v] = c);
-        addLeq(ci, b);
+        addRow(map, 1., b);
     }
 
     public void addLeq(int var, double c, double b) {
-        double[] ci = new double[n];
-        ci[var] = c;
-        addLeq(ci, b);
+        addRow(new int[]{var}, new double[]{c}, b);
     }
 
     /**
@@ -385,11 +372,8 @@ public class LinearProgram {
      * @implNote the (&ge;)-inequality is turned into a (&le;)-inequality constraint
      */
     public void addGeq(double[] ci, double b) {
-        addLeq(ci, b);
-        for (int i = 0; i < n; i++) {
-            this.A[m - 1][i] *= -1;
-        }
-        this.b[m - 1] *= -1;
+        checkLength(ci);
+        addRow(ci, -1., -b);
     }
 
     /**
@@ -399,15 +383,11 @@ public class LinearProgram {
      * @param b   the right-hand side value
      */
     public void addGeq(HashMap<Integer, Double> map, double b) {
-        double[] ci = new double[n];
-        map.forEach((v, c) -> ci[v] = c);
-        addGeq(ci, b);
+        addRow(map, -1., -b);
     }
 
     public void addGeq(int var, double c, double b) {
-        double[] ci = new double[n];
-        ci[var] = c;
-        addGeq(ci, b);
+        addRow(new int[]{var}, new double[]{-c}, -b);
     }
 
     /**
@@ -430,15 +410,96 @@ public class LinearProgram {
      * @param b   the right-hand side value
      */
     public void addEq(HashMap<Integer, Double> map, double b) {
-        double[] ci = new double[n];
-        map.forEach((v, c) -> ci[v] = c);
-        addEq(ci, b);
+        addLeq(map, b);
+        addGeq(map, b);
     }
 
     public void addEq(int var, double c, double b) {
-        double[] ci = new double[n];
-        ci[var] = c;
-        addEq(ci, b);
+        addLeq(var, c, b);
+        addGeq(var, c, b);
+    }
+
+    private void addRow(double[] ci, double sign, double b) {
+        int nz = 0;
+        for (double v : ci) {
+            if (v != 0.) nz++;
+        }
+        int[] idx = new int[nz];
+        double[] val = new double[nz];
+        for (int j = 0, q = 0; j < ci.length; j++) {
+            if (ci[j] != 0.) {
+                idx[q] = j;
+                val[q++] = sign * ci[j];
+            }
+        }
+        addRow(idx, val, b);
+    }
+
+    private void addRow(HashMap<Integer, Double> map, double sign, double b) {
+        int[] idx = map.entrySet().stream()
+                .filter(e -> e.getValue() != 0.)
+                .mapToInt(e -> {
+                    if (e.getKey() >= n) throw new UnsupportedOperationException("Unknown variable " + e.getKey());
+                    return e.getKey();
+                })
+                .sorted().toArray();
+        double[] val = new double[idx.length];
+        for (int q = 0; q < idx.length; q++) {
+            val[q] = sign * map.get(idx[q]);
+        }
+        addRow(idx, val, b);
+    }
+
+    /**
+     * Add the row (idx, val) &le; b.
+     * If a basis is known, it is extended with the slack of the new row.
+     */
+    private void addRow(int[] idx, double[] val, double b) {
+        ensureCapacity(m + 1);
+        rowIdx[m] = idx;
+        rowVal[m] = val;
+        this.b[m] = b;
+        if (head != null) {
+            int s = n + m;
+            head[m] = s;
+            posOf[s] = m;
+            atUpper[s] = false;
+            factorized = false;
+        }
+        m++;
+        colsValid = false;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows > rowIdx.length) {
+            int cap = Math.max(rows, rowIdx.length * 3 / 2 + 1);
+            rowIdx = Arrays.copyOf(rowIdx, cap);
+            rowVal = Arrays.copyOf(rowVal, cap);
+            b = Arrays.copyOf(b, cap);
+        }
+        if (head != null && head.length < rows) {
+            int cap = rowIdx.length;
+            head = Arrays.copyOf(head, cap);
+            posOf = Arrays.copyOf(posOf, n + cap);
+            atUpper = Arrays.copyOf(atUpper, n + cap);
+            xv = Arrays.copyOf(xv, n + cap);
+        }
+    }
+
+    private double lower(int v) {
+        return (v < n ? lb[v] : 0.) - shift[v];
+    }
+
+    private double upper(int v) {
+        return (v < n ? ub[v] : Double.POSITIVE_INFINITY) + shift[v];
+    }
+
+    private double cost(int v) {
+        return v < n ? c[v] : 0.;
+    }
+
+    private static double tol(double bound) {
+        return TOL * (1. + Math.abs(bound));
     }
 
     /**
@@ -447,190 +508,723 @@ public class LinearProgram {
      * Otherwise, the optimal solution of this linear program is computed and values of the variables
      * can be read calling {@link #value(int)}.
      * </p>
+     * <p>The resolution starts from the last basis, if any.</p>
      *
      * @return the resolution status
      */
     public Status simplex() {
-        // slack form of the LP
-        Optional<Slack> opt = initialize();
-        if (opt.isPresent()) {
-            Slack slack = opt.get();
-            if (Status.FEASIBLE.equals(status = solve(slack))) {
-                if (this.x.length != n) {
-                    this.x = new double[n];
+        this.status = Status.UNKNOWN;
+        this.nbIterations = 0;
+        if (this.x.length != n) {
+            this.x = new double[n];
+        }
+        Arrays.fill(this.x, 0.);
+        this.z = 0.;
+        for (int j = 0; j < n; j++) {
+            if (lb[j] > ub[j]) {
+                return status = Status.INFEASIBLE;
+            }
+        }
+        buildColumns();
+        allocate();
+        this.perturbable = true;
+        for (int attempt = 0; attempt < 2 && status == Status.UNKNOWN; attempt++) {
+            if (head == null || !refactor()) {
+                if (trace) System.out.println("Start from the slack basis");
+                coldStart();
+            }
+            computePrimal();
+            try {
+                if (isPrimalFeasible()) {
+                    status = primal(false);
+                    status = unperturb(status);
+                } else if (makeDualFeasible()) {
+                    if (trace) System.out.println("Dual simplex");
+                    status = dual();
+                    if (status == Status.FEASIBLE) {
+                        status = primal(false);
+                        status = unperturb(status);
+                    }
+                } else {
+                    if (trace) System.out.println("Phase 1");
+                    status = primal(true);
+                    if (status == Status.FEASIBLE) {
+                        if (trace) System.out.println("Phase 2");
+                        status = primal(false);
+                        status = unperturb(status);
+                    }
                 }
-                slack.setValues(x);
-                this.z = slack.v;
+            } catch (SingularBasisException e) {
+                perturbed = false;
+                Arrays.fill(shift, 0.);
+                head = null;
+                status = Status.UNKNOWN;
             }
         }
+        if (status == Status.FEASIBLE) {
+            for (int j = 0; j < n; j++) {
+                x[j] = xv[j];
+                z += c[j] * x[j];
+            }
+            reducedCosts();
+        }
         return status;
     }
 
+    private void reducedCosts() {
+        if (d.length != n) {
+            d = new double[n];
+        }
+        for (int p = 0; p < m; p++) {
+            wPos[p] = cost(head[p]);
+        }
+        btran(wPos, wPi);
+        for (int j = 0; j < n; j++) {
+            d[j] = posOf[j] >= 0 ? 0. : c[j] - dot(wPi, j);
+        }
+    }
+
     /**
-     * Main loop of the simplex.
+     * Primal Simplex, from a primal feasible basis in phase 2,
+     * or minimizing the sum of infeasibilities in phase 1.
      *
-     * @param lipr a linear program, under slack form
-     * @return the status of the resolution
+     * @param phase1 set to <i>true</i> for phase 1
+     * @return the status: {@link Status#FEASIBLE} when optimal in phase 2 or feasible in phase 1
      */
-    private Status solve(Slack lipr) {
-        if (trace) System.out.printf("%s", lipr);
-        int e = enteringVariable(lipr);
-        while (e < Integer.MAX_VALUE) {
-            int l = leavingVariable(lipr, e);
-            if (l < 0) {
-                return Status.UNBOUNDED;
+    private Status primal(boolean phase1) {
+        int degenerate = 0;
+        int maxIter = 100 * (n + m) + 1000;
+        while (nbIterations++ < maxIter) {
+            boolean infeasible = false;
+            for (int p = 0; p < m; p++) {
+                int v = head[p];
+                if (phase1) {
+                    if (xv[v] < lower(v) - tol(lower(v))) {
+                        wPos[p] = 1.;
+                        infeasible = true;
+                    } else if (xv[v] > upper(v) + tol(upper(v))) {
+                        wPos[p] = -1.;
+                        infeasible = true;
+                    } else {
+                        wPos[p] = 0.;
+                    }
+                } else {
+                    wPos[p] = cost(v);
+                }
+            }
+            if (phase1 && !infeasible) {
+                return Status.FEASIBLE;
+            }
+            btran(wPos, wPi);
+            // pricing
+            boolean bland = degenerate > DEGENERATE;
+            int q = -1;
+            double best = 0.;
+            for (int v = 0; v < n + m; v++) {
+                if (posOf[v] >= 0 || lower(v) == upper(v)) continue;
+                double d = (phase1 ? 0. : cost(v)) - dot(wPi, v);
+                if ((!atUpper[v] && d > TOL) || (atUpper[v] && d < -TOL)) {
+                    if (bland) {
+                        q = v;
+                        break;
+                    } else if (Math.abs(d) > best) {
+                        best = Math.abs(d);
+                        q = v;
+                    }
+                }
+            }
+            if (q < 0) {
+                return phase1 ? Status.INFEASIBLE : Status.FEASIBLE;
+            }
+            double dir = atUpper[q] ? -1. : 1.;
+            column(q, wCol);
+            ftran(wCol, wPos);
+            // ratio test, the entering variable may reach its other bound first
+            double theta = upper(q) - lower(q);
+            int r = -1;
+            boolean toUpper = false;
+            for (int p = 0; p < m; p++) {
+                double alpha = dir * wPos[p];
+                if (Math.abs(alpha) < PIVOT_TOL) continue;
+                int v = head[p];
+                double l = lower(v), u = upper(v), xp = xv[v];
+                double t;
+                boolean up;
+                if (alpha > 0.) {
+                    // decreasing
+                    if (phase1 && xp > u + tol(u)) {
+                        t = (xp - u) / alpha;
+                        up = true;
+                    } else if (xp >= l - tol(l)) {
+                        t = Math.max(0., xp - l) / alpha;
+                        up = false;
+                    } else continue;
+                } else {
+                    // increasing
+                    if (phase1 && xp < l - tol(l)) {
+                        t = (l - xp) / -alpha;
+                        up = false;
+                    } else if (xp <= u + tol(u) && u < Double.POSITIVE_INFINITY) {
+                        t = Math.max(0., u - xp) / -alpha;
+                        up = true;
+                    } else continue;
+                }
+                if (t < theta || (t == theta && r >= 0 && bland && v < head[r])) {
+                    theta = t;
+                    r = p;
+                    toUpper = up;
+                }
+            }
+            if (theta == Double.POSITIVE_INFINITY) {
+                return phase1 ? Status.INFEASIBLE : Status.UNBOUNDED;
+            }
+            degenerate = theta < TOL ? degenerate + 1 : 0;
+            if (!phase1 && perturbable && degenerate > DEGENERATE) {
+                perturb();
+                degenerate = 0;
+            }
+            for (int p = 0; p < m; p++) {
+                xv[head[p]] -= theta * dir * wPos[p];
+            }
+            if (r < 0) {
+                if (trace) System.out.printf("[flip] x%d\n", q);
+                atUpper[q] = !atUpper[q];
+                xv[q] = atUpper[q] ? upper(q) : lower(q);
+            } else {
+                int l = head[r];
+                xv[q] += dir * theta;
+                xv[l] = toUpper ? upper(l) : lower(l);
+                atUpper[l] = toUpper;
+                pivot(q, r, wPos);
             }
-            lipr.pivot(l, e, trace);
-            e = enteringVariable(lipr);
-            if (trace) System.out.printf("%s", lipr);
         }
-        return Status.FEASIBLE;
+        return Status.UNKNOWN;
     }
 
     /**
-     * Determines that the linear program is infeasible
-     * or returns a slack form for which the basic solution is feasible
+     * Relax the bounds of the basic variables by small and distinct amounts,
+     * so that a long run of degenerate pivots is broken.
+     * The current basis remains primal feasible.
+     */
+    private void perturb() {
+        if (trace) System.out.println("Perturb the bounds");
+        for (int p = 0; p < m; p++) {
+            int v = head[p];
+            // distinct amounts, to avoid ties in the ratio test
+            shift[v] = PERTURBATION * (1. + Math.abs(xv[v])) * (1. + (v * 7919 % 1000) / 1000.);
+        }
+        perturbed = true;
+        perturbable = false;
+    }
+
+    /**
+     * Restore the bounds after a resolution on perturbed bounds,
+     * and reoptimize from the current basis, which remains dual feasible.
      *
-     * @return optional slack form of the linear program defined is this
+     * @param status the status of the resolution on perturbed bounds
+     * @return the status of the resolution on the original bounds
      */
-    private Optional<Slack> initialize() {
-        this.status = Status.UNKNOWN;
-        Arrays.fill(this.x, 0.);
-        this.z = 0.;
-        int k = argmin(b);
-        if (b[k] >= 0) {
-            if (trace) System.out.println("Initial basic solution feasible");
-            return Optional.of(new Slack(A, b, c));
-        }
-        if (trace) System.out.println("Formulate an auxiliary linear program, adding x0");
-        int x0 = 0;
-        Slack laux = auxiliaryLinearProgram(A, b, c);
-        if (trace) System.out.print(laux);
-        laux.pivot(k, x0, trace);
-        // The basic solution is now feasible for laux
-        this.status = Status.INFEASIBLE;
-        if (Status.FEASIBLE.equals(solve(laux))) {
-            double[] x = new double[laux.n];
-            laux.setValues(x);
-            if (x[x0] == 0.) { // if the optimal solution to laux sets x0 to 0
-                // Since this solution has x0 = 0, we know that our initial problem was feasible
-                this.status = Status.FEASIBLE;
-                for (int i = 0; i < laux.m; i++) {
-                    if (laux.B[i] == x0) { // if x0 is basic
-                        // perform one (degenerate) pivot to make it nonbasic
-                        // using any e in N such that a0e != 0
-                        int e = -1;
-                        for (int j = 0; j < laux.n; j++) {
-                            if (laux.A[i][j] != 0) {
-                                e = j;
-                                break;
-                            }
-                        }
-                        if (e == -1) throw new UnsupportedOperationException();
-                        if (trace) System.out.println("Perform one (degenerate) pivot to make it nonbasic");
-                        laux.pivot(i, e, trace);
-                        break;
-                    }
+    private Status unperturb(Status status) {
+        if (!perturbed) {
+            return status;
+        }
+        if (trace) System.out.println("Remove the perturbation");
+        perturbed = false;
+        Arrays.fill(shift, 0.);
+        computePrimal();
+        if (status == Status.FEASIBLE) {
+            if (!isPrimalFeasible()) {
+                status = dual();
+            }
+            if (status == Status.FEASIBLE) {
+                status = primal(false);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Dual Simplex, from a dual feasible basis.
+     *
+     * @return {@link Status#FEASIBLE} when optimal, {@link Status#INFEASIBLE} when the LP has no solution
+     */
+    private Status dual() {
+        int maxIter = 100 * (n + m) + 1000;
+        while (nbIterations++ < maxIter) {
+            // leaving variable: the most infeasible one
+            int r = -1;
+            double worst = 0.;
+            for (int p = 0; p < m; p++) {
+                int v = head[p];
+                double inf = Math.max(lower(v) - xv[v] - tol(lower(v)), xv[v] - upper(v) - tol(upper(v)));
+                if (inf > worst) {
+                    worst = inf;
+                    r = p;
                 }
-                // from the final slack form of laux
-                if (isFeasible()) {
-                    if (trace) System.out.println("Modified final slack form");
-                    return Optional.of(finalSlack(laux, this.c));
+            }
+            if (r < 0) {
+                return Status.FEASIBLE;
+            }
+            int l = head[r];
+            boolean below = xv[l] < lower(l);
+            // row r of the inverse of the basis
+            Arrays.fill(wPos, 0, m, 0.);
+            wPos[r] = 1.;
+            btran(wPos, wRho);
+            for (int p = 0; p < m; p++) {
+                wPos[p] = cost(head[p]);
+            }
+            btran(wPos, wPi);
+            // ratio test
+            int q = -1;
+            double best = Double.POSITIVE_INFINITY, bestAlpha = 0.;
+            for (int v = 0; v < n + m; v++) {
+                if (posOf[v] >= 0 || lower(v) == upper(v)) continue;
+                double alpha = dot(wRho, v);
+                boolean eligible = below ?
+                        (!atUpper[v] && alpha < -PIVOT_TOL) || (atUpper[v] && alpha > PIVOT_TOL) :
+                        (!atUpper[v] && alpha > PIVOT_TOL) || (atUpper[v] && alpha < -PIVOT_TOL);
+                if (eligible) {
+                    double d = Math.abs(cost(v) - dot(wPi, v));
+                    double ratio = d / Math.abs(alpha);
+                    if (ratio < best || (ratio == best && Math.abs(alpha) > bestAlpha)) {
+                        best = ratio;
+                        bestAlpha = Math.abs(alpha);
+                        q = v;
+                    }
                 }
             }
+            if (q < 0) {
+                return Status.INFEASIBLE;
+            }
+            column(q, wCol);
+            ftran(wCol, wPos);
+            double bound = below ? lower(l) : upper(l);
+            double theta = (xv[l] - bound) / wPos[r];
+            for (int p = 0; p < m; p++) {
+                xv[head[p]] -= theta * wPos[p];
+            }
+            xv[q] += theta;
+            xv[l] = bound;
+            atUpper[l] = !below;
+            pivot(q, r, wPos);
         }
-        return Optional.empty();
+        return Status.UNKNOWN;
     }
 
     /**
-     * Determine the index of the constraint with the smallest b.
+     * Make the current basis dual feasible by flipping boxed nonbasic variables with a wrong reduced cost.
      *
-     * @param b right-hand side coefficients
-     * @return the index of the smallest b
+     * @return <i>false</i> if the basis cannot be made dual feasible that way
      */
-    private int argmin(double[] b) {
-        int k = 0;
-        double bk = b[k];
-        for (int i = 1; i < m; i++) {
-            if (bk > b[i]) {
-                bk = b[i];
-                k = i;
+    private boolean makeDualFeasible() {
+        for (int p = 0; p < m; p++) {
+            wPos[p] = cost(head[p]);
+        }
+        btran(wPos, wPi);
+        boolean flipped = false;
+        for (int v = 0; v < n + m; v++) {
+            if (posOf[v] >= 0 || lower(v) == upper(v)) continue;
+            double d = cost(v) - dot(wPi, v);
+            if ((!atUpper[v] && d > TOL) || (atUpper[v] && d < -TOL)) {
+                if (upper(v) == Double.POSITIVE_INFINITY) {
+                    return false;
+                }
+                atUpper[v] = !atUpper[v];
+                flipped = true;
             }
         }
-        return k;
+        if (flipped) {
+            computePrimal();
+        }
+        return true;
+    }
+
+    private boolean isPrimalFeasible() {
+        for (int p = 0; p < m; p++) {
+            int v = head[p];
+            if (xv[v] < lower(v) - tol(lower(v)) || xv[v] > upper(v) + tol(upper(v))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Form the auxiliary linear program by adding -x0 to the LHS of each constraint
-     * and setting the objective function to -x0.
-     *
-     * @return the resulting slack form of L_aux
+     * Compute the values of the basic variables from the ones of the nonbasic variables.
      */
-    private static Slack auxiliaryLinearProgram(double[][] A, double[] b, double[] c) {
-        int n = c.length;
-        int m = b.length;
-        double[][] A2 = new double[m][n + 1];
+    private void computePrimal() {
+        System.arraycopy(b, 0, wRow, 0, m);
+        for (int v = 0; v < n + m; v++) {
+            if (posOf[v] < 0) {
+                xv[v] = atUpper[v] ? upper(v) : lower(v);
+                if (xv[v] != 0.) {
+                    if (v < n) {
+                        for (int e = colStart[v]; e < colStart[v + 1]; e++) {
+                            wRow[colRow[e]] -= colVal[e] * xv[v];
+                        }
+                    } else {
+                        wRow[v - n] -= xv[v];
+                    }
+                }
+            }
+        }
+        ftran(wRow, wPos);
+        for (int p = 0; p < m; p++) {
+            xv[head[p]] = wPos[p];
+        }
+    }
+
+    /**
+     * Start from the slack basis, all variables being at their lower bound.
+     */
+    private void coldStart() {
+        int cap = rowIdx.length;
+        head = new int[cap];
+        posOf = new int[n + cap];
+        atUpper = new boolean[n + cap];
+        xv = new double[n + cap];
+        Arrays.fill(posOf, -1);
+        for (int i = 0; i < m; i++) {
+            head[i] = n + i;
+            posOf[n + i] = i;
+        }
+        if (!refactor()) {
+            throw new IllegalStateException("The slack basis cannot be singular");
+        }
+    }
+
+    private void allocate() {
+        int cap = rowIdx.length;
+        if (wRow == null || wRow.length < cap) {
+            wRow = new double[cap];
+            wPos = new double[cap];
+            wPi = new double[cap];
+            wRho = new double[cap];
+            wCol = new double[cap];
+            kRow = new int[cap];
+            kPos = new int[cap];
+            baseHead = new int[cap];
+        }
+        if (varInKernel == null || varInKernel.length < n) {
+            varInKernel = new int[n];
+        }
+        if (shift == null || shift.length < n + cap) {
+            shift = new double[n + cap];
+        }
+    }
+
+    private void buildColumns() {
+        if (colsValid) return;
+        colStart = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            for (int j : rowIdx[i]) {
+                colStart[j + 1]++;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            colStart[j + 1] += colStart[j];
+        }
+        colRow = new int[colStart[n]];
+        colVal = new double[colStart[n]];
+        int[] next = Arrays.copyOf(colStart, n);
         for (int i = 0; i < m; i++) {
-            System.arraycopy(A[i], 0, A2[i], 1, n);
-            A2[i][0] = -1;
+            for (int e = 0; e < rowIdx[i].length; e++) {
+                int q = next[rowIdx[i][e]]++;
+                colRow[q] = i;
+                colVal[q] = rowVal[i][e];
+            }
+        }
+        colsValid = true;
+    }
+
+    /**
+     * @return the scalar product of <i>y</i> (indexed by rows) and the column of <i>v</i>
+     */
+    private double dot(double[] y, int v) {
+        if (v >= n) {
+            return y[v - n];
+        }
+        double s = 0.;
+        for (int e = colStart[v]; e < colStart[v + 1]; e++) {
+            s += y[colRow[e]] * colVal[e];
+        }
+        return s;
+    }
+
+    /**
+     * Store in <i>col</i> (indexed by rows) the column of <i>v</i>
+     */
+    private void column(int v, double[] col) {
+        Arrays.fill(col, 0, m, 0.);
+        if (v >= n) {
+            col[v - n] = 1.;
+        } else {
+            for (int e = colStart[v]; e < colStart[v + 1]; e++) {
+                col[colRow[e]] = colVal[e];
+            }
         }
-        double[] c2 = new double[n + 1];
-        c2[0] = -1;
-        return new Slack(A2, b, c2);
     }
 
     /**
-     * remove x0 from the constraints and restore the original objective function of L,
-     * but replace each basic variable in this objective function by the right-hand side of its associated constraint.
+     * Factorize the current basis.
      *
-     * @param laux the auxiliary linear program to transform
-     * @return final slack form of laux
-     */
-    private static Slack finalSlack(Slack laux, double[] oriC) {
-        int n = laux.n - 1;
-        int m = laux.m;
-        // since x0 = 0, we can just remove it from the set of constraints
-        double[][] A2 = new double[m][n];
+     * @return <i>false</i> if the basis is singular
+     */
+    private boolean refactor() {
+        if (factorized && nbEtas == 0) {
+            return true;
+        }
+        allocate();
+        nbEtas = 0;
+        factorized = false;
+        System.arraycopy(head, 0, baseHead, 0, m);
+        k = 0;
         for (int i = 0; i < m; i++) {
-            for (int j = 0, k = 0; j <= n; j++) {
-                if (laux.N[j] > 0) {
-                    A2[i][k++] = laux.A[i][j];
+            if (posOf[n + i] < 0) {
+                kRow[k++] = i;
+            }
+        }
+        int kc = 0;
+        Arrays.fill(varInKernel, 0, n, -1);
+        for (int p = 0; p < m; p++) {
+            if (head[p] < n) {
+                varInKernel[head[p]] = kc;
+                kPos[kc++] = p;
+            }
+        }
+        if (kc != k) {
+            return false;
+        }
+        if (lu == null || lu.length < k) {
+            lu = new double[k][k];
+            perm = new int[k];
+            wK1 = new double[k];
+            wK2 = new double[k];
+        }
+        for (int a = 0; a < k; a++) {
+            Arrays.fill(lu[a], 0, k, 0.);
+            perm[a] = a;
+            int i = kRow[a];
+            for (int e = 0; e < rowIdx[i].length; e++) {
+                int kj = varInKernel[rowIdx[i][e]];
+                if (kj >= 0) {
+                    lu[a][kj] = rowVal[i][e];
                 }
             }
         }
-        double[] b2 = new double[m];
-        System.arraycopy(laux.b, 0, b2, 0, m);
-        // We then restore the original objective function,
-        double[] ct = new double[n + m + 1];
-        System.arraycopy(oriC, 0, ct, 1, n);
-        // with appropriate substitutions made to include only nonbasic variables
-        double z = 0.;
-        for (int j = 0; j < laux.m; j++) {
-            // for every nonbasic variables
-            int nx = laux.B[j];
-            if (nx <= n) {
-                double cx = ct[nx];
-                ct[nx] = 0.;
-                // do the substitutions
-                z += cx * laux.b[j];
-                for (int i = 0; i < laux.n; i++) {
-                    ct[laux.N[i]] -= cx * laux.A[j][i];
+        // LU decomposition with partial pivoting
+        for (int col = 0; col < k; col++) {
+            int best = col;
+            for (int r = col + 1; r < k; r++) {
+                if (Math.abs(lu[r][col]) > Math.abs(lu[best][col])) {
+                    best = r;
+                }
+            }
+            if (Math.abs(lu[best][col]) < PIVOT_TOL) {
+                return false;
+            }
+            if (best != col) {
+                double[] tr = lu[best];
+                lu[best] = lu[col];
+                lu[col] = tr;
+                int tp = perm[best];
+                perm[best] = perm[col];
+                perm[col] = tp;
+            }
+            double[] rc = lu[col];
+            for (int r = col + 1; r < k; r++) {
+                double[] rr = lu[r];
+                if (rr[col] != 0.) {
+                    double f = rr[col] /= rc[col];
+                    for (int c2 = col + 1; c2 < k; c2++) {
+                        rr[c2] -= f * rc[c2];
+                    }
                 }
             }
         }
-        double[] c2 = new double[n];
-        int[] N2 = new int[n];
-        for (int i = 0, j = 0; i < laux.n; i++) {
-            if (laux.N[i] > 0) {
-                c2[j] = ct[laux.N[i]];
-                N2[j++] = laux.N[i] - 1;
+        factorized = true;
+        return true;
+    }
+
+    /**
+     * Solve B.out = y, where <i>y</i> is indexed by rows and <i>out</i> by positions.
+     */
+    private void ftran(double[] y, double[] out) {
+        // kernel part: K.z = y restricted to kernel rows
+        for (int a = 0; a < k; a++) {
+            wK1[a] = y[kRow[perm[a]]];
+        }
+        for (int a = 0; a < k; a++) {
+            double s = wK1[a];
+            double[] ra = lu[a];
+            for (int c2 = 0; c2 < a; c2++) {
+                s -= ra[c2] * wK1[c2];
             }
+            wK1[a] = s;
         }
-        int[] B2 = new int[m];
-        for (int i = 0; i < laux.m; i++) {
-            B2[i] = laux.B[i] - 1;
+        for (int a = k - 1; a >= 0; a--) {
+            double s = wK1[a];
+            double[] ra = lu[a];
+            for (int c2 = a + 1; c2 < k; c2++) {
+                s -= ra[c2] * wK1[c2];
+            }
+            wK1[a] = s / ra[a];
+        }
+        for (int a = 0; a < k; a++) {
+            out[kPos[a]] = wK1[a];
+        }
+        // slack part
+        for (int p = 0; p < m; p++) {
+            int v = baseHead[p];
+            if (v >= n) {
+                int i = v - n;
+                double s = y[i];
+                for (int e = 0; e < rowIdx[i].length; e++) {
+                    int kj = varInKernel[rowIdx[i][e]];
+                    if (kj >= 0) {
+                        s -= rowVal[i][e] * wK1[kj];
+                    }
+                }
+                out[p] = s;
+            }
+        }
+        // eta vectors
+        for (int t = 0; t < nbEtas; t++) {
+            int r = etaPos[t];
+            double vr = out[r] / etaPivot[t];
+            out[r] = vr;
+            if (vr != 0.) {
+                int[] idx = etaIdx[t];
+                double[] val = etaVal[t];
+                for (int e = 0; e < idx.length; e++) {
+                    out[idx[e]] -= val[e] * vr;
+                }
+            }
+        }
+    }
+
+    /**
+     * Solve out.B = y, where <i>y</i> is indexed by positions (and modified) and <i>out</i> by rows.
+     */
+    private void btran(double[] y, double[] out) {
+        // eta vectors, in reverse order
+        for (int t = nbEtas - 1; t >= 0; t--) {
+            int r = etaPos[t];
+            double s = y[r];
+            int[] idx = etaIdx[t];
+            double[] val = etaVal[t];
+            for (int e = 0; e < idx.length; e++) {
+                s -= val[e] * y[idx[e]];
+            }
+            y[r] = s / etaPivot[t];
+        }
+        // slack part
+        for (int a = 0; a < k; a++) {
+            wK2[a] = y[kPos[a]];
+        }
+        for (int p = 0; p < m; p++) {
+            int v = baseHead[p];
+            if (v >= n) {
+                int i = v - n;
+                double pi = y[p];
+                out[i] = pi;
+                if (pi != 0.) {
+                    for (int e = 0; e < rowIdx[i].length; e++) {
+                        int kj = varInKernel[rowIdx[i][e]];
+                        if (kj >= 0) {
+                            wK2[kj] -= rowVal[i][e] * pi;
+                        }
+                    }
+                }
+            }
+        }
+        // kernel part: K^T.w = wK2, that is U^T.L^T.P.w = wK2
+        for (int a = 0; a < k; a++) {
+            double s = wK2[a];
+            for (int c2 = 0; c2 < a; c2++) {
+                s -= lu[c2][a] * wK2[c2];
+            }
+            wK2[a] = s / lu[a][a];
+        }
+        for (int a = k - 1; a >= 0; a--) {
+            double s = wK2[a];
+            for (int c2 = a + 1; c2 < k; c2++) {
+                s -= lu[c2][a] * wK2[c2];
+            }
+            wK2[a] = s;
+        }
+        for (int a = 0; a < k; a++) {
+            out[kRow[perm[a]]] = wK2[a];
         }
-        return new Slack(A2, b2, c2, N2, B2, z);
+    }
+
+    /**
+     * Variable <i>q</i> enters the basis at position <i>r</i>,
+     * <i>d</i> being its column in terms of the current basis.
+     */
+    private void pivot(int q, int r, double[] d) {
+        int l = head[r];
+        if (trace) System.out.printf("[pivot] e: x%d, l: x%d\n", q, l);
+        int nz = 0;
+        for (int p = 0; p < m; p++) {
+            if (p != r && d[p] != 0.) nz++;
+        }
+        int[] idx = new int[nz];
+        double[] val = new double[nz];
+        for (int p = 0, e = 0; p < m; p++) {
+            if (p != r && d[p] != 0.) {
+                idx[e] = p;
+                val[e++] = d[p];
+            }
+        }
+        etaPos[nbEtas] = r;
+        etaPivot[nbEtas] = d[r];
+        etaIdx[nbEtas] = idx;
+        etaVal[nbEtas] = val;
+        nbEtas++;
+        head[r] = q;
+        posOf[q] = r;
+        posOf[l] = -1;
+        if (nbEtas == REFACTOR) {
+            if (!refactor()) {
+                throw new SingularBasisException();
+            }
+            computePrimal();
+        }
+    }
+
+    /**
+     * Make the nonbasic slack <i>s</i> basic, before dropping its row.
+     *
+     * @return <i>false</i> if no variable can leave the basis
+     */
+    private boolean pivotIn(int s) {
+        buildColumns();
+        allocate();
+        if (!refactor()) {
+            return false;
+        }
+        column(s, wCol);
+        ftran(wCol, wPos);
+        int r = -1;
+        for (int p = 0; p < m; p++) {
+            if (Math.abs(wPos[p]) > PIVOT_TOL && (r < 0 || Math.abs(wPos[p]) > Math.abs(wPos[r]))) {
+                r = p;
+            }
+        }
+        if (r < 0) {
+            return false;
+        }
+        int l = head[r];
+        // the leaving variable is set to its closest bound
+        atUpper[l] = upper(l) < Double.POSITIVE_INFINITY && upper(l) - xv[l] < xv[l] - lower(l);
+        try {
+            pivot(s, r, wPos);
+        } catch (SingularBasisException e) {
+            return false;
+        }
+        return true;
     }
 
     /**
@@ -655,6 +1249,26 @@ public class LinearProgram {
         } else return -1.;
     }
 
+    /**
+     * Return the reduced cost of the ith variable in the linear program,
+     * with respect to the maximized objective function (see {@link #objective()}).
+     * <p>
+     * When this is feasible, for any solution <i>y</i> of the linear program,
+     * the objective value of <i>y</i> is at most {@code objective() + reducedCost(i) * (y_i - value(i))}.
+     * In particular, a nonbasic variable at its lower bound has a nonpositive reduced cost
+     * and a nonbasic variable at its upper bound has a nonnegative one.
+     * If this is infeasible, return {@code 0.}.
+     * </p>
+     *
+     * @param i index of the variable.
+     * @return the reduced cost of the ith variable in this linear program.
+     */
+    public double reducedCost(int i) {
+        if (isFeasible()) {
+            return d[i];
+        } else return 0.;
+    }
+
     /**
      * Return the value of the objective function defined in this linear program.
      * <p>
@@ -670,56 +1284,11 @@ public class LinearProgram {
         } else return Double.NEGATIVE_INFINITY;
     }
 
-    /**
-     * Choose the entering variable with c > 0
-     * and break ties by always choosing the variable
-     * with the smallest index (Bland's rule).
-     *
-     * @return a value between [0, n) if an entering variable is found, {@link Integer#MAX_VALUE} otherwise.
-     */
-    private static int enteringVariable(Slack s) {
-        int j = Integer.MAX_VALUE;
-        for (int i = 0; i < s.n; i++) {
-            if (s.c[i] > 0. && s.N[i] < j) {
-                j = i;
-            }
-        }
-        return j;
-    }
-
-
-    /**
-     * Choose the leaving variable, the one with the smallest ratio b(i) / A(i,e).
-     * Ties are broken with index value (Bland's rule)
-     *
-     * @param s the slack
-     * @param e index of the entering variable
-     * @return index of the leaving variable
-     */
-    private static int leavingVariable(Slack s, int e) {
-        double min_v = Double.POSITIVE_INFINITY;
-        int l = -1;
-        for (int i = 0; i < s.m; i++) {
-            if (s.A[i][e] > 0) {
-                double d = s.b[i] / s.A[i][e];
-                if (min_v > d) {
-                    l = i;
-                    min_v = d;
-                }
-            }
-        }
-        return l;
-    }
-
     @Override
     public String toString() {
-        return toLP(A, b, c, 0.);
-    }
-
-    private static String toLP(double[][] A, double[] b, double[] c, double v) {
         StringBuilder st = new StringBuilder();
         st.append("Maximize").append('\n');
-        st.append("\\ v = ").append(v).append("\n");
+        st.append("\\ v = ").append(0.).append("\n");
         st.append(" obj:");
         for (int i = 0; i < c.length; i++) {
             st.append(c[i] >= 0 ? " +" : " ")
@@ -728,18 +1297,49 @@ public class LinearProgram {
                     .append(i + 1);
         }
         st.append("\nSubject to\n");
-        for (int j = 0; j < b.length; j++) {
+        double[] a = new double[n];
+        for (int j = 0; j < m; j++) {
+            Arrays.fill(a, 0.);
+            for (int e = 0; e < rowIdx[j].length; e++) {
+                a[rowIdx[j][e]] = rowVal[j][e];
+            }
             st.append(" c").append(j + 1).append(": ");
-            st.append(A[j][0]).append(" x1");
-            for (int i = 1; i < c.length; i++) {
-                st.append(A[j][i] >= 0 ? " +" : " ")
-                        .append(A[j][i])
+            st.append(a[0]).append(" x1");
+            for (int i = 1; i < n; i++) {
+                st.append(a[i] >= 0 ? " +" : " ")
+                        .append(a[i])
                         .append(" x")
                         .append(i + 1);
             }
             st.append(" <= ").append(b[j]).append('\n');
         }
+        boolean bounded = false;
+        for (int i = 0; i < n; i++) {
+            if (lb[i] != 0. || ub[i] != Double.POSITIVE_INFINITY) {
+                if (!bounded) {
+                    st.append("Bounds\n");
+                    bounded = true;
+                }
+                st.append(" ").append(lb[i]).append(" <= x").append(i + 1);
+                if (ub[i] != Double.POSITIVE_INFINITY) {
+                    st.append(" <= ").append(ub[i]);
+                }
+                st.append('\n');
+            }
+        }
         st.append("End");
         return st.toString();
     }
+
+    /**
+     * Thrown when the basis becomes numerically singular, the resolution then restarts from the slack basis.
+     */
+    private static final class SingularBasisException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        SingularBasisException() {
+            super(null, null, false, false);
+        }
+    }
 }
@@ -38,6 +38,9 @@ import static org.chocosolver.lp.LinearProgram.Status.FEASIBLE;
  */
 public class MILP extends LinearProgram {
 
+    // tolerance on integrality
+    private static final double EPS = 1e-9;
+
     // bits set to true indicate integer variables
     private final BitSet integers;
     // bits set to true indicate Boolean variables
@@ -105,7 +108,7 @@ public class MILP extends LinearProgram {
         }
         integers.set(this.n);
         booleans.set(this.n);
-        return n++;
+        return makeVariable();
     }
 
 
@@ -118,7 +121,7 @@ public class MILP extends LinearProgram {
         }
         integers.set(this.n, this.n + n);
         booleans.set(this.n, this.n + n);
-        this.n += n;
+        makeVariables(n);
     }
 
     /**
@@ -132,7 +135,7 @@ public class MILP extends LinearProgram {
             throw new UnsupportedOperationException("Some constraints are already declared");
         }
         integers.set(this.n);
-        return n++;
+        return makeVariable();
     }
 
 
@@ -144,7 +147,7 @@ public class MILP extends LinearProgram {
             throw new UnsupportedOperationException("Some constraints are already declared");
         }
         integers.set(this.n, this.n + n);
-        this.n += n;
+        makeVariables(n);
     }
 
 
@@ -169,18 +172,18 @@ public class MILP extends LinearProgram {
      */
     private boolean isIntegral(int i) {
         assert integers.get(i) : "non integer variable";
-        return Math.rint(x[i]) == x[i] && (!booleans.get(i) || !(x[i] > 1.));
+        return Math.abs(Math.rint(x[i]) - x[i]) <= EPS && (!booleans.get(i) || !(x[i] > 1. + EPS));
     }
 
-
     /**
-     * Drop the last <code>m</code> declared constraints.
+     * Restore the bounds of the variables, as they were before the resolution.
      *
-     * @param m number of constraints to drop
+     * @param lbs lower bounds
+     * @param ubs upper bounds
      */
-    private void dropUntil(int m) {
-        while (this.m > m) {
-            dropLast();
+    private void restoreBounds(double[] lbs, double[] ubs) {
+        for (int i = 0; i < n; i++) {
+            setBounds(i, lbs[i], ubs[i]);
         }
     }
 
@@ -210,23 +213,28 @@ public class MILP extends LinearProgram {
      * @implNote This method assumes that the objective is to be maximized
      */
     public Status branchAndBound(Score score) {
-        // 1. add equations to bound Boolean variables
-        int lastm = this.m;
+        // 1. bound Boolean variables
+        double[] lbs = new double[n];
+        double[] ubs = new double[n];
+        for (int i = 0; i < n; i++) {
+            lbs[i] = getLowerBound(i);
+            ubs[i] = getUpperBound(i);
+        }
         for (int i = booleans.nextSetBit(0); i > -1; i = booleans.nextSetBit(i + 1)) {
-            addLeq(i, 1., 1.);
+            setBounds(i, lbs[i], Math.min(ubs[i], 1.));
         }
         // 2. check if the Simplex returns an integral solution (or claims that no solution exists)
         Status relaxProb = simplex();
         if (!relaxProb.equals(FEASIBLE)) {
             // 2a. if no solution exists, terminate
             // remove Boolean bounds
-            dropUntil(lastm);
+            restoreBounds(lbs, ubs);
             return relaxProb;
         }
         if (isIntegral()) {
             // 2b. if solution is integral, thus optimal, terminate
             // remove Boolean bounds
-            dropUntil(lastm);
+            restoreBounds(lbs, ubs);
             return relaxProb;
         }
         System.out.printf("%s\n", Arrays.toString(x));
@@ -244,11 +252,11 @@ public class MILP extends LinearProgram {
                 case 2:
                     // if the top decision cannot be refuted, then remove it
                     branchings.removeLast();
-                    dropLast();
+                    branch.undo(this);
                     continue;
                 case 1:
                     // if the top decision can be refuted, then refute it
-                    dropLast();
+                    branch.undo(this);
                     break;
                 default:
                 case 0:
@@ -273,6 +281,9 @@ public class MILP extends LinearProgram {
                 // if the solution is integral (and better), then store it
                 bestObjective = currentObjectiveValue;
                 bestX = this.x.clone();
+                for (int i = integers.nextSetBit(0); i > -1; i = integers.nextSetBit(i + 1)) {
+                    bestX[i] = Math.rint(bestX[i]);
+                }
                 if (trace) System.out.println("Integral better solution found");
                 continue;
             }
@@ -290,7 +301,7 @@ public class MILP extends LinearProgram {
             this.status = Status.INFEASIBLE;
         }
         // remove Boolean bounds
-        dropUntil(lastm);
+        restoreBounds(lbs, ubs);
         return status;
     }
 
@@ -319,7 +330,7 @@ public class MILP extends LinearProgram {
             }
         }
         if (idx > -1) {
-            int val = (int) value(idx);
+            int val = (int) Math.floor(value(idx));
             if (booleans.get(idx)) {
                 val = 0;
             }
@@ -342,8 +353,8 @@ public class MILP extends LinearProgram {
      * It has four states, denoted by <i>branch</i>:
      * <ul>
      *     <li>0: the branching is created, but not applied</li>
-     *     <li>1: (var &le; val) is added to the MILP</li>
-     *     <li>2: (var &ge; val +1) is added to the MILP</li>
+     *     <li>1: the upper bound of var is set to val</li>
+     *     <li>2: the lower bound of var is set to val + 1</li>
      *     <li>3: the branching is unavailable</li>
      * </ul>
      */
@@ -351,6 +362,8 @@ public class MILP extends LinearProgram {
         private final int var;
         private final int val;
         private int branch;
+        // bounds of the variable before the branching
+        private double lb, ub;
 
         public Branching(int var, int val) {
             this.var = var;
@@ -366,14 +379,20 @@ public class MILP extends LinearProgram {
             branch++;
             switch (branch) {
                 case 1:
-                    milp.addLeq(var, 1, val);
+                    lb = milp.getLowerBound(var);
+                    ub = milp.getUpperBound(var);
+                    milp.setBounds(var, lb, Math.min(ub, val));
                     break;
                 case 2:
-                    milp.addGeq(var, 1, val + 1);
+                    milp.setBounds(var, Math.max(lb, val + 1), ub);
                     break;
             }
         }
 
+        void undo(MILP milp) {
+            milp.setBounds(var, lb, ub);
+        }
+
         @Override
         public String toString() {
             String st = "";
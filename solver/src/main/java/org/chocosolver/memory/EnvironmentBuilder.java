@@ -9,6 +9,11 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.arena.CopiedArena;
+import org.chocosolver.memory.arena.HybridArena;
+import org.chocosolver.memory.arena.PrimitiveArena;
+import org.chocosolver.memory.arena.TrailedArena;
+import org.chocosolver.memory.copying.EnvironmentCopying;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.chunck.*;
@@ -60,6 +65,14 @@ public class EnvironmentBuilder {
      * Trail to consider to manage operations
      */
     private IOperationTrail ot;
+    /**
+     * Arena to consider to manage integers, longs, booleans and doubles
+     */
+    private PrimitiveArena arena;
+    /**
+     * Set to {@code true} to build an {@link EnvironmentCopying}
+     */
+    private boolean copying;
 
     /**
      * The maximum numbers of updates that a
@@ -144,12 +157,36 @@ public class EnvironmentBuilder {
         return this;
     }
 
+    /**
+     * Set the arena in which integers, longs, booleans and doubles are stored.
+     * When set, the int, long, bool and double trails are ignored.
+     * @param a the arena to use
+     * @return {@code this}
+     */
+    public EnvironmentBuilder setArena(PrimitiveArena a) {
+        arena = a;
+        copying = !(a instanceof TrailedArena) || a instanceof HybridArena;
+        return this;
+    }
+
     /**
      * Build the environment
      * @return the resulting environment
      */
     public EnvironmentTrailing build(){
         EnvironmentTrailing env = new EnvironmentTrailing();
+        if (ot == null) {
+            ot = new OperationTrail(worldsize, worldnumber, loadfactor);
+        }
+        if (arena != null) {
+            if (copying) {
+                env = new EnvironmentCopying(arena);
+            } else {
+                env.setArena(arena);
+            }
+            env.setOperationTrail(ot);
+            return env;
+        }
         if (bt == null) {
             bt = new StoredBoolTrail(worldsize, worldnumber, loadfactor);
         }
@@ -166,10 +203,6 @@ public class EnvironmentBuilder {
             lt = new StoredLongTrail(worldsize, worldnumber, loadfactor);
         }
 
-        if (ot == null) {
-            ot = new OperationTrail(worldsize, worldnumber, loadfactor);
-        }
-
         env.setBoolTrail(bt);
         env.setIntTrail(it);
         env.setDoubleTrail(dt);
@@ -203,4 +236,39 @@ public class EnvironmentBuilder {
         setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
         return this;
     }
+
+    /**
+     * Build an arena environment: integers, longs, booleans and doubles are stored in
+     * a unique primitive array, and the trail only records slot indices and former values.
+     * @return {@code this}
+     */
+    public EnvironmentBuilder fromArena(){
+        setArena(new TrailedArena(worldsize, worldnumber, loadfactor));
+        setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
+        return this;
+    }
+
+    /**
+     * Build a copying environment: integers, longs, booleans and doubles are stored in
+     * a unique primitive array which is copied on each world push.
+     * @return {@code this}
+     */
+    public EnvironmentBuilder fromCopy(){
+        setArena(new CopiedArena(worldsize, worldnumber, loadfactor));
+        setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
+        return this;
+    }
+
+    /**
+     * Build a hybrid environment: integers, longs, booleans and doubles are stored in
+     * a unique primitive array, and each world is either trailed or copied,
+     * depending on the number of writes observed in the previous worlds.
+     * @return {@code this}
+     * @see HybridArena
+     */
+    public EnvironmentBuilder fromHybrid(){
+        setArena(new HybridArena(worldsize, worldnumber, loadfactor));
+        setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
+        return this;
+    }
 }
\ No newline at end of file
@@ -12,38 +12,25 @@ package org.chocosolver.memory;
 
 
 /**
- * An abstract class for backtrackable boolean.
+ * An interface for backtrackable boolean.
  * <br/>
  *
  * @author Charles Prud'homme
  * @since 29/04/13
  */
-public abstract class IStateBool  {
-
-    protected final IEnvironment environment;
-    protected boolean currentValue;
-    protected int timeStamp;
-
-
-    public IStateBool(IEnvironment env, boolean i) {
-        environment = env;
-        currentValue = i;
-        timeStamp = -1;
-    }
+public interface IStateBool {
 
     /**
      * Returns the current value.
      */
-    public final boolean get() {
-        return currentValue;
-    }
+    boolean get();
 
 
     /**
      * Modifies the value and stores if needed the former value on the
      * trailing stack.
      */
-    public abstract void set(boolean y);
+    void set(boolean y);
 
     /**
      * Modifies the value without storing the former value on the trailing stack.
@@ -51,17 +38,12 @@ public abstract class IStateBool  {
      * @param y      the new value
      * @param wstamp the stamp of the world in which the update is performed
      */
-    public void _set(final boolean y, final int wstamp) {
-        currentValue = y;
-        timeStamp = wstamp;
-    }
-
-    public void overrideTimeStamp(int aTimeStamp) {
-        this.timeStamp = aTimeStamp;
-    }
+    void _set(boolean y, int wstamp);
 
-    @Override
-    public String toString() {
-        return String.valueOf(currentValue);
-    }
+    /**
+     * Override the stamp of the world in which the last update was performed.
+     *
+     * @param aTimeStamp the new stamp
+     */
+    void overrideTimeStamp(int aTimeStamp);
 }
@@ -12,38 +12,25 @@ package org.chocosolver.memory;
 
 
 /**
- * An abstract class for backtrackable double.
+ * An interface for backtrackable double.
  * <br/>
  *
  * @author Charles Prud'homme
  * @since 29/04/13
  */
-public abstract class IStateDouble  {
-
-    protected final IEnvironment environment;
-    protected double currentValue;
-    protected int timeStamp;
-
-
-    public IStateDouble(IEnvironment env, double i) {
-        environment = env;
-        currentValue = i;
-        timeStamp = -1;
-    }
+public interface IStateDouble {
 
     /**
      * Returns the current value.
      */
-    public final double get() {
-        return currentValue;
-    }
+    double get();
 
 
     /**
      * Modifies the value and stores if needed the former value on the
      * trailing stack.
      */
-    public abstract void set(double y);
+    void set(double y);
 
     /**
      * Modifies the value without storing the former value on the trailing stack.
@@ -51,17 +38,12 @@ public abstract class IStateDouble  {
      * @param y      the new value
      * @param wstamp the stamp of the world in which the update is performed
      */
-    public void _set(final double y, final int wstamp) {
-        currentValue = y;
-        timeStamp = wstamp;
-    }
-
-    public void overrideTimeStamp(int aTimeStamp) {
-        this.timeStamp = aTimeStamp;
-    }
+    void _set(double y, int wstamp);
 
-    @Override
-    public String toString() {
-        return String.valueOf(currentValue);
-    }
+    /**
+     * Override the stamp of the world in which the last update was performed.
+     *
+     * @param aTimeStamp the new stamp
+     */
+    void overrideTimeStamp(int aTimeStamp);
 }
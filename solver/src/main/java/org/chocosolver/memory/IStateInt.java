@@ -12,38 +12,25 @@ package org.chocosolver.memory;
 
 
 /**
- * An abstract class for backtrackable int.
+ * An interface for backtrackable int.
  * <br/>
  *
  * @author Charles Prud'homme
  * @since 29/04/13
  */
-public abstract class IStateInt  {
-
-    protected final IEnvironment environment;
-    protected int currentValue;
-    protected int timeStamp;
-
-
-    public IStateInt(IEnvironment env, int i) {
-        environment = env;
-        currentValue = i;
-        timeStamp = -1;
-    }
+public interface IStateInt {
 
     /**
      * Returns the current value.
      */
-    public final int get() {
-        return currentValue;
-    }
+    int get();
 
 
     /**
      * Modifies the value and stores if needed the former value on the
      * trailing stack.
      */
-    public abstract void set(int y);
+    void set(int y);
 
     /**
      * modifying a StoredInt by an increment
@@ -51,8 +38,8 @@ public abstract class IStateInt  {
      * @param delta increment value
      * @return the new value
      */
-    public final int add(int delta) {
-        int res = currentValue + delta;
+    default int add(int delta) {
+        int res = get() + delta;
         set(res);
         return res;
     }
@@ -63,17 +50,12 @@ public abstract class IStateInt  {
      * @param y      the new value
      * @param wstamp the stamp of the world in which the update is performed
      */
-    public void _set(final int y, final int wstamp) {
-        currentValue = y;
-        timeStamp = wstamp;
-    }
+    void _set(int y, int wstamp);
 
-    public void overrideTimeStamp(int aTimeStamp) {
-        this.timeStamp = aTimeStamp;
-    }
-
-    @Override
-    public String toString() {
-        return String.valueOf(currentValue);
-    }
+    /**
+     * Override the stamp of the world in which the last update was performed.
+     *
+     * @param aTimeStamp the new stamp
+     */
+    void overrideTimeStamp(int aTimeStamp);
 }
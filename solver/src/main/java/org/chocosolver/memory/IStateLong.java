@@ -12,38 +12,25 @@ package org.chocosolver.memory;
 
 
 /**
- * An abstract class for backtrackable long.
+ * An interface for backtrackable long.
  * <br/>
  *
  * @author Charles Prud'homme
  * @since 29/04/13
  */
-public abstract class IStateLong  {
-
-    protected final IEnvironment environment;
-    protected long currentValue;
-    protected int timeStamp;
-
-
-    public IStateLong(IEnvironment env, long i) {
-        environment = env;
-        currentValue = i;
-        timeStamp = -1;
-    }
+public interface IStateLong {
 
     /**
      * Returns the current value.
      */
-    public final long get() {
-        return currentValue;
-    }
+    long get();
 
 
     /**
      * Modifies the value and stores if needed the former value on the
      * trailing stack.
      */
-    public abstract void set(long y);
+    void set(long y);
 
     /**
      * Modifies the value without storing the former value on the trailing stack.
@@ -51,17 +38,12 @@ public abstract class IStateLong  {
      * @param y      the new value
      * @param wstamp the stamp of the world in which the update is performed
      */
-    public void _set(final long y, final int wstamp) {
-        currentValue = y;
-        timeStamp = wstamp;
-    }
-
-    public void overrideTimeStamp(int aTimeStamp) {
-        this.timeStamp = aTimeStamp;
-    }
+    void _set(long y, int wstamp);
 
-    @Override
-    public String toString() {
-        return String.valueOf(currentValue);
-    }
+    /**
+     * Override the stamp of the world in which the last update was performed.
+     *
+     * @param aTimeStamp the new stamp
+     */
+    void overrideTimeStamp(int aTimeStamp);
 }
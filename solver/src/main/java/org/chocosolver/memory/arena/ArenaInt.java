@@ -0,0 +1,86 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.arena;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+
+
+/**
+ * A class implementing backtrackable int whose value lives in a {@link PrimitiveArena}.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class ArenaInt implements IStateInt {
+
+    /**
+     * The environment this object relies on.
+     */
+    private final IEnvironment environment;
+
+    /**
+     * The arena this object relies on.
+     */
+    private final PrimitiveArena arena;
+
+    /**
+     * The index of the slot in {@link #arena}.
+     */
+    private final int slot;
+
+    /**
+     * The page of {@link #arena} which stores the value.
+     */
+    private final long[] page;
+
+    /**
+     * The position of the value in {@link #page}.
+     */
+    private final int index;
+
+    /**
+     * Constructs a stored search with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    public ArenaInt(final IEnvironment env, final PrimitiveArena arena, final int i) {
+        this.environment = env;
+        this.arena = arena;
+        this.slot = arena.allocate(i);
+        this.page = arena.page(slot);
+        this.index = slot & (PrimitiveArena.PAGE - 1);
+    }
+
+    @Override
+    public int get() {
+        return (int) page[index];
+    }
+
+    @Override
+    public void set(final int y) {
+        arena.write(page, slot, y, environment.getWorldIndex());
+    }
+
+    @Override
+    public void _set(final int y, final int wstamp) {
+        page[index] = y;
+    }
+
+    @Override
+    public void overrideTimeStamp(int aTimeStamp) {
+        // the stamps are maintained by the arena
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+}
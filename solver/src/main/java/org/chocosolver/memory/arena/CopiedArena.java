@@ -0,0 +1,112 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.arena;
+
+import java.util.Arrays;
+
+/**
+ * An arena which restores former values by copying.
+ * <p>
+ * On each world push, the allocated slots are copied in a stack of snapshots,
+ * and they are copied back on world pop.
+ * Writing a value is then a mere array store, no timestamp is checked and nothing is trailed.
+ * This is relevant when most of the slots are modified in each world,
+ * that is, when the state is compact and changes are dense.
+ * <p>
+ * Slots allocated out of the root world recover their initial value when backtracking
+ * to a world created before them, as with trailing.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class CopiedArena extends PrimitiveArena {
+
+    /**
+     * Stack of snapshots.
+     */
+    protected long[] snapshots;
+
+    /**
+     * Points the first free position in {@link #snapshots}.
+     */
+    protected int top;
+
+    /**
+     * For each world, the position of its snapshot in {@link #snapshots}.
+     */
+    protected int[] worldStarts;
+
+    /**
+     * Current world index, as seen by this arena.
+     */
+    protected int world;
+
+    /**
+     * Constructs a copied arena with predefined size.
+     *
+     * @param nCells     initial size of the stack of snapshots
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public CopiedArena(int nCells, int nWorlds, double loadfactor) {
+        super(loadfactor);
+        this.snapshots = new long[nCells];
+        this.worldStarts = new int[nWorlds];
+        this.top = 0;
+        this.world = 0;
+    }
+
+    @Override
+    protected void onAllocate(int slot, long init) {
+        if (world > 0) {
+            registerLateSlot(slot, init);
+        }
+    }
+
+    @Override
+    public void write(long[] page, int slot, long value, int worldIndex) {
+        page[slot & MASK] = value;
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        world = worldIndex;
+        if (worldIndex == worldStarts.length - 1) {
+            worldStarts = Arrays.copyOf(worldStarts, (int) (worldStarts.length * loadfactor));
+        }
+        worldStarts[worldIndex] = top;
+        ensureSnapshotCapacity(top + size);
+        copyTo(snapshots, top, size);
+        top += size;
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        final int start = worldStarts[worldIndex];
+        final int length = top - start;
+        copyFrom(snapshots, start, length);
+        restoreLateSlots(length);
+        top = start;
+        world = worldIndex - 1;
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        // the snapshot of the previous world remains valid
+        top = worldStarts[worldIndex];
+        world = worldIndex - 1;
+    }
+
+    private void ensureSnapshotCapacity(int capacity) {
+        if (capacity > snapshots.length) {
+            snapshots = Arrays.copyOf(snapshots, (int) Math.max(snapshots.length * loadfactor, capacity));
+        }
+    }
+}
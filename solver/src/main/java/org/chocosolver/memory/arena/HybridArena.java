@@ -0,0 +1,256 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.arena;
+
+import java.util.Arrays;
+
+/**
+ * An arena which decides, on each world push, whether the new world is trailed or copied.
+ * <p>
+ * The number of writes observed in each world is smoothed in a moving average.
+ * A world is copied when this average times {@link #ratio} is greater or equal to the number
+ * of allocated slots, that is, when copying all the slots is expected to be cheaper than
+ * trailing the modified ones. Otherwise, the world is trailed like in {@link TrailedArena}.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class HybridArena extends TrailedArena {
+
+    /**
+     * Default cost ratio of a trailed write over a copied slot.
+     */
+    public static final double RATIO = 8.;
+
+    /**
+     * Weight of the last world in the moving average of writes.
+     */
+    private static final double ALPHA = .125;
+
+    /**
+     * Cost ratio of a trailed write over a copied slot.
+     */
+    private final double ratio;
+
+    /**
+     * For each world, set to {@code true} if it is copied.
+     */
+    private boolean[] copied;
+
+    /**
+     * Set to {@code true} if the current world is copied.
+     */
+    private boolean copying;
+
+    /**
+     * Stack of snapshots, for copied worlds only.
+     */
+    private long[] snapshots;
+
+    /**
+     * Points the first free position in {@link #snapshots}.
+     */
+    private int top;
+
+    /**
+     * For each copied world, the position of its snapshot in {@link #snapshots}.
+     */
+    private int[] worldStarts;
+
+    /**
+     * Current world index, as seen by this arena.
+     */
+    private int world;
+
+    /**
+     * Number of writes in the current world, when copied.
+     */
+    private int writes;
+
+    /**
+     * Moving average of writes per world.
+     */
+    private double avgWrites;
+
+    /**
+     * Number of worlds copied so far.
+     */
+    private long nbCopied;
+
+    /**
+     * Number of worlds trailed so far.
+     */
+    private long nbTrailed;
+
+    /**
+     * Constructs an hybrid arena with predefined size.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     * @param ratio      cost ratio of a trailed write over a copied slot
+     */
+    public HybridArena(int nUpdates, int nWorlds, double loadfactor, double ratio) {
+        super(nUpdates, nWorlds, loadfactor);
+        this.ratio = ratio;
+        this.copied = new boolean[nWorlds];
+        this.snapshots = new long[nUpdates];
+        this.worldStarts = new int[nWorlds];
+    }
+
+    /**
+     * Constructs an hybrid arena with predefined size and the default ratio.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public HybridArena(int nUpdates, int nWorlds, double loadfactor) {
+        this(nUpdates, nWorlds, loadfactor, RATIO);
+    }
+
+    @Override
+    protected void onAllocate(int slot, long init) {
+        if (world > 0) {
+            registerLateSlot(slot, init);
+        }
+    }
+
+    @Override
+    public void write(long[] page, int slot, long value, int worldIndex) {
+        if (copying) {
+            page[slot & MASK] = value;
+            writes++;
+        } else {
+            super.write(page, slot, value, worldIndex);
+        }
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        super.worldPush(worldIndex);
+        if (worldIndex >= copied.length - 1) {
+            int ns = (int) Math.max(copied.length * loadfactor, worldIndex + 2);
+            copied = Arrays.copyOf(copied, ns);
+            worldStarts = Arrays.copyOf(worldStarts, ns);
+        }
+        world = worldIndex;
+        writes = 0;
+        copying = size > 0 && avgWrites * ratio >= size;
+        copied[worldIndex] = copying;
+        if (copying) {
+            nbCopied++;
+            worldStarts[worldIndex] = top;
+            ensureSnapshotCapacity(top + size);
+            copyTo(snapshots, top, size);
+            top += size;
+        } else {
+            nbTrailed++;
+        }
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        if (copied[worldIndex]) {
+            record(writes);
+            final int start = worldStarts[worldIndex];
+            final int length = top - start;
+            copyFrom(snapshots, start, length);
+            restoreLateSlots(length);
+            top = start;
+        } else {
+            record(currentLevel - worldStartLevels[worldIndex]);
+            super.worldPop(worldIndex);
+        }
+        moveTo(worldIndex - 1);
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        final int prev = worldIndex - 1;
+        final boolean prevCopied = prev > 0 && copied[prev];
+        if (!copied[worldIndex]) {
+            if (prevCopied) {
+                commitTrailedIntoCopied(worldIndex);
+            } else {
+                super.worldCommit(worldIndex);
+            }
+        } else {
+            if (prevCopied) {
+                // the snapshot of the previous world remains valid
+                top = worldStarts[worldIndex];
+            } else {
+                commitCopiedIntoTrailed(worldIndex, prev);
+            }
+        }
+        moveTo(prev);
+    }
+
+    /**
+     * The trail of the committed world is dropped and the stamps are restored,
+     * the snapshot of the previous world remains valid.
+     */
+    private void commitTrailedIntoCopied(int worldIndex) {
+        final int startLevel = worldStartLevels[worldIndex];
+        for (int level = currentLevel - 1; level >= startLevel; level--) {
+            stamps[slotStack[level]] = stampStack[level];
+        }
+        currentLevel = startLevel;
+    }
+
+    /**
+     * The slots modified in the committed world are trailed in the previous one,
+     * then the snapshot is dropped.
+     */
+    private void commitCopiedIntoTrailed(int worldIndex, int prev) {
+        final int start = worldStarts[worldIndex];
+        if (prev > 0) {
+            final int length = top - start;
+            for (int slot = 0; slot < size; slot++) {
+                final long old = slot < length ? snapshots[start + slot] : lateInit(slot);
+                if (read(slot) != old && stamps[slot] < prev) {
+                    savePreviousState(slot, old, stamps[slot]);
+                    stamps[slot] = prev;
+                }
+            }
+        }
+        top = start;
+    }
+
+    private void moveTo(int worldIndex) {
+        world = worldIndex;
+        copying = world > 0 && copied[world];
+        writes = 0;
+    }
+
+    private void record(int nbWrites) {
+        avgWrites += ALPHA * (nbWrites - avgWrites);
+    }
+
+    private void ensureSnapshotCapacity(int capacity) {
+        if (capacity > snapshots.length) {
+            snapshots = Arrays.copyOf(snapshots, (int) Math.max(snapshots.length * loadfactor, capacity));
+        }
+    }
+
+    /**
+     * @return the number of worlds copied so far
+     */
+    public long getNbCopiedWorlds() {
+        return nbCopied;
+    }
+
+    /**
+     * @return the number of worlds trailed so far
+     */
+    public long getNbTrailedWorlds() {
+        return nbTrailed;
+    }
+}
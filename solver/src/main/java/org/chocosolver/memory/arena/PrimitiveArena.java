@@ -0,0 +1,247 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.arena;
+
+import org.chocosolver.memory.IStorage;
+
+import java.util.Arrays;
+
+/**
+ * A contiguous primitive store for backtrackable data.
+ * <p>
+ * Each backtrackable int, long, boolean or double created by an environment relying on an arena
+ * is given a <i>slot</i> in a unique primitive store.
+ * Values are encoded in 64 bits: ints and longs are stored as is, booleans as 0 or 1,
+ * doubles through {@link Double#doubleToRawLongBits(double)}.
+ * Sub-classes define how former values are restored upon backtrack.
+ * <p>
+ * The store is made of fixed-size pages of {@link #PAGE} slots which are never reallocated,
+ * so that a backtrackable object can keep a direct reference to its page.
+ * Slots are never released: an arena grows with the number of backtrackable objects created.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public abstract class PrimitiveArena implements IStorage {
+
+    /**
+     * Log2 of the number of slots in a page.
+     */
+    static final int SHIFT = 12;
+
+    /**
+     * Number of slots in a page.
+     */
+    public static final int PAGE = 1 << SHIFT;
+
+    /**
+     * Mask to get the position of a slot in its page.
+     */
+    static final int MASK = PAGE - 1;
+
+    /**
+     * Load factor
+     */
+    protected final double loadfactor;
+
+    /**
+     * Current values of the slots, by pages.
+     */
+    protected long[][] pages;
+
+    /**
+     * Number of allocated slots.
+     */
+    protected int size;
+
+    /**
+     * Slots allocated out of the root world, in increasing order, see {@link #restoreLateSlots(int)}.
+     */
+    private int[] lateSlots = new int[0];
+
+    /**
+     * Initial values of {@link #lateSlots}.
+     */
+    private long[] lateInits = new long[0];
+
+    /**
+     * Number of slots allocated out of the root world.
+     */
+    private int nbLate;
+
+    /**
+     * Create an empty arena.
+     *
+     * @param loadfactor load factor for structures
+     */
+    protected PrimitiveArena(double loadfactor) {
+        this.pages = new long[1][];
+        this.loadfactor = loadfactor;
+        this.size = 0;
+    }
+
+    /**
+     * Reserve a new slot in this arena.
+     *
+     * @param init initial value of the slot, already encoded in 64 bits
+     * @return the index of the slot
+     */
+    public final int allocate(long init) {
+        final int slot = size;
+        final int p = slot >>> SHIFT;
+        if (p == pages.length) {
+            pages = Arrays.copyOf(pages, (int) Math.max(pages.length * loadfactor, p + 1));
+        }
+        if (pages[p] == null) {
+            pages[p] = new long[PAGE];
+            grow((p + 1) << SHIFT);
+        }
+        size++;
+        pages[p][slot & MASK] = init;
+        onAllocate(slot, init);
+        return slot;
+    }
+
+    /**
+     * Called when a new slot is allocated.
+     * Does nothing by default.
+     *
+     * @param slot index of the new slot
+     * @param init initial value of the slot
+     */
+    protected void onAllocate(int slot, long init) {
+    }
+
+    /**
+     * Called when the number of slots this arena can handle increases.
+     * Sub-classes maintaining data per slot should override this method.
+     * Does nothing by default.
+     *
+     * @param newCapacity the new number of slots
+     */
+    protected void grow(int newCapacity) {
+    }
+
+    /**
+     * Record that <i>slot</i> was allocated out of the root world.
+     * Arenas which do not trail writes have to know the initial value of such a slot
+     * to restore it when backtracking to a world created before it.
+     *
+     * @param slot index of the slot
+     * @param init initial value of the slot
+     */
+    protected final void registerLateSlot(int slot, long init) {
+        if (nbLate == lateSlots.length) {
+            int ns = Math.max(8, (int) (lateSlots.length * loadfactor));
+            lateSlots = Arrays.copyOf(lateSlots, ns);
+            lateInits = Arrays.copyOf(lateInits, ns);
+        }
+        lateSlots[nbLate] = slot;
+        lateInits[nbLate++] = init;
+    }
+
+    /**
+     * Restore to their initial value the slots allocated out of the root world
+     * whose index is greater or equal to <i>from</i>.
+     *
+     * @param from index of the first slot to restore
+     */
+    protected final void restoreLateSlots(int from) {
+        if (nbLate > 0 && from < size) {
+            int i = Arrays.binarySearch(lateSlots, 0, nbLate, from);
+            for (i = i < 0 ? -i - 1 : i; i < nbLate; i++) {
+                override(lateSlots[i], lateInits[i]);
+            }
+        }
+    }
+
+    /**
+     * @param slot index of a slot allocated out of the root world
+     * @return the initial value of <i>slot</i>
+     */
+    protected final long lateInit(int slot) {
+        return lateInits[Arrays.binarySearch(lateSlots, 0, nbLate, slot)];
+    }
+
+    /**
+     * Copy the values of the <i>length</i> first slots in <i>dest</i>, starting at <i>pos</i>.
+     *
+     * @param dest   destination array
+     * @param pos    starting position in <i>dest</i>
+     * @param length number of slots to copy
+     */
+    protected final void copyTo(long[] dest, int pos, int length) {
+        for (int p = 0; length > 0; p++) {
+            final int l = Math.min(length, PAGE);
+            System.arraycopy(pages[p], 0, dest, pos, l);
+            pos += l;
+            length -= l;
+        }
+    }
+
+    /**
+     * Copy <i>length</i> values from <i>src</i>, starting at <i>pos</i>, in the <i>length</i> first slots.
+     *
+     * @param src    source array
+     * @param pos    starting position in <i>src</i>
+     * @param length number of slots to copy
+     */
+    protected final void copyFrom(long[] src, int pos, int length) {
+        for (int p = 0; length > 0; p++) {
+            final int l = Math.min(length, PAGE);
+            System.arraycopy(src, pos, pages[p], 0, l);
+            pos += l;
+            length -= l;
+        }
+    }
+
+    /**
+     * Write <i>value</i> in <i>slot</i>, saving the former value when needed.
+     *
+     * @param page       the page of <i>slot</i>, see {@link #page(int)}
+     * @param slot       index of the slot
+     * @param value      the new value, encoded in 64 bits
+     * @param worldIndex the current world index
+     */
+    public abstract void write(long[] page, int slot, long value, int worldIndex);
+
+    /**
+     * Write <i>value</i> in <i>slot</i> without saving the former value.
+     *
+     * @param slot  index of the slot
+     * @param value the new value, encoded in 64 bits
+     */
+    public final void override(int slot, long value) {
+        pages[slot >>> SHIFT][slot & MASK] = value;
+    }
+
+    /**
+     * @param slot index of the slot
+     * @return the value stored in <i>slot</i>, encoded in 64 bits
+     */
+    public final long read(int slot) {
+        return pages[slot >>> SHIFT][slot & MASK];
+    }
+
+    /**
+     * @param slot index of the slot
+     * @return the page which stores <i>slot</i>, at position {@code slot & (PAGE - 1)}
+     */
+    public final long[] page(int slot) {
+        return pages[slot >>> SHIFT];
+    }
+
+    /**
+     * @return the number of allocated slots
+     */
+    public final int size() {
+        return size;
+    }
+}
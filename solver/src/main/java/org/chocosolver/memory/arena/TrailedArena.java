@@ -0,0 +1,158 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.arena;
+
+import java.util.Arrays;
+
+/**
+ * An arena which restores former values using a trail.
+ * <p>
+ * Unlike {@link org.chocosolver.memory.trailing.trail.flatten.StoredIntTrail} and its siblings,
+ * the trail does not reference any object:
+ * it only stores slot indices, former values and former stamps, all of them in primitive arrays.
+ * Restoring a world then only touches primitive arrays.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TrailedArena extends PrimitiveArena {
+
+    /**
+     * Stamp of the world where the current value of each slot had been written.
+     */
+    protected int[] stamps;
+
+    /**
+     * Stack of modified slots.
+     */
+    protected int[] slotStack;
+
+    /**
+     * Stack of values (former values that need be restored upon backtracking).
+     */
+    protected long[] valueStack;
+
+    /**
+     * Stack of timestamps indicating the world where the former value
+     * had been written.
+     */
+    protected int[] stampStack;
+
+    /**
+     * Points the level of the last entry.
+     */
+    protected int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    protected int[] worldStartLevels;
+
+    /**
+     * Constructs a trailed arena with predefined size.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public TrailedArena(int nUpdates, int nWorlds, double loadfactor) {
+        super(loadfactor);
+        this.stamps = new int[0];
+        this.currentLevel = 0;
+        this.slotStack = new int[nUpdates];
+        this.valueStack = new long[nUpdates];
+        this.stampStack = new int[nUpdates];
+        this.worldStartLevels = new int[nWorlds];
+    }
+
+    @Override
+    protected void grow(int newCapacity) {
+        int from = stamps.length;
+        stamps = Arrays.copyOf(stamps, newCapacity);
+        Arrays.fill(stamps, from, newCapacity, -1);
+    }
+
+    @Override
+    public void write(long[] page, int slot, long value, int worldIndex) {
+        final int idx = slot & MASK;
+        final long old = page[idx];
+        if (value != old) {
+            if (stamps[slot] < worldIndex) {
+                savePreviousState(slot, old, stamps[slot]);
+                stamps[slot] = worldIndex;
+            }
+            page[idx] = value;
+        }
+    }
+
+    /**
+     * Push the former value & timestamp of <i>slot</i> on the stacks.
+     */
+    protected void savePreviousState(int slot, long oldValue, int oldStamp) {
+        slotStack[currentLevel] = slot;
+        valueStack[currentLevel] = oldValue;
+        stampStack[currentLevel] = oldStamp;
+        currentLevel++;
+        if (currentLevel == slotStack.length) {
+            resizeUpdateCapacity();
+        }
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            worldStartLevels = Arrays.copyOf(worldStartLevels, (int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        final long[][] ps = pages;
+        final int[] st = stamps;
+        while (currentLevel > wsl) {
+            currentLevel--;
+            final int slot = slotStack[currentLevel];
+            ps[slot >>> SHIFT][slot & MASK] = valueStack[currentLevel];
+            st[slot] = stampStack[currentLevel];
+        }
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        // see StoredIntTrail#worldCommit(int)
+        final int startLevel = worldStartLevels[worldIndex];
+        final int prevWorld = worldIndex - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            final int slot = slotStack[level];
+            final long val = valueStack[level];
+            final int stamp = stampStack[level];
+            stamps[slot] = prevWorld;
+            if (stamp != prevWorld) {
+                if (writeIdx != level) {
+                    slotStack[writeIdx] = slot;
+                    valueStack[writeIdx] = val;
+                    stampStack[writeIdx] = stamp;
+                }
+                writeIdx++;
+            }
+        }
+        currentLevel = writeIdx;
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) (slotStack.length * loadfactor);
+        slotStack = Arrays.copyOf(slotStack, newCapacity);
+        valueStack = Arrays.copyOf(valueStack, newCapacity);
+        stampStack = Arrays.copyOf(stampStack, newCapacity);
+    }
+}
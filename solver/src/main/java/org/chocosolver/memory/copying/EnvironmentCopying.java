@@ -0,0 +1,50 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.arena.CopiedArena;
+import org.chocosolver.memory.arena.HybridArena;
+import org.chocosolver.memory.arena.PrimitiveArena;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+
+/**
+ * An environment which restores backtrackable ints, longs, booleans and doubles
+ * by copying a contiguous state vector on each world push, instead of trailing each modification.
+ * <p>
+ * The state vector is a {@link PrimitiveArena}, either a {@link CopiedArena}, where every world is copied,
+ * or a {@link HybridArena}, where each world is either copied or trailed depending on the number of
+ * writes observed so far.
+ * Operations and vectors are still trailed.
+ * <p>
+ * Should be created with {@link org.chocosolver.memory.EnvironmentBuilder#fromCopy()} or
+ * {@link org.chocosolver.memory.EnvironmentBuilder#fromHybrid()}.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class EnvironmentCopying extends EnvironmentTrailing {
+
+    /**
+     * Create a copying environment relying on <i>arena</i>.
+     *
+     * @param arena the state vector
+     */
+    public EnvironmentCopying(PrimitiveArena arena) {
+        super();
+        setArena(arena);
+    }
+
+    /**
+     * Create a copying environment in which each world is copied.
+     */
+    public EnvironmentCopying() {
+        this(new CopiedArena(NBUPATES, NBWORLDS, LOADFACTOR));
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.memory.trailing;
 
 
 import org.chocosolver.memory.*;
+import org.chocosolver.memory.arena.*;
 import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.flatten.*;
@@ -50,6 +51,11 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     private IOperationTrail operationTrail;
     private StoredIntVectorTrail intVectorTrail;
     private StoredDoubleVectorTrail doubleVectorTrail;
+    /**
+     * When not null, ints, longs, booleans and doubles are stored in this arena
+     * instead of being trailed by their own trail.
+     */
+    private PrimitiveArena arena;
 
     /**
      * Contains all the {@link org.chocosolver.memory.IStorage} trails for
@@ -117,6 +123,9 @@ public class EnvironmentTrailing extends AbstractEnvironment {
      */
     @Override
     public IStateInt makeInt(final int initialValue) {
+        if (arena != null) {
+            return new ArenaInt(this, arena, initialValue);
+        }
         return new StoredInt(this, initialValue);
     }
 
@@ -125,6 +134,9 @@ public class EnvironmentTrailing extends AbstractEnvironment {
      */
     @Override
     public IStateBool makeBool(final boolean initialValue) {
+        if (arena != null) {
+            return new ArenaBool(this, arena, initialValue);
+        }
         return new StoredBool(this, initialValue);
     }
 
@@ -157,6 +169,9 @@ public class EnvironmentTrailing extends AbstractEnvironment {
      */
     @Override
     public IStateDouble makeFloat(final double initialValue) {
+        if (arena != null) {
+            return new ArenaDouble(this, arena, initialValue);
+        }
         return new StoredDouble(this, initialValue);
     }
 
@@ -173,6 +188,9 @@ public class EnvironmentTrailing extends AbstractEnvironment {
      */
     @Override
     public IStateLong makeLong(final long init) {
+        if (arena != null) {
+            return new ArenaLong(this, arena, init);
+        }
         return new StoredLong(this, init);
     }
 
@@ -257,6 +275,27 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         }
     }
 
+    /**
+     * Declare the arena in which ints, longs, booleans and doubles will be stored.
+     * Must be called before any of these objects is created.
+     * @param anArena an arena
+     */
+    public void setArena(PrimitiveArena anArena) {
+        if (arena == null) {
+            increaseTrail();
+            trails[trailSize++] = arena = anArena;
+        } else {
+            throw new UnsupportedOperationException("An arena has already been declared.");
+        }
+    }
+
+    /**
+     * @return the arena in which ints, longs, booleans and doubles are stored, or {@code null}
+     */
+    public PrimitiveArena getArena() {
+        return arena;
+    }
+
     public IOperationTrail getOperationTrail() {
         if (operationTrail == null) {
             setOperationTrail(new OperationTrail(NBUPATES, NBWORLDS, LOADFACTOR));
@@ -16,9 +16,15 @@ import org.chocosolver.memory.trailing.trail.IStoredBoolTrail;
 /**
  * A class implementing backtrackable boolean.
  */
-public class StoredBool extends IStateBool {
+public final class StoredBool implements IStateBool {
 
-    protected final IStoredBoolTrail myTrail;
+    private final EnvironmentTrailing environment;
+
+    private final IStoredBoolTrail myTrail;
+
+    private boolean currentValue;
+
+    private int timeStamp;
 
     /**
      * Constructs a stored search with an initial value.
@@ -26,7 +32,9 @@ public class StoredBool extends IStateBool {
      * use the IEnvironment factory
      */
     public StoredBool(final EnvironmentTrailing env, final boolean i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getBoolTrail();
     }
 
@@ -35,7 +43,7 @@ public class StoredBool extends IStateBool {
      * trailing stack.
      */
     @Override
-    public final void set(final boolean y) {
+    public void set(final boolean y) {
         if (y != currentValue) {
             final int wi = environment.getWorldIndex();
             if (this.timeStamp < wi) {
@@ -45,5 +53,28 @@ public class StoredBool extends IStateBool {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public boolean get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final boolean y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    @Override
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(currentValue);
+    }
+}
@@ -16,9 +16,15 @@ import org.chocosolver.memory.trailing.trail.IStoredDoubleTrail;
 /**
  * A class implementing backtrackable double.
  */
-public class StoredDouble extends IStateDouble {
+public final class StoredDouble implements IStateDouble {
 
-    protected final IStoredDoubleTrail myTrail;
+    private final EnvironmentTrailing environment;
+
+    private final IStoredDoubleTrail myTrail;
+
+    private double currentValue;
+
+    private int timeStamp;
 
     /**
      * Constructs a stored search with an initial value.
@@ -26,7 +32,9 @@ public class StoredDouble extends IStateDouble {
      * use the IEnvironment factory
      */
     public StoredDouble(final EnvironmentTrailing env, final double i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getDoubleTrail();
     }
 
@@ -35,7 +43,7 @@ public class StoredDouble extends IStateDouble {
      * trailing stack.
      */
     @Override
-    public final void set(final double y) {
+    public void set(final double y) {
         if (y != currentValue) {
             final int wi = environment.getWorldIndex();
             if (this.timeStamp < wi) {
@@ -45,5 +53,28 @@ public class StoredDouble extends IStateDouble {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public double get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final double y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    @Override
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(currentValue);
+    }
+}
@@ -16,9 +16,15 @@ import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
 /**
  * A class implementing backtrackable int.
  */
-public class StoredInt extends IStateInt {
+public final class StoredInt implements IStateInt {
 
-    protected final IStoredIntTrail myTrail;
+    private final EnvironmentTrailing environment;
+
+    private final IStoredIntTrail myTrail;
+
+    private int currentValue;
+
+    private int timeStamp;
 
     /**
      * Constructs a stored search with an initial value.
@@ -26,7 +32,9 @@ public class StoredInt extends IStateInt {
      * use the IEnvironment factory
      */
     public StoredInt(final EnvironmentTrailing env, final int i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getIntTrail();
     }
 
@@ -35,7 +43,7 @@ public class StoredInt extends IStateInt {
      * trailing stack.
      */
     @Override
-    public final void set(final int y) {
+    public void set(final int y) {
         if (y != currentValue) {
             final int wi = environment.getWorldIndex();
             if (this.timeStamp < wi) {
@@ -45,5 +53,28 @@ public class StoredInt extends IStateInt {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public int get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final int y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    @Override
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(currentValue);
+    }
+}
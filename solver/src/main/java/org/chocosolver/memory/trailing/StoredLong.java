@@ -16,9 +16,15 @@ import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
 /**
  * A class implementing backtrackable long.
  */
-public class StoredLong extends IStateLong {
+public final class StoredLong implements IStateLong {
 
-    protected final IStoredLongTrail myTrail;
+    private final EnvironmentTrailing environment;
+
+    private final IStoredLongTrail myTrail;
+
+    private long currentValue;
+
+    private int timeStamp;
 
     /**
      * Constructs a stored search with an initial value.
@@ -26,7 +32,9 @@ public class StoredLong extends IStateLong {
      * use the IEnvironment factory
      */
     public StoredLong(final EnvironmentTrailing env, final long i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getLongTrail();
     }
 
@@ -35,7 +43,7 @@ public class StoredLong extends IStateLong {
      * trailing stack.
      */
     @Override
-    public final void set(final long y) {
+    public void set(final long y) {
         if (y != currentValue) {
             final int wi = environment.getWorldIndex();
             if (this.timeStamp < wi) {
@@ -45,5 +53,28 @@ public class StoredLong extends IStateLong {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * Returns the current value.
+     */
+    @Override
+    public long get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final long y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    @Override
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(currentValue);
+    }
+}
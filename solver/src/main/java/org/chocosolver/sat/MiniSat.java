@@ -10,13 +10,13 @@
 package org.chocosolver.sat;
 
 import gnu.trove.list.TIntList;
-import gnu.trove.list.array.TDoubleArrayList;
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.IntHeap;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
 
 /**
  * <p>A MiniSat solver.</p>
@@ -33,6 +33,27 @@ import java.util.*;
  * sat.solve();
  * </code>
  * </pre></p>
+ * <p>
+ * The solver state is stored in flat primitive arrays, as in the C++ implementation:
+ * <ul>
+ *     <li>clauses are allocated in a unique {@code int[]} arena and referred to by their offset in it,
+ *     a clause being made of a header (size, flags and activity) followed by its literals,</li>
+ *     <li>watch lists are indexed by literals and store, for each watched clause,
+ *     its reference and a blocking literal,</li>
+ *     <li>assignments, decision levels and reasons are indexed by variables,</li>
+ *     <li>the trail is an {@code int[]}.</li>
+ * </ul>
+ * No object is allocated during propagation or conflict analysis.
+ * </p>
+ * <p>
+ * The literal block distance (LBD) of each learnt clause is maintained, and learnt clauses are
+ * retained in three tiers: <i>core</i> clauses ({@code lbd <= core_lbd}) are never removed,
+ * <i>tier-2</i> clauses ({@code lbd <= tier2_lbd}) are kept as long as they take part in conflicts
+ * between two reductions, and <i>local</i> clauses are reduced on activity.
+ * At level 0, satisfied clauses are removed and false literals are pruned.
+ * The space of removed clauses is reclaimed by compacting the arena once it exceeds
+ * {@code garbage_frac} of its size.
+ * </p>
  *
  * @author Charles Prud'homme
  * @since 12/07/13
@@ -44,25 +65,59 @@ public class MiniSat implements SatFactory, Dimacs {
     // value of an undefined literal
     private static final int litUndef = -2;
     // undefined clause
-    static final Clause CR_Undef = new Clause(new int[0]);
-    static final VarData VD_Undef = new VarData(CR_Undef, -1);
+    static final int CR_Undef = -1;
+    // Number of words before the literals of a clause in the arena: size and flags, activity, LBD
+    private static final int HEADER = 3;
+    // Number of bits reserved to flags in the first word of a clause
+    private static final int FLAGS = 4;
+    // Flag of learnt clauses
+    private static final int LEARNT = 0b0001;
+    // Flag of removed clauses
+    private static final int DELETED = 0b0010;
+    // Flag of clauses moved during garbage collection, their new reference replaces their activity
+    private static final int RELOCED = 0b0100;
+    // Flag of learnt clauses involved in a conflict since the last reduction
+    private static final int USED = 0b1000;
+    // Empty watch list, shared until the first watch is added
+    private static final int[] NO_WATCH = new int[0];
+    // Values of a variable, aligned with Boolean#value()
+    private static final byte L_TRUE = 0;
+    private static final byte L_FALSE = 1;
+    private static final byte L_UNDEF = 2;
+    private static final Boolean[] BOOLEANS = Boolean.values();
 
     // If false, the constraints are already unsatisfiable. No part of
     // the solver state may be used!
     public boolean ok_;
     // List of problem addClauses.
-    public final ArrayList<Clause> clauses = new ArrayList<>();
+    public final TIntArrayList clauses = new TIntArrayList();
     // List of learnt addClauses.
-    private final ArrayList<Clause> learnts = new ArrayList<>();
+    final TIntArrayList learnts = new TIntArrayList();
+    // Clause arena: header then literals of each clause, a clause is referred to by its offset.
+    int[] ca = new int[1024];
+    // Number of words used in 'ca'.
+    int ca_size_;
+    // Number of words in 'ca' occupied by removed clauses or pruned literals.
+    int wasted_;
+    // Arena under construction during a garbage collection, and its number of words used.
+    private int[] gc_to_;
+    private int gc_size_;
     // 'watches_[lit]' is a list of constraints watching 'lit'(will go
-    // there if literal becomes true).
-    private final TIntObjectHashMap<ArrayList<Watcher>> watches_ = new TIntObjectHashMap<>();
-    // The current assignments.
-    //TIntObjectHashMap<Boolean> assignment_ = new TIntObjectHashMap<>();
-    List<Boolean> assignment_ = new ArrayList<>();
+    // there if literal becomes true), stored as pairs (clause, blocker).
+    int[][] watches_ = new int[0][];
+    // Number of words used in each watch list.
+    int[] watches_size_ = new int[0];
+    // The current assignments, see L_TRUE, L_FALSE and L_UNDEF.
+    byte[] assignment_ = new byte[0];
+    // Decision level of each assigned variable.
+    int[] level_ = new int[0];
+    // Reason (clause reference) of each assigned variable.
+    int[] reason_ = new int[0];
     // Assignment stack; stores all assignments made in the order they
     // were made.
-    TIntArrayList trail_ = new TIntArrayList();
+    int[] trail_ = new int[0];
+    // Number of literals in 'trail_'.
+    int trail_size_;
     // Separator indices for different decision levels in 'trail_'.
     TIntArrayList trail_markers_ = new TIntArrayList();
     // Head of queue(as index into the trail_).
@@ -87,6 +142,10 @@ public class MiniSat implements SatFactory, Dimacs {
     double learntsize_adjust_inc = 1.5;
     double learntsize_inc = 1.1;
     double learntsize_factor = 1 / 3d;
+    int core_lbd = 2; // Learnt clauses with a LBD lower or equal are never removed
+    int tier2_lbd = 6; // Learnt clauses with a LBD lower or equal are kept while they are used
+    double garbage_frac = 0.20; // The fraction of wasted memory allowed before a garbage collection is triggered
+    boolean remove_satisfied = true; // Indicates whether problem clauses satisfied at level 0 are removed
     boolean rnd_pol;
     int conflict_budget = -1;
     int propagation_budget = -1;
@@ -95,7 +154,6 @@ public class MiniSat implements SatFactory, Dimacs {
     boolean asynch_interrupt = false;
     ArrayList<Boolean> model = new ArrayList<>();
     TIntArrayList conflict = new TIntArrayList();
-    ArrayList<VarData> vardata = new ArrayList<>();
     int conflicts;
     int decisions;
     int max_literals;
@@ -104,14 +162,22 @@ public class MiniSat implements SatFactory, Dimacs {
     int clauses_literals;
     int learnts_literals;
     double max_learnts;
-    BitSet seen = new BitSet();
-    BitSet decision = new BitSet();
-    BitSet polarity = new BitSet();
+    int core_learnts;
+    int simpDB_assigns = -1;
+    long simpDB_props;
+    int garbage_collections;
+    boolean[] seen = new boolean[0];
+    boolean[] decision = new boolean[0];
+    boolean[] polarity = new boolean[0];
     TIntArrayList analyze_toclear = new TIntArrayList();
-    TDoubleArrayList activity = new TDoubleArrayList();
-    IntHeap order_heap = new IntHeap((a, b) -> activity.get(a) > activity.get(b));
+    double[] activity = new double[0];
+    // For LBD computation: last stamp seen for each decision level
+    int[] lbd_stamps_ = new int[1];
+    int lbd_stamp_;
+    IntHeap order_heap = new IntHeap((a, b) -> activity[a] > activity[b]);
     Random rand;
     private final TIntArrayList temporary_add_vector_ = new TIntArrayList();
+    private final TIntArrayList learnt_clause_ = new TIntArrayList();
     public TIntArrayList touched_variables_ = new TIntArrayList();
 
     /**
@@ -122,7 +188,6 @@ public class MiniSat implements SatFactory, Dimacs {
         this.qhead_ = 0;
         num_vars_ = 0;
         rand = new Random(random_seed);
-        assignment_.add(Boolean.lUndef); // required because variable are numbered from 1
     }
 
     @Override
@@ -137,20 +202,40 @@ public class MiniSat implements SatFactory, Dimacs {
      */
     public int newVariable() {
         int v = incrementVariableCounter();
-        assignment_.add(v, Boolean.lUndef);
-        vardata.add(new VarData(CR_Undef, 0));
-        //activity .push(0);
-        activity.add(rnd_init_act ? rand.nextDouble() * 0.00001 : 0);
-        seen.clear(v);
-        polarity.set(v);
-        if (!decision.get(v)) dec_vars++;
-        decision.set(v);
+        ensureVarCapacity(v + 1);
+        assignment_[v] = L_UNDEF;
+        level_[v] = 0;
+        reason_[v] = CR_Undef;
+        activity[v] = rnd_init_act ? rand.nextDouble() * 0.00001 : 0;
+        seen[v] = false;
+        polarity[v] = true;
+        if (!decision[v]) dec_vars++;
+        decision[v] = true;
         insertVarOrder(v);
         return v;
     }
 
+    private void ensureVarCapacity(int n) {
+        if (n > assignment_.length) {
+            int cap = Math.max(n, assignment_.length * 3 / 2 + 1);
+            assignment_ = Arrays.copyOf(assignment_, cap);
+            level_ = Arrays.copyOf(level_, cap);
+            reason_ = Arrays.copyOf(reason_, cap);
+            trail_ = Arrays.copyOf(trail_, cap);
+            activity = Arrays.copyOf(activity, cap);
+            seen = Arrays.copyOf(seen, cap);
+            decision = Arrays.copyOf(decision, cap);
+            polarity = Arrays.copyOf(polarity, cap);
+            lbd_stamps_ = Arrays.copyOf(lbd_stamps_, cap + 1);
+            int from = watches_.length;
+            watches_ = Arrays.copyOf(watches_, 2 * cap);
+            Arrays.fill(watches_, from, watches_.length, NO_WATCH);
+            watches_size_ = Arrays.copyOf(watches_size_, 2 * cap);
+        }
+    }
+
     private void insertVarOrder(int v) {
-        if (!order_heap.contains(v) && decision.get(v)) {
+        if (!order_heap.contains(v) && decision[v]) {
             order_heap.insert(v);
         }
     }
@@ -171,9 +256,10 @@ public class MiniSat implements SatFactory, Dimacs {
         int lit = litUndef;
         int j = 0;
         for (int i = 0; i < ps.size(); i++) {
-            if (valueLit(ps.get(i)) == Boolean.lTrue || ps.get(i) == neg(lit)) {
+            byte v = litValue(ps.get(i));
+            if (v == L_TRUE || ps.get(i) == neg(lit)) {
                 return true;
-            } else if (valueLit(ps.get(i)) != Boolean.lFalse && ps.get(i) != lit) {
+            } else if (v != L_FALSE && ps.get(i) != lit) {
                 lit = ps.get(i);
                 ps.set(j++, lit);
             }
@@ -190,7 +276,7 @@ public class MiniSat implements SatFactory, Dimacs {
                 uncheckedEnqueue(ps.get(0));
                 return (ok_ = propagate() == CR_Undef);
             default:
-                Clause cr = new Clause(ps.toArray());
+                int cr = allocClause(ps, false);
                 clauses.add(cr);
                 attachClause(cr);
                 break;
@@ -250,15 +336,17 @@ public class MiniSat implements SatFactory, Dimacs {
     // Backtrack until a certain level.
     void cancelUntil(int level) {
         if (trailMarker() > level) {
-            for (int c = trail_.size() - 1; c >= trail_markers_.get(level); c--) {
-                int x = var(trail_.get(c));
-                assignment_.set(x, Boolean.lUndef);
-                if (phase_saving > 1 || (phase_saving == 1) && c > trail_markers_.get(trail_markers_.size() - 1))
-                    polarity.set(x, sgn(trail_.get(c)));
+            final int lim = trail_markers_.getQuick(level);
+            final int last = trail_markers_.getQuick(trail_markers_.size() - 1);
+            for (int c = trail_size_ - 1; c >= lim; c--) {
+                int x = var(trail_[c]);
+                assignment_[x] = L_UNDEF;
+                if (phase_saving > 1 || (phase_saving == 1) && c > last)
+                    polarity[x] = sgn(trail_[c]);
                 insertVarOrder(x);
             }
-            qhead_ = trail_markers_.get(level);
-            trail_.remove(trail_markers_.get(level), trail_.size() - trail_markers_.get(level));
+            qhead_ = lim;
+            trail_size_ = lim;
             trail_markers_.remove(level, trail_markers_.size() - level);
         }
     }
@@ -268,15 +356,25 @@ public class MiniSat implements SatFactory, Dimacs {
         return trail_markers_.size();
     }
 
+    // The number of assigned literals.
+    int nAssigns() {
+        return trail_size_;
+    }
+
     // The current value of a variable.
     Boolean valueVar(int x) {
-        return assignment_.get(x);
+        return BOOLEANS[assignment_[x]];
     }
 
     // The current value of a literal.
     Boolean valueLit(int l) {
-        Boolean b = assignment_.get(var(l));
-        return b == Boolean.lUndef ? Boolean.lUndef : xor(b, sgn(l));
+        byte b = litValue(l);
+        return b >= L_UNDEF ? Boolean.lUndef : BOOLEANS[b];
+    }
+
+    // The current value of a literal: L_TRUE, L_FALSE or any value greater or equal to L_UNDEF.
+    private byte litValue(int l) {
+        return (byte) (assignment_[l >> 1] ^ (~l & 1));
     }
 
     // The current number of original clauses.
@@ -295,114 +393,200 @@ public class MiniSat implements SatFactory, Dimacs {
 
     // Begins a new decision level.
     void pushTrailMarker() {
-        trail_markers_.add(trail_.size());
+        trail_markers_.add(trail_size_);
     }
 
     // Enqueue a literal. Assumes value of literal is undefined.
-    void uncheckedEnqueue(int l, Clause from) {
+    void uncheckedEnqueue(int l, int from) {
         assert valueLit(l) == Boolean.lUndef;
-        if (assignment_.get(var(l)) == Boolean.lUndef) {
-            touched_variables_.add(l);
-        }
-        assignment_.set(var(l), makeBoolean(sgn(l)));
-        //vardata.ensureCapacity(var(l));
-        while (vardata.size() < var(l)) {
-            vardata.add(VD_Undef);
-        }
-        vardata.set(var(l), new VarData(from, trailMarker()));
-        trail_.add(l);
+        touched_variables_.add(l);
+        assign(l, from);
     }
 
     void uncheckedEnqueue(int l) {
         uncheckedEnqueue(l, CR_Undef);
     }
 
-    // Attach a clause to watcher lists.
-    void attachClause(Clause cr) {
-        assert cr.size() > 1;
-        ArrayList<Watcher> l0 = watches_.get(neg(cr._g(0)));
-        if (l0 == null) {
-            l0 = new ArrayList<>();
-            watches_.put(neg(cr._g(0)), l0);
-        }
-        ArrayList<Watcher> l1 = watches_.get(neg(cr._g(1)));
-        if (l1 == null) {
-            l1 = new ArrayList<>();
-            watches_.put(neg(cr._g(1)), l1);
-        }
-        l0.add(new Watcher(cr, cr._g(1)));
-        l1.add(new Watcher(cr, cr._g(0)));
-        if (cr.learnt()) learnts_literals += cr.size();
-        else clauses_literals += cr.size();
-    }
-
-    void detachClause(Clause cr) {
-        ArrayList<Watcher> ws = watches_.get(neg(cr._g(0)));
-        int i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+    // Assign a literal and push it on the trail. Assumes value of literal is undefined.
+    void assign(int l, int from) {
+        int x = var(l);
+        assignment_[x] = sgn(l) ? L_TRUE : L_FALSE;
+        level_[x] = trailMarker();
+        reason_[x] = from;
+        trail_[trail_size_++] = l;
+    }
+
+    // Allocate a clause in the arena
+    int allocClause(TIntList ps, boolean learnt) {
+        int size = ps.size();
+        int cr = allocHeader(size, learnt);
+        ps.toArray(ca, 0, cr + HEADER, size);
+        return cr;
+    }
+
+    // Allocate a clause in the arena
+    int allocClause(int[] ps, boolean learnt) {
+        int cr = allocHeader(ps.length, learnt);
+        System.arraycopy(ps, 0, ca, cr + HEADER, ps.length);
+        return cr;
+    }
+
+    private int allocHeader(int size, boolean learnt) {
+        int cr = ca_size_;
+        int end = cr + HEADER + size;
+        if (end > ca.length) {
+            ca = Arrays.copyOf(ca, Math.max(end, ca.length * 2));
         }
-        assert i > -1;
-        ws.remove(i);
-        ws = watches_.get(neg(cr._g(1)));
-        i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+        ca[cr] = size << FLAGS | (learnt ? LEARNT | USED : 0);
+        ca[cr + 1] = Float.floatToRawIntBits(0f);
+        ca[cr + 2] = 0;
+        ca_size_ = end;
+        return cr;
+    }
+
+    // Mark a detached clause as removed, its space is reclaimed by the next garbage collection.
+    void freeClause(int cr) {
+        assert (ca[cr] & DELETED) == 0;
+        ca[cr] |= DELETED;
+        wasted_ += HEADER + clauseSize(cr);
+    }
+
+    // The number of literals of a clause.
+    int clauseSize(int cr) {
+        return ca[cr] >>> FLAGS;
+    }
+
+    // The i^th literal of a clause.
+    int clauseLit(int cr, int i) {
+        return ca[cr + HEADER + i];
+    }
+
+    // Is a clause learnt.
+    boolean learnt(int cr) {
+        return (ca[cr] & LEARNT) != 0;
+    }
+
+    private float claActivity(int cr) {
+        return Float.intBitsToFloat(ca[cr + 1]);
+    }
+
+    // The literal block distance of a learnt clause.
+    int lbd(int cr) {
+        return ca[cr + 2];
+    }
+
+    // Count the distinct decision levels of the literals of a clause.
+    private int computeLBD(int cr) {
+        int n = 0;
+        lbd_stamp_++;
+        for (int k = cr + HEADER, end = k + clauseSize(cr); k < end; k++) {
+            int l = level_[var(ca[k])];
+            if (lbd_stamps_[l] != lbd_stamp_) {
+                lbd_stamps_[l] = lbd_stamp_;
+                n++;
+            }
+        }
+        return n;
+    }
+
+    // Set the LBD of a learnt clause, updating the number of core clauses if needed.
+    private void setLBD(int cr, int lbd) {
+        if (lbd <= core_lbd && (ca[cr + 2] > core_lbd || ca[cr + 2] == 0)) {
+            core_learnts++;
+        }
+        ca[cr + 2] = lbd;
+    }
+
+    private void watch(int lit, int cr, int blocker) {
+        int[] ws = watches_[lit];
+        int s = watches_size_[lit];
+        if (s + 2 > ws.length) {
+            ws = watches_[lit] = Arrays.copyOf(ws, Math.max(4, ws.length * 2));
+        }
+        ws[s] = cr;
+        ws[s + 1] = blocker;
+        watches_size_[lit] = s + 2;
+    }
+
+    private void unwatch(int lit, int cr) {
+        int[] ws = watches_[lit];
+        int s = watches_size_[lit];
+        int i = s - 2;
+        while (i >= 0 && ws[i] != cr) {
+            i -= 2;
         }
         assert i > -1;
-        ws.remove(i);
+        System.arraycopy(ws, i + 2, ws, i, s - i - 2);
+        watches_size_[lit] = s - 2;
+    }
+
+    // Attach a clause to watcher lists.
+    void attachClause(int cr) {
+        assert clauseSize(cr) > 1;
+        int l0 = ca[cr + HEADER];
+        int l1 = ca[cr + HEADER + 1];
+        watch(neg(l0), cr, l1);
+        watch(neg(l1), cr, l0);
+        if (learnt(cr)) learnts_literals += clauseSize(cr);
+        else clauses_literals += clauseSize(cr);
+    }
+
+    void detachClause(int cr) {
+        unwatch(neg(ca[cr + HEADER]), cr);
+        unwatch(neg(ca[cr + HEADER + 1]), cr);
+        if (learnt(cr)) learnts_literals -= clauseSize(cr);
+        else clauses_literals -= clauseSize(cr);
     }
 
     // Perform unit propagation. returns true upon success.
-    Clause propagate() {
-        Clause confl = CR_Undef;
+    int propagate() {
+        int confl = CR_Undef;
         int num_props = 0;
-        while (qhead_ < trail_.size()) {
-            int p = trail_.get(qhead_++);
+        final int[] ca = this.ca;
+        while (qhead_ < trail_size_) {
+            int p = trail_[qhead_++];
 
             // 'p' is enqueued fact to propagate.
-            ArrayList<Watcher> ws = watches_.get(p);
+            final int[] ws = watches_[p];
+            final int size = watches_size_[p];
+            final int false_lit = neg(p);
             num_props++;
             int i = 0;
             int j = 0;
-            while (ws != null && i < ws.size()) {
+            while (i < size) {
                 // Try to avoid inspecting the clause:
-                int blocker = ws.get(i).blocker;
-                if (valueLit(blocker) == Boolean.lTrue) {
-                    ws.set(j++, ws.get(i++));
+                final int cr = ws[i];
+                final int blocker = ws[i + 1];
+                i += 2;
+                if (litValue(blocker) == L_TRUE) {
+                    ws[j++] = cr;
+                    ws[j++] = blocker;
                     continue;
                 }
 
                 // Make sure the false literal is data[1]:
-                Clause cr = ws.get(i).clause;
-                final int false_lit = neg(p);
-                if (cr._g(0) == false_lit) {
-                    cr._s(0, cr._g(1));
-                    cr._s(1, false_lit);
+                final int c0 = cr + HEADER;
+                if (ca[c0] == false_lit) {
+                    ca[c0] = ca[c0 + 1];
+                    ca[c0 + 1] = false_lit;
                 }
-                assert (cr._g(1) == false_lit);
-                i++;
+                assert (ca[c0 + 1] == false_lit);
 
                 // If 0th watch is true, then clause is already satisfied.
-                final int first = cr._g(0);
-                Watcher w = new Watcher(cr, first);
-                if (first != blocker && valueLit(first) == Boolean.lTrue) {
-                    ws.set(j++, w);
+                final int first = ca[c0];
+                if (first != blocker && litValue(first) == L_TRUE) {
+                    ws[j++] = cr;
+                    ws[j++] = first;
                     continue;
                 }
 
                 // Look for new watch:
                 boolean cont = false;
-                for (int k = 2; k < cr.size(); k++) {
-                    if (valueLit(cr._g(k)) != Boolean.lFalse) {
-                        cr._s(1, cr._g(k));
-                        cr._s(k, false_lit);
-                        ArrayList<Watcher> lw = watches_.get(neg(cr._g(1)));
-                        if (lw == null) {
-                            lw = new ArrayList<>();
-                            watches_.put(neg(cr._g(1)), lw);
-                        }
-                        lw.add(w);
+                for (int k = c0 + 2, end = c0 + (ca[cr] >>> FLAGS); k < end; k++) {
+                    if (litValue(ca[k]) != L_FALSE) {
+                        ca[c0 + 1] = ca[k];
+                        ca[k] = false_lit;
+                        watch(neg(ca[c0 + 1]), cr, first);
                         cont = true;
                         break;
                     }
@@ -410,13 +594,14 @@ public class MiniSat implements SatFactory, Dimacs {
 
                 // Did not find watch -- clause is unit under assignment:
                 if (!cont) {
-                    ws.set(j++, w);
-                    if (valueLit(first) == Boolean.lFalse) {
+                    ws[j++] = cr;
+                    ws[j++] = first;
+                    if (litValue(first) == L_FALSE) {
                         confl = cr;
-                        qhead_ = trail_.size();
+                        qhead_ = trail_size_;
                         // Copy the remaining watches_:
-                        while (i < ws.size()) {
-                            ws.set(j++, ws.get(i++));
+                        while (i < size) {
+                            ws[j++] = ws[i++];
                         }
                         touched_variables_.add(first);
                     } else {
@@ -424,13 +609,10 @@ public class MiniSat implements SatFactory, Dimacs {
                     }
                 }
             }
-            if (ws != null) {
-                if (ws.size() > j) {
-                    ws.subList(j, ws.size()).clear();
-                }
-            }
+            watches_size_[p] = j;
         }
         propagations += num_props;
+        simpDB_props -= num_props;
         return confl;
     }
 
@@ -465,7 +647,7 @@ public class MiniSat implements SatFactory, Dimacs {
             // Extend & copy model:
             model.ensureCapacity(nVars());
             for (int i = 0; i < nVars(); i++) {
-                model.add(valueLit(i));
+                model.add(valueVar(i));
             }
 
         } else if (status == ESat.FALSE && conflict.size() == 0)
@@ -496,32 +678,31 @@ public class MiniSat implements SatFactory, Dimacs {
         assert ok_;
         int backtrack_level;
         int conflictC = 0;
-        TIntList learnt_clause = new TIntArrayList();
+        TIntArrayList learnt_clause = learnt_clause_;
 
         for (; ; ) {
-            Clause confl = propagate();
+            int confl = propagate();
             if (confl != CR_Undef) {
                 // CONFLICT
                 conflicts++;
                 conflictC++;
                 if (trailMarker() == 0) return ESat.FALSE;
 
-                learnt_clause.clear();
+                learnt_clause.resetQuick();
                 backtrack_level = analyze(confl, learnt_clause);
                 cancelUntil(backtrack_level);
 
-                for (int v = 0; v < nVars(); v++) {
-                    assert valueVar(v) != Boolean.lUndef || order_heap.contains(v) : v + " not heaped";
-                }
+                assert heaped();
 
                 if (learnt_clause.size() == 1) {
-                    uncheckedEnqueue(learnt_clause.get(0));
+                    uncheckedEnqueue(learnt_clause.getQuick(0));
                 } else {
-                    Clause cr = new Clause(learnt_clause.toArray(), true);
+                    int cr = allocClause(learnt_clause, true);
                     learnts.add(cr);
                     attachClause(cr);
+                    setLBD(cr, computeLBD(cr));
                     claBumpActivity(cr);
-                    uncheckedEnqueue(learnt_clause.get(0), cr);
+                    uncheckedEnqueue(learnt_clause.getQuick(0), cr);
                 }
 
                 varDecayActivity();
@@ -546,7 +727,7 @@ public class MiniSat implements SatFactory, Dimacs {
                 if (trailMarker() == 0 && !simplify())
                     return ESat.FALSE;
 
-                if (learnts.size() - trail_.size() >= max_learnts)
+                if (learnts.size() - core_learnts - nAssigns() >= max_learnts)
                     // Reduce the set of learnt clauses:
                     reduceDB();
 
@@ -566,18 +747,26 @@ public class MiniSat implements SatFactory, Dimacs {
 
     }
 
+    // Check that any unassigned variable is in the order heap.
+    private boolean heaped() {
+        for (int v = 0; v < nVars(); v++) {
+            assert assignment_[v] != L_UNDEF || order_heap.contains(v) : v + " not heaped";
+        }
+        return true;
+    }
+
     int pickBranchLit() {
         int next = varUndef;
 
         // Random decision:
         if (rand.nextDouble() < random_var_freq && !order_heap.isEmpty()) {
             next = order_heap.get(rand.nextInt(order_heap.size()));
-            if (valueVar(next) == Boolean.lUndef && decision.get(next))
+            if (assignment_[next] == L_UNDEF && decision[next])
                 rnd_decisions++;
         }
 
         // Activity based decision:
-        while (next == varUndef || valueVar(next) != Boolean.lUndef || !decision.get(next))
+        while (next == varUndef || assignment_[next] != L_UNDEF || !decision[next])
             if (order_heap.isEmpty()) {
                 next = varUndef;
                 break;
@@ -587,32 +776,34 @@ public class MiniSat implements SatFactory, Dimacs {
 
         return next == varUndef ?
                 litUndef :
-                makeLiteral(next, rnd_pol ? rand.nextDouble() < 0.5 : polarity.get(next));
+                makeLiteral(next, rnd_pol ? rand.nextDouble() < 0.5 : polarity[next]);
     }
 
-    int analyze(Clause confl, TIntList out_learnt) {
+    int analyze(int confl, TIntList out_learnt) {
         int pathC = 0;
         int p = litUndef;
 
         // Generate conflict clause:
         //
         out_learnt.add(litUndef);      // (leave room for the asserting literal)
-        int index = trail_.size() - 1;
+        int index = trail_size_ - 1;
 
         do {
             assert (confl != CR_Undef); // (otherwise should be UIP)
-            Clause c = confl;
+            final int c = confl;
 
-            if (c.learnt())
+            if (learnt(c)) {
                 claBumpActivity(c);
+                bumpLBD(c);
+            }
 
-            for (int j = (p == litUndef) ? 0 : 1; j < c.size(); j++) {
-                int q = c._g(j);
-
-                if (!seen.get(var(q)) && level(var(q)) > 0) {
-                    varBumpActivity(var(q));
-                    seen.set(var(q));
-                    if (level(var(q)) >= trailMarker())
+            for (int j = c + HEADER + ((p == litUndef) ? 0 : 1), end = c + HEADER + clauseSize(c); j < end; j++) {
+                int q = ca[j];
+                int x = var(q);
+                if (!seen[x] && level_[x] > 0) {
+                    varBumpActivity(x);
+                    seen[x] = true;
+                    if (level_[x] >= trailMarker())
                         pathC++;
                     else
                         out_learnt.add(q);
@@ -621,10 +812,10 @@ public class MiniSat implements SatFactory, Dimacs {
 
             // Select next clause to look at:
             //noinspection StatementWithEmptyBody
-            while (!seen.get(var(trail_.get(index--)))) ;
-            p = trail_.get(index + 1);
-            confl = reason(var(p));
-            seen.clear(var(p));
+            while (!seen[var(trail_[index--])]) ;
+            p = trail_[index + 1];
+            confl = reason_[var(p)];
+            seen[var(p)] = false;
             pathC--;
 
         } while (pathC > 0);
@@ -633,38 +824,30 @@ public class MiniSat implements SatFactory, Dimacs {
         // Simplify conflict clause:
         //
         int i, j;
-        analyze_toclear.clear();
+        analyze_toclear.resetQuick();
         analyze_toclear.addAll(out_learnt);
-        /*if (ccmin_mode == 2) {
-            uint32_t abstract_level = 0;
-            for (i = 1; i < out_learnt.size(); i++)
-                abstract_level |= abstractLevel(var(out_learnt.get(i))); // (maintain an abstraction of levels involved in conflict)
-
-            for (i = j = 1; i < out_learnt.size(); i++)
-                if (reason(var(out_learnt.get(i))) == CR_Undef || !litRedundant(out_learnt.get(i), abstract_level))
-                    out_learnt.set(j++, out_learnt.get(i));
-
-        } else */
         if (ccmin_mode == 1) {
             for (i = j = 1; i < out_learnt.size(); i++) {
                 int x = var(out_learnt.get(i));
 
-                if (reason(x) == CR_Undef)
+                if (reason_[x] == CR_Undef)
                     out_learnt.set(j++, out_learnt.get(i));
                 else {
-                    Clause c = reason(var(out_learnt.get(i)));
-                    for (int k = 1; k < c.size(); k++)
-                        if (!seen.get(var(c._g(k))) && level(var(c._g(k))) > 0) {
+                    int c = reason_[x];
+                    for (int k = 1; k < clauseSize(c); k++) {
+                        int y = var(clauseLit(c, k));
+                        if (!seen[y] && level_[y] > 0) {
                             out_learnt.set(j++, out_learnt.get(i));
                             break;
                         }
+                    }
                 }
             }
         } else
             j = out_learnt.size();
 
         max_literals += out_learnt.size();
-        out_learnt.subList(j, out_learnt.size()).clear();
+        out_learnt.remove(j, out_learnt.size() - j);
         tot_literals += out_learnt.size();
 
         // Find correct backtrack level:
@@ -676,17 +859,17 @@ public class MiniSat implements SatFactory, Dimacs {
             int max_i = 1;
             // Find the first literal assigned at the next-highest level:
             for (i = 2; i < out_learnt.size(); i++)
-                if (level(var(out_learnt.get(i))) > level(var(out_learnt.get(max_i))))
+                if (level_[var(out_learnt.get(i))] > level_[var(out_learnt.get(max_i))])
                     max_i = i;
             // Swap-in this literal at index 1:
             p = out_learnt.get(max_i);
             out_learnt.set(max_i, out_learnt.get(1));
             out_learnt.set(1, p);
-            out_btlevel = level(var(p));
+            out_btlevel = level_[var(p)];
         }
 
         for (j = 0; j < analyze_toclear.size(); j++)
-            seen.clear(var(analyze_toclear.get(j)));    // ('seen[]' is now cleared)
+            seen[var(analyze_toclear.getQuick(j))] = false;    // ('seen[]' is now cleared)
         return out_btlevel;
     }
 
@@ -695,47 +878,183 @@ public class MiniSat implements SatFactory, Dimacs {
 
         if (!ok_ || propagate() != CR_Undef)
             return ok_ = false;
-        //System.err.println("TODO : simplify() ");
-        // TODO
-        /*if (nAssigns() == simpDB_assigns || (simpDB_props > 0))
+
+        if (nAssigns() == simpDB_assigns || (simpDB_props > 0))
             return true;
 
         // Remove satisfied clauses:
         removeSatisfied(learnts);
         if (remove_satisfied)        // Can be turned off.
             removeSatisfied(clauses);
-        */
+        checkGarbage();
         rebuildOrderHeap();
 
-        /*simpDB_assigns = nAssigns();
+        simpDB_assigns = nAssigns();
         simpDB_props = clauses_literals + learnts_literals;   // (shouldn't depend on stats really, but it will do for now)
-        */
         return true;
     }
 
+    // Remove clauses satisfied at level 0 and prune false literals from the other ones.
+    private void removeSatisfied(TIntArrayList cs) {
+        int j = 0;
+        for (int i = 0; i < cs.size(); i++) {
+            int c = cs.getQuick(i);
+            if (satisfied(c)) {
+                if (learnt(c) && lbd(c) <= core_lbd) core_learnts--;
+                removeClause(c);
+            } else {
+                // The watched literals are not assigned, since the clause is neither satisfied nor unit
+                assert litValue(ca[c + HEADER]) >= L_UNDEF && litValue(ca[c + HEADER + 1]) >= L_UNDEF;
+                int size = clauseSize(c);
+                int n = 2;
+                for (int k = 2; k < size; k++) {
+                    int l = ca[c + HEADER + k];
+                    if (litValue(l) != L_FALSE) {
+                        ca[c + HEADER + n++] = l;
+                    }
+                }
+                if (n < size) {
+                    ca[c] = n << FLAGS | (ca[c] & ((1 << FLAGS) - 1));
+                    wasted_ += size - n;
+                    if (learnt(c)) learnts_literals -= size - n;
+                    else clauses_literals -= size - n;
+                }
+                cs.setQuick(j++, c);
+            }
+        }
+        cs.remove(j, cs.size() - j);
+    }
+
+    // Is a clause satisfied by the current assignment.
+    private boolean satisfied(int cr) {
+        for (int k = cr + HEADER, end = k + clauseSize(cr); k < end; k++) {
+            if (litValue(ca[k]) == L_TRUE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void rebuildOrderHeap() {
         TIntList vs = new TIntArrayList();
         for (int v = 0; v < nVars(); v++)
-            if (decision.get(v) && valueVar(v) == Boolean.lUndef)
+            if (decision[v] && assignment_[v] == L_UNDEF)
                 vs.add(v);
         order_heap.build(vs);
     }
 
     void reduceDB() {
-        int i, j;
-        double extra_lim = cla_inc / learnts.size();    // Remove any clause below this activity
-
-        learnts.sort(Comparator.comparingDouble(c -> c.activity));
+        int n = learnts.size();
+        // Core clauses are kept, tier-2 clauses are kept if they were used since the last reduction,
+        // the others are candidates for removal
+        long[] keys = new long[n];
+        int nc = 0;
+        int j = 0;
+        for (int i = 0; i < n; i++) {
+            int c = learnts.getQuick(i);
+            int lbd = lbd(c);
+            boolean used = (ca[c] & USED) != 0;
+            ca[c] &= ~USED;
+            if (lbd <= core_lbd || lbd <= tier2_lbd && used) {
+                learnts.setQuick(j++, c);
+            } else {
+                // Activities are non-negative floats, their raw bits are ordered as they are
+                keys[nc++] = (long) ca[c + 1] << 32 | c;
+            }
+        }
+        Arrays.sort(keys, 0, nc);
+        learnts.remove(j, n - j);
+        double extra_lim = cla_inc / nc;    // Remove any clause below this activity
         // Don't delete binary or locked clauses. From the rest, delete clauses from the first half
         // and clauses with activity smaller than 'extra_lim':
-        for (i = j = 0; i < learnts.size(); i++) {
-            Clause c = learnts.get(i);
-            if (c.size() > 2 && !locked(c) && (i < learnts.size() / 2 || c.activity < extra_lim))
-                removeClause(learnts.get(i));
+        for (int i = 0; i < nc; i++) {
+            int c = (int) keys[i];
+            if (clauseSize(c) > 2 && !locked(c) && (i < nc / 2 || claActivity(c) < extra_lim))
+                removeClause(c);
             else
-                learnts.set(j++, learnts.get(i));
+                learnts.add(c);
+        }
+        checkGarbage();
+    }
+
+    // Update the LBD of a learnt clause involved in a conflict.
+    private void bumpLBD(int cr) {
+        ca[cr] |= USED;
+        if (lbd(cr) > core_lbd) {
+            int lbd = computeLBD(cr);
+            if (lbd < lbd(cr)) {
+                setLBD(cr, lbd);
+            }
+        }
+    }
+
+    // Compact the clause arena if too much space is wasted.
+    void checkGarbage() {
+        if (wasted_ > ca_size_ * garbage_frac) {
+            garbageCollect();
+        }
+    }
+
+    /**
+     * Compact the clause arena: live clauses are moved in a new arena,
+     * in the order they are met in watch lists, and all references are updated.
+     */
+    void garbageCollect() {
+        int live = ca_size_ - wasted_;
+        gc_to_ = new int[Math.max(1024, live + (live >> 1))];
+        gc_size_ = 0;
+        // Watched clauses first, for locality
+        for (int l = 0; l < 2 * nVars(); l++) {
+            int[] ws = watches_[l];
+            for (int i = 0, s = watches_size_[l]; i < s; i += 2) {
+                ws[i] = reloc(ws[i]);
+            }
         }
-        learnts.subList(j, learnts.size()).clear();
+        // Reasons
+        for (int i = 0; i < trail_size_; i++) {
+            int x = var(trail_[i]);
+            int cr = reason_[x];
+            if (cr != CR_Undef) {
+                reason_[x] = (ca[cr] & DELETED) != 0 ? CR_Undef : reloc(cr);
+            }
+        }
+        relocAll();
+        ca = gc_to_;
+        ca_size_ = gc_size_;
+        gc_to_ = null;
+        wasted_ = 0;
+        garbage_collections++;
+    }
+
+    /**
+     * Update the lists of clause references during a garbage collection.
+     * Sub-classes storing clause references must override this method.
+     */
+    void relocAll() {
+        reloc(clauses);
+        reloc(learnts);
+    }
+
+    // Update a list of clause references during a garbage collection.
+    final void reloc(TIntArrayList cs) {
+        for (int i = 0; i < cs.size(); i++) {
+            cs.setQuick(i, reloc(cs.getQuick(i)));
+        }
+    }
+
+    // Move a clause in the new arena, if not done yet, and return its new reference.
+    private int reloc(int cr) {
+        assert (ca[cr] & DELETED) == 0;
+        if ((ca[cr] & RELOCED) != 0) {
+            return ca[cr + 1];
+        }
+        int n = HEADER + clauseSize(cr);
+        int nr = gc_size_;
+        System.arraycopy(ca, cr, gc_to_, nr, n);
+        gc_size_ = nr + n;
+        ca[cr] |= RELOCED;
+        ca[cr + 1] = nr;
+        return nr;
     }
 
 
@@ -745,34 +1064,37 @@ public class MiniSat implements SatFactory, Dimacs {
                 (propagation_budget < 0 || propagations < propagation_budget);
     }
 
-    Clause reason(int x) {
-        return vardata.get(x).cr;
+    int reason(int x) {
+        return reason_[x];
     }
 
     int level(int x) {
-        return vardata.get(x).level;
+        return level_[x];
     }
 
-    boolean locked(Clause c) {
-        return valueLit(c._g(0)) == Boolean.lTrue
-                && reason(var(c._g(0))) != CR_Undef
-                && reason(var(c._g(0))) == c;
+    boolean locked(int cr) {
+        int l0 = ca[cr + HEADER];
+        return litValue(l0) == L_TRUE && reason_[var(l0)] == cr;
     }
 
-    void removeClause(Clause cr) {
+    void removeClause(int cr) {
         detachClause(cr);
         // Don't leave pointers to free'd memory!
         if (locked(cr)) {
-            vardata.get(var(cr._g(0))).cr = CR_Undef;
+            reason_[var(ca[cr + HEADER])] = CR_Undef;
         }
+        freeClause(cr);
     }
 
 
-    void claBumpActivity(Clause c) {
-        if ((c.activity += cla_inc) > 1e20d) {
+    void claBumpActivity(int cr) {
+        float a = (float) (claActivity(cr) + cla_inc);
+        ca[cr + 1] = Float.floatToRawIntBits(a);
+        if (a > 1e20f) {
             // Rescale:
             for (int i = 0; i < learnts.size(); i++) {
-                learnts.get(i).activity *= 1e-20d;
+                int c = learnts.getQuick(i);
+                ca[c + 1] = Float.floatToRawIntBits(claActivity(c) * 1e-20f);
             }
             cla_inc *= 1e-20d;
         }
@@ -783,13 +1105,12 @@ public class MiniSat implements SatFactory, Dimacs {
     }
 
     void varBumpActivity(int v, double inc) {
-        activity.ensureCapacity(nVars());
-        double a = activity.get(v);
-        activity.setQuick(v, a + inc);
-        if (a + inc > 1e100) {
+        double a = activity[v] + inc;
+        activity[v] = a;
+        if (a > 1e100) {
             // Rescale:
             for (int i = 0; i < nVars(); i++)
-                activity.transformValues(value -> value * 1e-100);
+                activity[i] *= 1e-100;
             var_inc *= 1e-100;
         }
         // Update order_heap with respect to new activity:
@@ -884,78 +1205,6 @@ public class MiniSat implements SatFactory, Dimacs {
         return (l >> 1);
     }
 
-    static Boolean makeBoolean(boolean b) {
-        return (b ? Boolean.lTrue : Boolean.lFalse);
-    }
-
-    private static Boolean xor(Boolean a, boolean b) {
-        return Boolean.make((byte) (a.value() ^ (b ? 1 : 0)));
-    }
-
-
-    /**
-     * Clause -- a simple class for representing a clause
-     * <br/>
-     *
-     * @author Charles Prud'homme, Laurent Perron
-     * @since 12/07/13
-     */
-    public static class Clause {
-
-        private final int[] literals_;
-        private final boolean learnt;
-        private double activity;
-
-        Clause(int[] ps, boolean learnt) {
-            literals_ = ps.clone();
-            this.learnt = learnt;
-        }
-
-        Clause(int[] ps) {
-            this(ps, false);
-        }
-
-        public int size() {
-            return literals_.length;
-        }
-
-        public boolean learnt() {
-            return learnt;
-        }
-
-
-        public int _g(int i) {
-            return literals_[i];
-        }
-
-        void _s(int pos, int l) {
-            literals_[pos] = l;
-        }
-
-        public String toString() {
-            return Arrays.toString(literals_);
-        }
-    }
-
-    /**
-     * // A watcher represent a clause attached to a literal.
-     * <br/>
-     * (or-tools, booleans.cc, ty L. Perron).
-     *
-     * @author Charles Prud'homme
-     * @since 12/07/13
-     */
-    static class Watcher {
-
-        Clause clause;
-        int blocker;
-
-        Watcher(final Clause cr, int l) {
-            this.clause = cr;
-            this.blocker = l;
-        }
-    }
-
     /**
      * <br/>
      * (or-tools, booleans.cc, ty L. Perron).
@@ -987,14 +1236,4 @@ public class MiniSat implements SatFactory, Dimacs {
         }
 
     }
-
-    static class VarData {
-        Clause cr;
-        int level;
-
-        public VarData(Clause cr, int level) {
-            this.cr = cr;
-            this.level = level;
-        }
-    }
-}
\ No newline at end of file
+}
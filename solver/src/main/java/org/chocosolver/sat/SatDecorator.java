@@ -32,7 +32,7 @@ import java.util.function.Consumer;
 public class SatDecorator extends MiniSat {
 
     // store clauses dynamically added from outside
-    public ArrayList<Clause> dynClauses = new ArrayList<>();
+    public TIntArrayList dynClauses = new TIntArrayList();
     private final TIntObjectHashMap<Literalizer> lits = new TIntObjectHashMap<>();
     private final HashMap<Variable, List<Literalizer>> vars = new HashMap<>();
     /**
@@ -72,10 +72,11 @@ public class SatDecorator extends MiniSat {
                 ok_ = (propagate() == CR_Undef);
                 return;
             default:
-                Clause cr = new Clause(ps);
+                int cr = allocClause(ps, false);
                 removeDominated(cr);
                 dynClauses.add(cr);
                 attachClause(cr);
+                checkGarbage();
                 break;
         }
     }
@@ -85,21 +86,23 @@ public class SatDecorator extends MiniSat {
      *
      * @param last the clause to compare the other with
      */
-    private void removeDominated(Clause last) {
+    private void removeDominated(int last) {
+        int lsize = clauseSize(last);
         for (int c = dynClauses.size() - 1; c >= 0; c--) {
-            Clause prev = dynClauses.get(c);
-            if (last.size() < prev.size()) {
+            int prev = dynClauses.getQuick(c);
+            int psize = clauseSize(prev);
+            if (lsize < psize) {
                 int i = 0, j = 0;
-                while (i < last.size() && j < prev.size()) {
-                    int l = last._g(i);
-                    int p = prev._g(j);
+                while (i < lsize && j < psize) {
+                    int l = clauseLit(last, i);
+                    int p = clauseLit(prev, j);
                     if (l < p) break;
                     j++;
                     if (l == p) {
                         i++;
                     }
                 }
-                if (i == last.size() && j == prev.size()) {
+                if (i == lsize && j == psize) {
                     // then 'last' dominates 'prev'
                     detachLearnt(c);
                 }
@@ -108,9 +111,15 @@ public class SatDecorator extends MiniSat {
     }
 
     public void detachLearnt(int ci) {
-        Clause cr = dynClauses.get(ci);
-        detachClause(cr);
-        dynClauses.remove(ci);
+        int cr = dynClauses.getQuick(ci);
+        removeClause(cr);
+        dynClauses.removeAt(ci);
+    }
+
+    @Override
+    void relocAll() {
+        super.relocAll();
+        reloc(dynClauses);
     }
 
     private void dynUncheckedEnqueue(int l) {
@@ -156,8 +165,7 @@ public class SatDecorator extends MiniSat {
         pushTrailMarker();
         // Unchecked enqueue
         assert valueLit(lit) == Boolean.lUndef;
-        assignment_.set(var(lit), makeBoolean(sgn(lit)));
-        trail_.add(lit);
+        assign(lit, CR_Undef);
         return propagate() == CR_Undef;
     }
 
@@ -249,15 +257,16 @@ public class SatDecorator extends MiniSat {
     /**
      * Checks if all clauses from <code>clauses</code> are satisfied
      *
-     * @param clauses list of clause
+     * @param clauses list of clause references
      * @return <tt>true</tt> if all clauses are satisfied, <tt>false</tt> otherwise
      */
-    public boolean clauseEntailed(ArrayList<Clause> clauses) {
+    public boolean clauseEntailed(TIntList clauses) {
         int lit;
         cl:
-        for (Clause c : clauses) {
-            for (int i = 0; i < c.size(); i++) {
-                lit = c._g(i);
+        for (int k = 0; k < clauses.size(); k++) {
+            int c = clauses.get(k);
+            for (int i = 0; i < clauseSize(c); i++) {
+                lit = clauseLit(c, i);
                 Literalizer ltz = lits.get(var(lit));
                 // ltz is null only for 'addClausesSumBoolArrayLessEqKVar' that needs an extra var.
                 if (ltz == null || lits.get(var(lit)).check(sgn(lit))) {
@@ -681,6 +681,18 @@ public class Model implements IModel {
         return this.modelAnalyser;
     }
 
+    /**
+     * Return a copy of this model, made of the same variables, with their current domains, and the same constraints.
+     * Use a {@link ModelCopier} to find the copy of a variable or a constraint.
+     *
+     * @return an independent copy of this model
+     * @throws SolverException if a variable or a propagator of this model cannot be copied
+     * @see ModelCopier
+     */
+    public Model copy() {
+        return new ModelCopier(this).getCopy();
+    }
+
     /**
      * Returns an estimation of the current memory footprint of this.
      * @return the total size in bytes for this model
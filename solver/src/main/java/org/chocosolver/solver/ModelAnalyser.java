@@ -9,11 +9,16 @@
  */
 package org.chocosolver.solver;
 
+import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.variables.*;
+import org.chocosolver.solver.variables.view.IView;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.ConnectivityFinder;
 import org.chocosolver.util.logger.Logger;
+import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.setDataStructures.SetType;
 
 import java.io.IOException;
 import java.io.PrintStream;
@@ -987,6 +992,80 @@ public class ModelAnalyser {
         return graph;
     }
 
+    /**
+     * Split the <code>Model</code> into independent sub-problems, that is, the connected components of the graph
+     * where two variables are linked when they appear together in the scope of a propagator.
+     * Instantiated variables do not link variables, and views are linked to the variables they observe.
+     * All the uninstantiated variables that appear in no propagator are gathered in a single sub-problem.
+     *
+     * @param ignored constraints not to consider while building the graph
+     * @return the uninstantiated variables of each sub-problem, views included
+     * @see ModelDecomposer
+     */
+    public List<Variable[]> getIndependentSubProblems(Constraint... ignored) {
+        Variable[] variables = this.model.getVars();
+        int n = variables.length;
+        TIntIntHashMap index = new TIntIntHashMap(n, .5f, -1, -1);
+        for (int i = 0; i < n; i++) {
+            index.put(variables[i].getId(), i);
+        }
+        UndirectedGraph graph = new UndirectedGraph(n, SetType.BITSET, SetType.BIPARTITESET, true);
+        boolean[] constrained = new boolean[n];
+        Set<Constraint> excluded = Collections.newSetFromMap(new IdentityHashMap<>());
+        excluded.addAll(Arrays.asList(ignored));
+        for (Constraint c : this.model.getCstrs()) {
+            if (excluded.contains(c)) {
+                continue;
+            }
+            for (Propagator<?> p : c.getPropagators()) {
+                int prev = -1;
+                for (int i = 0; i < p.getNbVars(); i++) {
+                    int curr = index.get(p.getVar(i).getId());
+                    if (curr > -1 && !variables[curr].isInstantiated()) {
+                        constrained[curr] = true;
+                        if (prev > -1 && prev != curr) {
+                            graph.addEdge(prev, curr);
+                        }
+                        prev = curr;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((variables[i].getTypeAndKind() & Variable.VIEW) != 0 && !variables[i].isInstantiated()) {
+                for (Variable v : ((IView<?>) variables[i]).getVariables()) {
+                    int j = index.get(v.getId());
+                    if (j > -1 && !v.isInstantiated()) {
+                        constrained[i] = constrained[j] = true;
+                        graph.addEdge(i, j);
+                    }
+                }
+            }
+        }
+        ConnectivityFinder finder = new ConnectivityFinder(graph);
+        finder.findAllCC();
+        List<List<Variable>> components = new ArrayList<>();
+        for (int cc = 0; cc < finder.getNBCC(); cc++) {
+            components.add(new ArrayList<>());
+        }
+        List<Variable> unconstrained = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (!variables[i].isInstantiated()) {
+                (constrained[i] ? components.get(finder.getNodeCC()[i]) : unconstrained).add(variables[i]);
+            }
+        }
+        List<Variable[]> subProblems = new ArrayList<>();
+        for (List<Variable> component : components) {
+            if (!component.isEmpty()) {
+                subProblems.add(component.toArray(new Variable[0]));
+            }
+        }
+        if (!unconstrained.isEmpty()) {
+            subProblems.add(unconstrained.toArray(new Variable[0]));
+        }
+        return subProblems;
+    }
+
     /**
      * Write a gv file, at the given path, corresponding to the variable-oriented graph of the <code>Model</code>
      *
@@ -0,0 +1,192 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * A class to copy a <code>Model</code>, without running the code that built it again.
+ * <br/>
+ * The copy declares the same variables, with their current domains, and posts the same constraints,
+ * each of them made of copies of the propagators of the original constraint.
+ * The objective, the precision and the seed of the model are copied too.
+ * The copy is independent from the original model: they can be solved concurrently, for instance in a {@link ParallelPortfolio}.
+ * <p>
+ * Variables and propagators are copied in the order they were created in the original model,
+ * so that each copy gets the same identifier (see {@link Variable#getId()}) as the object it is copied from.
+ * Variables are copied with {@link Variable#copy(ModelCopier)} and propagators with {@link Propagator#copy(ModelCopier)};
+ * immutable data, like tuples, automata or cost matrices, are shared between the original propagator and its copy.
+ * Copying a model which contains a variable or a propagator that does not support it throws a {@link SolverException}.
+ * <p>
+ * The search strategy, the hooks and the monitors of the original model are not copied.
+ * <pre> {@code
+ * ModelCopier copier = new ModelCopier(model);
+ * Model copy = copier.getCopy();
+ * IntVar y = copier.get(x);
+ * }</pre>
+ *
+ * @author agent
+ * @see Model#copy()
+ * @since 18/10/2026
+ */
+public class ModelCopier {
+
+    /**
+     * The model to copy
+     */
+    private final Model source;
+    /**
+     * The copy
+     */
+    private final Model target;
+    /**
+     * Map each variable, propagator and constraint of {@link #source} to its copy
+     */
+    private final IdentityHashMap<Object, Object> copies;
+
+    /**
+     * Copy <i>source</i>.
+     *
+     * @param source the model to copy
+     * @throws SolverException if a variable or a propagator of <i>source</i> cannot be copied
+     */
+    public ModelCopier(Model source) {
+        this.source = source;
+        this.target = new Model(source.getName(), source.getSettings());
+        this.copies = new IdentityHashMap<>();
+        copyVariablesAndPropagators();
+        copyConstraints();
+        copyObjective();
+    }
+
+    private void copyVariablesAndPropagators() {
+        List<Object> objects = new ArrayList<>();
+        for (Variable v : source.getVars()) {
+            objects.add(v);
+        }
+        for (Constraint c : source.getCstrs()) {
+            for (Propagator<?> p : c.getPropagators()) {
+                objects.add(p);
+            }
+        }
+        objects.sort(Comparator.comparingInt(ModelCopier::idOf));
+        int last = 0;
+        for (Object o : objects) {
+            // skip the identifiers of the objects that are not copied, like the propagators of unposted constraints
+            while (++last < idOf(o)) {
+                target.nextId();
+            }
+            Object copy = o instanceof Variable ? ((Variable) o).copy(this) : ((Propagator<?>) o).copy(this);
+            copies.put(o, copy);
+        }
+    }
+
+    private static int idOf(Object o) {
+        return o instanceof Variable ? ((Variable) o).getId() : ((Propagator<?>) o).getId();
+    }
+
+    private void copyConstraints() {
+        for (Constraint c : source.getCstrs()) {
+            Propagator<?>[] propagators = new Propagator<?>[c.getPropagators().length];
+            for (int i = 0; i < propagators.length; i++) {
+                propagators[i] = get(c.getPropagator(i));
+            }
+            Constraint copy = new Constraint(c.getName(), propagators);
+            copy.setEnabled(c.isEnabled());
+            copies.put(c, copy);
+            target.post(copy);
+        }
+    }
+
+    private void copyObjective() {
+        if (source.getObjective() != null) {
+            target.setObjective(source.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE, get(source.getObjective()));
+        }
+        target.setPrecision(source.getPrecision());
+        target.setSeed(source.getSeed());
+    }
+
+    /**
+     * @return the model being copied
+     */
+    public Model getSource() {
+        return source;
+    }
+
+    /**
+     * @return the copy
+     */
+    public Model getCopy() {
+        return target;
+    }
+
+    /**
+     * @param var a variable of the original model
+     * @param <V> type of the variable
+     * @return the copy of <i>var</i>
+     * @throws SolverException if <i>var</i> is not copied yet
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> V get(V var) {
+        Object copy = copies.get(var);
+        if (copy == null) {
+            throw new SolverException(var.getName() + " is not copied in " + target.getName());
+        }
+        return (V) copy;
+    }
+
+    /**
+     * @param vars variables of the original model
+     * @param <V>  type of the variables
+     * @return a new array made of the copies of <i>vars</i>
+     * @throws SolverException if a variable in <i>vars</i> is not copied yet
+     */
+    public <V extends Variable> V[] get(V[] vars) {
+        V[] copies = vars.clone();
+        for (int i = 0; i < vars.length; i++) {
+            copies[i] = get(vars[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * @param propagator a propagator of the original model
+     * @return the copy of <i>propagator</i>
+     * @throws SolverException if <i>propagator</i> is not copied yet
+     */
+    public Propagator<?> get(Propagator<?> propagator) {
+        Object copy = copies.get(propagator);
+        if (copy == null) {
+            throw new SolverException(propagator + " is not copied in " + target.getName());
+        }
+        return (Propagator<?>) copy;
+    }
+
+    /**
+     * @param constraint a constraint posted in the original model
+     * @return the copy of <i>constraint</i>
+     * @throws SolverException if <i>constraint</i> is not copied
+     */
+    public Constraint get(Constraint constraint) {
+        Object copy = copies.get(constraint);
+        if (copy == null) {
+            throw new SolverException(constraint.getName() + " is not copied in " + target.getName());
+        }
+        return (Constraint) copy;
+    }
+}
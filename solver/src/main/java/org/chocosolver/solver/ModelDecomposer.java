@@ -0,0 +1,515 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.*;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * A class to solve a <code>Model</code> made of independent sub-problems one after the other,
+ * instead of as a single search.
+ * <br/>
+ * The sub-problems are the connected components of the constraint graph
+ * (see {@link ModelAnalyser#getIndependentSubProblems(Constraint...)}).
+ * Since they do not share any variable, a failure in one of them never calls into question the decisions made in another one,
+ * and the sum of the sizes of their search trees is usually much smaller than the size of the search tree of the whole model.
+ * The solutions of the sub-problems are then merged into a solution of the model.
+ * <p>
+ * An objective is separable when it is defined as the sum of terms, none of them involving variables from two sub-problems.
+ * The constraints involving the objective variable are then ignored while computing the sub-problems,
+ * each sub-problem optimizes the sum of its terms and the optimal value of the objective is the sum of the optimal values.
+ * <p>
+ * By default, the sub-problems are solved sequentially, with the solver of the model.
+ * With more than one worker (see {@link #setNbWorkers(int)}), each sub-problem is solved concurrently in its own
+ * copy of the model (see {@link Model#copy()}); if the model cannot be copied, they are solved sequentially.
+ * <pre> {@code
+ * ModelDecomposer decomposer = new ModelDecomposer(model);
+ * Solution solution = decomposer.findOptimalSolution(cost, false, costs);
+ * }</pre>
+ *
+ * @author agent
+ * @see ModelAnalyser
+ * @since 18/10/2026
+ */
+public class ModelDecomposer {
+
+    private final Model model;
+    /**
+     * Builds the search strategy of a sub-problem from its variables
+     */
+    private Function<Variable[], AbstractStrategy<?>> searchFactory = ModelDecomposer::defaultSearch;
+    /**
+     * Number of workers solving sub-problems concurrently
+     */
+    private int nbWorkers = 1;
+    /**
+     * Number of sub-problems solved by the last resolution, 0 if the whole model was solved at once
+     */
+    private int nbSolved;
+
+    /**
+     * Creates a ModelDecomposer for the given <code>Model</code>
+     *
+     * @param model the Model
+     */
+    public ModelDecomposer(Model model) {
+        this.model = model;
+    }
+
+    /**
+     * Set the function that builds the search strategy of a sub-problem, given its variables.
+     * By default, {@link Search#domOverWDegSearch(IntVar...)} is used on integer variables,
+     * and the default strategies on set, real and graph variables.
+     *
+     * @param searchFactory builds the search strategy of a sub-problem
+     * @return this
+     */
+    public ModelDecomposer setSearch(Function<Variable[], AbstractStrategy<?>> searchFactory) {
+        this.searchFactory = searchFactory;
+        return this;
+    }
+
+    /**
+     * Set the number of workers solving the sub-problems concurrently, 1 (default) to solve them sequentially.
+     * Each sub-problem is then solved in a copy of the model, so the stop criteria are evaluated by several threads
+     * and must not depend on the solver of the model.
+     *
+     * @param nbWorkers number of workers
+     * @return this
+     * @throws SolverException if <i>nbWorkers</i> is not positive
+     */
+    public ModelDecomposer setNbWorkers(int nbWorkers) {
+        if (nbWorkers < 1) {
+            throw new SolverException("The number of workers of a ModelDecomposer must be positive");
+        }
+        this.nbWorkers = nbWorkers;
+        return this;
+    }
+
+    /**
+     * @return the variables of each independent sub-problem of the model
+     */
+    public List<Variable[]> getSubProblems() {
+        return new ModelAnalyser(model).getIndependentSubProblems();
+    }
+
+    /**
+     * @return the number of sub-problems solved by the last resolution,
+     * 0 if the model was solved as a whole
+     */
+    public int getNbSolvedSubProblems() {
+        return nbSolved;
+    }
+
+    /**
+     * Find a solution of each sub-problem and merge them.
+     *
+     * @param stop optional criteria to stop the search of each sub-problem
+     * @return a solution of the model, or <i>null</i> if a sub-problem has no solution
+     * or if its search was stopped before finding one
+     */
+    public Solution findSolution(Criterion... stop) {
+        AbstractStrategy<?> search = model.getSolver().getSearch();
+        try {
+            return doFindSolution(stop);
+        } finally {
+            restore(search);
+        }
+    }
+
+    private Solution doFindSolution(Criterion[] stop) {
+        List<Variable[]> subProblems = getSubProblems();
+        Solution solution = new Solution(model, model.getVars());
+        Solver solver = model.getSolver();
+        solver.reset();
+        model.clearObjective();
+        nbSolved = 0;
+        if (!solveAll(subProblems, null, false, solution, stop)) {
+            return null;
+        }
+        storeInstantiated(solution);
+        return solution;
+    }
+
+    /**
+     * Find an optimal solution of each sub-problem and merge them.
+     * <p>
+     * The objective must be separable: <i>objective</i> is equal to the sum of <i>terms</i>,
+     * and the constraints that involve <i>objective</i> must not involve other variables than <i>terms</i>.
+     * These constraints are ignored while computing the sub-problems.
+     * When a sub-problem contains several terms, their sum is optimized with a temporary variable.
+     * <p>
+     * If the merged solution does not satisfy the constraints that involve <i>objective</i>,
+     * for instance because the objective's domain is too small,
+     * the model is solved as a whole instead.
+     *
+     * @param objective the variable to optimize
+     * @param maximize  set to <i>true</i> to maximize the objective, <i>false</i> to minimize it
+     * @param terms     the terms of the objective
+     * @param stop      optional criteria to stop the search of each sub-problem
+     * @return the best solution found, or <i>null</i> if a sub-problem has no solution
+     * or if its search was stopped before finding one
+     * @throws SolverException if the objective is not separable
+     */
+    public Solution findOptimalSolution(IntVar objective, boolean maximize, IntVar[] terms, Criterion... stop) {
+        AbstractStrategy<?> search = model.getSolver().getSearch();
+        try {
+            return doFindOptimalSolution(objective, maximize, terms, stop);
+        } finally {
+            restore(search);
+        }
+    }
+
+    private Solution doFindOptimalSolution(IntVar objective, boolean maximize, IntVar[] terms, Criterion[] stop) {
+        Solver solver = model.getSolver();
+        solver.reset();
+        Constraint[] linking = linkingConstraints(objective, terms);
+        List<Variable[]> subProblems = new ModelAnalyser(model).getIndependentSubProblems(linking);
+        Solution solution = new Solution(model, model.getVars());
+        nbSolved = 0;
+        List<Variable[]> parts = new ArrayList<>();
+        List<IntVar[]> partTerms = new ArrayList<>();
+        for (Variable[] vars : subProblems) {
+            List<IntVar> local = new ArrayList<>();
+            List<Variable> others = new ArrayList<>();
+            Set<Variable> inside = Collections.newSetFromMap(new IdentityHashMap<>());
+            inside.addAll(Arrays.asList(vars));
+            for (IntVar t : terms) {
+                if (inside.contains(t)) {
+                    local.add(t);
+                }
+            }
+            for (Variable v : vars) {
+                if (v != objective) {
+                    others.add(v);
+                }
+            }
+            if (!others.isEmpty()) {
+                parts.add(others.toArray(new Variable[0]));
+                partTerms.add(local.toArray(new IntVar[0]));
+            }
+        }
+        if (!solveAll(parts, partTerms, maximize, solution, stop)) {
+            model.clearObjective();
+            return null;
+        }
+        int value = 0;
+        for (IntVar[] local : partTerms) {
+            for (IntVar t : local) {
+                value += solution.getIntVal(t);
+            }
+        }
+        for (IntVar t : terms) {
+            if (t.isInstantiated()) {
+                value += t.getValue();
+            }
+        }
+        storeInstantiated(solution);
+        solution.setIntVal(objective, value);
+        model.setObjective(maximize, objective);
+        if (!satisfies(solution, objective, terms, linking)) {
+            // not separable after all: solve the model as a whole
+            nbSolved = 0;
+            solver.reset();
+            solver.setSearch(searchFactory.apply(model.getVars()));
+            return solver.findOptimalSolution(objective, maximize, stop);
+        }
+        return solution;
+    }
+
+    /**
+     * Restore the search strategy declared before the resolution
+     */
+    private void restore(AbstractStrategy<?> search) {
+        model.getSolver().getMove().setStrategy(search);
+    }
+
+    /**
+     * @return the constraints that involve <i>objective</i>
+     * @throws SolverException if one of them involves an uninstantiated variable which is not a term
+     */
+    private static Constraint[] linkingConstraints(IntVar objective, IntVar[] terms) {
+        Set<Variable> allowed = Collections.newSetFromMap(new IdentityHashMap<>());
+        allowed.add(objective);
+        allowed.addAll(Arrays.asList(terms));
+        Set<Constraint> linking = new LinkedHashSet<>();
+        for (Propagator<?> p : objective.streamPropagators().toArray(Propagator[]::new)) {
+            linking.add(p.getConstraint());
+            for (int j = 0; j < p.getNbVars(); j++) {
+                Variable v = p.getVar(j);
+                if (!v.isInstantiated() && !allowed.contains(v)) {
+                    throw new SolverException("The objective is not separable: " + p.getConstraint()
+                            + " involves " + v.getName() + " which is not a term of the objective");
+                }
+            }
+        }
+        return linking.toArray(new Constraint[0]);
+    }
+
+    /**
+     * Solve the sub-problems, concurrently if there are several workers and the model can be copied,
+     * and store their solutions in <i>solution</i>
+     *
+     * @param terms terms of the objective in each sub-problem, <i>null</i> in satisfaction
+     * @return <i>true</i> if a solution was found for each sub-problem
+     */
+    private boolean solveAll(List<Variable[]> parts, List<IntVar[]> terms, boolean maximize,
+                             Solution solution, Criterion[] stop) {
+        List<ModelCopier> copiers = nbWorkers > 1 && parts.size() > 1 ? copies(parts.size()) : null;
+        if (copiers == null) {
+            for (int i = 0; i < parts.size(); i++) {
+                if (!solve(model, parts.get(i), terms == null ? null : terms.get(i), maximize, solution, stop)) {
+                    return false;
+                }
+                nbSolved++;
+            }
+            return true;
+        }
+        Solution[] locals = new Solution[parts.size()];
+        boolean[] solved = new boolean[parts.size()];
+        ForkJoinPool pool = new ForkJoinPool(Math.min(nbWorkers, parts.size()));
+        try {
+            pool.submit(() -> IntStream.range(0, parts.size()).parallel().forEach(i -> {
+                ModelCopier copier = copiers.get(i);
+                Variable[] vars = copier.get(parts.get(i));
+                locals[i] = new Solution(copier.getCopy(), vars);
+                solved[i] = solve(copier.getCopy(), vars, terms == null ? null : copier.get(terms.get(i)),
+                        maximize, locals[i], stop);
+            })).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException("A sub-problem could not be solved: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("Interrupted while solving the sub-problems");
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < parts.size(); i++) {
+            if (!solved[i]) {
+                return false;
+            }
+            nbSolved++;
+            for (Variable v : parts.get(i)) {
+                copy(locals[i], copiers.get(i).get(v), solution, v);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return <i>n</i> copies of the model, or <i>null</i> if it cannot be copied
+     */
+    private List<ModelCopier> copies(int n) {
+        List<ModelCopier> copiers = new ArrayList<>(n);
+        try {
+            for (int i = 0; i < n; i++) {
+                copiers.add(new ModelCopier(model));
+            }
+        } catch (SolverException e) {
+            return null;
+        }
+        return copiers;
+    }
+
+    /**
+     * Solve the sub-problem made of <i>vars</i> with the solver of <i>model</i>,
+     * and store its solution in <i>solution</i>
+     *
+     * @param terms terms of the objective in this sub-problem, <i>null</i> in satisfaction
+     * @return <i>true</i> if a solution was found
+     */
+    private boolean solve(Model model, Variable[] vars, IntVar[] terms, boolean maximize,
+                          Solution solution, Criterion[] stop) {
+        Solver solver = model.getSolver();
+        int nbVars = model.getNbVars();
+        Set<Constraint> posted = Collections.newSetFromMap(new IdentityHashMap<>());
+        posted.addAll(Arrays.asList(model.getCstrs()));
+        try {
+            if (terms == null || terms.length == 0) {
+                model.clearObjective();
+            } else if (terms.length == 1) {
+                model.setObjective(maximize, terms[0]);
+            } else {
+                int lb = 0, ub = 0;
+                for (IntVar t : terms) {
+                    lb += t.getLB();
+                    ub += t.getUB();
+                }
+                IntVar sum = model.intVar(lb, ub);
+                model.sum(terms, "=", sum).post();
+                model.setObjective(maximize, sum);
+            }
+            solver.setSearch(searchFactory.apply(vars));
+            solver.addStopCriterion(stop);
+            Solution local = new Solution(model, vars);
+            boolean optimize = model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION;
+            while (solver.solve()) {
+                local.record();
+                if (!optimize) {
+                    break;
+                }
+            }
+            solver.removeStopCriterion(stop);
+            if (solver.isFeasible() != ESat.TRUE) {
+                return false;
+            }
+            for (Variable v : vars) {
+                copy(local, v, solution, v);
+            }
+            return true;
+        } finally {
+            solver.reset();
+            model.clearObjective();
+            // remove the temporary constraints and variables
+            for (Constraint c : model.getCstrs()) {
+                if (!posted.contains(c)) {
+                    model.unpost(c);
+                }
+            }
+            for (int i = model.getNbVars() - 1; i >= nbVars; i--) {
+                model.unassociates(model.getVar(i));
+            }
+        }
+    }
+
+    /**
+     * Store the values of the variables instantiated at root node in <i>solution</i>
+     */
+    private void storeInstantiated(Solution solution) {
+        for (Variable v : model.getVars()) {
+            if (v.isInstantiated()) {
+                switch (v.getTypeAndKind() & Variable.KIND) {
+                    case Variable.INT:
+                    case Variable.BOOL:
+                        solution.setIntVal((IntVar) v, ((IntVar) v).getValue());
+                        break;
+                    case Variable.SET:
+                        solution.setSetVal((SetVar) v, ((SetVar) v).getValue().toArray());
+                        break;
+                    case Variable.REAL:
+                        solution.setRealBounds((RealVar) v, new double[]{((RealVar) v).getLB(), ((RealVar) v).getUB()});
+                        break;
+                    default:
+                        // other kinds of variables are not stored in solutions
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Store the value of <i>v</i> in <i>from</i> as the value of <i>w</i> in <i>to</i>
+     */
+    private static void copy(Solution from, Variable v, Solution to, Variable w) {
+        switch (v.getTypeAndKind() & Variable.KIND) {
+            case Variable.INT:
+            case Variable.BOOL:
+                to.setIntVal((IntVar) w, from.getIntVal((IntVar) v));
+                break;
+            case Variable.SET:
+                to.setSetVal((SetVar) w, from.getSetVal((SetVar) v));
+                break;
+            case Variable.REAL:
+                to.setRealBounds((RealVar) w, from.getRealBounds((RealVar) v));
+                break;
+            default:
+                // other kinds of variables are not stored in solutions
+                break;
+        }
+    }
+
+    /**
+     * @return <i>true</i> if the values of <i>objective</i> and <i>terms</i> in <i>solution</i>
+     * satisfy the <i>linking</i> constraints
+     */
+    private boolean satisfies(Solution solution, IntVar objective, IntVar[] terms, Constraint[] linking) {
+        Solver solver = model.getSolver();
+        model.getEnvironment().worldPush();
+        try {
+            objective.instantiateTo(solution.getIntVal(objective), Cause.Null);
+            for (IntVar t : terms) {
+                t.instantiateTo(solution.getIntVal(t), Cause.Null);
+            }
+            for (Constraint c : linking) {
+                if (c.isSatisfied() != ESat.TRUE) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (ContradictionException e) {
+            return false;
+        } finally {
+            solver.getEngine().flush();
+            model.getEnvironment().worldPop();
+        }
+    }
+
+    /**
+     * The default search strategy of a sub-problem
+     */
+    private static AbstractStrategy<?> defaultSearch(Variable[] vars) {
+        List<AbstractStrategy<?>> strategies = new ArrayList<>();
+        List<IntVar> ints = new ArrayList<>();
+        List<SetVar> sets = new ArrayList<>();
+        List<RealVar> reals = new ArrayList<>();
+        List<GraphVar<?>> graphs = new ArrayList<>();
+        for (Variable v : vars) {
+            if ((v.getTypeAndKind() & Variable.VIEW) != 0) {
+                continue;
+            }
+            switch (v.getTypeAndKind() & Variable.KIND) {
+                case Variable.INT:
+                case Variable.BOOL:
+                    ints.add((IntVar) v);
+                    break;
+                case Variable.SET:
+                    sets.add((SetVar) v);
+                    break;
+                case Variable.REAL:
+                    reals.add((RealVar) v);
+                    break;
+                case Variable.GRAPH:
+                    graphs.add((GraphVar<?>) v);
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (!ints.isEmpty()) {
+            strategies.add(Search.domOverWDegSearch(ints.toArray(new IntVar[0])));
+        }
+        if (!sets.isEmpty()) {
+            strategies.add(Search.setVarSearch(sets.toArray(new SetVar[0])));
+        }
+        if (!reals.isEmpty()) {
+            strategies.add(Search.realVarSearch(reals.toArray(new RealVar[0])));
+        }
+        if (!graphs.isEmpty()) {
+            strategies.add(Search.graphVarSearch(graphs.toArray(new GraphVar<?>[0])));
+        }
+        return Search.sequencer(strategies.toArray(new AbstractStrategy<?>[0]));
+    }
+}
@@ -10,10 +10,12 @@
 package org.chocosolver.solver;
 
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseExchange;
 import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
 import org.chocosolver.solver.search.strategy.BlackBoxConfigurator;
@@ -122,6 +124,11 @@ public class ParallelPortfolio {
      */
     private NogoodStealer manager = NogoodStealer.NONE;
 
+    /**
+     * This bus is used to exchange learnt signed clauses, if any.
+     */
+    private ClauseExchange exchange = null;
+
     /**
      * Stores whether or not prepare() method has been called
      */
@@ -183,6 +190,38 @@ public class ParallelPortfolio {
         this.manager = new NogoodStealer();
     }
 
+    /**
+     * Calling this method will ensure that workers learning signed clauses
+     * (see {@link Solver#setLearningSignedClauses()}) share the short ones with a low literal block distance,
+     * with default parameters of {@link ClauseExchange}.
+     *
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, each variable has
+     * the same ID in each worker).
+     * @see #shareClauses(int, int, int)
+     */
+    public void shareClauses() {
+        this.exchange = new ClauseExchange();
+    }
+
+    /**
+     * Calling this method will ensure that workers learning signed clauses
+     * (see {@link Solver#setLearningSignedClauses()}) share the ones they learn.
+     * A learnt clause is exported when it has at most <i>maxCardinality</i> variables and a literal
+     * block distance of at most <i>maxLBD</i>.
+     * It is imported by the other workers the next time they restart,
+     * workers without restart policy never import clauses.
+     * Unreliable workers import clauses but do not export theirs.
+     *
+     * @param capacity       number of pending clauses a worker can export before overwriting the oldest ones
+     * @param maxCardinality maximum number of variables of an exported clause
+     * @param maxLBD         maximum literal block distance of an exported clause
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, each variable has
+     * the same ID in each worker).
+     */
+    public void shareClauses(int capacity, int maxCardinality, int maxLBD) {
+        this.exchange = new ClauseExchange(capacity, maxCardinality, maxLBD);
+    }
+
     /**
      * <p>
      * Adds a model to the list of models to run in parallel.
@@ -394,6 +433,11 @@ public class ParallelPortfolio {
             if (searchAutoConf) {
                 configureModel(i);
             }
+            if (exchange != null && s.getLearner() instanceof LearnSignedClauses) {
+                Model m = models.get(i);
+                m.getClauseConstraint().getClauseStore().setExchange(
+                        exchange.connect(m, reliableness.get(m)));
+            }
         }
     }
 
@@ -0,0 +1,539 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * A divide-and-conquer parallel search helper, also known as <i>Embarrassingly Parallel Search</i>.
+ * </p>
+ * <p>
+ * Unlike {@link ParallelPortfolio}, where each model explores the whole search tree,
+ * the search tree is here split into sub-problems, or <i>cubes</i>, which are solved by the models in parallel.
+ * The resolution is made of three steps:
+ *      <ol>
+ *          <li>the first model is used to split the problem into cubes,
+ *          a cube being a path of decisions which is not proven to fail by propagation,</li>
+ *          <li>the cubes are distributed over a {@link ForkJoinPool}, idle workers stealing cubes from busy ones,</li>
+ *          <li>each worker solves a cube, posted as constraints, with its own search strategy and {@link
+ *          org.chocosolver.solver.search.loop.move.Move}, then picks the next one.</li>
+ *      </ol>
+ * </p>
+ * <p>
+ *     A cube is not replayed as decisions by a dedicated {@link org.chocosolver.solver.search.loop.move.Move},
+ *     such as {@link org.chocosolver.solver.search.loop.move.MoveBinaryDFS} started from a given path.
+ *     Instead, its decisions are posted as {@code arithm} constraints, then unposted once the cube is solved.
+ *     The moves and strategies declared in the models are thus used as is,
+ *     and the cube is propagated like any other constraint, at root node.
+ * </p>
+ * <p>
+ *     When dealing with an optimization problem, the best objective value found so far is shared among
+ *     all workers, through an atomic integer, and is used as a cut when a worker opens a node.
+ *     When dealing with a satisfaction problem, the resolution stops on the first solution found,
+ *     unless all solutions are requested with {@link #findAllSolutions()}.
+ * </p>
+ * <p>
+ *     All models are expected to be created following the very same steps,
+ *     a variable is then identified by its position among the variables of a model.
+ *     Each model being solved by one thread at a time, the number of models defines the parallelism.
+ *     Since the resolution of each cube starts from a {@link Solver#reset()},
+ *     the stop criteria declared in the models are not kept.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelSearch ps = new ParallelSearch();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      ps.addModel(modeller());
+ * }
+ * ps.solve();
+ * Solution best = ps.getBestSolution();
+ * </code>
+ * </pre>
+ *
+ * </p>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ParallelSearch {
+
+    /**
+     * Default number of cubes to generate per worker
+     */
+    public static final int CUBES_PER_WORKER = 30;
+
+    /**
+     * List of {@link Model}s to be executed in parallel.
+     */
+    private final List<Model> models;
+
+    /**
+     * Number of cubes to generate per worker
+     */
+    private final int cubesPerWorker;
+
+    /**
+     * Workers available to solve a cube
+     */
+    private final LinkedBlockingQueue<Worker> idle;
+
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+    /**
+     * Best objective value found so far, among all workers
+     */
+    private final AtomicInteger incumbent = new AtomicInteger();
+
+    /**
+     * Number of solutions found so far, among all workers
+     */
+    private final AtomicLong nbSolutions = new AtomicLong();
+
+    /**
+     * Set to {@code true} when all solutions are requested
+     */
+    private boolean enumerate;
+
+    /**
+     * Solutions found, when all solutions are requested
+     */
+    private List<Solution> solutions;
+
+    /**
+     * Best solution found, otherwise
+     */
+    private Solution best;
+
+    /**
+     * Number of cubes generated on last resolution
+     */
+    private int nbCubes;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new ParallelSearch.
+     *
+     * @param cubesPerWorker number of cubes to generate per worker, more cubes
+     *                       balance workload better at the expense of more restarts
+     */
+    public ParallelSearch(int cubesPerWorker) {
+        this.models = new ArrayList<>();
+        this.idle = new LinkedBlockingQueue<>();
+        this.cubesPerWorker = cubesPerWorker;
+    }
+
+    /**
+     * Creates a new ParallelSearch which generates {@link #CUBES_PER_WORKER} cubes per worker.
+     */
+    public ParallelSearch() {
+        this(CUBES_PER_WORKER);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a model, that is, a worker.
+     * The first model added is also used to split the problem into cubes.
+     * <p>
+     * <b>Important:</b> when dealing with optimization problems, the objective variables <b>HAVE</b>
+     * to be declared eagerly with {@link Model#setObjective(boolean, Variable)}.
+     * </p>
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this ParallelSearch
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Run the resolution in parallel.
+     * When dealing with a satisfaction problem, the resolution stops on the first solution found.
+     * When dealing with an optimization problem, the resolution stops when the best solution found
+     * is proven to be optimal.
+     *
+     * @return <tt>true</tt> if and only if at least one solution has been found.
+     * @throws SolverException if no model has been added or if the objective variable is not an integer variable.
+     */
+    public boolean solve() {
+        run(false);
+        return best != null;
+    }
+
+    /**
+     * Attempts to find all solutions of a satisfaction problem.
+     *
+     * @return a list that contains the solutions found, in no specific order.
+     * @throws SolverException if no model has been added or if the problem is an optimization one.
+     */
+    public List<Solution> findAllSolutions() {
+        if (!models.isEmpty() && models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            throw new SolverException("findAllSolutions() is dedicated to satisfaction problems");
+        }
+        run(true);
+        return solutions;
+    }
+
+    /**
+     * @return the solution found, or the best one when dealing with an optimization problem,
+     * on last resolution, or <tt>null</tt> if no solution has been found.
+     */
+    public Solution getBestSolution() {
+        return best;
+    }
+
+    /**
+     * @return the number of solutions found on last resolution, among all workers
+     */
+    public long getSolutionCount() {
+        return nbSolutions.get();
+    }
+
+    /**
+     * @return the number of cubes generated on last resolution
+     */
+    public int getNbCubes() {
+        return nbCubes;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void check() {
+        if (models.isEmpty()) {
+            throw new SolverException("No model found in the ParallelSearch.");
+        }
+        Model m = models.get(0);
+        if (m.getResolutionPolicy() != ResolutionPolicy.SATISFACTION
+                && (m.getObjective().getTypeAndKind() & Variable.KIND) != Variable.INT
+                && (m.getObjective().getTypeAndKind() & Variable.KIND) != Variable.BOOL) {
+            throw new SolverException("ParallelSearch only deals with integer objective variables.");
+        }
+    }
+
+    private void run(boolean all) {
+        check();
+        enumerate = all;
+        solutions = Collections.synchronizedList(new ArrayList<>());
+        best = null;
+        nbSolutions.set(0);
+        terminated.set(false);
+        ResolutionPolicy policy = models.get(0).getResolutionPolicy();
+        incumbent.set(policy == ResolutionPolicy.MAXIMIZE ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+        List<Cube> cubes = split(models.get(0), cubesPerWorker * models.size());
+        nbCubes = cubes.size();
+        if (cubes.isEmpty()) {
+            return;
+        }
+        idle.clear();
+        for (Model m : models) {
+            idle.add(new Worker(m));
+        }
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            forkJoinPool.submit(new CubeTask(cubes, 0, cubes.size())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException(e.getCause().getMessage());
+        } finally {
+            forkJoinPool.shutdownNow();
+            for (Worker w : idle) {
+                w.unplug();
+            }
+        }
+    }
+
+    /**
+     * Split the problem declared in <i>model</i> into, roughly, <i>target</i> cubes.
+     * The tree is expanded in breadth-first order, branching on the variable with the smallest domain,
+     * and each node is propagated to discard failing cubes.
+     *
+     * @param model  the model to split
+     * @param target number of expected cubes
+     * @return a list of cubes, empty when the problem is proven to have no solution
+     */
+    private static List<Cube> split(Model model, int target) {
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        Variable[] vars = model.getVars();
+        List<Cube> cubes = new ArrayList<>();
+        int w0 = env.getWorldIndex();
+        env.worldPush(); // store state before initial propagation
+        try {
+            solver.propagate();
+            cubes.add(new Cube());
+        } catch (ContradictionException ignored) {
+            // the problem has no solution
+        }
+        boolean expanded = true;
+        while (expanded && !cubes.isEmpty() && cubes.size() < target) {
+            expanded = false;
+            List<Cube> next = new ArrayList<>();
+            for (Cube cube : cubes) {
+                int w = env.getWorldIndex();
+                env.worldPush();
+                try {
+                    cube.apply(model);
+                    solver.propagate();
+                    int p = select(vars);
+                    if (p == -1) {
+                        next.add(cube);
+                    } else {
+                        IntVar var = (IntVar) vars[p];
+                        if (var.hasEnumeratedDomain()) {
+                            next.add(cube.extend(p, DecisionOperatorFactory.makeIntEq(), var.getLB()));
+                            next.add(cube.extend(p, DecisionOperatorFactory.makeIntNeq(), var.getLB()));
+                        } else {
+                            int mid = var.getLB() + (var.getUB() - var.getLB()) / 2;
+                            next.add(cube.extend(p, DecisionOperatorFactory.makeIntSplit(), mid));
+                            next.add(cube.extend(p, DecisionOperatorFactory.makeIntReverseSplit(), mid + 1));
+                        }
+                        expanded = true;
+                    }
+                } catch (ContradictionException ignored) {
+                    // this cube fails
+                } finally {
+                    env.worldPopUntil(w);
+                }
+            }
+            cubes = next;
+        }
+        env.worldPopUntil(w0);
+        solver.reset();
+        return cubes;
+    }
+
+    /**
+     * @return the position of the non-instantiated integer variable with the smallest domain, or -1
+     */
+    private static int select(Variable[] vars) {
+        int p = -1;
+        int size = Integer.MAX_VALUE;
+        for (int i = 0; i < vars.length; i++) {
+            int tk = vars[i].getTypeAndKind();
+            if ((tk & Variable.TYPE) == Variable.VAR
+                    && ((tk & Variable.KIND) == Variable.INT || (tk & Variable.KIND) == Variable.BOOL)) {
+                IntVar v = (IntVar) vars[i];
+                if (!v.isInstantiated() && v.getDomainSize() < size) {
+                    size = v.getDomainSize();
+                    p = i;
+                }
+            }
+        }
+        return p;
+    }
+
+    private synchronized void onSolution(Model m) {
+        if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            nbSolutions.incrementAndGet();
+            if (enumerate) {
+                solutions.add(new Solution(m).record());
+            } else if (best == null) {
+                best = new Solution(m).record();
+                terminated.set(true);
+            }
+        } else {
+            int val = ((IntVar) m.getObjective()).getValue();
+            boolean max = m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+            int inc = incumbent.get();
+            if (max ? val > inc : val < inc) {
+                nbSolutions.incrementAndGet();
+                incumbent.set(val);
+                best = new Solution(m).record();
+            }
+        }
+    }
+
+    /**
+     * A sub-problem, defined by a path of decisions.
+     * Decisions are stored as literals: variable position, decision operator and value.
+     */
+    private static final class Cube {
+
+        private final int[] positions;
+        private final DecisionOperator<IntVar>[] operators;
+        private final int[] values;
+
+        @SuppressWarnings("unchecked")
+        Cube() {
+            this(new int[0], (DecisionOperator<IntVar>[]) new DecisionOperator<?>[0], new int[0]);
+        }
+
+        private Cube(int[] positions, DecisionOperator<IntVar>[] operators, int[] values) {
+            this.positions = positions;
+            this.operators = operators;
+            this.values = values;
+        }
+
+        Cube extend(int position, DecisionOperator<IntVar> operator, int value) {
+            int n = positions.length;
+            int[] p = Arrays.copyOf(positions, n + 1);
+            DecisionOperator<IntVar>[] o = Arrays.copyOf(operators, n + 1);
+            int[] v = Arrays.copyOf(values, n + 1);
+            p[n] = position;
+            o[n] = operator;
+            v[n] = value;
+            return new Cube(p, o, v);
+        }
+
+        void apply(Model model) throws ContradictionException {
+            for (int i = 0; i < positions.length; i++) {
+                operators[i].apply((IntVar) model.getVar(positions[i]), values[i], Cause.Null);
+            }
+        }
+
+        Constraint[] post(Model model) {
+            Constraint[] cstrs = new Constraint[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                cstrs[i] = model.arithm((IntVar) model.getVar(positions[i]), op(operators[i]), values[i]);
+                cstrs[i].post();
+            }
+            return cstrs;
+        }
+
+        private static String op(DecisionOperator<IntVar> operator) {
+            if (operator == DecisionOperatorFactory.makeIntEq()) {
+                return "=";
+            } else if (operator == DecisionOperatorFactory.makeIntNeq()) {
+                return "!=";
+            } else if (operator == DecisionOperatorFactory.makeIntSplit()) {
+                return "<=";
+            } else {
+                return ">=";
+            }
+        }
+    }
+
+    /**
+     * Solves cubes on a model, and keeps it in line with the best objective value found so far.
+     */
+    private final class Worker implements IMonitorSolution, IMonitorOpenNode {
+
+        private final Model model;
+
+        Worker(Model model) {
+            this.model = model;
+            model.getSolver().plugMonitor(this);
+        }
+
+        void solve(Cube cube) {
+            Solver solver = model.getSolver();
+            Constraint[] cstrs = cube.post(model);
+            try {
+                solver.addStopCriterion(terminated::get);
+                while (!terminated.get() && solver.solve()) {
+                    if (model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION && !enumerate) {
+                        break;
+                    }
+                }
+            } finally {
+                solver.reset();
+                model.unpost(cstrs);
+            }
+        }
+
+        void unplug() {
+            model.getSolver().unplugMonitor(this);
+        }
+
+        @Override
+        public void onSolution() {
+            ParallelSearch.this.onSolution(model);
+        }
+
+        @Override
+        public void beforeOpenNode() {
+            if (model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION && nbSolutions.get() > 0) {
+                model.getSolver().getObjectiveManager().updateBestSolution(incumbent.get());
+            }
+        }
+    }
+
+    /**
+     * Solves the cubes in [from, to[, forking halves so that idle threads can steal them.
+     */
+    private final class CubeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Cube> cubes;
+        private final int from;
+        private final int to;
+
+        CubeTask(List<Cube> cubes, int from, int to) {
+            this.cubes = cubes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CubeTask(cubes, from, mid), new CubeTask(cubes, mid, to));
+            } else if (!terminated.get()) {
+                // the pool may run more threads than workers, when compensating blocked ones
+                Worker w;
+                try {
+                    w = idle.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    w.solve(cubes.get(from));
+                } finally {
+                    idle.add(w);
+                }
+            }
+        }
+    }
+}
@@ -44,12 +44,18 @@ public class Settings {
 
     private int maxDomSizeForEnumerated = 1 << 16;
 
+    private int minHoleSizeForRangeList = 64;
+
+    private IntPredicate enableSparseSetOnIntVar = s -> false;
+
     private int minCardForSumDecomposition = 50;
 
     private boolean enableTableSubstitution = true;
 
     private int maxTupleSizeForSubstitution = 10_000;
 
+    private long maxSupportBitsForHybridCompactTable = 1L << 23;
+
     private int timeLimitForPreprocessing = -1;
 
     private boolean sortPropagatorActivationWRTPriority = true;
@@ -64,6 +70,8 @@ public class Settings {
 
     private IntPredicate enableIncrementalityOnBoolSum = i -> i > 10;
 
+    private IntPredicate enablePseudoBooleanOnBoolScalar = i -> false;
+
     private boolean enableSAT = false;
 
     private boolean swapOnPassivate = true;
@@ -86,6 +94,8 @@ public class Settings {
 
     private int dominancePerimeter = 4;
 
+    private int maxLBDOfGlueClauses = 2;
+
     private boolean explainGlobalFailureInSum = false;
 
     private double ibexContractionRatio = Ibex.RATIO;
@@ -231,6 +241,52 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return minimum average size of the holes of a set of values, to store the domain of an integer variable
+     * declared with this set of values as a list of ranges instead of a bitset
+     */
+    public int getMinHoleSizeForRangeList() {
+        return minHoleSizeForRangeList;
+    }
+
+    /**
+     * Define the minimum average size of the holes of a set of values, to store the domain of an integer variable
+     * declared with this set of values as a list of ranges instead of a bitset.
+     * For instance, {0..10, 1000000..1000010} has one hole of size 999989,
+     * whereas a set of consecutive values has no hole and is always stored in a bitset.
+     *
+     * @param minHoleSizeForRangeList hole size threshold
+     * @return the current instance
+     */
+    public Settings setMinHoleSizeForRangeList(int minHoleSizeForRangeList) {
+        this.minHoleSizeForRangeList = minHoleSizeForRangeList;
+        return this;
+    }
+
+    /**
+     * @param span distance between the initial bounds of an enumerated integer variable, plus one
+     * @return {@code true} if the domain of the variable is stored in a sparse set instead of a bitset,
+     * based on its span.
+     */
+    public boolean enableSparseSetOnIntVar(int span) {
+        return enableSparseSetOnIntVar.test(span);
+    }
+
+    /**
+     * Define the predicate to store the domain of an enumerated integer variable in a sparse set
+     * instead of a bitset, based on the distance between its initial bounds.
+     * A sparse set makes removals and backtracks cheaper but needs two integers per value,
+     * and finding the next or the previous value of the domain may be linear in its size.
+     * Disabled by default.
+     *
+     * @param enableSparseSetOnIntVar predicate to pick sparse set domains
+     * @return the current instance
+     */
+    public Settings setEnableSparseSetOnIntVar(IntPredicate enableSparseSetOnIntVar) {
+        this.enableSparseSetOnIntVar = enableSparseSetOnIntVar;
+        return this;
+    }
+
     /**
      * @return minimum number of cardinality threshold to a sum constraint to be decomposed
      */
@@ -291,6 +347,27 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return maximum number of bits of the supports for a table constraint on hybrid tuples
+     * to be propagated by Compact-Table ("CT+") by default, rather than by "STR2+"
+     */
+    public long getMaxSupportBitsForHybridCompactTable() {
+        return maxSupportBitsForHybridCompactTable;
+    }
+
+    /**
+     * Define the maximum number of bits of the supports for a table constraint on hybrid tuples
+     * to be propagated by Compact-Table ("CT+") by default, rather than by "STR2+".
+     * The supports need one bit per compressed tuple and per value of the variables.
+     *
+     * @param maxSupportBitsForHybridCompactTable threshold to propagate hybrid tuples with Compact-Table
+     * @return the current instance
+     */
+    public Settings setMaxSupportBitsForHybridCompactTable(long maxSupportBitsForHybridCompactTable) {
+        this.maxSupportBitsForHybridCompactTable = maxSupportBitsForHybridCompactTable;
+        return this;
+    }
+
     /**
      * @return the time allocated for the preprocessing
      */
@@ -436,6 +513,28 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @param nbvars number of variables in the constraint
+     * @return {@code true} if a weighted sum of boolean variables, with an inequality operator,
+     * is propagated by a dedicated pseudo-boolean propagator, based on the number of variables involved.
+     * Disabled by default.
+     */
+    public boolean enablePseudoBooleanOnBoolScalar(int nbvars) {
+        return enablePseudoBooleanOnBoolScalar.test(nbvars);
+    }
+
+    /**
+     * Define the predicate to choose the pseudo-boolean propagator for weighted sums of boolean variables,
+     * based on number variables declared
+     *
+     * @param enablePseudoBooleanOnBoolScalar predicate to pick declare scalar
+     * @return the current instance
+     */
+    public Settings setEnablePseudoBooleanOnBoolScalar(IntPredicate enablePseudoBooleanOnBoolScalar) {
+        this.enablePseudoBooleanOnBoolScalar = enablePseudoBooleanOnBoolScalar;
+        return this;
+    }
+
     /**
      * @return <i>true</i> when an underlying SAT solver is used to manage clauses declared through {@link ISatFactory},
      * <i>false</i> when clauses are managed with CSP constraints only.
@@ -703,6 +802,35 @@ public class Settings {
         return this;
     }
 
+    /**
+     * When the clauses store needs to be reduced, learnt clauses are sorted by increasing literal block distance
+     * (LBD), that is the number of distinct decision levels of their literals when learnt, then by decreasing activity.
+     * Learnt clauses with a LBD less than or equal to this value, called glue clauses, are never removed.
+     *
+     * @return maximum LBD of a glue clause
+     * @see #setMaxLBDOfGlueClauses(int)
+     * @see #getRatioForClauseStoreReduction()
+     */
+    public int getMaxLBDOfGlueClauses() {
+        return maxLBDOfGlueClauses;
+    }
+
+    /**
+     * When the clauses store needs to be reduced, learnt clauses are sorted by increasing literal block distance
+     * (LBD), that is the number of distinct decision levels of their literals when learnt, then by decreasing activity.
+     * Learnt clauses with a LBD less than or equal to <i>n</i>, called glue clauses, are never removed.
+     * n = 0 means that any learnt clause can be removed.
+     *
+     * @param n maximum LBD of a glue clause
+     * @return the current instance
+     * @see #getMaxLBDOfGlueClauses()
+     * @see #setRatioForClauseStoreReduction(float)
+     */
+    public Settings setMaxLBDOfGlueClauses(int n) {
+        this.maxLBDOfGlueClauses = n;
+        return this;
+    }
+
 
     /**
      * @return <i>true</i> if additional clauses can be learned from sum's global failure
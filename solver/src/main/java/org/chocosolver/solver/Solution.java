@@ -17,12 +17,25 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.variables.*;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * Class which stores the value of each variable in a solution <br/>
+ * <p>
+ * Values are stored in primitive arrays aligned with the variables to store:
+ * recording a solution overwrites the arrays in place, restoring it reads them directly.
+ * A copy shares the arrays of the original solution until one of them is modified.
+ * Variables are located by their ID, so a solution can be read with the variables
+ * of any equivalent model (one built following the very same steps).
+ * <p>
+ * A solution can be written to, and read from, a compact binary form
+ * (see {@link #writeTo(DataOutput)}), possibly as a delta of a previous one
+ * (see {@link #writeDeltaTo(DataOutput, Solution)}).
  *
  * @author Jean-Guillaume Fages
  * @author Charles Prud'homme
@@ -45,15 +58,39 @@ public class Solution implements ICause {
      */
     private boolean empty;
     /**
-     * Maps of value for integer variable (id - value)
+     * Position of the variables to store, shared among copies
+     */
+    private Layout layout;
+    /**
+     * Values of integer variables, by position
+     */
+    private int[] ints;
+    /**
+     * Bounds of real variables, by position: [lb0, ub0, lb1, ub1, ...]
+     */
+    private double[] reals;
+    /**
+     * Values of set variables, by position
+     */
+    private int[][] sets;
+    /**
+     * Positions of the variables with a value, as a bitset
+     */
+    private long[] known;
+    /**
+     * Set to <tt>true</tt> when the arrays are shared with a copy of this
+     */
+    private boolean shared;
+    /**
+     * Maps of value for integer variable (id - value), for variables not to store only
      */
     private TIntIntHashMap intmap;
     /**
-     * Maps of value for real variable (id - value)
+     * Maps of value for real variable (id - value), for variables not to store only
      */
     private TIntObjectHashMap<double[]> realmap;
     /**
-     * Maps of value for set variable (id - values)
+     * Maps of value for set variable (id - values), for variables not to store only
      */
     private TIntObjectHashMap<int[]> setmap;
 
@@ -102,50 +139,48 @@ public class Solution implements ICause {
             varsToStore = model.getVars();
         }
         assert varsToStore.length > 0;
-        if (intmap != null) {
-            intmap.clear();
-        }
-        if (realmap != null) {
-            realmap.clear();
+        if (layout == null || layout.vars != varsToStore) {
+            layout = new Layout(varsToStore);
+            ints = null;
+            reals = null;
+            sets = null;
+            known = null;
+            shared = false;
         }
-        if (setmap != null) {
-            setmap.clear();
-        }
-        for (Variable var : varsToStore) {
+        unshare();
+        Arrays.fill(known, 0L);
+        intmap = null;
+        realmap = null;
+        setmap = null;
+        for (int i = 0; i < varsToStore.length; i++) {
+            Variable var = varsToStore[i];
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 if (var.isInstantiated()) {
                     switch (kind) {
                         case Variable.INT:
                         case Variable.BOOL:
-                            if (intmap == null) {
-                                intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY,
-                                    Solution.NO_ENTRY);
-                            }
-                            IntVar v = (IntVar) var;
-                            intmap.put(v.getId(), v.getValue());
+                            ints[i] = ((IntVar) var).getValue();
                             break;
                         case Variable.REAL:
-                            if (realmap == null) {
-                                realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-                            }
                             RealVar r = (RealVar) var;
-                            realmap.put(r.getId(), new double[]{r.getLB(), r.getUB()});
+                            reals[i << 1] = r.getLB();
+                            reals[(i << 1) + 1] = r.getUB();
                             break;
                         case Variable.SET:
-                            if (setmap == null) {
-                                setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-                            }
-                            SetVar s = (SetVar) var;
-                            setmap.put(s.getId(), s.getValue().toArray());
+                            sets[i] = ((SetVar) var).getValue().toArray();
                             break;
                         default:
                             // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
                             // that should then be stored externally to this object
-                            break;
+                            continue;
                     }
+                    known[i >>> 6] |= 1L << i;
                 } else {
                     warn = true;
+                    if (kind == Variable.INT || kind == Variable.BOOL) {
+                        ints[i] = NO_ENTRY;
+                    }
                 }
             }
         }
@@ -164,23 +199,28 @@ public class Solution implements ICause {
         for (Variable var : varsToStore) {
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
+                int pos = position(var);
                 switch (kind) {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        st.append(v.getName()).append("=").append(intmap.get(v.getId()))
+                        st.append(v.getName()).append("=")
+                            .append(pos >= 0 ? ints[pos] : lookup(intmap, v))
                             .append(", ");
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
+                        double[] bounds = pos >= 0 ?
+                            new double[]{reals[pos << 1], reals[(pos << 1) + 1]} :
+                            lookup(realmap, r);
                         st.append(r.getName()).append("=[").append(bounds[0]).append(",")
                             .append(bounds[1]).append("], ");
                         break;
                     case Variable.SET:
                         SetVar s = (SetVar) var;
                         st.append(s.getName()).append("=")
-                            .append(Arrays.toString(setmap.get(s.getId()))).append(", ");
+                            .append(Arrays.toString(pos >= 0 ? sets[pos] : lookup(setmap, s)))
+                            .append(", ");
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -192,9 +232,23 @@ public class Solution implements ICause {
         return st.toString();
     }
 
+    /**
+     * Copy this solution. The copy is cheap: the values are shared until
+     * one of the two solutions is modified.
+     *
+     * @return a copy of this solution
+     */
     public Solution copySolution() {
         Solution ret = new Solution(model, varsToStore);
         ret.empty = empty;
+        ret.layout = layout;
+        if (layout != null) {
+            ret.ints = ints;
+            ret.reals = reals;
+            ret.sets = sets;
+            ret.known = known;
+            ret.shared = shared = true;
+        }
         if (intmap != null) {
             ret.intmap = new TIntIntHashMap(intmap);
         }
@@ -221,7 +275,10 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + v
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (intmap != null && intmap.containsKey(v.getId())) {
+        int pos = position(v);
+        if (pos >= 0 && isKnown(pos)) {
+            return ints[pos];
+        } else if (pos < 0 && intmap != null && intmap.containsKey(v.getId())) {
             return intmap.get(v.getId());
         } else {
             if ((v.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
@@ -241,10 +298,17 @@ public class Solution implements ICause {
      */
     public void setIntVal(IntVar var, int val) {
         empty = false;
-        if (intmap == null) {
-            intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
+        int pos = position(var);
+        if (pos >= 0) {
+            unshare();
+            ints[pos] = val;
+            known[pos >>> 6] |= 1L << pos;
+        } else {
+            if (intmap == null) {
+                intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
+            }
+            intmap.put(var.getId(), val);
         }
-        intmap.put(var.getId(), val);
     }
 
     /**
@@ -261,7 +325,10 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + s
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (setmap != null && setmap.containsKey(s.getId())) {
+        int pos = position(s);
+        if (pos >= 0 && isKnown(pos)) {
+            return sets[pos];
+        } else if (pos < 0 && setmap != null && setmap.containsKey(s.getId())) {
             return setmap.get(s.getId());
         } else if ((s.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
             return s.getValue().toArray();
@@ -279,10 +346,17 @@ public class Solution implements ICause {
      */
     public void setSetVal(SetVar var, int[] val) {
         empty = false;
-        if (setmap == null) {
-            setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+        int pos = position(var);
+        if (pos >= 0) {
+            unshare();
+            sets[pos] = val;
+            known[pos >>> 6] |= 1L << pos;
+        } else {
+            if (setmap == null) {
+                setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+            }
+            setmap.put(var.getId(), val);
         }
-        setmap.put(var.getId(), val);
     }
 
     /**
@@ -299,7 +373,10 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + r
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (realmap != null && realmap.containsKey(r.getId())) {
+        int pos = position(r);
+        if (pos >= 0 && isKnown(pos)) {
+            return new double[]{reals[pos << 1], reals[(pos << 1) + 1]};
+        } else if (pos < 0 && realmap != null && realmap.containsKey(r.getId())) {
             return realmap.get(r.getId());
         } else {
             if ((r.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
@@ -319,13 +396,21 @@ public class Solution implements ICause {
      */
     public void setRealBounds(RealVar var, double[] val) {
         empty = false;
-        if (realmap == null) {
-            realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-        }
         if (val.length != 2) {
             throw new SolverException("wrong array size");
         }
-        realmap.put(var.getId(), val);
+        int pos = position(var);
+        if (pos >= 0) {
+            unshare();
+            reals[pos << 1] = val[0];
+            reals[(pos << 1) + 1] = val[1];
+            known[pos >>> 6] |= 1L << pos;
+        } else {
+            if (realmap == null) {
+                realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+            }
+            realmap.put(var.getId(), val);
+        }
     }
 
     /**
@@ -372,23 +457,29 @@ public class Solution implements ICause {
      * @throws ContradictionException if restoring the solution leads to failure
      */
     public void restore() throws ContradictionException {
-        for (Variable var : varsToStore) {
+        for (int i = 0; i < varsToStore.length; i++) {
+            Variable var = varsToStore[i];
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
+                int pos = isKnown(i) ? i : -1;
                 switch (kind) {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        v.instantiateTo(intmap.get(v.getId()), this);
+                        v.instantiateTo(pos >= 0 ? ints[pos] : getIntVal(v), this);
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
-                        r.updateBounds(bounds[0], bounds[1], this);
+                        if (pos >= 0) {
+                            r.updateBounds(reals[pos << 1], reals[(pos << 1) + 1], this);
+                        } else {
+                            double[] bounds = getRealBounds(r);
+                            r.updateBounds(bounds[0], bounds[1], this);
+                        }
                         break;
                     case Variable.SET:
                         SetVar s = (SetVar) var;
-                        s.instantiateTo(setmap.get(s.getId()), this);
+                        s.instantiateTo(pos >= 0 ? sets[pos] : getSetVal(s), this);
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -400,6 +491,311 @@ public class Solution implements ICause {
         model.getSolver().propagate();
     }
 
+    /**
+     * Write the values of the variables to store in <i>out</i>, in a compact binary form.
+     * Values set on other variables (see {@link #setIntVal(IntVar, int)}) are not written.
+     *
+     * @param out where to write this solution
+     * @throws IOException if an I/O error occurs
+     * @throws SolverException if no solution has been recorded yet
+     * @see #readFrom(DataInput)
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        checkNotEmpty();
+        out.writeInt(varsToStore.length);
+        for (long word : known) {
+            out.writeLong(word);
+        }
+        for (int i = 0; i < varsToStore.length; i++) {
+            if (isKnown(i)) {
+                writeValue(out, i);
+            }
+        }
+    }
+
+    /**
+     * Read values written by {@link #writeTo(DataOutput)}, from a solution of an equivalent model,
+     * in place of the current ones.
+     *
+     * @param in where to read a solution
+     * @return this object
+     * @throws IOException if an I/O error occurs
+     * @throws SolverException if the variables to store do not match the ones of the written solution
+     */
+    public Solution readFrom(DataInput in) throws IOException {
+        prepareRead(in.readInt());
+        for (int w = 0; w < known.length; w++) {
+            known[w] = in.readLong();
+        }
+        for (int i = 0; i < varsToStore.length; i++) {
+            if (isKnown(i)) {
+                readValue(in, i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Write the values of this solution that differ from the ones of <i>previous</i>, in a compact
+     * binary form. This is cheaper than {@link #writeTo(DataOutput)} when consecutive solutions
+     * (e.g. of a large neighborhood search) share most of their values.
+     *
+     * @param out      where to write this solution
+     * @param previous a solution recorded on the same variables
+     * @throws IOException if an I/O error occurs
+     * @throws SolverException if a solution is empty or if the variables to store do not match
+     * @see #readDeltaFrom(DataInput)
+     */
+    public void writeDeltaTo(DataOutput out, Solution previous) throws IOException {
+        checkNotEmpty();
+        previous.checkNotEmpty();
+        if (previous.varsToStore.length != varsToStore.length) {
+            throw new SolverException("Solutions do not store the same variables");
+        }
+        int n = 0;
+        for (int i = 0; i < varsToStore.length; i++) {
+            if (differs(previous, i)) {
+                n++;
+            }
+        }
+        out.writeInt(varsToStore.length);
+        out.writeInt(n);
+        for (int i = 0; i < varsToStore.length; i++) {
+            if (differs(previous, i)) {
+                out.writeInt(i);
+                out.writeBoolean(isKnown(i));
+                if (isKnown(i)) {
+                    writeValue(out, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply a delta written by {@link #writeDeltaTo(DataOutput, Solution)} to this solution,
+     * which is expected to hold the values of the previous solution.
+     *
+     * @param in where to read a delta
+     * @return this object
+     * @throws IOException if an I/O error occurs
+     * @throws SolverException if the variables to store do not match the ones of the written solution
+     */
+    public Solution readDeltaFrom(DataInput in) throws IOException {
+        prepareRead(in.readInt());
+        int n = in.readInt();
+        for (int k = 0; k < n; k++) {
+            int i = in.readInt();
+            if (in.readBoolean()) {
+                known[i >>> 6] |= 1L << i;
+                readValue(in, i);
+            } else {
+                known[i >>> 6] &= ~(1L << i);
+            }
+        }
+        return this;
+    }
+
+    private void checkNotEmpty() {
+        if (empty || layout == null) {
+            throw new SolverException("No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
+        }
+    }
+
+    private void prepareRead(int n) {
+        if (varsToStore.length == 0) {
+            varsToStore = model.getVars();
+        }
+        if (n != varsToStore.length) {
+            throw new SolverException("Solutions do not store the same variables");
+        }
+        if (layout == null) {
+            layout = new Layout(varsToStore);
+        }
+        unshare();
+        empty = false;
+    }
+
+    private boolean differs(Solution previous, int i) {
+        if (isKnown(i) != previous.isKnown(i)) {
+            return true;
+        }
+        if (!isKnown(i)) {
+            return false;
+        }
+        switch (layout.kinds[i]) {
+            case Variable.INT:
+            case Variable.BOOL:
+                return ints[i] != previous.ints[i];
+            case Variable.REAL:
+                return reals[i << 1] != previous.reals[i << 1]
+                    || reals[(i << 1) + 1] != previous.reals[(i << 1) + 1];
+            case Variable.SET:
+                return !Arrays.equals(sets[i], previous.sets[i]);
+            default:
+                return false;
+        }
+    }
+
+    private void writeValue(DataOutput out, int i) throws IOException {
+        switch (layout.kinds[i]) {
+            case Variable.INT:
+            case Variable.BOOL:
+                out.writeInt(ints[i]);
+                break;
+            case Variable.REAL:
+                out.writeDouble(reals[i << 1]);
+                out.writeDouble(reals[(i << 1) + 1]);
+                break;
+            case Variable.SET:
+                out.writeInt(sets[i].length);
+                for (int v : sets[i]) {
+                    out.writeInt(v);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void readValue(DataInput in, int i) throws IOException {
+        switch (layout.kinds[i]) {
+            case Variable.INT:
+            case Variable.BOOL:
+                ints[i] = in.readInt();
+                break;
+            case Variable.REAL:
+                reals[i << 1] = in.readDouble();
+                reals[(i << 1) + 1] = in.readDouble();
+                break;
+            case Variable.SET:
+                int[] values = new int[in.readInt()];
+                for (int k = 0; k < values.length; k++) {
+                    values[k] = in.readInt();
+                }
+                sets[i] = values;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @param var a variable
+     * @return the position of <i>var</i> in the arrays, or -1 if it is not stored
+     */
+    private int position(Variable var) {
+        if (layout == null) {
+            if (varsToStore.length == 0) {
+                return -1;
+            }
+            layout = new Layout(varsToStore);
+        }
+        return layout.position(var.getId());
+    }
+
+    private boolean isKnown(int pos) {
+        return known != null && (known[pos >>> 6] & (1L << pos)) != 0;
+    }
+
+    /**
+     * Allocate the arrays, if needed, and make sure they are not shared with a copy.
+     */
+    private void unshare() {
+        int n = layout.vars.length;
+        if (known == null) {
+            known = new long[(n + 63) >>> 6];
+            if (layout.nbInts > 0) {
+                ints = new int[n];
+            }
+            if (layout.nbReals > 0) {
+                reals = new double[n << 1];
+            }
+            if (layout.nbSets > 0) {
+                sets = new int[n][];
+            }
+        } else if (shared) {
+            known = known.clone();
+            if (ints != null) {
+                ints = ints.clone();
+            }
+            if (reals != null) {
+                reals = reals.clone();
+            }
+            if (sets != null) {
+                sets = sets.clone();
+            }
+        }
+        shared = false;
+    }
+
+    private static int lookup(TIntIntHashMap map, Variable var) {
+        return map == null ? NO_ENTRY : map.get(var.getId());
+    }
+
+    private static <T> T lookup(TIntObjectHashMap<T> map, Variable var) {
+        return map == null ? null : map.get(var.getId());
+    }
+
+    /**
+     * Position of each variable to store, indexed by ID.
+     * A layout is immutable and shared among copies of a solution.
+     */
+    private static final class Layout {
+        /**
+         * Variables to store
+         */
+        private final Variable[] vars;
+        /**
+         * Kind of each variable
+         */
+        private final int[] kinds;
+        /**
+         * Smallest ID of the variables
+         */
+        private final int offset;
+        /**
+         * For each ID, from <i>offset</i>, 1 + the position of the variable, 0 if not stored
+         */
+        private final int[] positions;
+
+        private int nbInts, nbReals, nbSets;
+
+        Layout(Variable[] vars) {
+            this.vars = vars;
+            this.kinds = new int[vars.length];
+            int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+            for (int i = 0; i < vars.length; i++) {
+                min = Math.min(min, vars[i].getId());
+                max = Math.max(max, vars[i].getId());
+                kinds[i] = vars[i].getTypeAndKind() & Variable.KIND;
+                switch (kinds[i]) {
+                    case Variable.INT:
+                    case Variable.BOOL:
+                        nbInts++;
+                        break;
+                    case Variable.REAL:
+                        nbReals++;
+                        break;
+                    case Variable.SET:
+                        nbSets++;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            this.offset = min;
+            this.positions = new int[vars.length == 0 ? 0 : max - min + 1];
+            for (int i = 0; i < vars.length; i++) {
+                positions[vars[i].getId() - offset] = i + 1;
+            }
+        }
+
+        int position(int id) {
+            int k = id - offset;
+            return k >= 0 && k < positions.length ? positions[k] - 1 : -1;
+        }
+    }
+
     /**
      * @return <i>true</i> if a solution has been recorded into this, <i>false</i> otherwise.
      */
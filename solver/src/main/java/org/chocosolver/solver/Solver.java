@@ -1322,12 +1322,17 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
 	 * <p>
 	 * If propagation was done "manually" (calling {@link #propagate()}, then
 	 * nothing can be done.
+	 * <p>
+	 * The replaced engine is closed (see {@link PropagationEngine#close()}).
 	 *
 	 * @param propagationEngine a propagation strategy
 	 * @throws SolverException is already initialized.
 	 */
 	public void setEngine(PropagationEngine propagationEngine) {
 		if (!engine.isInitialized() || getEnvironment().getWorldIndex() == rootWorldIndex) {
+			if (engine != propagationEngine) {
+				engine.close();
+			}
 			this.engine = propagationEngine;
 		} else {
 			throw new SolverException("Illegal propagation engine modification.");
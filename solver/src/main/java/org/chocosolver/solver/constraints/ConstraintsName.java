@@ -161,12 +161,16 @@ public class ConstraintsName {
 
     public static final String CUMULATIVE = "CUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String GCC = "GCC";
 
     public static final String NOGOODCONSTRAINT = "NOGOODCONSTRAINT";
 
     public static final String SUM = "SUM";
 
+    public static final String LINEARRELAXATION = "LINEARRELAXATION";
+
     public static final String MIXEDSCALAR = "MIXEDSCALAR";
 
     public static final String INTEQREAL = "INTEQREAL";
@@ -45,6 +45,7 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.cumulative.PropDisjunctive;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.knapsack.PropKnapsack;
@@ -61,6 +62,7 @@ import org.chocosolver.solver.constraints.nary.nvalue.amnv.rules.R1;
 import org.chocosolver.solver.constraints.nary.nvalue.amnv.rules.R3;
 import org.chocosolver.solver.constraints.nary.sort.PropKeysorting;
 import org.chocosolver.solver.constraints.nary.sum.IntLinCombFactory;
+import org.chocosolver.solver.constraints.nary.sum.PropLinearRelaxation;
 import org.chocosolver.solver.constraints.nary.tree.PropAntiArborescences;
 import org.chocosolver.solver.constraints.ternary.*;
 import org.chocosolver.solver.constraints.unary.Member;
@@ -392,8 +394,10 @@ public interface IIntConstraintFactory extends ISelf<Model> {
     /**
      * Create a table constraint over a couple of variables var1 and var2
      * <p>
-     * Uses AC3rm algorithm by default, except if one variable has a bounded domain.
+     * Uses AC3bit+rm algorithm by default, except if one variable has a bounded domain.
      * In that case, "CT+" is chosen.
+     * When both domains are dense, that is they hold at least half of the values between their bounds,
+     * "ACbit+res" is chosen.
      *
      * @param var1 first variable
      * @param var2 second variable
@@ -401,6 +405,9 @@ public interface IIntConstraintFactory extends ISelf<Model> {
     default Constraint table(IntVar var1, IntVar var2, Tuples tuples) {
         if (!var1.hasEnumeratedDomain() || !var2.hasEnumeratedDomain()) {
             return table(var1, var2, tuples, "CT+");
+        } else if (2L * var1.getDomainSize() > (long) var1.getUB() - var1.getLB()
+                && 2L * var2.getDomainSize() > (long) var2.getUB() - var2.getLB()) {
+            return table(var1, var2, tuples, "ACbit+res");
         } else {
             return table(var1, var2, tuples, "AC3bit+rm");
         }
@@ -412,11 +419,12 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * - <b>AC3</b>: table constraint which applies the AC3 algorithm,<br/>
      * - <b>AC3rm</b>: table constraint which applies the AC3 rm algorithm,<br/>
      * - <b>AC3bit+rm</b> (default): table constraint which applies the AC3 bit+rm algorithm,<br/>
+     * - <b>ACbit+res</b>: table constraint which applies the AC bit+res algorithm, checking supports word by word,<br/>
      * - <b>FC</b>: table constraint which applies forward checking algorithm.<br/>
      *
      * @param var1   first variable
      * @param var2   second variable
-     * @param tuples the relation between the two variables, among {"AC3", "AC3rm", "AC3bit+rm", "AC2001", "CT+", "FC"}
+     * @param tuples the relation between the two variables, among {"AC3", "AC3rm", "AC3bit+rm", "ACbit+res", "AC2001", "CT+", "FC"}
      */
     default Constraint table(IntVar var1, IntVar var2, Tuples tuples, String algo) {
         Object[] args = variableUniqueness(new IntVar[]{var1, var2});
@@ -445,6 +453,9 @@ public interface IIntConstraintFactory extends ISelf<Model> {
                 case "AC3bit+rm":
                     p = new PropBinAC3bitrm(var1, var2, tuples);
                     break;
+                case "ACbit+res":
+                    p = new PropBinACbitres(var1, var2, tuples);
+                    break;
                 default:
                     throw new SolverException("Table algorithm " + algo + " is unkown");
             }
@@ -1399,6 +1410,22 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         ref().cumulative(tasks, h, ref().intVar(capacity), false, Cumulative.Filter.NAIVETIME).post();
     }
 
+    /**
+     * Creates a disjunctive constraint: Enforces that tasks of positive duration do not overlap,
+     * that is, they are processed one at a time on a unary resource.
+     * <p>
+     * Filtering is based on Θ-trees and applies, in O(n log n):
+     * overload checking, detectable precedences, not-first/not-last and edge finding.
+     * <p>
+     * Task duration should be >= 0
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        return new Constraint(ConstraintsName.DISJUNCTIVE, new PropDisjunctive(tasks));
+    }
+
     /**
      * <p>
      * Create a decreasing constraint which ensures that the variables in {@code vars} are decreasing.
@@ -1470,6 +1497,56 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         }
     }
 
+    /**
+     * Creates a diffN constraint over optional rectangles.
+     * Constrains each rectangle<sub>i</sub> such that presence<sub>i</sub> = 1, given by their origins X<sub>i</sub>,Y<sub>i</sub>
+     * and sizes width<sub>i</sub>,height<sub>i</sub>, to be non-overlapping.
+     * A rectangle that is absent is ignored.
+     * <p>
+     * The redundant cumulative constraints, if any, are stated on optional tasks with a capacity
+     * equal to the extent of the rectangles in the other dimension.
+     *
+     * @param X                      collection of coordinates in first dimension
+     * @param Y                      collection of coordinates in second dimension
+     * @param width                  collection of width (each duration should be > 0)
+     * @param height                 collection of height (each height should be >= 0)
+     * @param presence               presence literals of the rectangles
+     * @param addCumulativeReasoning indicates whether or not redundant cumulative constraints should be put on each dimension (advised)
+     * @return a non-overlapping constraint
+     */
+    default Constraint diffN(IntVar[] X, IntVar[] Y, IntVar[] width, IntVar[] height, BoolVar[] presence, boolean addCumulativeReasoning) {
+        Model model = X[0].getModel();
+        Constraint diffNCons = new Constraint(
+                ConstraintsName.DIFFN,
+                new PropDiffN(X, Y, width, height, presence)
+        );
+        if (addCumulativeReasoning) {
+            Task[] TX = new Task[X.length];
+            Task[] TY = new Task[X.length];
+            int minx = Integer.MAX_VALUE / 2;
+            int maxx = Integer.MIN_VALUE / 2;
+            int miny = Integer.MAX_VALUE / 2;
+            int maxy = Integer.MIN_VALUE / 2;
+            for (int i = 0; i < X.length; i++) {
+                IntVar EX = model.intVar(model.generateName("diffN_"), X[i].getLB() + width[i].getLB(), X[i].getUB() + width[i].getUB(), true);
+                IntVar EY = model.intVar(model.generateName("diffN_"), Y[i].getLB() + height[i].getLB(), Y[i].getUB() + height[i].getUB(), true);
+                TX[i] = new Task(X[i], width[i], EX, presence[i]);
+                TY[i] = new Task(Y[i], height[i], EY, presence[i]);
+                minx = Math.min(minx, X[i].getLB());
+                miny = Math.min(miny, Y[i].getLB());
+                maxx = Math.max(maxx, X[i].getUB() + width[i].getUB());
+                maxy = Math.max(maxy, Y[i].getUB() + height[i].getUB());
+            }
+            return Constraint.merge(ConstraintsName.DIFFNWITHCUMULATIVE,
+                    diffNCons,
+                    cumulative(TX, height, model.intVar(maxy - miny)),
+                    cumulative(TY, width, model.intVar(maxx - minx))
+            );
+        } else {
+            return diffNCons;
+        }
+    }
+
     /**
      * Creates a element constraint: value = table[index-offset]
      * where table is an array of variables.
@@ -1835,6 +1912,23 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Constraint(ConstraintsName.LEX, new PropLex(vars1, vars2, false));
     }
 
+    /**
+     * Creates a redundant constraint which maintains the linear relaxation of the linear constraints
+     * (sum and scalar) posted so far, and of the objective, if any.
+     * At each propagation, the relaxation is solved, warm started from the last basis.
+     * An infeasible relaxation leads to a failure, otherwise its optimal value bounds the objective
+     * and reduced-cost fixing is applied to the variables.
+     * <p>
+     * The objective has to be declared, and the linear constraints posted, before calling this method.
+     *
+     * @return a linear relaxation constraint
+     * @throws SolverException if the model has neither a linear constraint nor an objective
+     * @see PropLinearRelaxation
+     */
+    default Constraint linearRelaxation() {
+        return new Constraint(ConstraintsName.LINEARRELAXATION, new PropLinearRelaxation(ref()));
+    }
+
     /**
      * Creates an Argmax constraint.
      * z is the index of the maximum value of the collection of domain variables vars.
@@ -2532,11 +2626,51 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * @param vars    scope of the constraint
      * @param htuples hybrid tuples
      * @return a hybrid table constraint
-     * @implNote The filtering algorithm is an adaptation of STR2 to expressions.
+     * @implNote The filtering algorithm is Compact-Table on the compressed tuples ("CT+")
+     * when the variables have enumerated domains and the support bitsets do not exceed
+     * {@link org.chocosolver.solver.Settings#getMaxSupportBitsForHybridCompactTable()} bits,
+     * an adaptation of STR2 to expressions ("STR2+") otherwise.
+     * @see #table(IntVar[], HybridTuples, String)
      */
     default Constraint table(IntVar[] vars, HybridTuples htuples) {
+        String algo = "STR2+";
+        if (Arrays.stream(vars).allMatch(IntVar::hasEnumeratedDomain)) {
+            // number of bits of the supports
+            long size = htuples.nbCompressedTuples(vars) * Arrays.stream(vars).mapToLong(IntVar::getDomainSize).sum();
+            if (size <= ref().getSettings().getMaxSupportBitsForHybridCompactTable()) {
+                algo = "CT+";
+            }
+        }
+        return table(vars, htuples, algo);
+    }
+
+    /**
+     * Create a table constraint based on hybrid tuples, with the specified algorithm defined algo
+     * <p>
+     * - <b>CT+</b>: Compact-Table algorithm on compressed tuples (see {@link HybridTuples#toCompressed(IntVar[])}),
+     * <br/>
+     * - <b>STR2+</b>: an adaptation of STR2 to expressions.
+     * </p>
+     *
+     * @param vars    scope of the constraint
+     * @param htuples hybrid tuples
+     * @param algo    to choose among {"CT+", "STR2+"}
+     * @return a hybrid table constraint
+     */
+    default Constraint table(IntVar[] vars, HybridTuples htuples, String algo) {
         assert vars.length == htuples.arity();
-        return new Constraint(ConstraintsName.TABLE, new PropHybridTable(vars, htuples));
+        Propagator<IntVar> p;
+        switch (algo) {
+            case "CT+":
+                p = new PropCompactTableSmart(vars, htuples);
+                break;
+            case "STR2+":
+                p = new PropHybridTable(vars, htuples);
+                break;
+            default:
+                throw new SolverException("Table algorithm " + algo + " is unkown");
+        }
+        return new Constraint(ConstraintsName.TABLE, p);
     }
 
     /**
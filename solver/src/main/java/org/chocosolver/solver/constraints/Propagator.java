@@ -14,10 +14,12 @@ import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.Priority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.propagation.DomainReductions;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
@@ -657,6 +659,21 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return model;
     }
 
+    /**
+     * Create a copy of this propagator, not attached to any constraint, in the model built by <i>copier</i>.
+     * The copy filters the copies of the variables of this propagator, which can be retrieved with {@link ModelCopier#get(Variable)}.
+     * It should be created with the same parameters as this propagator, sharing those that are not modified during search,
+     * so that its internal state is computed again from the domains of the variables.
+     *
+     * @param copier the model copier
+     * @return the copy of this propagator
+     * @throws SolverException if this propagator cannot be copied
+     * @see ModelCopier
+     */
+    public Propagator<?> copy(ModelCopier copier) {
+        throw new SolverException(getClass().getSimpleName() + " does not support copy");
+    }
+
     @Override
     public int hashCode() {
         return ID;
@@ -768,6 +785,51 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return state == PASSIVE;
     }
 
+    /**
+     * Idempotency contract of this propagator.
+     * <br/>
+     * A propagator is idempotent when running it twice in a row cannot filter more than running it once,
+     * that is, it always reaches its own fixpoint before returning.
+     * The propagation engine never schedules an idempotent propagator on the events it generated itself,
+     * which saves the pure self-re-triggering executions.
+     * A propagator that does not reach its fixpoint in a single run (for instance, one that
+     * performs only one pass of a revision loop) should override this method and return <i>false</i>:
+     * it is then scheduled on its own events too.
+     *
+     * @return <i>true</i> (default) if this propagator is idempotent
+     */
+    public boolean isIdempotent() {
+        return true;
+    }
+
+    /**
+     * @return <i>true</i> if the full propagation of this propagator can be split in two steps
+     * (see {@link #prepareFiltering()}), and thus be run concurrently with other propagators.
+     * Default is <i>false</i>.
+     * @see org.chocosolver.solver.propagation.ParallelPropagationEngine
+     */
+    public boolean isParallelizable() {
+        return false;
+    }
+
+    /**
+     * First step of a full propagation, only called on a parallelizable propagator (see {@link #isParallelizable()}).
+     * <br/>
+     * This method may be executed by a worker thread, concurrently with other propagators whose scopes
+     * are disjoint with this one.
+     * It must not modify the variables, the stored (backtrackable) structures or any object shared with
+     * other propagators: it may only <b>read</b> them, and mutate the private, non-backtrackable state of
+     * this propagator (such as a scratch graph), to compute the domain reductions a call to
+     * {@link #propagate(int)} would do.
+     * The reductions are returned and applied later on, by the calling thread.
+     * A failure is reported by the reductions, at application time.
+     *
+     * @return the domain reductions to apply, or <i>null</i> to run {@link #propagate(int)} instead
+     */
+    public DomainReductions prepareFiltering() {
+        return null;
+    }
+
     /**
      * @return true iff the propagator reacts to fine event, that is,
      * it needs to know which variable has been modified and the modification that happened.
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -159,4 +160,8 @@ public class PropAbsolute extends Propagator<IntVar> {
     // EXPLANATIONS
     //***********************************************************************************
 
+    @Override
+    public PropAbsolute copy(ModelCopier copier) {
+        return new PropAbsolute(copier.get(X), copier.get(Y));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -377,4 +378,8 @@ public class PropDistanceXYC extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropDistanceXYC copy(ModelCopier copier) {
+        return new PropDistanceXYC(copier.get(vars), operator, cste);
+    }
 }
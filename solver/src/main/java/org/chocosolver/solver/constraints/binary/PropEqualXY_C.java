@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -149,4 +150,8 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
         return vars[0] + " + " + vars[1] + " = " + cste;
     }
 
+    @Override
+    public PropEqualXY_C copy(ModelCopier copier) {
+        return new PropEqualXY_C(copier.get(vars), cste);
+    }
 }
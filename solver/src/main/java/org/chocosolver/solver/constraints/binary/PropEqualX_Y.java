@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -159,4 +160,8 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".EQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public PropEqualX_Y copy(ModelCopier copier) {
+        return new PropEqualX_Y(copier.get(x), copier.get(y));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -160,4 +161,9 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         bf.append(")");
         return bf.toString();
     }
+
+    @Override
+    public PropEqualX_YC copy(ModelCopier copier) {
+        return new PropEqualX_YC(copier.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -126,4 +127,8 @@ public final class PropGreaterOrEqualXY_C extends Propagator<IntVar> {
         return x.getName() + " + " + y.getName() + " >= " + cste;
     }
 
+    @Override
+    public PropGreaterOrEqualXY_C copy(ModelCopier copier) {
+        return new PropGreaterOrEqualXY_C(copier.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -125,4 +126,8 @@ public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".GEQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public PropGreaterOrEqualX_Y copy(ModelCopier copier) {
+        return new PropGreaterOrEqualX_Y(copier.get(vars));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -130,4 +131,8 @@ public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
         return x.getName() + " >= " + y.getName() + " + " + cste;
     }
 
+    @Override
+    public PropGreaterOrEqualX_YC copy(ModelCopier copier) {
+        return new PropGreaterOrEqualX_YC(copier.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -124,4 +125,8 @@ public final class PropLessOrEqualXY_C extends Propagator<IntVar> {
         return x.getName() + " + " + y.getName() + " <= " + cste;
     }
 
+    @Override
+    public PropLessOrEqualXY_C copy(ModelCopier copier) {
+        return new PropLessOrEqualXY_C(copier.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -129,4 +130,8 @@ public class PropModXY extends Propagator<IntVar> {
         return x.getName()+" % "+ mod +" = "+ y.getName();
     }
 
+    @Override
+    public PropModXY copy(ModelCopier copier) {
+        return new PropModXY(copier.get(x), mod, copier.get(y));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -110,4 +111,8 @@ public class PropNotEqualXY_C extends Propagator<IntVar> {
             return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropNotEqualXY_C copy(ModelCopier copier) {
+        return new PropNotEqualXY_C(copier.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -122,4 +123,8 @@ public class PropNotEqualX_YC extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".NEQ." + vars[1].getName() + "+" + cste + ")";
     }
 
+    @Override
+    public PropNotEqualX_YC copy(ModelCopier copier) {
+        return new PropNotEqualX_YC(copier.get(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -187,4 +188,9 @@ public class PropPowEven extends Propagator<IntVar> {
         }
         return impact;
     }
+
+    @Override
+    public PropPowEven copy(ModelCopier copier) {
+        return new PropPowEven(copier.get(vars[0]), copier.get(vars[1]), exponent);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
@@ -84,4 +85,8 @@ public class PropPowOdd extends PropPowEven {
         }
     }
 
+    @Override
+    public PropPowOdd copy(ModelCopier copier) {
+        return new PropPowOdd(copier.get(vars[0]), copier.get(vars[1]), exponent);
+    }
 }
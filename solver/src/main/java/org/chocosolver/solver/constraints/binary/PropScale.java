@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -92,4 +93,8 @@ public class PropScale extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropScale copy(ModelCopier copier) {
+        return new PropScale(copier.get(X), Y, copier.get(Z));
+    }
 }
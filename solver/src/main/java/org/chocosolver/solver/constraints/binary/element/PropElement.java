@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary.element;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -151,4 +152,8 @@ public class PropElement extends Propagator<IntVar> {
         return sb.toString();
     }
 
+    @Override
+    public PropElement copy(ModelCopier copier) {
+        return new PropElement(copier.get(result), values, copier.get(index), offset);
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.binary;
+
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A binary relation stored as two bit matrices, one per variable, made of 64-bit words.
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+class CouplesBitMatrix extends BinRelation {
+
+    /**
+     * table[0][i] gives the supports of value i of variable 0, as words over the values of variable 1
+     * table[1][i] gives the supports of value i of variable 1, as words over the values of variable 0
+     */
+    final long[][][] table;
+
+    /**
+     * first value of x, and y
+     */
+    final int[] offsets;
+
+    /**
+     * Create a bit matrix for ACbit+res
+     *
+     * @param tuples list of tuples
+     */
+    CouplesBitMatrix(Tuples tuples, IntVar var1, IntVar var2) {
+        offsets = new int[]{var1.getLB(), var2.getLB()};
+        int range1 = var1.getUB() - offsets[0] + 1;
+        int range2 = var2.getUB() - offsets[1] + 1;
+        boolean feasible = tuples.isFeasible();
+        this.table = new long[2][][];
+        this.table[0] = new long[range1][nbWords(range2)];
+        this.table[1] = new long[range2][nbWords(range1)];
+        if (!feasible) {
+            for (int i = 0; i < range1; i++) {
+                fill(table[0][i], range2);
+            }
+            for (int i = 0; i < range2; i++) {
+                fill(table[1][i], range1);
+            }
+        }
+        int nt = tuples.nbTuples();
+        for (int i = 0; i < nt; i++) {
+            int[] tuple = tuples.get(i);
+            if (var1.contains(tuple[0]) && var2.contains(tuple[1])) {
+                int a = tuple[0] - offsets[0];
+                int b = tuple[1] - offsets[1];
+                if (feasible) {
+                    table[0][a][b >>> 6] |= 1L << b;
+                    table[1][b][a >>> 6] |= 1L << a;
+                } else {
+                    table[0][a][b >>> 6] &= ~(1L << b);
+                    table[1][b][a >>> 6] &= ~(1L << a);
+                }
+            }
+        }
+    }
+
+    static int nbWords(int range) {
+        return (range + 63) >>> 6;
+    }
+
+    private static void fill(long[] words, int range) {
+        for (int w = 0; w < words.length; w++) {
+            words[w] = -1L;
+        }
+        if ((range & 63) != 0) {
+            words[words.length - 1] = (1L << range) - 1;
+        }
+    }
+
+    @Override
+    public boolean isConsistent(int x, int y) {
+        return checkCouple(x, y);
+    }
+
+    @Override
+    public boolean checkCouple(int x, int y) {
+        int a = x - offsets[0];
+        int b = y - offsets[1];
+        return a >= 0 && a < table[0].length && b >= 0 && b < table[1].length
+                && (table[0][a][b >>> 6] & (1L << b)) != 0;
+    }
+
+    @Override
+    public Tuples convert() {
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < table[0].length; i++) {
+            long[] row = table[0][i];
+            for (int w = 0; w < row.length; w++) {
+                long word = row[w];
+                while (word != 0) {
+                    int b = Long.numberOfTrailingZeros(word);
+                    tuples.add(i + offsets[0], (w << 6) + b + offsets[1]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return tuples;
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.binary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -205,4 +206,9 @@ public class PropBinAC2001 extends PropBinCSP {
             vars[0].removeValues(vrms, this);
         }
     }
+
+    @Override
+    public PropBinAC2001 copy(ModelCopier copier) {
+        return new PropBinAC2001(copier.get(v0), copier.get(v1), (CouplesTable) relation);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -201,4 +202,8 @@ public class PropBinAC3bitrm extends PropBinCSP {
         }
     }
 
+    @Override
+    public PropBinAC3bitrm copy(ModelCopier copier) {
+        return new PropBinAC3bitrm(copier.get(v0), copier.get(v1), (CouplesBitSetTable) relation);
+    }
 }
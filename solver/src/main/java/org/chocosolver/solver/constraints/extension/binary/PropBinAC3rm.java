@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -325,4 +326,9 @@ public class PropBinAC3rm extends PropBinCSP {
             }
         }
     }
+
+    @Override
+    public PropBinAC3rm copy(ModelCopier copier) {
+        return new PropBinAC3rm(copier.get(v0), copier.get(v1), (CouplesBitSetTable) relation);
+    }
 }
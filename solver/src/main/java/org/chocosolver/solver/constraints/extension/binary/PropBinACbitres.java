@@ -0,0 +1,178 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.binary;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.ModelCopier;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.util.procedure.SafeIntProcedure;
+
+/**
+ * AC bit+res algorithm for binary table constraint.
+ * <br/>
+ * The relation is stored as bit matrices of 64-bit words, and the domains are mirrored as backtrackable words too:
+ * a value is supported when the word-wise intersection of its supports and the other domain is not empty.
+ * The words are filled on initial propagation, then maintained from the removed values only.
+ * The word where a support was last found is kept as a residue, and checked first.
+ * <p>
+ * See: "Enforcing Arc Consistency using Bitwise Operations", C. Lecoutre and J. Vion, CPL 2008.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropBinACbitres extends PropBinCSP {
+
+    private final long[][][] table;
+    private final int[] offsets;
+    /**
+     * Current domains of the two variables, as words
+     */
+    private final IStateLong[][] dom;
+    /**
+     * Removed values of the two variables
+     */
+    private final IIntDeltaMonitor[] monitors;
+    /**
+     * Clear the bit of a removed value, one procedure per variable
+     */
+    private final SafeIntProcedure[] onValRem;
+    /**
+     * For each value of each variable, the word where a support was last found
+     */
+    private final int[][] residues;
+
+    public PropBinACbitres(IntVar x, IntVar y, Tuples tuples) {
+        this(x, y, new CouplesBitMatrix(tuples, x, y));
+    }
+
+    private PropBinACbitres(IntVar x, IntVar y, CouplesBitMatrix matrix) {
+        super(x, y, matrix);
+        if (!x.hasEnumeratedDomain() || !y.hasEnumeratedDomain()) {
+            throw new SolverException("PropBinACbitres (\"ACbit+res\") may produce incorrect filtering with bounded variables");
+        }
+        this.table = matrix.table;
+        this.offsets = matrix.offsets;
+        int range0 = table[0].length;
+        int range1 = table[1].length;
+        IEnvironment env = model.getEnvironment();
+        this.dom = new IStateLong[][]{new IStateLong[CouplesBitMatrix.nbWords(range0)],
+                new IStateLong[CouplesBitMatrix.nbWords(range1)]};
+        for (IStateLong[] words : dom) {
+            for (int w = 0; w < words.length; w++) {
+                words[w] = env.makeLong(0L);
+            }
+        }
+        this.residues = new int[][]{new int[range0], new int[range1]};
+        this.monitors = new IIntDeltaMonitor[]{x.monitorDelta(this), y.monitorDelta(this)};
+        this.onValRem = new SafeIntProcedure[]{v -> clear(0, v), v -> clear(1, v)};
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        load(0);
+        load(1);
+        monitors[0].startMonitoring();
+        monitors[1].startMonitoring();
+        revise(0);
+        //noinspection StatementWithEmptyBody
+        while (revise(1) && revise(0)) ;
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        // the words of the other variable are updated when its own event is propagated
+        monitors[idxVarInProp].forEachRemVal(onValRem[idxVarInProp]);
+        int other = 1 - idxVarInProp;
+        //noinspection StatementWithEmptyBody
+        while (revise(other) && revise(idxVarInProp)) ;
+    }
+
+    /**
+     * Copy the domain of the variable <i>side</i> into {@link #dom}
+     */
+    private void load(int side) {
+        IntVar x = vars[side];
+        IStateLong[] words = dom[side];
+        long[] tmp = new long[words.length];
+        int o = offsets[side];
+        int ub = x.getUB();
+        for (int v = x.getLB(); v <= ub; v = x.nextValue(v)) {
+            int a = v - o;
+            tmp[a >>> 6] |= 1L << a;
+        }
+        for (int w = 0; w < words.length; w++) {
+            words[w].set(tmp[w]);
+        }
+    }
+
+    /**
+     * Remove the value <i>v</i> of the variable <i>side</i> from {@link #dom}
+     */
+    private void clear(int side, int v) {
+        int a = v - offsets[side];
+        IStateLong word = dom[side][a >>> 6];
+        long w = word.get();
+        if ((w & (1L << a)) != 0) {
+            word.set(w & ~(1L << a));
+        }
+    }
+
+    /**
+     * Remove the values of the variable <i>side</i> without support in the domain of the other variable
+     *
+     * @return <i>true</i> if a value has been removed
+     */
+    private boolean revise(int side) throws ContradictionException {
+        IntVar x = vars[side];
+        long[][] rows = table[side];
+        IStateLong[] mine = dom[side];
+        IStateLong[] other = dom[1 - side];
+        int[] res = residues[side];
+        int o = offsets[side];
+        boolean removed = false;
+        for (int w = 0; w < mine.length; w++) {
+            long word = mine[w].get();
+            long kept = word;
+            while (word != 0) {
+                int a = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                long[] row = rows[a];
+                int r = res[a];
+                if ((row[r] & other[r].get()) == 0) {
+                    int k = 0;
+                    while (k < row.length && (row[k] & other[k].get()) == 0) {
+                        k++;
+                    }
+                    if (k == row.length) {
+                        x.removeValue(a + o, this);
+                        kept &= ~(1L << a);
+                        removed = true;
+                    } else {
+                        res[a] = k;
+                    }
+                }
+            }
+            if (kept != mine[w].get()) {
+                mine[w].set(kept);
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public PropBinACbitres copy(ModelCopier copier) {
+        return new PropBinACbitres(copier.get(v0), copier.get(v1), (CouplesBitMatrix) relation);
+    }
+}
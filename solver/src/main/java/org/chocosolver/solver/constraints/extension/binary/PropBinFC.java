@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -94,4 +95,9 @@ public class PropBinFC extends PropBinCSP {
             values.dispose();
         }
     }
+
+    @Override
+    public PropBinFC copy(ModelCopier copier) {
+        return new PropBinFC(copier.get(v0), copier.get(v1), (CouplesTable) relation);
+    }
 }
@@ -10,12 +10,12 @@
 package org.chocosolver.solver.constraints.extension.hybrid;
 
 import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 /**
  * A class to define hybrid tuples, that is, tuples containing expressions of the following forms:
@@ -157,6 +157,237 @@ public class HybridTuples {
         return hybridTuples.size();
     }
 
+    /**
+     * Add a slice to this storage, that is, a set of tuples that share the same prefix.
+     * Each tuple of <i>slice</i> is appended to <i>prefix</i>,
+     * the universal value of <i>slice</i>, if any, standing for {@link #any()}.
+     * <br/>
+     * The expressions are shared among the tuples of the slice, which keeps large sliced tables compact.
+     *
+     * @param prefix expressions on the first columns/variables
+     * @param slice  feasible tuples on the remaining columns/variables
+     * @throws SolverException if <i>slice</i> is not feasible or if the tuples do not match the arity
+     */
+    public void addSlice(ISupportable[] prefix, Tuples slice) {
+        if (!slice.isFeasible()) {
+            throw new SolverException("A slice can only be made of feasible tuples");
+        }
+        boolean hasStar = slice.allowUniversalValue();
+        int star = hasStar ? slice.getStarValue() : 0;
+        ISupportable any = any();
+        Map<Integer, ISupportable> eqs = new HashMap<>();
+        for (int t = 0; t < slice.nbTuples(); t++) {
+            int[] tuple = slice.get(t);
+            ISupportable[] htuple = Arrays.copyOf(prefix, prefix.length + tuple.length);
+            for (int i = 0; i < tuple.length; i++) {
+                htuple[prefix.length + i] = hasStar && tuple[i] == star ?
+                        any : eqs.computeIfAbsent(tuple[i], HybridTuples::eq);
+            }
+            add(htuple);
+        }
+    }
+
+    /**
+     * Convert the hybrid tuples into compressed ones, that is, tuples made of sets of values,
+     * one per variable, <i>null</i> standing for any value.
+     * <br/>
+     * Unary expressions are turned into sets of values.
+     * A tuple with expressions between columns is sliced on the values of a vertex cover of these expressions:
+     * each combination of values restricts the other columns to sets of values.
+     * Sets are reduced to the domains of <i>vars</i>, tuples with an empty set are ignored
+     * and sets derived from a same expression are shared among tuples.
+     *
+     * @param vars the variables the tuples apply to
+     * @return compressed tuples
+     */
+    public IntIterableRangeSet[][] toCompressed(IntVar[] vars) {
+        List<Map<ISupportable, IntIterableRangeSet>> cache = new ArrayList<>(vars.length);
+        for (int i = 0; i < vars.length; i++) {
+            cache.add(new IdentityHashMap<>());
+        }
+        List<IntIterableRangeSet[]> ctuples = new ArrayList<>();
+        List<ISupportable.Nary> binaries = new ArrayList<>();
+        top:
+        for (ISupportable[] tuple : hybridTuples) {
+            IntIterableRangeSet[] ctuple = new IntIterableRangeSet[tuple.length];
+            binaries.clear();
+            for (int i = 0; i < tuple.length; i++) {
+                ctuple[i] = unary(tuple[i], vars[i], cache.get(i), binaries);
+                if (ctuple[i] != null && ctuple[i].isEmpty()) {
+                    continue top;
+                }
+            }
+            if (binaries.isEmpty()) {
+                ctuples.add(ctuple);
+            } else {
+                slice(vars, ctuple, binaries, cover(vars, ctuple, binaries), 0, ctuples);
+            }
+        }
+        return ctuples.toArray(new IntIterableRangeSet[0][]);
+    }
+
+    /**
+     * @param vars the variables the tuples apply to
+     * @return an upper bound of the number of tuples {@link #toCompressed(IntVar[])} returns
+     */
+    public long nbCompressedTuples(IntVar[] vars) {
+        long nb = 0;
+        List<ISupportable.Nary> binaries = new ArrayList<>();
+        for (ISupportable[] tuple : hybridTuples) {
+            binaries.clear();
+            for (ISupportable e : tuple) {
+                collect(e, binaries);
+            }
+            long p = 1;
+            for (int c : cover(vars, new IntIterableRangeSet[tuple.length], binaries)) {
+                p = Math.min(p * vars[c].getDomainSize(), Integer.MAX_VALUE);
+            }
+            nb += p;
+        }
+        return nb;
+    }
+
+    private static void collect(ISupportable e, List<ISupportable.Nary> binaries) {
+        if (e instanceof ISupportable.Many) {
+            for (ISupportable f : ((ISupportable.Many) e).exps) {
+                collect(f, binaries);
+            }
+        } else if (e instanceof ISupportable.Nary && !binaries.contains(e)) {
+            binaries.add((ISupportable.Nary) e);
+        }
+    }
+
+    /**
+     * @return the values of <i>var</i> that satisfy the unary expressions of <i>e</i>, <i>null</i> if all do.
+     * The binary expressions of <i>e</i> are added to <i>binaries</i>.
+     */
+    private static IntIterableRangeSet unary(ISupportable e, IntVar var,
+                                             Map<ISupportable, IntIterableRangeSet> cache,
+                                             List<ISupportable.Nary> binaries) {
+        if (e instanceof ISupportable.Many) {
+            IntIterableRangeSet set = null;
+            for (ISupportable f : ((ISupportable.Many) e).exps) {
+                if (f instanceof ISupportable.Nary) {
+                    collect(f, binaries);
+                } else if (!(f instanceof ISupportable.UnAny)) {
+                    set = restrict(set == null ? new IntIterableRangeSet(var) : set, f);
+                }
+            }
+            return set;
+        } else if (e instanceof ISupportable.Nary) {
+            collect(e, binaries);
+            return null;
+        } else if (e instanceof ISupportable.UnAny) {
+            return null;
+        }
+        return cache.computeIfAbsent(e, f -> restrict(new IntIterableRangeSet(var), f));
+    }
+
+    private static IntIterableRangeSet restrict(IntIterableRangeSet set, ISupportable e) {
+        if (e instanceof ISupportable.UnEqXC) {
+            int c = ((ISupportable.UnEqXC) e).anInt;
+            set.retainBetween(c, c);
+        } else if (e instanceof ISupportable.UnNqXC) {
+            set.remove(((ISupportable.UnNqXC) e).anInt);
+        } else if (e instanceof ISupportable.UnLqXC) {
+            set.retainBetween(Integer.MIN_VALUE, ((ISupportable.UnLqXC) e).anInt);
+        } else if (e instanceof ISupportable.UnGqXC) {
+            set.retainBetween(((ISupportable.UnGqXC) e).anInt, Integer.MAX_VALUE);
+        } else if (e instanceof ISupportable.UnXInS) {
+            set.retainAll(((ISupportable.UnXInS) e).set);
+        } else {
+            throw new UnsupportedOperationException("Cannot compress " + e.getClass().getSimpleName());
+        }
+        return set;
+    }
+
+    /**
+     * Restrict <i>set</i>, the values of one column of <i>b</i>, when the other column is set to <i>v</i>
+     *
+     * @param first set to <i>true</i> if the first column of <i>b</i> is set to <i>v</i>
+     */
+    private static void restrict(IntIterableRangeSet set, ISupportable.Nary b, boolean first, int v) {
+        int c = first ? v - b.cste : v + b.cste;
+        if (b instanceof ISupportable.NaEqXYC) {
+            set.retainBetween(c, c);
+        } else if (b instanceof ISupportable.NaNqXYC) {
+            set.remove(c);
+        } else if (b instanceof ISupportable.NaLqXYC ^ !first) {
+            // either x <= y + c with x known or x >= y + c with y known: a lower bound
+            set.retainBetween(c, Integer.MAX_VALUE);
+        } else {
+            set.retainBetween(Integer.MIN_VALUE, c);
+        }
+    }
+
+    private static boolean holds(ISupportable.Nary b, int x, int y) {
+        if (b instanceof ISupportable.NaEqXYC) {
+            return x == y + b.cste;
+        } else if (b instanceof ISupportable.NaNqXYC) {
+            return x != y + b.cste;
+        } else if (b instanceof ISupportable.NaLqXYC) {
+            return x <= y + b.cste;
+        }
+        return x >= y + b.cste;
+    }
+
+    /**
+     * @return a vertex cover of the binary expressions, made of the columns with the fewest values first
+     */
+    private static int[] cover(IntVar[] vars, IntIterableRangeSet[] ctuple, List<ISupportable.Nary> binaries) {
+        BitSet cover = new BitSet(vars.length);
+        for (ISupportable.Nary b : binaries) {
+            int x = b.is[0], y = b.is[1];
+            if (!cover.get(x) && !cover.get(y)) {
+                cover.set(size(vars, ctuple, x) <= size(vars, ctuple, y) ? x : y);
+            }
+        }
+        return cover.stream().toArray();
+    }
+
+    private static int size(IntVar[] vars, IntIterableRangeSet[] ctuple, int i) {
+        return ctuple[i] == null ? vars[i].getDomainSize() : ctuple[i].size();
+    }
+
+    /**
+     * Enumerate the combinations of values of the columns in <i>cover</i>, from the <i>k</i>-th one on,
+     * and add the resulting compressed tuples to <i>ctuples</i>
+     */
+    private static void slice(IntVar[] vars, IntIterableRangeSet[] ctuple, List<ISupportable.Nary> binaries,
+                              int[] cover, int k, List<IntIterableRangeSet[]> ctuples) {
+        if (k < cover.length) {
+            int c = cover[k];
+            IntIterableRangeSet values = ctuple[c] == null ? new IntIterableRangeSet(vars[c]) : ctuple[c];
+            int max = values.max();
+            for (int v = values.min(); v <= max; v = values.nextValue(v)) {
+                ctuple[c] = new IntIterableRangeSet(v);
+                slice(vars, ctuple, binaries, cover, k + 1, ctuples);
+            }
+            ctuple[c] = values;
+            return;
+        }
+        IntIterableRangeSet[] copy = ctuple.clone();
+        for (ISupportable.Nary b : binaries) {
+            int x = b.is[0], y = b.is[1];
+            boolean fx = Arrays.binarySearch(cover, x) >= 0;
+            boolean fy = Arrays.binarySearch(cover, y) >= 0;
+            if (fx && fy) {
+                if (!holds(b, copy[x].min(), copy[y].min())) {
+                    return;
+                }
+            } else {
+                int o = fx ? y : x;
+                IntIterableRangeSet set = copy[o] == null ? new IntIterableRangeSet(vars[o]) : copy[o].duplicate();
+                restrict(set, b, fx, copy[fx ? x : y].min());
+                if (set.isEmpty()) {
+                    return;
+                }
+                copy[o] = set;
+            }
+        }
+        ctuples.add(copy);
+    }
+
     //////////////////////// DSL ////////////////////////
 
     /**
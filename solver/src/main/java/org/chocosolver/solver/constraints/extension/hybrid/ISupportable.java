@@ -311,10 +311,11 @@ public interface ISupportable {
 
         @Override
         public boolean satisfiable(ASupport[] vs, int idx) {
-            int j = is[1], c = cste;
+            // value l of col(idx) requires l + c in col(j)
+            int j = is[1], c = -cste;
             if (idx == is[1]) {
                 j = is[0];
-                c = -cste;
+                c = cste;
             }
             int sm = idx, la = j;
             // look for the smallest domain to iterate on
@@ -334,10 +335,11 @@ public interface ISupportable {
 
         @Override
         public void support(ASupport[] vs, int idx) {
-            int j = is[1], c = cste;
+            // value l of col(idx) requires l + c in col(j)
+            int j = is[1], c = -cste;
             if (idx == is[1]) {
                 j = is[0];
-                c = -cste;
+                c = cste;
             }
             int sm = idx, la = j, de = 0;
             // look for the smallest domain to iterate on
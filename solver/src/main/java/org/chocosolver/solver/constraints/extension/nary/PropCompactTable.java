@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -55,10 +56,21 @@ public class PropCompactTable extends Propagator<IntVar> {
      * @param tuples list of feasible tuples
      */
     public PropCompactTable(IntVar[] vars, Tuples tuples) {
-        super(vars, PropagatorPriority.QUADRATIC, true);
+        this(vars, tuples.nbTuples());
         this.tuples = tuples;
-        this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples());
         computeSupports(tuples);
+    }
+
+    /**
+     * Create a propagator for table constraint over <i>nbTuples</i> tuples.
+     * The supports are expected to be computed by the subclass.
+     *
+     * @param vars     scope
+     * @param nbTuples number of tuples
+     */
+    protected PropCompactTable(IntVar[] vars, int nbTuples) {
+        super(vars, PropagatorPriority.QUADRATIC, true);
+        this.currTable = new RSparseBitSet(model.getEnvironment(), nbTuples);
         monitors = new IIntDeltaMonitor[vars.length];
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
@@ -256,7 +268,7 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        private boolean isEmpty() {
+        protected boolean isEmpty() {
             return limit.get() == -1;
         }
 
@@ -281,7 +293,7 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        private void intersectWithMask() {
+        protected void intersectWithMask() {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
                 long w = words[offset].get() & mask[offset];
@@ -306,4 +318,9 @@ public class PropCompactTable extends Propagator<IntVar> {
             return -1;
         }
     }
+
+    @Override
+    public PropCompactTable copy(ModelCopier copier) {
+        return new PropCompactTable(copier.get(vars), tuples);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import org.chocosolver.solver.ModelCopier;
+import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.procedure.UnaryIntProcedure;
+
+/**
+ * Propagator for table constraint based on
+ * "Extending Compact-Table to Basic Smart Tables",
+ * H. Verhaeghe and C. Lecoutre and Y. Deville and P. Schauss, CP-17.
+ * It deals with compressed tuples, that is, tuples made of sets of values (see {@link HybridTuples#toCompressed(IntVar[])}).
+ * <br/>
+ * A tuple is valid as long as each of its sets intersects the domain of the related variable.
+ * On value removals, the tuples where the variable is bound to a single value are updated incrementally,
+ * like short tuples are in {@link PropCompactTableStar}.
+ * When a variable is bound to a set of values in some tuple, its supports are reset from its current domain instead.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropCompactTableSmart extends PropCompactTable {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * The compressed tuples, <i>null</i> stands for any value
+     */
+    private final IntIterableRangeSet[][] ctuples;
+    /**
+     * Supports of the tuples where a variable is bound to a single value
+     */
+    private long[][][] inc_supports;
+    /**
+     * Set to <i>true</i> when the variable is bound to more than one value in some tuple
+     */
+    private boolean[] resetBased;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Create a propagator for smart table constraint
+     *
+     * @param vars    scope
+     * @param htuples hybrid tuples
+     */
+    public PropCompactTableSmart(IntVar[] vars, HybridTuples htuples) {
+        this(vars, htuples.toCompressed(vars));
+    }
+
+    /**
+     * Create a propagator for compressed table constraint
+     *
+     * @param vars    scope
+     * @param ctuples compressed tuples, each of them gives a set of values per variable, <i>null</i> standing for any value
+     */
+    public PropCompactTableSmart(IntVar[] vars, IntIterableRangeSet[][] ctuples) {
+        super(vars, ctuples.length);
+        this.ctuples = ctuples;
+        computeSupports(ctuples);
+    }
+
+    //***********************************************************************************
+    // INITIALIZATION
+    //***********************************************************************************
+
+    @Override
+    protected UnaryIntProcedure<Integer> makeProcedure() {
+        //noinspection Convert2Diamond
+        return new UnaryIntProcedure<Integer>() {
+            int var, off;
+
+            @Override
+            public UnaryIntProcedure<Integer> set(Integer o) {
+                var = o;
+                off = offset[var];
+                return this;
+            }
+
+            @Override
+            public void execute(int i) {
+                currTable.addToMask((inc_supports[var][i - off]));
+            }
+        };
+    }
+
+    private void computeSupports(IntIterableRangeSet[][] ctuples) {
+        int n = vars.length;
+        offset = new int[n];
+        supports = new long[n][][];
+        inc_supports = new long[n][][];
+        residues = new int[n][];
+        resetBased = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            offset[i] = lb;
+            supports[i] = new long[ub - lb + 1][currTable.words.length];
+            inc_supports[i] = new long[ub - lb + 1][currTable.words.length];
+            residues[i] = new int[ub - lb + 1];
+        }
+        int[] sizes = new int[n];
+        int wI = 0;
+        byte bI = 63;
+        top:
+        for (IntIterableRangeSet[] tuple : ctuples) {
+            for (int i = 0; i < n; i++) {
+                sizes[i] = tuple[i] == null ? -1 : count(vars[i], tuple[i]);
+                if (sizes[i] == 0) {
+                    continue top;
+                }
+            }
+            long index = 1L << bI;
+            for (int i = 0; i < n; i++) {
+                int ub = vars[i].getUB();
+                if (tuple[i] == null) {
+                    for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                        supports[i][v - offset[i]][wI] |= index;
+                    }
+                } else {
+                    IntIterableRangeSet set = tuple[i];
+                    for (int v = set.nextValue(vars[i].getLB() - 1); v <= ub; v = set.nextValue(v)) {
+                        if (vars[i].contains(v)) {
+                            supports[i][v - offset[i]][wI] |= index;
+                            if (sizes[i] == 1) {
+                                inc_supports[i][v - offset[i]][wI] |= index;
+                            }
+                        }
+                    }
+                    resetBased[i] |= sizes[i] > 1;
+                }
+            }
+            if (--bI < 0) {
+                bI = 63;
+                wI++;
+            }
+        }
+    }
+
+    /**
+     * @return the number of values of <i>var</i> in <i>set</i>
+     */
+    private static int count(IntVar var, IntIterableRangeSet set) {
+        int c = 0;
+        int ub = var.getUB();
+        for (int v = set.nextValue(var.getLB() - 1); v <= ub; v = set.nextValue(v)) {
+            if (var.contains(v)) {
+                c++;
+            }
+        }
+        return c;
+    }
+
+    //***********************************************************************************
+    // FILTERING
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        if (!resetBased[vIdx]) {
+            super.propagate(vIdx, mask);
+            return;
+        }
+        currTable.clearMask();
+        int ub = vars[vIdx].getUB();
+        for (int v = vars[vIdx].getLB(); v <= ub; v = vars[vIdx].nextValue(v)) {
+            currTable.addToMask(supports[vIdx][v - offset[vIdx]]);
+        }
+        currTable.intersectWithMask();
+        if (currTable.isEmpty()) { // fail as soon as possible
+            fails();
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    @Override
+    public ESat isEntailed() {
+        boolean all = isCompletelyInstantiated();
+        for (IntIterableRangeSet[] tuple : ctuples) {
+            boolean valid = true;
+            for (int i = 0; i < vars.length && valid; i++) {
+                valid = tuple[i] == null || count(vars[i], tuple[i]) > 0;
+            }
+            if (valid) {
+                return all ? ESat.TRUE : ESat.UNDEFINED;
+            }
+        }
+        return ESat.FALSE;
+    }
+
+    @Override
+    public PropCompactTableSmart copy(ModelCopier copier) {
+        return new PropCompactTableSmart(copier.get(vars), ctuples);
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -114,4 +115,9 @@ public class PropCompactTableStar extends PropCompactTable {
             }
         }
     }
+
+    @Override
+    public PropCompactTableStar copy(ModelCopier copier) {
+        return new PropCompactTableStar(copier.get(vars), tuples);
+    }
 }
\ No newline at end of file
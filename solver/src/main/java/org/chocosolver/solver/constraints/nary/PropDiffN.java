@@ -14,6 +14,7 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
@@ -24,6 +25,10 @@ import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.chocosolver.util.tools.ArrayUtils;
 
 /**
+ * Non-overlapping rectangles.
+ * Rectangles may be optional: a rectangle whose presence literal is false is ignored,
+ * and an optional rectangle that necessarily overlaps a present one is set absent.
+ *
  * @author Jean-Guillaume Fages
  * @since 31/01/13
  */
@@ -34,6 +39,8 @@ public class PropDiffN extends Propagator<IntVar> {
     //***********************************************************************************
 
     private final int n;
+    // presence literals, null if all rectangles are mandatory
+    private final BoolVar[] presence;
     private final UndirectedGraph overlappingBoxes;
     private final TIntArrayList boxesToCompute;
     private final TIntArrayList pruneList;
@@ -43,11 +50,26 @@ public class PropDiffN extends Propagator<IntVar> {
     //***********************************************************************************
 
     public PropDiffN(IntVar[] x, IntVar[] y, IntVar[] dx, IntVar[] dy) {
-        super(ArrayUtils.append(x, y, dx, dy), PropagatorPriority.LINEAR, true);
+        this(x, y, dx, dy, null);
+    }
+
+    /**
+     * Non-overlapping optional rectangles
+     *
+     * @param x        origins in first dimension
+     * @param y        origins in second dimension
+     * @param dx       sizes in first dimension
+     * @param dy       sizes in second dimension
+     * @param presence presence literals, null if all rectangles are mandatory
+     */
+    public PropDiffN(IntVar[] x, IntVar[] y, IntVar[] dx, IntVar[] dy, BoolVar[] presence) {
+        super(presence == null ? ArrayUtils.append(x, y, dx, dy) : ArrayUtils.append(x, y, dx, dy, presence),
+                PropagatorPriority.LINEAR, true);
         n = x.length;
-        if (!(n == y.length && n == dx.length && n == dy.length)) {
+        if (!(n == y.length && n == dx.length && n == dy.length) || (presence != null && n != presence.length)) {
             throw new SolverException("PropDiffN variable arrays do not have same size");
         }
+        this.presence = presence == null ? null : presence.clone();
         overlappingBoxes = new UndirectedGraph(model, n, SetType.BITSET, true);
         boxesToCompute = new TIntArrayList(n);
         for (int i = 0; i < n; i++) {
@@ -66,6 +88,9 @@ public class PropDiffN extends Propagator<IntVar> {
 
     @Override
     public int getPropagationConditions(int idx) {
+        if (idx >= 4 * n) {
+            return IntEventType.instantiation();
+        }
         return IntEventType.boundAndInst();
     }
 
@@ -102,7 +127,10 @@ public class PropDiffN extends Propagator<IntVar> {
                         if (mayOverlap(i, j)) {
                             overlappingBoxes.addEdge(i, j);
                             if (boxInstantiated(i) && boxInstantiated(j)) {
-                                fails(); // TODO: could be more precise, for explanation purpose
+                                if (isPresent(i) && isPresent(j)) {
+                                    fails(); // TODO: could be more precise, for explanation purpose
+                                }
+                                hasFiltered |= setAbsent(i, j);
                             }
                         } else {
                             overlappingBoxes.removeEdge(i, j);
@@ -128,6 +156,12 @@ public class PropDiffN extends Propagator<IntVar> {
         ISetIterator iter = overlappingBoxes.getNeighborsOf(j).iterator();
         while (iter.hasNext()) {
             int i = iter.nextInt();
+            if (!isPresent(i) || !isPresent(j)) {
+                if (mustOverlap(i, j, true) && mustOverlap(i, j, false)) {
+                    hasFiltered |= setAbsent(i, j);
+                }
+                continue;
+            }
             if(doOverlap(i, j, true)) {
                 hasFiltered |= filter(i, j, false);
             }
@@ -139,6 +173,10 @@ public class PropDiffN extends Propagator<IntVar> {
     }
 
     private void energyCheck(int i) throws ContradictionException {
+        if (!isPresent(i)) {
+            return;
+        }
+        int nbPresent = 1;
         int xm = vars[i].getLB();
         int xM = vars[i].getUB() + vars[i + 2 * n].getUB();
         int ym = vars[i + n].getLB();
@@ -149,6 +187,10 @@ public class PropDiffN extends Propagator<IntVar> {
         ISetIterator iter = overlappingBoxes.getNeighborsOf(i).iterator();
         while (iter.hasNext()) {
             int j = iter.nextInt();
+            if (!isPresent(j)) {
+                continue;
+            }
+            nbPresent++;
             xm = Math.min(xm, vars[j].getLB());
             xM = Math.max(xM, vars[j].getUB() + vars[j + 2 * n].getUB());
             ym = Math.min(ym, vars[j + n].getLB());
@@ -163,14 +205,48 @@ public class PropDiffN extends Propagator<IntVar> {
 
         if (xLengthMin > 0 && yLengthMin > 0) {
             int maxNumberRectangles = ((xM - xm) / xLengthMin) * ((yM - ym) / yLengthMin);
-            if (maxNumberRectangles < overlappingBoxes.getNeighborsOf(i).size()+1) {
+            if (maxNumberRectangles < nbPresent) {
                 fails();
             }
         }
     }
 
     private boolean mayOverlap(int i, int j) {
-        return isNotDisjoint(i, j, true) && isNotDisjoint(i, j, false);
+        return mayBePresent(i) && mayBePresent(j) && isNotDisjoint(i, j, true) && isNotDisjoint(i, j, false);
+    }
+
+    private boolean isPresent(int i) {
+        return presence == null || presence[i].getLB() == 1;
+    }
+
+    private boolean mayBePresent(int i) {
+        return presence == null || presence[i].getUB() == 1;
+    }
+
+    /**
+     * When one of the two rectangles is present, set the other one absent
+     */
+    private boolean setAbsent(int i, int j) throws ContradictionException {
+        int k = isPresent(i) ? j : isPresent(j) ? i : -1;
+        if (k >= 0 && presence[k].setToFalse(this)) {
+            if (!pruneList.contains(k)) {
+                pruneList.add(k);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return <i>true</i> if the compulsory parts of the two rectangles intersect in the given dimension
+     */
+    private boolean mustOverlap(int i, int j, boolean hori) {
+        int offSet = hori ? 0 : n;
+        int s_i = vars[i + offSet].getUB();
+        int e_i = vars[i + offSet].getLB() + vars[i + 2 * n + offSet].getLB();
+        int s_j = vars[j + offSet].getUB();
+        int e_j = vars[j + offSet].getLB() + vars[j + 2 * n + offSet].getLB();
+        return s_i < e_i && s_j < e_j && Math.max(s_i, s_j) < Math.min(e_i, e_j);
     }
 
     private boolean isNotDisjoint(int i, int j, boolean horizontal) {
@@ -236,9 +312,9 @@ public class PropDiffN extends Propagator<IntVar> {
     @Override
     public ESat isEntailed() {
         for (int i = 0; i < n; i++) {
-            if (boxInstantiated(i))
+            if (boxInstantiated(i) && isPresent(i))
                 for (int j = i + 1; j < n; j++) {
-                    if (boxInstantiated(j)) {
+                    if (boxInstantiated(j) && isPresent(j)) {
                         if (mayOverlap(i, j)) {
                             return ESat.FALSE;
                         }
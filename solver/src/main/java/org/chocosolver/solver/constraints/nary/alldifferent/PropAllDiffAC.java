@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffAC;
@@ -68,4 +69,8 @@ public class PropAllDiffAC extends Propagator<IntVar> {
         return ESat.TRUE; // redundant propagator (used with PropAllDiffInst)
     }
 
+    @Override
+    public PropAllDiffAC copy(ModelCopier copier) {
+        return new PropAllDiffAC(copier.get(vars), filter instanceof AlgoAllDiffACFast);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -67,4 +68,8 @@ public class PropAllDiffAdaptative extends PropAllDiffAC {
         }
     }
 
+    @Override
+    public PropAllDiffAdaptative copy(ModelCopier copier) {
+        return new PropAllDiffAdaptative(copier.get(vars));
+    }
 }
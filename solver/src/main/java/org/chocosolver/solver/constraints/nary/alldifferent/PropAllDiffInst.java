@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.nary.alldifferent;
 
 import gnu.trove.stack.array.TIntArrayStack;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -171,4 +172,9 @@ public class PropAllDiffInst extends Propagator<IntVar> {
                 throw new UnsupportedOperationException("Unknown event type for explanation");
         }
     }
+
+    @Override
+    public PropAllDiffInst copy(ModelCopier copier) {
+        return new PropAllDiffInst(copier.get(vars));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent.conditions;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.nary.alldifferent.PropAllDiffInst;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -90,4 +91,9 @@ public class PropCondAllDiffInst extends PropAllDiffInst {
 		}
 		return ESat.UNDEFINED;
     }
+
+    @Override
+    public PropCondAllDiffInst copy(ModelCopier copier) {
+        return new PropCondAllDiffInst(copier.get(vars), condition, mode);
+    }
 }
@@ -45,7 +45,7 @@ public class CostRegular extends Constraint {
 		));
     }
 
-    private static StoredValuedDirectedMultiGraph initGraph(IntVar[] vars, ICostAutomaton pi) {
+    static StoredValuedDirectedMultiGraph initGraph(IntVar[] vars, ICostAutomaton pi) {
 		IEnvironment environment = vars[0].getEnvironment();
         int aid = 0;
         int nid = 0;
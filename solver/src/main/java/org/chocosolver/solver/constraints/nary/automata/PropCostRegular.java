@@ -13,6 +13,7 @@ import gnu.trove.stack.TIntStack;
 import gnu.trove.stack.array.TIntArrayStack;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateBool;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.automata.FA.ICostAutomaton;
@@ -294,4 +295,10 @@ public class PropCostRegular extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropCostRegular copy(ModelCopier copier) {
+        IntVar[] copies = copier.get(vars);
+        // the layered graph is backtrackable, it is built again on the copies
+        return new PropCostRegular(copies, cautomaton, CostRegular.initGraph(copies, cautomaton));
+    }
 }
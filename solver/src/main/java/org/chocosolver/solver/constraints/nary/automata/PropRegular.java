@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.automata;
 import gnu.trove.iterator.TIntIterator;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
@@ -256,4 +257,8 @@ public class PropRegular extends Propagator<IntVar> {
         return new StoredDirectedMultiGraph(environment, graph, starts, offsets, totalSizes);
     }
 
+    @Override
+    public PropRegular copy(ModelCopier copier) {
+        return new PropRegular(copier.get(vars), automaton);
+    }
 }
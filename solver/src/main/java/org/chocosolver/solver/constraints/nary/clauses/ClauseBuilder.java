@@ -120,6 +120,11 @@ public class ClauseBuilder {
                         break;
                     case 1:
                         model.member(_vars[0], sets.get(_vars[0].getId())).post();
+                        // do not create the clause store during resolution, it exists when clauses are learnt or shared
+                        ClauseConstraint clauses = (ClauseConstraint) model.getHook(Model.CLAUSES_HOOK_NAME);
+                        if (clauses != null) {
+                            clauses.getClauseStore().exportUnit(_vars[0], sets.get(_vars[0].getId()));
+                        }
                         if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("learn: %s \u2208 %s\n",
                                                         _vars[0], sets.get(_vars[0].getId()));
                         break;
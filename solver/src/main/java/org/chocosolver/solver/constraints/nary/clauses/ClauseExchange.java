@@ -0,0 +1,345 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.clauses;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free bus to exchange learnt signed clauses between the models of a
+ * {@link org.chocosolver.solver.ParallelPortfolio}.
+ * <p>
+ * Each exporting model owns a ring buffer in which it is the only producer.
+ * Each model reads the rings of the other models, with its own cursors, at safe points
+ * (see {@link ClauseStore#setExchange(Endpoint)}).
+ * Neither producers nor consumers wait: when a consumer is lapped by a producer,
+ * the overwritten clauses are skipped and counted as lost.
+ * <p>
+ * Only short clauses, with a low literal block distance (LBD), are exported,
+ * see {@link #ClauseExchange(int, int, int)}.
+ * <p>
+ * As for {@link org.chocosolver.solver.constraints.nary.sat.NogoodStealer},
+ * all models are expected to be created following the very same steps,
+ * a variable is then identified by its ID and its name among models.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ClauseExchange {
+
+    /**
+     * Default capacity of a ring
+     */
+    public static final int CAPACITY = 1 << 12;
+
+    /**
+     * Default maximum number of variables of an exported clause
+     */
+    public static final int MAX_CARDINALITY = 8;
+
+    /**
+     * Default maximum LBD of an exported clause
+     */
+    public static final int MAX_LBD = 4;
+
+    /**
+     * Capacity of each ring, a power of 2
+     */
+    private final int capacity;
+
+    /**
+     * Maximum number of variables of an exported clause
+     */
+    private final int maxCardinality;
+
+    /**
+     * Maximum LBD of an exported clause
+     */
+    private final int maxLBD;
+
+    /**
+     * Rings of the exporting models
+     */
+    private final List<Ring> rings;
+
+    /**
+     * Create a clause exchange bus.
+     *
+     * @param capacity       capacity of the ring of each exporting model (rounded up to a power of 2)
+     * @param maxCardinality maximum number of variables of an exported clause
+     * @param maxLBD         maximum LBD of an exported clause
+     */
+    public ClauseExchange(int capacity, int maxCardinality, int maxLBD) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.maxCardinality = maxCardinality;
+        this.maxLBD = maxLBD;
+        this.rings = new ArrayList<>();
+    }
+
+    /**
+     * Create a clause exchange bus with default parameters.
+     */
+    public ClauseExchange() {
+        this(CAPACITY, MAX_CARDINALITY, MAX_LBD);
+    }
+
+    /**
+     * Connect a model to this bus.
+     * All models have to be connected before any exchange occurs.
+     *
+     * @param model  the model to connect
+     * @param export set to {@code true} if the model shares its learnt clauses,
+     *               otherwise it only imports the ones of the others
+     * @return the endpoint of <i>model</i>
+     */
+    public synchronized Endpoint connect(Model model, boolean export) {
+        Ring ring = null;
+        if (export) {
+            ring = new Ring(capacity);
+            rings.add(ring);
+        }
+        return new Endpoint(model, ring);
+    }
+
+    /**
+     * @return the capacity of each ring
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * A clause as shared among models: variables are referred to by their ID.
+     */
+    static final class SharedClause {
+        /**
+         * Position of this clause in its ring, to detect overwriting
+         */
+        final long seq;
+        /**
+         * IDs of the variables
+         */
+        final int[] ids;
+        /**
+         * Names of the variables, for checking purpose only
+         */
+        final String[] names;
+        /**
+         * For each variable, the bounds of its ranges: [l0, u0, l1, u1, ...]
+         */
+        final int[][] bounds;
+
+        SharedClause(long seq, IntVar[] vars, IntIterableRangeSet[] ranges) {
+            this.seq = seq;
+            this.ids = new int[vars.length];
+            this.names = new String[vars.length];
+            this.bounds = new int[vars.length][];
+            for (int i = 0; i < vars.length; i++) {
+                ids[i] = vars[i].getId();
+                names[i] = vars[i].getName();
+                int n = ranges[i].getNbRanges();
+                bounds[i] = new int[n << 1];
+                for (int r = 0; r < n; r++) {
+                    bounds[i][r << 1] = ranges[i].minOfRange(r);
+                    bounds[i][(r << 1) + 1] = ranges[i].maxOfRange(r);
+                }
+            }
+        }
+    }
+
+    /**
+     * A single-producer, multiple-consumer ring of clauses.
+     */
+    private static final class Ring {
+
+        private final AtomicReferenceArray<SharedClause> slots;
+
+        private final int mask;
+
+        /**
+         * Number of clauses published so far, written by the producer only
+         */
+        private final AtomicLong published = new AtomicLong();
+
+        Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        void publish(IntVar[] vars, IntIterableRangeSet[] ranges) {
+            long seq = published.get();
+            slots.lazySet((int) (seq & mask), new SharedClause(seq, vars, ranges));
+            published.lazySet(seq + 1);
+        }
+    }
+
+    /**
+     * The connection of a model to the bus.
+     * An endpoint is not thread-safe: it is expected to be used by the thread solving its model only.
+     */
+    public final class Endpoint {
+
+        /**
+         * The connected model
+         */
+        private final Model model;
+
+        /**
+         * The ring of this model, {@code null} if it does not export
+         */
+        private final Ring ring;
+
+        /**
+         * Rings to read from, set on first import
+         */
+        private Ring[] sources;
+
+        /**
+         * Cursor in each source
+         */
+        private long[] cursors;
+
+        private long nbExported;
+
+        private long nbImported;
+
+        private long nbLost;
+
+        private Endpoint(Model model, Ring ring) {
+            this.model = model;
+            this.ring = ring;
+        }
+
+        /**
+         * Share a learnt clause, like: (vars[0] &isin; ranges[0]) &or; (vars[1] &isin; ranges[1]) &or; ...,
+         * if it passes the filters.
+         *
+         * @param vars   variables of the clause
+         * @param ranges allowed ranges, for each variable
+         * @param lbd    literal block distance of the clause
+         * @return {@code true} if the clause is exported
+         */
+        public boolean export(IntVar[] vars, IntIterableRangeSet[] ranges, int lbd) {
+            if (ring != null && vars.length <= maxCardinality && lbd <= maxLBD) {
+                ring.publish(vars, ranges);
+                nbExported++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Import the clauses exported by the other models since the last call,
+         * and add them to <i>store</i>.
+         *
+         * @param store the clause store of the model of this endpoint
+         */
+        public void importInto(ClauseStore store) {
+            if (sources == null) {
+                initSources();
+            }
+            for (int s = 0; s < sources.length; s++) {
+                Ring src = sources[s];
+                long head = src.published.get();
+                long cursor = cursors[s];
+                if (head - cursor > src.mask + 1) {
+                    nbLost += head - cursor - src.mask - 1;
+                    cursor = head - src.mask - 1;
+                }
+                for (; cursor < head; cursor++) {
+                    SharedClause c = src.slots.get((int) (cursor & src.mask));
+                    if (c == null || c.seq != cursor) {
+                        // overwritten meanwhile
+                        nbLost++;
+                    } else if (importClause(c, store)) {
+                        nbImported++;
+                    }
+                }
+                cursors[s] = cursor;
+            }
+        }
+
+        private void initSources() {
+            synchronized (ClauseExchange.this) {
+                sources = rings.stream().filter(r -> r != ring).toArray(Ring[]::new);
+            }
+            cursors = new long[sources.length];
+        }
+
+        private boolean importClause(SharedClause c, ClauseStore store) {
+            IntVar[] vars = new IntVar[c.ids.length];
+            IntIterableRangeSet[] ranges = new IntIterableRangeSet[c.ids.length];
+            for (int i = 0; i < vars.length; i++) {
+                Variable v = find(c.ids[i]);
+                if (!(v instanceof IntVar) || !v.getName().equals(c.names[i])) {
+                    // not an equivalent model
+                    return false;
+                }
+                vars[i] = (IntVar) v;
+                ranges[i] = new IntIterableRangeSet();
+                for (int r = 0; r < c.bounds[i].length; r += 2) {
+                    ranges[i].addBetween(c.bounds[i][r], c.bounds[i][r + 1]);
+                }
+            }
+            store.addImported(vars, ranges);
+            return true;
+        }
+
+        /**
+         * Adapted from {@link java.util.Arrays#binarySearch(Object[], Object)},
+         * variables being sorted by increasing ID in a model.
+         */
+        private Variable find(int id) {
+            int low = 0;
+            int high = model.getNbVars() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                Variable midVal = model.getVar(mid);
+                int cmp = midVal.getId() - id;
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return midVal;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return the number of clauses exported by this endpoint
+         */
+        public long getNbExported() {
+            return nbExported;
+        }
+
+        /**
+         * @return the number of clauses imported by this endpoint
+         */
+        public long getNbImported() {
+            return nbImported;
+        }
+
+        /**
+         * @return the number of clauses overwritten before this endpoint could import them
+         */
+        public long getNbLost() {
+            return nbLost;
+        }
+    }
+}
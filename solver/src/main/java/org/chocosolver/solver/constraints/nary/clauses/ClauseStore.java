@@ -18,6 +18,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.learn.XParameters;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.search.strategy.selectors.variables.ClausesBased;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
@@ -69,6 +70,10 @@ public class ClauseStore extends Propagator<IntVar> {
     private final double ratio;
 
     private final int domPerimeter;
+    /**
+     * Maximum LBD of a learnt clause that is never removed
+     */
+    private final int maxGlueLBD;
     /**
      * Reference to the last learnt signed clause, for checking routine
      */
@@ -81,6 +86,14 @@ public class ClauseStore extends Propagator<IntVar> {
     private double clauseInc = 1d;
 
     private ClausesBased strat;
+    /**
+     * Connection to a clause exchange bus, if any
+     */
+    private ClauseExchange.Endpoint exchange;
+    /**
+     * Literal block distance of the next learnt signed clause, for exchange purpose
+     */
+    private int nextLBD = Integer.MAX_VALUE;
 
     /**
      * Create a Nogood store connected to a model.
@@ -94,6 +107,7 @@ public class ClauseStore extends Propagator<IntVar> {
         this.nbMaxLearnts = model.getSettings().getNbMaxLearntClauses();
         this.ratio = model.getSettings().getRatioForClauseStoreReduction();
         this.domPerimeter = model.getSettings().getLearntClausesDominancePerimeter();
+        this.maxGlueLBD = model.getSettings().getMaxLBDOfGlueClauses();
         this.clauses = new ArrayList<>();
         this.learnts = new ArrayList<>();
         last = null;
@@ -113,6 +127,40 @@ public class ClauseStore extends Propagator<IntVar> {
         this.strat = strat;
     }
 
+    /**
+     * Connect this store to a clause exchange bus.
+     * Learnt signed clauses are then exported through <i>exchange</i>,
+     * and the ones of other models are imported on restarts,
+     * so that they are propagated at root node first.
+     *
+     * @param exchange endpoint of this store
+     */
+    public void setExchange(ClauseExchange.Endpoint exchange) {
+        this.exchange = exchange;
+        mSolver.plugMonitor(new IMonitorRestart() {
+            @Override
+            public void beforeRestart() {
+                exchange.importInto(ClauseStore.this);
+            }
+        });
+    }
+
+    /**
+     * @return the endpoint of this store to a clause exchange bus, {@code null} if it is not connected
+     */
+    public ClauseExchange.Endpoint getExchange() {
+        return exchange;
+    }
+
+    /**
+     * Set the literal block distance of the next learnt signed clause.
+     *
+     * @param lbd literal block distance
+     */
+    public void setNextLBD(int lbd) {
+        this.nextLBD = lbd;
+    }
+
     /**
      * Declare a new signed clause in this store
      */
@@ -126,7 +174,11 @@ public class ClauseStore extends Propagator<IntVar> {
                 last = cl;
                 last.activity = clauseInc;
                 last.rawActivity = 1;
+                last.lbd = nextLBD;
                 if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("learn: %s\n", cl);
+                if (exchange != null) {
+                    exchange.export(vars, ranges, nextLBD);
+                }
             } else {
                 if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("add: %s\n", cl);
                 this.clauses.add(cl);
@@ -137,6 +189,42 @@ public class ClauseStore extends Propagator<IntVar> {
             if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("learn: %s\n", cl);
             new Constraint("SC", cl).post();
         }
+        nextLBD = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Share a learnt signed clause made of a single variable, if this store is connected to an exchange bus.
+     * Such a clause is not stored here but posted as a constraint, see {@link ClauseBuilder#buildNogood(Model)}.
+     */
+    void exportUnit(IntVar var, IntIterableRangeSet set) {
+        if (exchange != null && mSolver.getEngine().isInitialized()) {
+            exchange.export(new IntVar[]{var}, new IntIterableRangeSet[]{set}, 1);
+        }
+        nextLBD = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Declare a new signed clause, learnt by another model, in this store.
+     * Unlike {@link #add(IntVar[], IntIterableRangeSet[])}, the clause is not considered as the last learnt one.
+     */
+    void addImported(IntVar[] vars, IntIterableRangeSet[] ranges) {
+        if (vars.length == 1) {
+            if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("import: %s \u2208 %s\n", vars[0], ranges[0]);
+            model.member(vars[0], ranges[0]).post();
+        } else if (XParameters.INTERVAL_TREE) {
+            SignedClause cl = new SignedClause(vars, ranges);
+            attach(new Watcher(cl.pos[0], cl));
+            attach(new Watcher(cl.pos[1], cl));
+            this.learnts.add(cl);
+            cl.activity = clauseInc;
+            cl.rawActivity = 1;
+            if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("import: %s\n", cl);
+            mSolver.getEngine().dynamicAddition(true, cl);
+        } else {
+            PropSignedClause cl = PropSignedClause.makeFromIn(vars, ranges);
+            if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("import: %s\n", cl);
+            new Constraint("SC", cl).post();
+        }
     }
 
     private void attach(Watcher w) {
@@ -260,15 +348,17 @@ public class ClauseStore extends Propagator<IntVar> {
     /**
      * Remove sclauses with a lifespan greater than <i>lifespan</i> and which did not filtered in
      * the current branch.
+     * Learnt clauses are sorted by increasing LBD first, then by decreasing activity,
+     * and the ones with a LBD less than or equal to {@link #maxGlueLBD} are kept.
      */
     private void reduceDB() {
         int size = learnts.size();
         if (size >= nbMaxLearnts) {
-            learnts.sort(Comparator.comparingDouble(c -> -c.activity));
+            learnts.sort(Comparator.<SignedClause>comparingInt(c -> c.lbd).thenComparingDouble(c -> -c.activity));
             long to = Math.round(ratio * size);
             for (int i = size - 1; i >= to; i--) {
                 SignedClause ng = learnts.get(i);
-                if (ng.isNotLocked() && ng != last) {
+                if (ng.lbd > maxGlueLBD && ng.isNotLocked() && ng != last) {
                     remove(i);
                 }
             }
@@ -531,6 +621,10 @@ public class ClauseStore extends Propagator<IntVar> {
         private double activity = 0d;
 
         private int rawActivity = 0;
+        /**
+         * Literal block distance of this clause when learnt, {@link Integer#MAX_VALUE} if unknown
+         */
+        private int lbd = Integer.MAX_VALUE;
 
         private final int id;
 
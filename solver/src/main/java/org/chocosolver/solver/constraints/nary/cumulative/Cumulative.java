@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.cumulative;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -52,6 +53,8 @@ public class Cumulative extends Constraint {
 
     /**
      * Cumulative constraint
+     * Optional tasks only consume the resource when present:
+     * filters apply on present tasks, and optional tasks that cannot fit are set absent.
      *
      * @param tasks			task variables (embed start, duration and end variables)
      * @param heights		height variables (represent the consumption of each task on the resource)
@@ -83,20 +86,35 @@ public class Cumulative extends Constraint {
 		IntVar[] d = Arrays.copyOfRange(vars,n,2*n);
 		IntVar[] e = Arrays.copyOfRange(vars,2*n,3*n);
 		IntVar[] h = Arrays.copyOfRange(vars,3*n,4*n);
+		BoolVar[] p = presence(tasks);
 		// propagators are posted twice, to achieve fixpoint
 		if(graphBased){
 			return new Propagator[]{
-					new PropGraphCumulative(s,d,e,h,capa,false, filters),
-					new PropGraphCumulative(s,d,e,h,capa,true, filters)
+					new PropGraphCumulative(s,d,e,h,capa,p,false, filters),
+					new PropGraphCumulative(s,d,e,h,capa,p,true, filters)
 			};
 		}else{
 			return new Propagator[]{
-					new PropCumulative(s,d,e,h,capa, filters),
-					new PropCumulative(s,d,e,h,capa, filters)
+					new PropCumulative(s,d,e,h,capa,p, filters),
+					new PropCumulative(s,d,e,h,capa,p, filters)
 			};
 		}
 	}
 
+	/**
+	 * @param tasks	task variables
+	 * @return the presence literals of the tasks, mandatory ones being constant,
+	 * or null if all tasks are mandatory
+	 */
+	public static BoolVar[] presence(Task[] tasks){
+		if(Arrays.stream(tasks).noneMatch(Task::isOptional)){
+			return null;
+		}
+		return Arrays.stream(tasks)
+				.map(t -> t.isOptional() ? t.getPresence() : t.getStart().getModel().boolVar(true))
+				.toArray(BoolVar[]::new);
+	}
+
 	public static IntVar[] extract(Task[] tasks, IntVar[] heights, IntVar capa){
 		int n = tasks.length;
 		IntVar[] starts = new IntVar[n];
@@ -186,7 +204,27 @@ public class Cumulative extends Constraint {
 			}
 		},
 		/**
-		 * Combines above filters as a black-box
+		 * edge-finding based on a Θ-Λ-tree
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new EdgeFindingCumulFilter(n);
+			}
+		},
+		/**
+		 * timetable-edge-finding, combines compulsory parts and energetic reasoning
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		TIME_TABLE_EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new TimeTableEdgeFindingCumulFilter(n);
+			}
+		},
+		/**
+		 * Combines HEIGHTS, TIME or SWEEP, NRJ and DISJUNCTIVE_TASK_INTERVAL filters as a black-box
 		 * not idempotent
 		 */
 		DEFAULT {
@@ -0,0 +1,177 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.tree.ThetaLambdaTree;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Edge-finding for cumulative, based on a Θ-Λ-tree, on both time directions.
+ * <p>
+ * Tasks are processed by non-increasing latest completion time: Θ is the set of tasks ending before the current one,
+ * Λ the set of tasks already processed.
+ * The energy envelope of Θ is checked against the capacity (overload checking)
+ * and, whenever a task <i>i</i> of Λ cannot end by lct(Θ) when added to Θ, all tasks of Θ end before <i>i</i> ends.
+ * Detection runs in O(n log n).
+ * The earliest start time of each detected task is then adjusted, in O(n), from the subsets of Θ that cannot
+ * be scheduled before lct(Θ) without leaving less than its height available.
+ * <p>
+ * See: "Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n)", P. Vilím, CP 2009.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class EdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final ThetaLambdaTree tree;
+	private final ArraySort<?> sorter;
+	// tasks of positive energy, and their bounds in the current time direction
+	private final int[] map;
+	private int size;
+	private final int[] est, lct, hei;
+	private final long[] nrj;
+	private final int[] byEst, byLct, rank, pos;
+	// index in byLct of the last task of the set Θ detected to end before each task, -1 if none
+	private final int[] prec;
+	private final int[] newEst;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public EdgeFindingCumulFilter(int n) {
+		super(n);
+		tree = new ThetaLambdaTree(n);
+		sorter = new ArraySort<>(n, false, true);
+		map = new int[n];
+		est = new int[n];
+		lct = new int[n];
+		hei = new int[n];
+		nrj = new long[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		rank = new int[n];
+		pos = new int[n];
+		prec = new int[n];
+		newEst = new int[n];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		filter(s, d, e, h, capa, tasks, aCause, false);
+		filter(s, d, e, h, capa, tasks, aCause, true);
+	}
+
+	private void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause, boolean mirror) throws ContradictionException {
+		size = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && h[i].getLB() > 0) {
+				est[size] = mirror ? -e[i].getUB() : s[i].getLB();
+				lct[size] = mirror ? -s[i].getLB() : e[i].getUB();
+				hei[size] = h[i].getLB();
+				nrj[size] = (long) d[i].getLB() * hei[size];
+				newEst[size] = est[size];
+				prec[size] = -1;
+				map[size++] = i;
+			}
+		}
+		if (size == 0) {
+			return;
+		}
+		long capaMax = capa.getUB();
+		for (int k = 0; k < size; k++) {
+			byEst[k] = byLct[k] = k;
+		}
+		sorter.sort(byEst, size, (i, j) -> Integer.compare(est[i], est[j]));
+		sorter.sort(byLct, size, (i, j) -> Integer.compare(lct[i], lct[j]));
+		for (int k = 0; k < size; k++) {
+			rank[byEst[k]] = k;
+			pos[byLct[k]] = k;
+		}
+		detect(capaMax, aCause);
+		adjust(capaMax);
+		for (int k = 0; k < size; k++) {
+			if (newEst[k] > est[k]) {
+				if (mirror) {
+					e[map[k]].updateUpperBound(-newEst[k], aCause);
+				} else {
+					s[map[k]].updateLowerBound(newEst[k], aCause);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Overload checking and detection of the precedences
+	 */
+	private void detect(long capaMax, Propagator<IntVar> aCause) throws ContradictionException {
+		tree.reset(size, capaMax);
+		for (int k = 0; k < size; k++) {
+			tree.addTheta(rank[k], est[k], nrj[k]);
+		}
+		int j = byLct[size - 1];
+		if (tree.envelope() > capaMax * lct[j]) {
+			aCause.fails();
+		}
+		for (int q = size - 1; q > 0; q--) {
+			tree.remove(rank[j]);
+			tree.addLambda(rank[j], est[j], nrj[j]);
+			j = byLct[q - 1];
+			if (tree.envelope() > capaMax * lct[j]) {
+				aCause.fails();
+			}
+			while (tree.lambdaEnvelope() > capaMax * lct[j]) {
+				int i = byEst[tree.responsibleLambda()];
+				prec[i] = q - 1;
+				tree.remove(rank[i]);
+			}
+		}
+	}
+
+	/**
+	 * For each task <i>i</i> ending after the tasks of Θ, and each Ω ⊆ Θ made of the tasks starting after ρ:
+	 * when the energy of Ω exceeds what remains in [ρ, lct(Θ)) once <i>i</i> takes its height,
+	 * <i>i</i> starts after ρ + ⌈rest / h(i)⌉.
+	 */
+	private void adjust(long capaMax) {
+		for (int i = 0; i < size; i++) {
+			if (prec[i] >= 0) {
+				long end = lct[byLct[prec[i]]];
+				long acc = 0;
+				for (int k = size - 1; k >= 0; k--) {
+					int l = byEst[k];
+					if (pos[l] <= prec[i]) {
+						acc += nrj[l];
+						long rest = acc - (capaMax - hei[i]) * (end - est[l]);
+						if (rest > 0) {
+							long bound = est[l] + (rest + hei[i] - 1) / hei[i];
+							newEst[i] = (int) Math.min(Integer.MAX_VALUE / 2, Math.max(newEst[i], bound));
+						}
+					}
+				}
+			}
+		}
+	}
+}
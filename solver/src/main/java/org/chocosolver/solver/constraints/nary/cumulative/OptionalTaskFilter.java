@@ -0,0 +1,189 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.tree.ThetaLambdaTree;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Filters the presence literals of optional tasks of a cumulative constraint.
+ * <p>
+ * Bounds of an optional task are not filtered while its presence is unknown,
+ * since its variables may be shared with other constraints.
+ * Instead, the task is set absent when:
+ * <ul>
+ *     <li>its height exceeds the capacity,</li>
+ *     <li>it cannot be placed within its time window on top of the compulsory parts of present tasks,</li>
+ *     <li>it overloads, with a Θ-Λ-tree, the energy of present tasks ending before it ends.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+class OptionalTaskFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final ThetaLambdaTree tree;
+	private final ArraySort<?> sorter;
+	// profile of the compulsory parts of present tasks: load on [dates[k], dates[k+1])
+	private final int[] evtDate, evtLoad, evts;
+	private final int[] dates, loads;
+	private int nbSegments;
+	// tasks of positive energy
+	private final int[] map;
+	private int size;
+	private final int[] est, lct;
+	private final long[] nrj;
+	private final boolean[] optional;
+	private final int[] byEst, byLct, rank;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	OptionalTaskFilter(int n) {
+		tree = new ThetaLambdaTree(n);
+		sorter = new ArraySort<>(2 * n, false, true);
+		evtDate = new int[2 * n];
+		evtLoad = new int[2 * n];
+		evts = new int[2 * n];
+		dates = new int[2 * n + 1];
+		loads = new int[2 * n + 1];
+		map = new int[n];
+		est = new int[n];
+		lct = new int[n];
+		nrj = new long[n];
+		optional = new boolean[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		rank = new int[n];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, BoolVar[] p, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		int capaMax = capa.getUB();
+		buildProfile(s, e, h, p, tasks);
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (!p[i].isInstantiated() && d[i].getLB() > 0 && h[i].getLB() > 0) {
+				if (h[i].getLB() > capaMax
+						|| !fits(s[i].getLB(), Math.min(s[i].getUB(), e[i].getUB() - d[i].getLB()), d[i].getLB(), h[i].getLB(), capaMax)) {
+					p[i].setToFalse(aCause);
+				}
+			}
+		}
+		energy(s, d, e, h, capaMax, p, tasks, aCause);
+	}
+
+	private void buildProfile(IntVar[] s, IntVar[] e, IntVar[] h, BoolVar[] p, ISet tasks) {
+		int nbEvts = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int j = tIter.nextInt();
+			if (p[j].getLB() == 1 && s[j].getUB() < e[j].getLB() && h[j].getLB() > 0) {
+				evtDate[nbEvts] = s[j].getUB();
+				evtLoad[nbEvts] = h[j].getLB();
+				evts[nbEvts] = nbEvts;
+				nbEvts++;
+				evtDate[nbEvts] = e[j].getLB();
+				evtLoad[nbEvts] = -h[j].getLB();
+				evts[nbEvts] = nbEvts;
+				nbEvts++;
+			}
+		}
+		sorter.sort(evts, nbEvts, (i, j) -> Integer.compare(evtDate[i], evtDate[j]));
+		nbSegments = 0;
+		int load = 0;
+		for (int k = 0; k < nbEvts; k++) {
+			int ev = evts[k];
+			load += evtLoad[ev];
+			if (k == nbEvts - 1 || evtDate[evts[k + 1]] != evtDate[ev]) {
+				dates[nbSegments] = evtDate[ev];
+				loads[nbSegments++] = load;
+			}
+		}
+	}
+
+	/**
+	 * @return <i>true</i> if a task of duration <i>dur</i> and height <i>hei</i> can start in [<i>from</i>, <i>to</i>]
+	 * on top of the profile
+	 */
+	private boolean fits(int from, int to, int dur, int hei, int capaMax) {
+		int t = from;
+		for (int k = 0; k < nbSegments - 1 && t <= to; k++) {
+			if (dates[k + 1] <= t) {
+				continue;
+			}
+			if (dates[k] >= t + dur) {
+				break;
+			}
+			if (loads[k] + hei > capaMax) {
+				t = dates[k + 1];
+			}
+		}
+		return t <= to;
+	}
+
+	/**
+	 * Energetic overload checking: present tasks are in Θ, optional ones in Λ.
+	 * An optional task that makes Θ overloaded is absent.
+	 */
+	private void energy(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, int capaMax, BoolVar[] p, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		size = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (p[i].getUB() == 1 && d[i].getLB() > 0 && h[i].getLB() > 0) {
+				est[size] = s[i].getLB();
+				lct[size] = e[i].getUB();
+				nrj[size] = (long) d[i].getLB() * h[i].getLB();
+				optional[size] = p[i].getLB() == 0;
+				byEst[size] = byLct[size] = size;
+				map[size++] = i;
+			}
+		}
+		sorter.sort(byEst, size, (i, j) -> Integer.compare(est[i], est[j]));
+		sorter.sort(byLct, size, (i, j) -> Integer.compare(lct[i], lct[j]));
+		for (int k = 0; k < size; k++) {
+			rank[byEst[k]] = k;
+		}
+		tree.reset(size, capaMax);
+		for (int k = 0; k < size; k++) {
+			int j = byLct[k];
+			if (optional[j]) {
+				tree.addLambda(rank[j], est[j], nrj[j]);
+			} else {
+				tree.addTheta(rank[j], est[j], nrj[j]);
+			}
+			long bound = (long) capaMax * lct[j];
+			if (tree.envelope() > bound) {
+				aCause.fails();
+			}
+			while (tree.lambdaEnvelope() > bound) {
+				int i = byEst[tree.responsibleLambda()];
+				p[map[i]].setToFalse(aCause);
+				tree.remove(rank[i]);
+			}
+		}
+	}
+}
@@ -14,6 +14,7 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
@@ -45,9 +46,14 @@ public class PropCumulative extends Propagator<IntVar> {
     protected final int n;
     protected final IntVar[] s, d, e, h;
     protected final IntVar capa;
+    // presence literals, null if all tasks are mandatory
+    protected final BoolVar[] p;
     protected CumulFilter[] filters;
     protected ISet allTasks;
     protected final IStateInt lastCapaMax;
+    // present tasks among the ones to filter
+    private ISet presentTasks;
+    private OptionalTaskFilter optionalFilter;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -56,9 +62,10 @@ public class PropCumulative extends Propagator<IntVar> {
     /**
      * protected constructor, should not be called by a user
      */
-    protected PropCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa,
+    protected PropCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, BoolVar[] p,
                              boolean reactToFineEvt, CumulFilter... filters) {
-        super(ArrayUtils.append(s, d, e, h, new IntVar[]{capa}), PropagatorPriority.QUADRATIC, reactToFineEvt);
+        super(p == null ? ArrayUtils.append(s, d, e, h, new IntVar[]{capa}) : ArrayUtils.append(s, d, e, h, new IntVar[]{capa}, p),
+                PropagatorPriority.QUADRATIC, reactToFineEvt);
         this.n = s.length;
         if (!(n == d.length && n == e.length && n == h.length)) {
             throw new UnsupportedOperationException();
@@ -68,6 +75,11 @@ public class PropCumulative extends Propagator<IntVar> {
         this.e = Arrays.copyOfRange(vars, n * 2, n * 3);
         this.h = Arrays.copyOfRange(vars, n * 3, n * 4);
         this.capa = this.vars[4 * n];
+        this.p = p == null ? null : p.clone();
+        if (p != null) {
+            presentTasks = SetFactory.makeBipartiteSet(0);
+            optionalFilter = new OptionalTaskFilter(n);
+        }
         this.filters = filters;
         lastCapaMax = model.getEnvironment().makeInt(capa.getUB() + 1);
         allTasks = SetFactory.makeStoredSet(SetType.BIPARTITESET,0,getModel());
@@ -89,7 +101,24 @@ public class PropCumulative extends Propagator<IntVar> {
      */
     public PropCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa,
                           CumulFilter... filters) {
-        this(s, d, e, h, capa, false, filters);
+        this(s, d, e, h, capa, null, false, filters);
+    }
+
+    /**
+     * Cumulative propagator over optional tasks
+     *
+     * @param s       start 		variables
+     * @param d       duration	variables
+     * @param e       end			variables
+     * @param h       height		variables
+     * @param capa    capacity	variable
+     *                (only reacts to instantiation events)
+     * @param p       presence literals, null if all tasks are mandatory
+     * @param filters filtering algorithm to use, applied on present tasks
+     */
+    public PropCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, BoolVar[] p,
+                          CumulFilter... filters) {
+        this(s, d, e, h, capa, p, false, filters);
     }
 
     //***********************************************************************************
@@ -98,9 +127,12 @@ public class PropCumulative extends Propagator<IntVar> {
 
     @Override
     public int getPropagationConditions(int idx) {
-        if (idx == vars.length - 1) {
+        if (idx == 4 * n) {
             return IntEventType.upperBoundAndInst();
         }
+        if (idx > 4 * n) {
+            return IntEventType.instantiation();
+        }
         return IntEventType.boundAndInst();
     }
 
@@ -124,32 +156,71 @@ public class PropCumulative extends Propagator<IntVar> {
     }
 
     protected void updateMaxCapa() throws ContradictionException {
-        if (lastCapaMax.get() != capa.getUB()) {
-            int capaMax = capa.getUB();
+        int capaMax = capa.getUB();
+        if (lastCapaMax.get() != capaMax) {
             lastCapaMax.set(capaMax);
             for (int i = 0; i < n; i++) {
-                if(d[i].getLB()>0) {
-                    h[i].updateUpperBound(capaMax, this);
-                }else if(h[i].getLB()>capaMax){
-                    d[i].instantiateTo(0,this);
+                if (!isPresent(i)) {
+                    // checked by the optional task filter
+                    continue;
+                }
+                capTask(i, capaMax);
+            }
+        } else if (p != null) {
+            // an optional task may have become present since the last capacity change
+            for (int i = 0; i < n; i++) {
+                if (p[i].getLB() == 1) {
+                    capTask(i, capaMax);
                 }
             }
         }
     }
 
+    private void capTask(int i, int capaMax) throws ContradictionException {
+        if(d[i].getLB()>0) {
+            h[i].updateUpperBound(capaMax, this);
+        }else if(h[i].getLB()>capaMax){
+            d[i].instantiateTo(0,this);
+        }
+    }
+
     public void filter(ISet tasks) throws ContradictionException {
         ISetIterator tIter = tasks.iterator();
         while (tIter.hasNext()){
             int t = tIter.nextInt();
-            if(h[t].getUB()==0 || d[t].getUB()==0){
+            if(h[t].getUB()==0 || d[t].getUB()==0 || (p != null && p[t].getUB() == 0)){
                 tasks.remove(t);
             }
         }
-        for (CumulFilter cf : filters) {
-            cf.filter(s, d, e, h, capa, tasks, this);
+        if (p == null) {
+            for (CumulFilter cf : filters) {
+                cf.filter(s, d, e, h, capa, tasks, this);
+            }
+        } else {
+            // filters apply on present tasks only
+            presentTasks.clear();
+            tIter = tasks.iterator();
+            while (tIter.hasNext()) {
+                int t = tIter.nextInt();
+                if (p[t].getLB() == 1) {
+                    presentTasks.add(t);
+                }
+            }
+            for (CumulFilter cf : filters) {
+                cf.filter(s, d, e, h, capa, presentTasks, this);
+            }
+            optionalFilter.filter(s, d, e, h, capa, p, tasks, this);
         }
     }
 
+    /**
+     * @param i index of a task
+     * @return <i>true</i> if the task <i>i</i> is mandatory or present
+     */
+    protected boolean isPresent(int i) {
+        return p == null || p[i].getLB() == 1;
+    }
+
     @Override
     public ESat isEntailed() {
         int min = s[0].getUB();
@@ -169,6 +240,9 @@ public class PropCumulative extends Propagator<IntVar> {
             int capamax = capa.getUB();
             int[] consoMin = new int[max - min];
             for (int i = 0; i < n; i++) {
+                if (!isPresent(i)) {
+                    continue;
+                }
                 for (int t = s[i].getUB(); t < e[i].getLB(); t++) {
                     consoMin[t - min] += h[i].getLB();
                     if (consoMin[t - min] > capamax) {
@@ -179,8 +253,8 @@ public class PropCumulative extends Propagator<IntVar> {
             }
         }
         // check variables are instantiated
-        for (int i = 0; i < vars.length - 1; i++) {
-            if (!vars[i].isInstantiated()) {
+        for (int i = 0; i < vars.length; i++) {
+            if (i != 4 * n && !vars[i].isInstantiated()) {
                 return ESat.UNDEFINED;
             }
         }
@@ -0,0 +1,357 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.tree.ThetaLambdaTree;
+import org.chocosolver.util.sort.ArraySort;
+
+import java.util.Arrays;
+
+/**
+ * Disjunctive (unary resource) propagator: tasks of positive duration cannot overlap.
+ * Optional tasks are only considered when present.
+ * <p>
+ * Runs, on both time directions and until fixpoint, the Θ-tree based algorithms of Vilím:
+ * <ul>
+ *     <li>overload checking,</li>
+ *     <li>detectable precedences,</li>
+ *     <li>not-first / not-last,</li>
+ *     <li>edge finding (with a Θ-Λ-tree).</li>
+ * </ul>
+ * Each of them runs in O(n log n) and applies on present tasks.
+ * An optional task whose presence is unknown is set absent when it would overload the present tasks,
+ * its bounds being left unchanged.
+ * <p>
+ * See: "Global Constraints in Scheduling", P. Vilím, PhD thesis, 2007.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int n;
+    private final IntVar[] s, d, e;
+    // presence literals, null if all tasks are mandatory
+    private final BoolVar[] pr;
+    private final ThetaLambdaTree tree;
+    private final ArraySort<?> sorter;
+    // tasks of positive duration, and their bounds in the current time direction
+    private final int[] tasks;
+    private int size;
+    private final int[] est, lct, p;
+    private final int[] rank;
+    private final int[] byEst, byEct, byLst, byLct;
+    private final int[] newEst, newLct;
+    private final boolean[] inTheta;
+    private final boolean[] optional;
+    private boolean changed;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Disjunctive propagator over <i>tasks</i>
+     *
+     * @param tasks tasks sharing a unary resource
+     */
+    public PropDisjunctive(Task[] tasks) {
+        super(extract(tasks), PropagatorPriority.LINEAR, false);
+        this.n = tasks.length;
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, 2 * n);
+        this.e = Arrays.copyOfRange(vars, 2 * n, 3 * n);
+        this.pr = Cumulative.presence(tasks);
+        this.tree = new ThetaLambdaTree(n);
+        this.sorter = new ArraySort<>(n, false, true);
+        this.tasks = new int[n];
+        this.est = new int[n];
+        this.lct = new int[n];
+        this.p = new int[n];
+        this.rank = new int[n];
+        this.byEst = new int[n];
+        this.byEct = new int[n];
+        this.byLst = new int[n];
+        this.byLct = new int[n];
+        this.newEst = new int[n];
+        this.newLct = new int[n];
+        this.inTheta = new boolean[n];
+        this.optional = new boolean[n];
+    }
+
+    private static IntVar[] extract(Task[] tasks) {
+        int n = tasks.length;
+        BoolVar[] p = Cumulative.presence(tasks);
+        IntVar[] vars = new IntVar[(p == null ? 3 : 4) * n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = tasks[i].getStart();
+            vars[i + n] = tasks[i].getDuration();
+            vars[i + 2 * n] = tasks[i].getEnd();
+            if (p != null) {
+                vars[i + 3 * n] = p[i];
+            }
+        }
+        return vars;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        if (vIdx >= 3 * n) {
+            return IntEventType.instantiation();
+        }
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        do {
+            changed = false;
+            for (int m = 0; m < 2; m++) {
+                boolean mirror = m == 1;
+                if (pr != null) {
+                    load(mirror, true);
+                    optionalOverload();
+                }
+                load(mirror);
+                edgeFinding(mirror);
+                load(mirror);
+                detectablePrecedences(mirror);
+                load(mirror);
+                notLast(mirror);
+            }
+        } while (changed);
+    }
+
+    /**
+     * Copy the bounds of the tasks of positive duration, mirrored (t -> -t) if <i>mirror</i> is set,
+     * and sort them by earliest start time.
+     */
+    private void load(boolean mirror) {
+        load(mirror, false);
+    }
+
+    /**
+     * Copy the bounds of the tasks of positive duration, mirrored (t -> -t) if <i>mirror</i> is set,
+     * and sort them by earliest start time.
+     * Optional tasks whose presence is unknown are loaded only if <i>withOptional</i> is set.
+     */
+    private void load(boolean mirror, boolean withOptional) {
+        size = 0;
+        for (int i = 0; i < n; i++) {
+            if (d[i].getLB() > 0 && (pr == null || pr[i].getLB() == 1 || (withOptional && pr[i].getUB() == 1))) {
+                optional[size] = pr != null && pr[i].getLB() == 0;
+                est[size] = mirror ? -e[i].getUB() : s[i].getLB();
+                lct[size] = mirror ? -s[i].getLB() : e[i].getUB();
+                p[size] = d[i].getLB();
+                newEst[size] = est[size];
+                newLct[size] = lct[size];
+                tasks[size++] = i;
+            }
+        }
+        for (int k = 0; k < size; k++) {
+            byEst[k] = byEct[k] = byLst[k] = byLct[k] = k;
+        }
+        sorter.sort(byEst, size, (i, j) -> Integer.compare(est[i], est[j]));
+        for (int k = 0; k < size; k++) {
+            rank[byEst[k]] = k;
+        }
+        tree.reset(size, 1);
+    }
+
+    private void sortByEct() {
+        sorter.sort(byEct, size, (i, j) -> Integer.compare(est[i] + p[i], est[j] + p[j]));
+    }
+
+    private void sortByLst() {
+        sorter.sort(byLst, size, (i, j) -> Integer.compare(lct[i] - p[i], lct[j] - p[j]));
+    }
+
+    private void sortByLct() {
+        sorter.sort(byLct, size, (i, j) -> Integer.compare(lct[i], lct[j]));
+    }
+
+    /**
+     * Earliest completion time of Θ, ignoring task <i>k</i>
+     */
+    private long ectWithout(int k, boolean inTheta) {
+        if (inTheta) {
+            tree.remove(rank[k]);
+            long ect = tree.envelope();
+            tree.addTheta(rank[k], est[k], p[k]);
+            return ect;
+        }
+        return tree.envelope();
+    }
+
+    /**
+     * Overload checking and edge finding:
+     * when Θ ∪ {i} cannot end by lct(Θ), i has to start after all the tasks of Θ.
+     */
+    private void edgeFinding(boolean mirror) throws ContradictionException {
+        if (size == 0) {
+            return;
+        }
+        sortByLct();
+        for (int k = 0; k < size; k++) {
+            tree.addTheta(rank[k], est[k], p[k]);
+        }
+        int j = byLct[size - 1];
+        if (tree.envelope() > lct[j]) {
+            fails();
+        }
+        for (int q = size - 1; q > 0; q--) {
+            tree.remove(rank[j]);
+            tree.addLambda(rank[j], est[j], p[j]);
+            j = byLct[q - 1];
+            if (tree.envelope() > lct[j]) {
+                fails();
+            }
+            while (tree.lambdaEnvelope() > lct[j]) {
+                int i = byEst[tree.responsibleLambda()];
+                newEst[i] = (int) Math.max(newEst[i], tree.envelope());
+                tree.remove(rank[i]);
+            }
+        }
+        apply(mirror);
+    }
+
+    /**
+     * Overload checking with optional tasks:
+     * present tasks are in Θ, optional ones in Λ.
+     * An optional task that makes Θ overloaded is absent.
+     */
+    private void optionalOverload() throws ContradictionException {
+        sortByLct();
+        for (int k = 0; k < size; k++) {
+            int j = byLct[k];
+            if (optional[j]) {
+                tree.addLambda(rank[j], est[j], p[j]);
+            } else {
+                tree.addTheta(rank[j], est[j], p[j]);
+            }
+            if (tree.envelope() > lct[j]) {
+                fails();
+            }
+            while (tree.lambdaEnvelope() > lct[j]) {
+                int i = byEst[tree.responsibleLambda()];
+                changed |= pr[tasks[i]].setToFalse(this);
+                tree.remove(rank[i]);
+            }
+        }
+    }
+
+    /**
+     * Detectable precedences:
+     * when lst(j) < ect(i), j has to end before i starts.
+     */
+    private void detectablePrecedences(boolean mirror) throws ContradictionException {
+        sortByEct();
+        sortByLst();
+        Arrays.fill(inTheta, false);
+        int q = 0;
+        for (int k = 0; k < size; k++) {
+            int i = byEct[k];
+            while (q < size && lct[byLst[q]] - p[byLst[q]] < est[i] + p[i]) {
+                int j = byLst[q++];
+                tree.addTheta(rank[j], est[j], p[j]);
+                inTheta[j] = true;
+            }
+            newEst[i] = (int) Math.max(newEst[i], ectWithout(i, inTheta[i]));
+        }
+        apply(mirror);
+    }
+
+    /**
+     * Not-last: when the tasks of Θ cannot all end before lst(i), i cannot be the last one
+     * and has to end before the latest start time of one of them.
+     */
+    private void notLast(boolean mirror) throws ContradictionException {
+        sortByLct();
+        sortByLst();
+        Arrays.fill(inTheta, false);
+        int q = 0;
+        int last = -1;
+        for (int k = 0; k < size; k++) {
+            int i = byLct[k];
+            while (q < size && lct[i] > lct[byLst[q]] - p[byLst[q]]) {
+                last = byLst[q++];
+                tree.addTheta(rank[last], est[last], p[last]);
+                inTheta[last] = true;
+            }
+            if (ectWithout(i, inTheta[i]) > lct[i] - p[i]) {
+                newLct[i] = Math.min(newLct[i], lct[last] - p[last]);
+            }
+        }
+        apply(mirror);
+    }
+
+    /**
+     * Apply the bounds computed in the current time direction
+     */
+    private void apply(boolean mirror) throws ContradictionException {
+        for (int k = 0; k < size; k++) {
+            int i = tasks[k];
+            if (newEst[k] > est[k]) {
+                changed |= mirror ?
+                        e[i].updateUpperBound(-newEst[k], this) :
+                        s[i].updateLowerBound(newEst[k], this);
+            }
+            if (newLct[k] < lct[k]) {
+                changed |= mirror ?
+                        s[i].updateLowerBound(-newLct[k], this) :
+                        e[i].updateUpperBound(newLct[k], this);
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        for (int i = 0; i < n; i++) {
+            if (d[i].getValue() > 0 && (pr == null || pr[i].getValue() == 1)) {
+                for (int j = i + 1; j < n; j++) {
+                    if (d[j].getValue() > 0 && (pr == null || pr[j].getValue() == 1)
+                            && s[i].getValue() < e[j].getValue() && s[j].getValue() < e[i].getValue()) {
+                        return ESat.FALSE;
+                    }
+                }
+            }
+        }
+        return ESat.TRUE;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PropDisjunctive(");
+        for (int i = 0; i < n; i++) {
+            sb.append("[").append(s[i]).append(",").append(d[i]).append(",").append(e[i]).append("],");
+        }
+        sb.setLength(sb.length() - 1);
+        return sb.append(")").toString();
+    }
+}
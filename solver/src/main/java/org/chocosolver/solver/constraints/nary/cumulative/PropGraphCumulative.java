@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.cumulative;
 
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.objects.graphs.UndirectedGraph;
@@ -62,7 +63,25 @@ public class PropGraphCumulative extends PropCumulative {
      */
     public PropGraphCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, boolean fast,
                                CumulFilter... filters) {
-        super(s, d, e, h, capa, true, filters);
+        this(s, d, e, h, capa, null, fast, filters);
+    }
+
+    /**
+     * Graph-based cumulative propagator over optional tasks:
+     * - only filters over subsets of overlapping tasks
+     *
+     * @param s       start 		variables
+     * @param d       duration	variables
+     * @param e       end			variables
+     * @param h       height		variables
+     * @param capa    capacity	variable
+     * @param p       presence literals, null if all tasks are mandatory
+     * @param fast    reduces the number of propagation (less filtering)
+     * @param filters filtering algorithm to use, applied on present tasks
+     */
+    public PropGraphCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, BoolVar[] p, boolean fast,
+                               CumulFilter... filters) {
+        super(s, d, e, h, capa, p, true, filters);
         this.g = new UndirectedGraph(model, n, SetType.BITSET, true);
         this.tasks = SetFactory.makeBipartiteSet(0);
         this.toCompute = SetFactory.makeBipartiteSet(0);
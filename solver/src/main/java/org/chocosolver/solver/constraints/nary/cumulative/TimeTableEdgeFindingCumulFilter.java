@@ -0,0 +1,179 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Timetable-edge-finding for cumulative, on both time directions.
+ * <p>
+ * Each task is split into its compulsory part, [lst, ect), and a free part.
+ * For every window [a, b), with <i>a</i> an earliest start time and <i>b</i> a latest completion time,
+ * the energy available is the capacity of the window minus the compulsory parts it intersects
+ * and the free parts of the tasks it contains.
+ * A negative available energy raises a failure.
+ * A task <i>i</i> that may end after <i>b</i> and would, when starting at est(i) &ge; a, put in the window
+ * more free energy than available, has its earliest start time adjusted.
+ * The filter runs in O(n&sup2;).
+ * <p>
+ * See: "Timetable Edge Finding Filtering Algorithm for Discrete Cumulative Resources", P. Vilím, CPAIOR 2011,
+ * and "Explaining Time-Table-Edge-Finding Propagation for the Cumulative Resource Constraint",
+ * A. Schutt, T. Feydy and P. J. Stuckey, CPAIOR 2013.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TimeTableEdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final ArraySort<?> sorter;
+	// tasks of positive height, and their bounds in the current time direction
+	private final int[] map;
+	private int size;
+	private final int[] est, lct, lst, ect, dur, hei;
+	private final int[] byEst, byLct, rank;
+	// energy of the compulsory parts after the earliest start time of the k-th task by est
+	private final long[] ttAfterEst;
+	private final long[] avail;
+	private final int[] newEst;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public TimeTableEdgeFindingCumulFilter(int n) {
+		super(n);
+		sorter = new ArraySort<>(n, false, true);
+		map = new int[n];
+		est = new int[n];
+		lct = new int[n];
+		lst = new int[n];
+		ect = new int[n];
+		dur = new int[n];
+		hei = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		rank = new int[n];
+		ttAfterEst = new long[n];
+		avail = new long[n];
+		newEst = new int[n];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		filter(s, d, e, h, capa, tasks, aCause, false);
+		filter(s, d, e, h, capa, tasks, aCause, true);
+	}
+
+	private void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause, boolean mirror) throws ContradictionException {
+		size = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			int cp = e[i].getLB() - s[i].getUB();
+			if (h[i].getLB() > 0 && (d[i].getLB() > 0 || cp > 0)) {
+				est[size] = mirror ? -e[i].getUB() : s[i].getLB();
+				lct[size] = mirror ? -s[i].getLB() : e[i].getUB();
+				lst[size] = mirror ? -e[i].getLB() : s[i].getUB();
+				ect[size] = mirror ? -s[i].getUB() : e[i].getLB();
+				// the task spans its compulsory part
+				dur[size] = Math.max(d[i].getLB(), cp);
+				hei[size] = h[i].getLB();
+				newEst[size] = est[size];
+				map[size++] = i;
+			}
+		}
+		if (size == 0) {
+			return;
+		}
+		long capaMax = capa.getUB();
+		for (int k = 0; k < size; k++) {
+			byEst[k] = byLct[k] = k;
+		}
+		sorter.sort(byEst, size, (i, j) -> Integer.compare(est[i], est[j]));
+		sorter.sort(byLct, size, (i, j) -> Integer.compare(lct[i], lct[j]));
+		for (int k = 0; k < size; k++) {
+			rank[byEst[k]] = k;
+			ttAfterEst[k] = ttAfter(est[byEst[k]]);
+		}
+		for (int q = size - 1; q >= 0; q--) {
+			int b = lct[byLct[q]];
+			if (q < size - 1 && b == lct[byLct[q + 1]]) {
+				continue;
+			}
+			long ttB = ttAfter(b);
+			// available energy in [a, b), for a = est of the k-th task
+			long acc = 0;
+			for (int k = size - 1; k >= 0; k--) {
+				int j = byEst[k];
+				int a = est[j];
+				if (a >= b) {
+					avail[k] = Long.MAX_VALUE;
+					continue;
+				}
+				if (lct[j] <= b) {
+					acc += (long) hei[j] * (dur[j] - Math.max(0, ect[j] - lst[j]));
+				}
+				avail[k] = capaMax * (b - a) - (ttAfterEst[k] - ttB) - acc;
+				if (avail[k] < 0) {
+					aCause.fails();
+				}
+			}
+			// smallest available energy over the windows starting before each est
+			for (int k = 1; k < size; k++) {
+				avail[k] = Math.min(avail[k], avail[k - 1]);
+			}
+			for (int i = 0; i < size; i++) {
+				if (est[i] < b && b < lct[i]) {
+					long free = avail[rank[i]];
+					long cp = (long) hei[i] * Math.max(0, Math.min(b, ect[i]) - lst[i]);
+					if ((long) hei[i] * Math.min(dur[i], b - est[i]) - cp > free) {
+						long bound = b - (free + cp) / hei[i];
+						newEst[i] = (int) Math.max(newEst[i], bound);
+					}
+				}
+			}
+		}
+		for (int k = 0; k < size; k++) {
+			if (newEst[k] > est[k]) {
+				if (mirror) {
+					e[map[k]].updateUpperBound(-newEst[k], aCause);
+				} else {
+					s[map[k]].updateLowerBound(newEst[k], aCause);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the energy of the compulsory parts after <i>t</i>
+	 */
+	private long ttAfter(int t) {
+		long en = 0;
+		for (int i = 0; i < size; i++) {
+			if (ect[i] > t && lst[i] < ect[i]) {
+				en += (long) hei[i] * (ect[i] - Math.max(lst[i], t));
+			}
+		}
+		return en;
+	}
+}
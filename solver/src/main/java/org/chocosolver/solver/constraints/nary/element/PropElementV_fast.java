@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.element;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -16,6 +17,7 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -203,4 +205,9 @@ public class PropElementV_fast extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropElementV_fast copy(ModelCopier copier) {
+        IntVar[] copies = copier.get(vars);
+        return new PropElementV_fast(copies[0], Arrays.copyOfRange(copies, 2, copies.length), copies[1], offset);
+    }
 }
@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.flow;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.propagation.DomainReductions;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
@@ -78,6 +79,13 @@ public class PropMinCostMaxFlow extends Propagator<IntVar> {
     }
 
     private void updateFlow(int i, int maxcost) throws ContradictionException {
+        flows[i].updateUpperBound(maxFlow(i, maxcost), this);
+    }
+
+    /**
+     * @return the largest flow on edge <i>i</i> whose min cost does not exceed <i>maxcost</i>
+     */
+    private int maxFlow(int i, int maxcost) {
         int l = flows[i].getLB();
         int u = flows[i].getUB();
         int m = u;
@@ -96,8 +104,40 @@ public class PropMinCostMaxFlow extends Propagator<IntVar> {
                     l = m + 1;
                 }
             }
-            flows[i].updateUpperBound(u, this);
         }
+        return u;
+    }
+
+    @Override
+    public boolean isParallelizable() {
+        return true;
+    }
+
+    /**
+     * Compute the min cost and the max flow of each edge from the current domains.
+     * Unlike {@link #propagate(int)}, the bounds of the flows are all computed from the same domains,
+     * which may filter less but does not modify any variable.
+     * Only the private residual graph is rebuilt, and the flows to check are cleared when the reductions are applied.
+     */
+    @Override
+    public DomainReductions prepareFiltering() {
+        g.refresh(-1, 0);
+        int minCost = minCostFlow(-1, 0);
+        if (minCost == -1) {
+            return this::fails;
+        }
+        int maxcost = this.cost.getUB();
+        int[] ubs = new int[flows.length];
+        for (int i = 0; i < flows.length; i++) {
+            ubs[i] = maxFlow(i, maxcost);
+        }
+        return () -> {
+            toCheck.clear();
+            cost.updateLowerBound(minCost, this);
+            for (int i = 0; i < flows.length; i++) {
+                flows[i].updateUpperBound(ubs[i], this);
+            }
+        };
     }
 
     @Override
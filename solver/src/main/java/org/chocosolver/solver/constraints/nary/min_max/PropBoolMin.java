@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.min_max;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -16,6 +17,8 @@ import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.util.Arrays;
+
 /**
  * <br/>
  *
@@ -162,4 +165,10 @@ public class PropBoolMin extends Propagator<BoolVar> {
         sb.append(")");
         return sb.toString();
     }
+
+    @Override
+    public PropBoolMin copy(ModelCopier copier) {
+        BoolVar[] copies = copier.get(vars);
+        return new PropBoolMin(Arrays.copyOf(copies, n), copies[n]);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.min_max;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -17,6 +18,8 @@ import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.util.Arrays;
+
 import static org.chocosolver.solver.constraints.PropagatorPriority.LINEAR;
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
@@ -162,4 +165,10 @@ public class PropMax extends Propagator<IntVar> {
         sb.append(")");
         return sb.toString();
     }
+
+    @Override
+    public PropMax copy(ModelCopier copier) {
+        IntVar[] copies = copier.get(vars);
+        return new PropMax(Arrays.copyOf(copies, n), copies[n]);
+    }
 }
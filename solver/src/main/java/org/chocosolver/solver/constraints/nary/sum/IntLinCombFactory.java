@@ -396,6 +396,11 @@ public class IntLinCombFactory {
             OPERATOR = Operator.LE;
             RESULT--;
         }
+        if (OPERATOR != Operator.EQ && OPERATOR != Operator.NQ
+                && s.getSettings().enablePseudoBooleanOnBoolScalar(VARS.length)
+                && Arrays.stream(VARS).allMatch(IntVar::isBool)) {
+            return new SumConstraint(new PropPseudoBoolean(s.toBoolVar(tmpV), tmpC, OPERATOR, RESULT));
+        }
         return new SumConstraint(new PropScalar(tmpV, tmpC, b, OPERATOR, RESULT));
     }
 
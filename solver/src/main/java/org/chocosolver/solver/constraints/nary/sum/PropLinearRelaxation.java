@@ -0,0 +1,327 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.lp.LinearProgram;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.ternary.PropXplusYeqZ;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A global propagator which maintains the linear relaxation of the linear constraints of a model
+ * (those based on {@link PropSum}, {@link PropScalar}, {@link PropSumWithLong}, {@link PropScalarWithLong},
+ * {@link PropPseudoBoolean} and {@link PropXplusYeqZ}), together with its objective, if any.
+ * Linear constraints that {@link IntLinCombFactory} turns into other propagators
+ * (arithm, times or table constraints) are not part of the relaxation.
+ * <p>
+ * On each call, the bounds of the columns of the {@link LinearProgram} are reset from the current domains
+ * and the relaxation is solved again from the last basis, be it the one of the parent node or of a sibling,
+ * so that the resolution is warm started.
+ * The world index of the last resolution is recorded:
+ * a call in the same world with unchanged bounds does not solve the relaxation again.
+ * <p>
+ * Then:
+ * <ul>
+ *     <li>if the relaxation is infeasible, a failure is raised,</li>
+ *     <li>otherwise, the bound of the objective variable is pruned from the optimal value of the relaxation,</li>
+ *     <li>and reduced-cost fixing is applied to the bounds of the variables.</li>
+ * </ul>
+ * <p>
+ * Reified linear constraints, as well as {@link Operator#NQ} ones, are ignored.
+ * The propagator is redundant: it does not replace the propagators of the linear constraints.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropLinearRelaxation extends Propagator<IntVar> {
+
+    /**
+     * Tolerance used to round values computed by the simplex
+     */
+    private static final double EPS = 1e-6;
+
+    /**
+     * The linear relaxation, the <i>i</i>-th column stands for <i>vars[i]</i>
+     */
+    private final LinearProgram lp;
+
+    /**
+     * Index of the objective variable in <i>vars</i>, -1 if none
+     */
+    private final int obj;
+
+    /**
+     * Set to <i>true</i> when the objective variable is maximized
+     */
+    private final boolean maximize;
+
+    /**
+     * Bounds of the columns given to the relaxation on the last call
+     */
+    private final double[] lbs;
+    private final double[] ubs;
+
+    /**
+     * World index of the last resolution
+     */
+    private int lastWorld = -1;
+
+    /**
+     * Number of resolutions of the relaxation
+     */
+    private long nbSolves;
+
+    /**
+     * Create a propagator maintaining the linear relaxation of the linear constraints posted in <i>model</i>,
+     * and of its objective.
+     * The objective, if any, has to be declared before calling this constructor.
+     *
+     * @param model a model
+     */
+    public PropLinearRelaxation(Model model) {
+        this(linearPropagatorsOf(model), objectiveOf(model), model.getResolutionPolicy());
+    }
+
+    /**
+     * Create a propagator maintaining the linear relaxation of <i>linear</i> and <i>objective</i>.
+     *
+     * @param linear    linear propagators, among {@link PropSum}, {@link PropSumWithLong}, their subclasses,
+     *                  {@link PropPseudoBoolean} and {@link PropXplusYeqZ}
+     * @param objective the objective variable, may be {@code null}
+     * @param policy    the resolution policy, ignored if <i>objective</i> is {@code null}
+     * @throws SolverException if there is neither a linear propagator nor an objective to relax
+     */
+    public PropLinearRelaxation(List<? extends Propagator<? extends IntVar>> linear, IntVar objective,
+                                ResolutionPolicy policy) {
+        super(variablesOf(linear, policy == ResolutionPolicy.SATISFACTION ? null : objective),
+                PropagatorPriority.VERY_SLOW, false);
+        TIntIntHashMap columns = new TIntIntHashMap(vars.length, .5f, -1, -1);
+        for (int i = 0; i < vars.length; i++) {
+            columns.put(vars[i].getId(), i);
+        }
+        this.lp = new LinearProgram();
+        this.lp.makeVariables(vars.length);
+        for (Propagator<? extends IntVar> p : linear) {
+            addRow(p, columns);
+        }
+        if (objective != null && policy != ResolutionPolicy.SATISFACTION) {
+            this.obj = columns.get(objective.getId());
+            this.maximize = policy == ResolutionPolicy.MAXIMIZE;
+            double[] c = new double[vars.length];
+            c[obj] = 1.;
+            this.lp.setObjective(maximize, c);
+        } else {
+            this.obj = -1;
+            this.maximize = false;
+        }
+        this.lbs = new double[vars.length];
+        this.ubs = new double[vars.length];
+    }
+
+    private static List<Propagator<? extends IntVar>> linearPropagatorsOf(Model model) {
+        List<Propagator<? extends IntVar>> linear = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            if (c.isReified()) continue;
+            for (Propagator<?> p : c.getPropagators()) {
+                if (p instanceof PropSum) {
+                    linear.add((PropSum) p);
+                } else if (p instanceof PropSumWithLong) {
+                    linear.add((PropSumWithLong) p);
+                } else if (p instanceof PropXplusYeqZ) {
+                    linear.add((PropXplusYeqZ) p);
+                } else if (p instanceof PropPseudoBoolean) {
+                    linear.add((PropPseudoBoolean) p);
+                }
+            }
+        }
+        return linear;
+    }
+
+    private static IntVar objectiveOf(Model model) {
+        Variable objective = model.getObjective();
+        if (objective != null && (objective.getTypeAndKind() & Variable.INT) != 0) {
+            return (IntVar) objective;
+        }
+        return null;
+    }
+
+    private static IntVar[] variablesOf(List<? extends Propagator<? extends IntVar>> linear, IntVar objective) {
+        Map<Integer, IntVar> vars = new LinkedHashMap<>();
+        for (Propagator<? extends IntVar> p : linear) {
+            for (IntVar v : p.getVars()) {
+                vars.putIfAbsent(v.getId(), v);
+            }
+        }
+        if (objective != null) {
+            vars.putIfAbsent(objective.getId(), objective);
+        }
+        if (vars.isEmpty()) {
+            throw new SolverException("The linear relaxation requires at least a linear constraint or an objective");
+        }
+        return vars.values().toArray(new IntVar[0]);
+    }
+
+    private void addRow(Propagator<? extends IntVar> p, TIntIntHashMap columns) {
+        Operator o;
+        double b;
+        HashMap<Integer, Double> row = new HashMap<>();
+        if (p instanceof PropSum) {
+            PropSum ps = (PropSum) p;
+            o = ps.o;
+            b = ps.b;
+            for (int i = 0; i < ps.l; i++) {
+                row.merge(columns.get(ps.getVar(i).getId()), (double) ps.coefficient(i), Double::sum);
+            }
+        } else if (p instanceof PropPseudoBoolean) {
+            PropPseudoBoolean pb = (PropPseudoBoolean) p;
+            o = pb.o;
+            b = pb.b;
+            for (int i = 0; i < pb.c.length; i++) {
+                row.merge(columns.get(pb.getVar(i).getId()), (double) pb.c[i], Double::sum);
+            }
+        } else if (p instanceof PropXplusYeqZ) {
+            o = Operator.EQ;
+            b = 0;
+            row.merge(columns.get(p.getVar(0).getId()), 1., Double::sum);
+            row.merge(columns.get(p.getVar(1).getId()), 1., Double::sum);
+            row.merge(columns.get(p.getVar(2).getId()), -1., Double::sum);
+        } else {
+            PropSumWithLong ps = (PropSumWithLong) p;
+            o = ps.o;
+            b = ps.b;
+            for (int i = 0; i < ps.l; i++) {
+                row.merge(columns.get(ps.getVar(i).getId()), (double) ps.coefficient(i), Double::sum);
+            }
+        }
+        switch (o) {
+            case LE:
+                lp.addLeq(row, b);
+                break;
+            case GE:
+                lp.addGeq(row, b);
+                break;
+            case EQ:
+                lp.addEq(row, b);
+                break;
+            default:
+                // not a convex set, ignored
+                break;
+        }
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean changed = false;
+        for (int i = 0; i < vars.length; i++) {
+            int l = vars[i].getLB();
+            int u = vars[i].getUB();
+            if (l != lbs[i] || u != ubs[i] || lastWorld < 0) {
+                lbs[i] = l;
+                ubs[i] = u;
+                lp.setBounds(i, l, u);
+                changed = true;
+            }
+        }
+        int world = model.getEnvironment().getWorldIndex();
+        if (!changed && world == lastWorld) {
+            return;
+        }
+        lastWorld = world;
+        nbSolves++;
+        switch (lp.simplex()) {
+            case INFEASIBLE:
+                fails();
+                break;
+            case FEASIBLE:
+                filter();
+                break;
+            default:
+                // the resolution did not end, nothing can be deduced
+                break;
+        }
+    }
+
+    /**
+     * Prune the objective variable and apply reduced-cost fixing from the optimal solution of the relaxation.
+     */
+    private void filter() throws ContradictionException {
+        if (obj < 0) {
+            return;
+        }
+        // the relaxation maximizes the objective, or its opposite when minimizing
+        double z = lp.objective();
+        double limit;
+        if (maximize) {
+            vars[obj].updateUpperBound((int) Math.floor(z + EPS), this);
+            limit = vars[obj].getLB();
+        } else {
+            vars[obj].updateLowerBound((int) Math.ceil(-z - EPS), this);
+            limit = -vars[obj].getUB();
+        }
+        // any solution of interest has an objective value greater than 'limit'
+        double gap = z - limit;
+        for (int i = 0; i < vars.length; i++) {
+            double d = lp.reducedCost(i);
+            if (d < -EPS) {
+                double delta = Math.floor(gap / -d + EPS);
+                if (delta < ubs[i] - lbs[i]) {
+                    vars[i].updateUpperBound((int) (lbs[i] + delta), this);
+                }
+            } else if (d > EPS) {
+                double delta = Math.floor(gap / d + EPS);
+                if (delta < ubs[i] - lbs[i]) {
+                    vars[i].updateLowerBound((int) (ubs[i] - delta), this);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        // implied by the linear constraints
+        return isCompletelyInstantiated() ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    /**
+     * @return the linear relaxation maintained by this propagator
+     */
+    public LinearProgram getLinearProgram() {
+        return lp;
+    }
+
+    /**
+     * @return the number of resolutions of the linear relaxation
+     */
+    public long getNbSolves() {
+        return nbSolves;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCopier;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * A propagator for SUM(c_i*x_i) o b, where x_i are boolean variables and o is &le; or &ge;,
+ * maintained incrementally.
+ * <p>
+ * The constraint is normalized into SUM(a_i*l_i) &ge; d, where a_i &gt; 0 and l_i is either x_i or its negation,
+ * and the literals are sorted by non-increasing coefficient.
+ * The slack, that is SUM(a_i) over the literals not falsified minus d, is updated on each literal falsification.
+ * Any unassigned literal whose coefficient is greater than the slack is set to true.
+ * Since the slack only decreases along a branch, the literals are visited in coefficient order from a backtrackable
+ * position, up to the first one that fits in the slack:
+ * each literal assignment is then processed in amortized constant time.
+ * <p>
+ * See: "A Fast Pseudo-Boolean Constraint Solver", D. Chai and A. Kuehlmann, DAC 2003.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropPseudoBoolean extends Propagator<BoolVar> {
+
+    /**
+     * Number of literals
+     */
+    private final int n;
+    /**
+     * The coefficients of the normalized constraint, positive and in non-increasing order
+     */
+    private final int[] a;
+    /**
+     * The value that satisfies each literal
+     */
+    private final int[] sat;
+    /**
+     * The bound of the normalized constraint
+     */
+    private final int d;
+    /**
+     * Sum of the coefficients
+     */
+    private final int total;
+    /**
+     * Sum of the coefficients of the literals not falsified, minus <i>d</i>
+     */
+    private final IStateInt slack;
+    /**
+     * Sum of the coefficients of the satisfied literals
+     */
+    private final IStateInt satisfied;
+    /**
+     * Literals before this position are all assigned
+     */
+    private final IStateInt first;
+    /**
+     * Original coefficients (in the order of {@link #vars}), operator and bound, for the opposite constraint
+     */
+    protected final int[] c;
+    protected final Operator o;
+    protected final int b;
+
+    /**
+     * Creates a pseudo-boolean propagator: SUM(c_i*x_i) o b, where x_i are boolean variables.
+     *
+     * @param variables list of boolean variables
+     * @param coeffs    list of non-zero coefficients
+     * @param o         operator, either {@link Operator#LE} or {@link Operator#GE}
+     * @param b         bound to respect
+     */
+    public PropPseudoBoolean(BoolVar[] variables, int[] coeffs, Operator o, int b) {
+        super(sort(variables, coeffs), PropagatorPriority.LINEAR, true);
+        if (o != Operator.LE && o != Operator.GE) {
+            throw new SolverException("PropPseudoBoolean only deals with LE and GE operators");
+        }
+        this.n = vars.length;
+        this.c = new int[n];
+        this.a = new int[n];
+        this.sat = new int[n];
+        this.o = o;
+        this.b = b;
+        int[] order = order(coeffs);
+        // normalize to SUM(a_i*l_i) >= d
+        long dd = o == Operator.GE ? b : -(long) b;
+        long tt = 0;
+        for (int i = 0; i < n; i++) {
+            c[i] = coeffs[order[i]];
+            int k = o == Operator.GE ? c[i] : -c[i];
+            if (k > 0) {
+                a[i] = k;
+                sat[i] = 1;
+            } else {
+                // k.x = k - k.(1-x)
+                a[i] = -k;
+                sat[i] = 0;
+                dd -= k;
+            }
+            tt += a[i];
+        }
+        if (tt > Integer.MAX_VALUE || dd > Integer.MAX_VALUE || dd < Integer.MIN_VALUE) {
+            throw new SolverException("PropPseudoBoolean: sum of coefficients overflows");
+        }
+        this.d = (int) dd;
+        this.total = (int) tt;
+        this.slack = model.getEnvironment().makeInt(total - d);
+        this.satisfied = model.getEnvironment().makeInt(0);
+        this.first = model.getEnvironment().makeInt(0);
+    }
+
+    private static int[] order(int[] coeffs) {
+        return IntStream.range(0, coeffs.length).boxed()
+                .sorted(Comparator.comparingInt(i -> -Math.abs(coeffs[i])))
+                .mapToInt(i -> i).toArray();
+    }
+
+    private static BoolVar[] sort(BoolVar[] variables, int[] coeffs) {
+        if (variables.length != coeffs.length) {
+            throw new SolverException("PropPseudoBoolean variables and coefficients do not have same size");
+        }
+        return Arrays.stream(order(coeffs)).mapToObj(i -> variables[i]).toArray(BoolVar[]::new);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            int s = total - d;
+            int t = 0;
+            int falsified = -1;
+            for (int i = 0; i < n; i++) {
+                if (vars[i].isInstantiated()) {
+                    if (vars[i].getValue() == sat[i]) {
+                        t += a[i];
+                    } else {
+                        s -= a[i];
+                        falsified = i;
+                    }
+                }
+            }
+            slack.set(s);
+            satisfied.set(t);
+            first.set(0);
+            filter(falsified);
+        }
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (vars[idxVarInProp].getValue() == sat[idxVarInProp]) {
+            satisfied.add(a[idxVarInProp]);
+            if (satisfied.get() >= d) {
+                setPassive();
+            }
+        } else {
+            slack.add(-a[idxVarInProp]);
+            filter(idxVarInProp);
+        }
+    }
+
+    /**
+     * Set to true the unassigned literals whose coefficient is greater than the slack
+     *
+     * @param falsified a falsified literal, if any, -1 otherwise
+     */
+    private void filter(int falsified) throws ContradictionException {
+        int s = slack.get();
+        if (s < 0) {
+            // When explanations are on, no global failure allowed
+            if (model.getSolver().isLearnOff() || falsified == -1) {
+                fails();
+            }
+            vars[falsified].instantiateTo(sat[falsified], this);
+        }
+        int f = first.get();
+        if (f < n && a[f] > s) {
+            int t = 0;
+            do {
+                if (!vars[f].isInstantiated()) {
+                    vars[f].instantiateTo(sat[f], this);
+                    t += a[f];
+                }
+                f++;
+            } while (f < n && a[f] > s);
+            first.set(f);
+            satisfied.add(t);
+        }
+        if (satisfied.get() >= d) {
+            setPassive();
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        int s = total - d;
+        int t = 0;
+        for (int i = 0; i < n; i++) {
+            if (vars[i].isInstantiated()) {
+                if (vars[i].getValue() == sat[i]) {
+                    t += a[i];
+                } else {
+                    s -= a[i];
+                }
+            }
+        }
+        if (t >= d) {
+            return ESat.TRUE;
+        }
+        if (s < 0) {
+            return ESat.FALSE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    /**
+     * The pivot literal is explained by the falsified literals of greatest coefficients
+     * that leave, together with the pivot, less than <i>d</i> to the other literals.
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        IntVar pivot = explanation.readVar(p);
+        int avail = total;
+        int pi = -1;
+        for (int i = 0; i < n; i++) {
+            if (vars[i] == pivot) {
+                avail -= a[i];
+                pi = i;
+                break;
+            }
+        }
+        assert pi > -1 : pivot + " not declared in scope of " + this;
+        pivot.intersectLit(sat[pi], explanation);
+        for (int i = 0; i < n && avail >= d; i++) {
+            if (i != pi) {
+                IntIterableRangeSet dom = explanation.readDom(vars[i]);
+                if (dom.size() == 1 && dom.min() != sat[i]) {
+                    avail -= a[i];
+                    vars[i].unionLit(sat[i], explanation);
+                }
+            }
+        }
+        assert avail < d : "incomplete explanation of " + this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder linComb = new StringBuilder(20);
+        linComb.append(c[0]).append('.').append(vars[0].getName());
+        for (int i = 1; i < n; i++) {
+            linComb.append(c[i] < 0 ? " - " : " + ").append(Math.abs(c[i])).append('.').append(vars[i].getName());
+        }
+        linComb.append(" ").append(o).append(" ").append(b);
+        return linComb.toString();
+    }
+
+    /**
+     * @return a propagator for the opposite constraint
+     */
+    protected PropPseudoBoolean opposite() {
+        return new PropPseudoBoolean(vars, c, PropSum.nop(o), b + PropSum.nb(o));
+    }
+
+    @Override
+    public PropPseudoBoolean copy(ModelCopier copier) {
+        return new PropPseudoBoolean(copier.get(vars), c, o, b);
+    }
+}
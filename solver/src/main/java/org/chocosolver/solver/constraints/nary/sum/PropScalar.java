@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseBuilder;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -51,6 +52,11 @@ public class PropScalar extends PropSum {
     }
 
 
+    @Override
+    int coefficient(int i) {
+        return c[i];
+    }
+
     @Override
     protected void prepare() {
         sumLB = sumUB = 0;
@@ -489,4 +495,8 @@ public class PropScalar extends PropSum {
         return new PropScalar(vars, c, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public PropScalar copy(ModelCopier copier) {
+        return new PropScalar(copier.get(vars), c, pos, o, b);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -46,6 +47,11 @@ public class PropScalarWithLong extends PropSumWithLong {
     }
 
 
+    @Override
+    long coefficient(int i) {
+        return c[i];
+    }
+
     @Override
     protected void prepare() {
         sumLB = sumUB = 0;
@@ -318,4 +324,8 @@ public class PropScalarWithLong extends PropSumWithLong {
         return new PropScalarWithLong(vars, c, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public PropScalarWithLong copy(ModelCopier copier) {
+        return new PropScalarWithLong(copier.get(vars), c, pos, o, b);
+    }
 }
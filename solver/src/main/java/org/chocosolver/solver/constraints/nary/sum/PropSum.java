@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -118,6 +119,14 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable
+     * @return the coefficient of the <i>i</i>-th variable in the linear combination
+     */
+    int coefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         switch (o) {
@@ -705,4 +714,9 @@ public class PropSum extends Propagator<IntVar> {
     protected PropSum opposite(){
         return new PropSum(vars, pos, nop(o), b + nb(o));
     }
+
+    @Override
+    public PropSum copy(ModelCopier copier) {
+        return new PropSum(copier.get(vars), pos, o, b);
+    }
 }
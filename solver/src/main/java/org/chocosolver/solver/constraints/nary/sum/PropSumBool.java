@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -265,4 +266,13 @@ public class PropSumBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumBool(bvars, pos, nop(o), vars[vars.length - 1], b + nb(o), reactToFineEvt);
     }
+
+    @Override
+    public PropSumBool copy(ModelCopier copier) {
+        BoolVar[] bools = new BoolVar[vars.length - 1];
+        for (int i = 0; i < bools.length; i++) {
+            bools[i] = (BoolVar) copier.get(vars[i]);
+        }
+        return new PropSumBool(bools, pos, o, copier.get(sum), b);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -203,4 +204,13 @@ public class PropSumFullBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumFullBool(bvars, pos, nop(o), b + nb(o), reactToFineEvt);
     }
+
+    @Override
+    public PropSumFullBool copy(ModelCopier copier) {
+        BoolVar[] bools = new BoolVar[vars.length];
+        for (int i = 0; i < bools.length; i++) {
+            bools[i] = (BoolVar) copier.get(vars[i]);
+        }
+        return new PropSumFullBool(bools, pos, o, b);
+    }
 }
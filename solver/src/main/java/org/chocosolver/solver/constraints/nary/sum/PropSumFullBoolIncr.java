@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -133,4 +134,12 @@ public class PropSumFullBoolIncr extends PropSumFullBool {
         return new PropSumFullBoolIncr(bvars, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public PropSumFullBoolIncr copy(ModelCopier copier) {
+        BoolVar[] bools = new BoolVar[vars.length];
+        for (int i = 0; i < bools.length; i++) {
+            bools[i] = (BoolVar) copier.get(vars[i]);
+        }
+        return new PropSumFullBoolIncr(bools, pos, o, b);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -114,6 +115,14 @@ public class PropSumWithLong extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable
+     * @return the coefficient of the <i>i</i>-th variable in the linear combination
+     */
+    long coefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         switch (o) {
@@ -500,4 +509,9 @@ public class PropSumWithLong extends Propagator<IntVar> {
     protected PropSumWithLong opposite() {
         return new PropSumWithLong(vars, pos, nop(o), b + nb(o));
     }
+
+    @Override
+    public PropSumWithLong copy(ModelCopier copier) {
+        return new PropSumWithLong(copier.get(vars), pos, o, b);
+    }
 }
@@ -42,6 +42,9 @@ public class SumConstraint extends Constraint {
         if (propagators[0] instanceof PropSum) {
             PropSum me = (PropSum) propagators[0];
             return new SumConstraint(me.opposite());
+        } else if (propagators[0] instanceof PropPseudoBoolean) {
+            PropPseudoBoolean me = (PropPseudoBoolean) propagators[0];
+            return new SumConstraint(me.opposite());
         } else if (propagators[0] instanceof PropXplusYeqZ) {
             PropXplusYeqZ me = (PropXplusYeqZ) propagators[0];
             return new SumConstraint(new PropSum(
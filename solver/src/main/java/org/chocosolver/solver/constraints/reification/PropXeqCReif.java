@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -141,4 +142,9 @@ public class PropXeqCReif extends Propagator<IntVar> {
     public String toString() {
         return "(" + var.getName() + " = " + cste + ") <=> " + r.getName();
     }
+
+    @Override
+    public PropXeqCReif copy(ModelCopier copier) {
+        return new PropXeqCReif(copier.get(var), cste, copier.get(r));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -144,4 +145,8 @@ public class PropXinSReif extends Propagator<IntVar> {
         return "(" + var.getName() + " ∈ " + set + ") <=> " + r.getName();
     }
 
+    @Override
+    public PropXinSReif copy(ModelCopier copier) {
+        return new PropXinSReif(copier.get(var), set, copier.get(r));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -140,4 +141,9 @@ public class PropXltCReif extends Propagator<IntVar> {
     public String toString() {
         return "(" + var.getName() + " < " + cste + ") <=> " + r.getName();
     }
+
+    @Override
+    public PropXltCReif copy(ModelCopier copier) {
+        return new PropXltCReif(copier.get(var), cste, copier.get(r));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -192,4 +193,9 @@ public class PropXltYCReif extends Propagator<IntVar> {
     public String toString() {
         return "(" + vars[0].getName() + " < " + vars[1].getName() + " + " + cste + ") <=> " + vars[2].getName();
     }
+
+    @Override
+    public PropXltYCReif copy(ModelCopier copier) {
+        return new PropXltYCReif(copier.get(vars[0]), copier.get(vars[1]), cste, (BoolVar) copier.get(vars[2]));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -366,4 +367,8 @@ public class PropDivXYZ extends Propagator<IntVar> {
         return res;
     }
 
+    @Override
+    public PropDivXYZ copy(ModelCopier copier) {
+        return new PropDivXYZ(copier.get(X), copier.get(Y), copier.get(Z), copier.get(absX), copier.get(absY), copier.get(absZ));
+    }
 }
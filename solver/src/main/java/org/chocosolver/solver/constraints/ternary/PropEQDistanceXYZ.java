@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -54,4 +55,8 @@ public final class PropEQDistanceXYZ extends AbstractPropDistanceXYZ {
 		return "=";
 	}	
 
+	@Override
+	public PropEQDistanceXYZ copy(ModelCopier copier) {
+		return new PropEQDistanceXYZ(copier.get(vars));
+	}
 }
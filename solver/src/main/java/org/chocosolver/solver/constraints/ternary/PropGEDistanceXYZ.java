@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -47,4 +48,9 @@ public final class PropGEDistanceXYZ extends AbstractPropDistanceXYZ {
 	protected String getOperator() {
 		return ">=";
 	}
+
+	@Override
+	public PropGEDistanceXYZ copy(ModelCopier copier) {
+		return new PropGEDistanceXYZ(copier.get(vars));
+	}
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -48,4 +49,8 @@ public final class PropGTDistanceXYZ extends AbstractPropDistanceXYZ {
 		return ">";
 	}
 
+	@Override
+	public PropGTDistanceXYZ copy(ModelCopier copier) {
+		return new PropGTDistanceXYZ(copier.get(vars));
+	}
 }
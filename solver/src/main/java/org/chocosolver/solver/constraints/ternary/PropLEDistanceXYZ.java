@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -53,4 +54,9 @@ public final class PropLEDistanceXYZ extends AbstractPropDistanceXYZ {
 	protected String getOperator() {
 		return "<=";
 	}
+
+	@Override
+	public PropLEDistanceXYZ copy(ModelCopier copier) {
+		return new PropLEDistanceXYZ(copier.get(vars));
+	}
 }
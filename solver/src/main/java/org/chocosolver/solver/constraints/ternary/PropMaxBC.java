@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -89,4 +90,8 @@ public class PropMaxBC extends Propagator<IntVar> {
         return BST.toString() + ".MAX(" + v1.toString() + "," + v2.toString() + ")";
     }
 
+    @Override
+    public PropMaxBC copy(ModelCopier copier) {
+        return new PropMaxBC(copier.get(BST), copier.get(v1), copier.get(v2));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -90,4 +91,8 @@ public class PropMinBC extends Propagator<IntVar> {
         return BST.toString() + ".MIN(" + v1.toString() + "," + v2.toString() + ")";
     }
 
+    @Override
+    public PropMinBC copy(ModelCopier copier) {
+        return new PropMinBC(copier.get(BST), copier.get(v1), copier.get(v2));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -192,4 +193,8 @@ public class PropModXYZ extends Propagator<IntVar> {
         return x.getName() + " % " + y.getName() + " = " + z.getName();
     }
 
+    @Override
+    public PropModXYZ copy(ModelCopier copier) {
+        return new PropModXYZ(copier.get(x), copier.get(y), copier.get(z));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -102,5 +103,8 @@ public class PropTimesNaive extends Propagator<IntVar> {
         return var.updateLowerBound(min, this) | var.updateUpperBound(max, this);
     }
 
-
+    @Override
+    public PropTimesNaive copy(ModelCopier copier) {
+        return new PropTimesNaive(copier.get(v0), copier.get(v1), copier.get(v2));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -243,4 +244,9 @@ public class PropXplusYeqZ extends Propagator<IntVar> {
             Propagator.defaultExplain(this, p, explanation);
         }
     }
+
+    @Override
+    public PropXplusYeqZ copy(ModelCopier copier) {
+        return new PropXplusYeqZ(copier.get(vars[x]), copier.get(vars[y]), copier.get(vars[z]));
+    }
 }
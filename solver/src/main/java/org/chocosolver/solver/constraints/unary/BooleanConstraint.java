@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.unary;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -75,5 +76,10 @@ public class BooleanConstraint extends Constraint {
         public void explain(int p, ExplanationForSignedClause explanation) {
             // nothing to do
         }
+
+        @Override
+        public PropBoolean copy(ModelCopier copier) {
+            return new PropBoolean(copier.getCopy(), bool);
+        }
     }
 }
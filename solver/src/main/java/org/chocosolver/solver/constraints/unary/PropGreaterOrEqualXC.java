@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -84,4 +85,8 @@ public class PropGreaterOrEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " >= " + constant;
     }
 
+    @Override
+    public PropGreaterOrEqualXC copy(ModelCopier copier) {
+        return new PropGreaterOrEqualXC(copier.get(vars[0]), constant);
+    }
 }
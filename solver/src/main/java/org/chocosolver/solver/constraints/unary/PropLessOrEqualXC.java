@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -86,4 +87,8 @@ public class PropLessOrEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " <= " + constant;
     }
 
+    @Override
+    public PropLessOrEqualXC copy(ModelCopier copier) {
+        return new PropLessOrEqualXC(copier.get(vars[0]), constant);
+    }
 }
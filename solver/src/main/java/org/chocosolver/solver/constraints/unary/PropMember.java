@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.UpdatablePropagator;
@@ -113,4 +114,9 @@ public class PropMember extends Propagator<IntVar> implements UpdatablePropagato
     public IntIterableRangeSet getUpdatedValue() {
         return this.range.duplicate();
     }
+
+    @Override
+    public PropMember copy(ModelCopier copier) {
+        return new PropMember(copier.get(vars[0]), range, copier.getSource().getObjective() == vars[0]);
+    }
 }
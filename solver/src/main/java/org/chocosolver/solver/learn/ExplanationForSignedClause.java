@@ -27,7 +27,9 @@ import org.chocosolver.util.PoolManager;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 
 /**
  * An implementation of {@link IExplanation} dedicated to learn signed clauses
@@ -63,6 +65,14 @@ public class ExplanationForSignedClause extends IExplanation {
     private final Implications mIG;
 
     private final PoolManager<IntIterableRangeSet> manager;
+    /**
+     * For each decision level, the stamp of the last call to {@link #getLBD()} which met it
+     */
+    private int[] levelStamps = new int[16];
+    /**
+     * Stamp of the last call to {@link #getLBD()}
+     */
+    private int lbdStamp;
 
     public ExplanationForSignedClause(Implications ig) {
         front = new ValueSortedMap<>();
@@ -78,9 +88,40 @@ public class ExplanationForSignedClause extends IExplanation {
     public void extractConstraint(Model mModel, ClauseStore ngstore) {
         ClauseBuilder ngb = mModel.getClauseBuilder();
         literals.forEach(v -> ngb.put(v, v.getLit().export())); // TODO : improve
+        ngstore.setNextLBD(getLBD());
         ngb.buildNogood(mModel);
     }
 
+    /**
+     * Estimate the literal block distance of the signed clause inferred from the last conflict,
+     * that is, the number of distinct decision levels of its literals in the implication graph.
+     * Literals which are not in the conflicting nodes anymore are ignored.
+     *
+     * @return the literal block distance of the learnt signed clause
+     */
+    public int getLBD() {
+        if (lbdStamp == Integer.MAX_VALUE) {
+            Arrays.fill(levelStamps, 0);
+            lbdStamp = 0;
+        }
+        lbdStamp++;
+        int lbd = 0;
+        for (IntVar v : literals) {
+            int p = front.getValueOrDefault(v, -1);
+            if (p > -1) {
+                int dl = mIG.getDecisionLevelAt(p);
+                if (dl >= levelStamps.length) {
+                    levelStamps = Arrays.copyOf(levelStamps, Math.max(dl + 1, levelStamps.length * 2));
+                }
+                if (levelStamps[dl] != lbdStamp) {
+                    levelStamps[dl] = lbdStamp;
+                    lbd++;
+                }
+            }
+        }
+        return lbd;
+    }
+
     @Override
     public void recycle() {
         front.clear();
@@ -151,6 +192,7 @@ public class ExplanationForSignedClause extends IExplanation {
         if (XParameters.PROOF) System.out.print("<-----");
         initFront(cex);
         loop();
+        if (XParameters.MINIMIZE_CLAUSE) minimize();
         if (XParameters.PROOF) System.out.print(">\n");
     }
 
@@ -248,6 +290,38 @@ public class ExplanationForSignedClause extends IExplanation {
         }
     }
 
+    /**
+     * Remove from {@link #literals} the ones that are falsified at root node.
+     * For a literal <i>x &isin; S</i>, the domain of <i>x</i> at root node is read from the right-most
+     * node of <i>x</i> in {@link #front} by going left as long as the decision level is greater than 1.
+     * If it is disjoint from <i>S</i>, the literal can never be satisfied and can be safely removed.
+     * Nothing is done when the conflict analysis stops at root node.
+     * <p>
+     * Unlike in SAT, the recursive minimisation cannot be applied as is: a node may embed several events
+     * on the same variable and a literal is not a single value.
+     */
+    private void minimize() {
+        if (front.isEmpty() || mIG.getDecisionLevelAt(front.getLastValue()) <= 1) {
+            return;
+        }
+        Iterator<IntVar> it = literals.iterator();
+        while (it.hasNext()) {
+            IntVar var = it.next();
+            int p = front.getValueOrDefault(var, -1);
+            if (p > -1) {
+                while (mIG.getDecisionLevelAt(p) > 1) {
+                    p = mIG.getPredecessorOf(p);
+                }
+                if (var.getLit().disjoint(mIG.getDomainAt(p))) {
+                    if (XParameters.PROOF) System.out.printf("\nMinimize: %s \u2209 %s", var, var.getLit());
+                    var.flushLit();
+                    it.remove();
+                    front.remove(var);
+                }
+            }
+        }
+    }
+
     /**
      * Estimate if conflict analysis can stop:
      * <ul>
@@ -21,7 +21,6 @@ import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeS
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUtils;
 
 import java.util.Comparator;
-import java.util.HashMap;
 
 /**
  * This implication graph is lazily built.
@@ -116,9 +115,13 @@ public class LazyImplications extends Implications {
      */
     Entry[] entries;
     /**
-     * Pointer, per variable, to the root entry {@link #entries}
+     * Pointer, per variable, to the root entry {@link #entries}, indexed by variable id
      */
-    final HashMap<IntVar, Entry> rootEntries;
+    Entry[] rootEntries;
+    /**
+     * Number of root entries, they are stored first in {@link #entries}
+     */
+    private int nbRoots;
     /**
      * Number of entries stored -- backtrackable
      */
@@ -141,7 +144,7 @@ public class LazyImplications extends Implications {
         size = model.getEnvironment().makeInt(0);
         size._set(0, 0); // to force history manually -- required when created during the search
         entries = new Entry[16];
-        rootEntries = new HashMap<>(16, .5f);
+        rootEntries = new Entry[16];
         init(model);
     }
 
@@ -155,22 +158,25 @@ public class LazyImplications extends Implications {
             root.getD().copyFrom(var);
             root.d.lock();
             var.createLit(root.d);
-            rootEntries.put(var, root);
+            ensureRootCapacity(var.getId());
+            rootEntries[var.getId()] = root;
             nbEntries++;
+            nbRoots++;
         }
         size.set(nbEntries);
     }
 
     @Override
     public void reset(){
-        synchronize(rootEntries.size());
+        synchronize(nbRoots);
     }
 
     /**
      * @return <i>true</i> if links between nodes in this graph are correct
      */
     private boolean checkIntegrity() {
-        for (Entry r : rootEntries.values()) {
+        for (int i = 0; i < nbRoots; i++) {
+            Entry r = entries[i];
             int dec = nbEntries;
             Entry prev = entries[r.p];
             if(prev.i > dec) return false;
@@ -191,7 +197,7 @@ public class LazyImplications extends Implications {
         for (int p = upto; p < nbEntries; p++) {
             Entry e = entries[p];
             e.getD().unlock();
-            Entry root = rootEntries.get(e.v);
+            Entry root = rootOf(e.v);
             if (root.p >= upto) {
                 root.setPrev(e.p);
             }
@@ -208,7 +214,7 @@ public class LazyImplications extends Implications {
     @Override
     public void undoLastEvent() {
         Entry toUndo = entries[--nbEntries];
-        rootEntries.get(toUndo.v).p = toUndo.p;
+        rootOf(toUndo.v).p = toUndo.p;
     }
 
     /**
@@ -224,6 +230,27 @@ public class LazyImplications extends Implications {
         }
     }
 
+    /**
+     * Make sure that a root entry can be stored for a variable whose id is <i>id</i>
+     */
+    private void ensureRootCapacity(int id) {
+        if (id >= rootEntries.length) {
+            int newCapacity = Math.max(id + 1, rootEntries.length + (rootEntries.length >> 1));
+            Entry[] rootBigger = new Entry[newCapacity];
+            System.arraycopy(rootEntries, 0, rootBigger, 0, rootEntries.length);
+            rootEntries = rootBigger;
+        }
+    }
+
+    /**
+     * @param var a variable
+     * @return the root entry of <i>var</i>, or <i>null</i> if <i>var</i> is unknown
+     */
+    private Entry rootOf(IntVar var) {
+        int id = var.getId();
+        return id < rootEntries.length ? rootEntries[id] : null;
+    }
+
     /**
      * Return <i>true</i> if two entries, based on the same variable, can be merged.
      * It depends on {@link XParameters#MERGE_CONDITIONS} which can be set to:
@@ -369,7 +396,7 @@ public class LazyImplications extends Implications {
         if (nbEntries != size_) {
             synchronize(size_);
         }
-        Entry root = rootEntries.get(var);
+        Entry root = rootOf(var);
         if (root == null) {
             throw new Error("Unknown variable. This happens when a constraint is added after the call to `solver.setLearningClause();`");
         }
@@ -394,7 +421,7 @@ public class LazyImplications extends Implications {
      */
     int rightmostNode(int limit, IntVar var) {
         if(var.isBool()){
-            Entry root = rootEntries.get(var);
+            Entry root = rootOf(var);
             int ri = root.i;
             assert ri < limit :"impossible right-most search";
             // consider the case where the variable failed
@@ -408,7 +435,7 @@ public class LazyImplications extends Implications {
             int pos = limit - 1;
             // 2. reverse-iteration over nodes of var, starting from 'root.p'
             // (presumably far away from limit)
-            int prev = rootEntries.get(var).p;
+            int prev = rootOf(var).p;
             while (pos > 0 && entries[pos].v != var && prev > limit) {
                 pos--;
                 prev = entries[prev].p;
@@ -425,12 +452,12 @@ public class LazyImplications extends Implications {
     @Override
     public void collectNodesFromConflict(ContradictionException cft, ValueSortedMap<IntVar> front) {
         if (cft.v != null) {
-            Entry root = rootEntries.get(cft.v);
+            Entry root = rootOf((IntVar) cft.v);
             assert entries[root.p].c == cft.c;
             front.put((IntVar) cft.v, root.p);
         } else {
             cft.c.forEachIntVar(v -> {
-                Entry root = rootEntries.get(v);
+                Entry root = rootOf(v);
                 front.put(root.v, root.p);
             });
         }
@@ -506,12 +533,12 @@ public class LazyImplications extends Implications {
 
     @Override
     public IntIterableRangeSet getRootDomain(IntVar var) {
-        return rootEntries.get(var).d;
+        return rootOf(var).d;
     }
 
     @Override
     public void copyComplementSet(IntVar var, IntIterableRangeSet set, IntIterableRangeSet dest) {
-        dest.copyFrom(rootEntries.get(var).d);
+        dest.copyFrom(rootOf(var).d);
         dest.removeAll(set);
     }
 }
@@ -71,6 +71,11 @@ public class XParameters {
      * When set to <i>true</i>, print the learnt clause
      */
     public static boolean PRINT_CLAUSE = false;
+    /**
+     * When set to <i>true</i>, remove from the learnt clause the literals which are already falsified
+     * at root node.
+     */
+    public static boolean MINIMIZE_CLAUSE = true;
     /**
      * When set to <i>true</i>, store signed clauses in a unique structure driven by an interval tree.
      * Otherwise, each clause is turned into a constraint.
@@ -0,0 +1,32 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+
+/**
+ * Domain reductions computed by {@link Propagator#prepareFiltering()} and buffered until they are applied.
+ * <br/>
+ *
+ * @author agent
+ * @see ParallelPropagationEngine
+ * @since 18/10/2026
+ */
+@FunctionalInterface
+public interface DomainReductions {
+
+    /**
+     * Apply the reductions to the domains of the variables
+     *
+     * @throws ContradictionException if a domain becomes empty
+     */
+    void apply() throws ContradictionException;
+}
@@ -0,0 +1,254 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Priority;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.solver.variables.view.IView;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * An experimental propagation engine which runs expensive propagators concurrently.
+ * <br/>
+ * When a parallelizable propagator (see {@link Propagator#isParallelizable()}) of high priority is about to be executed,
+ * the other scheduled parallelizable propagators of high priority whose scopes are disjoint from it are removed
+ * from the queues too.
+ * The first step of their filtering, {@link Propagator#prepareFiltering()}, which does not modify the model,
+ * is then run on a pool of workers.
+ * Once all of them are done, the buffered domain reductions are applied one after the other,
+ * in the order the propagators were scheduled, so that the propagation remains deterministic.
+ * <p>
+ * Two scopes are disjoint when they do not share an uninstantiated variable, views being replaced by the variables they observe.
+ * Otherwise, this engine behaves like {@link PropagationEngine}.
+ * <p>
+ * The pool is either created by the engine, and shut down on {@link #close()},
+ * or shared among engines, and then managed by the caller.
+ * The solver closes its engine when it is replaced (see {@link org.chocosolver.solver.Solver#setEngine(PropagationEngine)}).
+ * Once closed, the engine runs all the propagators sequentially.
+ * <pre> {@code
+ * Solver solver = model.getSolver();
+ * solver.setEngine(new ParallelPropagationEngine(model, 4));
+ * }</pre>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ParallelPropagationEngine extends PropagationEngine {
+
+    /**
+     * The workers
+     */
+    private final ForkJoinPool pool;
+    /**
+     * Set to <i>true</i> when {@link #pool} was created by this engine, and is to be shut down by {@link #close()}
+     */
+    private final boolean ownsPool;
+    /**
+     * Smallest priority of a propagator to be run concurrently
+     */
+    private final int from;
+    /**
+     * The propagators run concurrently
+     */
+    private final List<Propagator<?>> batch;
+    /**
+     * Identifiers of the variables in the scopes of the propagators in {@link #batch}
+     */
+    private final BitSet scopes;
+    /**
+     * Identifiers of the variables in the scope of the propagator being claimed
+     */
+    private final BitSet ids;
+    /**
+     * Number of batches of propagators run concurrently
+     */
+    private long nbBatches;
+    /**
+     * Number of propagators run concurrently
+     */
+    private long nbParallelExecutions;
+
+    /**
+     * A parallel propagation engine, where propagators of priority {@link PropagatorPriority#QUADRATIC} or higher
+     * can be run concurrently, like the cost flow propagator.
+     *
+     * @param model     the declaring model
+     * @param nbWorkers number of workers
+     */
+    public ParallelPropagationEngine(Model model, int nbWorkers) {
+        this(model, nbWorkers, PropagatorPriority.QUADRATIC);
+    }
+
+    /**
+     * A parallel propagation engine.
+     *
+     * @param model     the declaring model
+     * @param nbWorkers number of workers
+     * @param from      smallest priority of a propagator to be run concurrently
+     */
+    public ParallelPropagationEngine(Model model, int nbWorkers, Priority from) {
+        this(model, makePool(nbWorkers), true, from);
+    }
+
+    /**
+     * A parallel propagation engine relying on a shared pool of workers.
+     * The pool is not shut down by {@link #close()}.
+     *
+     * @param model the declaring model
+     * @param pool  the pool of workers
+     * @param from  smallest priority of a propagator to be run concurrently
+     */
+    public ParallelPropagationEngine(Model model, ForkJoinPool pool, Priority from) {
+        this(model, pool, false, from);
+    }
+
+    private ParallelPropagationEngine(Model model, ForkJoinPool pool, boolean ownsPool, Priority from) {
+        super(model);
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.from = from.getValue();
+        this.batch = new ArrayList<>();
+        this.scopes = new BitSet();
+        this.ids = new BitSet();
+    }
+
+    private static ForkJoinPool makePool(int nbWorkers) {
+        if (nbWorkers < 1) {
+            throw new SolverException("The number of workers of a ParallelPropagationEngine must be positive");
+        }
+        return new ForkJoinPool(nbWorkers);
+    }
+
+    /**
+     * Shut down the pool of workers, if it was created by this engine.
+     * The propagators are then run sequentially.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    protected void propagateEvents() throws ContradictionException {
+        if (!eligible(lastProp)) {
+            super.propagateEvents();
+            return;
+        }
+        batch.clear();
+        scopes.clear();
+        claim(lastProp);
+        batch.add(lastProp);
+        pollScheduled(from, p -> eligible(p) && claim(p), batch);
+        if (batch.size() == 1) {
+            super.propagateEvents();
+            return;
+        }
+        nbBatches++;
+        nbParallelExecutions += batch.size();
+        List<Callable<DomainReductions>> tasks = new ArrayList<>(batch.size());
+        for (Propagator<?> p : batch) {
+            // pending fine events are subsumed by a full propagation
+            p.doFlush();
+            tasks.add(p::prepareFiltering);
+        }
+        List<Future<DomainReductions>> reductions = pool.invokeAll(tasks);
+        // barrier: apply the reductions in scheduling order
+        for (int i = 0; i < batch.size(); i++) {
+            lastProp = batch.get(i);
+            DomainReductions r = get(reductions.get(i));
+            if (r == null) {
+                lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            } else {
+                r.apply();
+            }
+        }
+    }
+
+    private boolean eligible(Propagator<?> p) {
+        return p.getPriority().getValue() >= from && p.isParallelizable() && p.isActive() && !pool.isShutdown();
+    }
+
+    /**
+     * Add the scope of <i>p</i> to {@link #scopes} if it is disjoint from it.
+     *
+     * @return <i>true</i> if the scope of <i>p</i> was disjoint from the ones in {@link #batch}
+     */
+    private boolean claim(Propagator<?> p) {
+        ids.clear();
+        for (int i = 0; i < p.getNbVars(); i++) {
+            if (!collect(p.getVar(i))) {
+                return false;
+            }
+        }
+        scopes.or(ids);
+        return true;
+    }
+
+    private boolean collect(Variable var) {
+        if (var.isInstantiated()) {
+            return true;
+        }
+        if ((var.getTypeAndKind() & Variable.VIEW) != 0) {
+            for (Variable v : ((IView<?>) var).getVariables()) {
+                if (!collect(v)) {
+                    return false;
+                }
+            }
+        }
+        if (scopes.get(var.getId())) {
+            return false;
+        }
+        ids.set(var.getId());
+        return true;
+    }
+
+    private static DomainReductions get(Future<DomainReductions> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException("A propagator failed to prepare its filtering: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("Interrupted while waiting for propagators to prepare their filtering");
+        }
+    }
+
+    /**
+     * @return the number of batches of propagators run concurrently
+     */
+    public long getBatchCount() {
+        return nbBatches;
+    }
+
+    /**
+     * @return the number of propagator executions run concurrently
+     */
+    public long getParallelExecutionCount() {
+        return nbParallelExecutions;
+    }
+}
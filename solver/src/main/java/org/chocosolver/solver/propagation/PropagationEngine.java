@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * This engine is priority-driven constraint-oriented seven queues engine.
@@ -101,6 +102,11 @@ public class PropagationEngine {
         }
     };
 
+    /**
+     * Number of events not forwarded to the idempotent propagator that generated them
+     */
+    private long skippedSelfEvents;
+
     /**
      * A propagation insight to collect information about the propagation
      */
@@ -275,6 +281,34 @@ public class PropagationEngine {
         }
     }
 
+    /**
+     * Remove from the queues the scheduled propagators accepted by <i>filter</i>,
+     * among those whose priority is at least <i>from</i>.
+     * They are removed in the order they would have been executed and added to <i>out</i>.
+     *
+     * @param from   smallest priority to consider
+     * @param filter condition to satisfy to be removed
+     * @param out    list to which removed propagators are added
+     */
+    protected void pollScheduled(int from, Predicate<Propagator<?>> filter, List<Propagator<?>> out) {
+        for (int i = from; i < pro_queue.length; i++) {
+            CircularQueue<Propagator<?>> queue = pro_queue[i];
+            for (int j = 0; j < queue.size(); ) {
+                Propagator<?> prop = queue.get(j);
+                if (filter.test(prop)) {
+                    queue.remove(j);
+                    prop.unschedule();
+                    out.add(prop);
+                } else {
+                    j++;
+                }
+            }
+            if (queue.isEmpty()) {
+                notEmpty &= ~(1 << i);
+            }
+        }
+    }
+
     private int nextNotEmpty() {
         if (notEmpty == 0) return -1;
         return Integer.numberOfTrailingZeros(notEmpty);
@@ -320,7 +354,10 @@ public class PropagationEngine {
         }
         if(Propagator.class.isAssignableFrom(cause.getClass())) {
         	var p = (Propagator)cause;
-        	p.getConstraint().incEffectiveFiltering();
+        	// learnt signed clauses are not attached to a constraint
+        	if (p.getConstraint() != null) {
+        		p.getConstraint().incEffectiveFiltering();
+        	}
         }
         insight.modifiy(variable);
         if (!variable.isScheduled()) {
@@ -335,6 +372,24 @@ public class PropagationEngine {
         notEmpty |= (1 << prop.doSchedule(pro_queue));
     }
 
+    /**
+     * Action to do when an event is not forwarded to <i>prop</i> since <i>prop</i> generated it
+     * and is idempotent (see {@link Propagator#isIdempotent()}).
+     *
+     * @param prop the idempotent propagator at the origin of the event
+     */
+    public void onSkippedSelfEvent(Propagator<?> prop) {
+        skippedSelfEvents++;
+    }
+
+    /**
+     * @return the number of events that were not forwarded to the idempotent propagator that generated them,
+     * each of them being a potential propagator execution saved
+     */
+    public long getSkippedSelfEventCount() {
+        return skippedSelfEvents;
+    }
+
     /**
      * Exeucte a delayed propagator
      *
@@ -388,6 +443,15 @@ public class PropagationEngine {
     public void reset() {
         flush();
         clear();
+        skippedSelfEvents = 0;
+    }
+
+    /**
+     * Release the resources held by this engine, if any.
+     * Called by the solver when this engine is replaced by another one.
+     */
+    public void close() {
+        // nothing to release by default
     }
 
     /**
@@ -31,6 +31,14 @@ public class PropagationEngineObserver extends PropagationEngine {
      * The observer to notify
      */
     private final PropagationObserver observer;
+    /**
+     * One propagator call out of <i>period</i> is timed, none if 0
+     */
+    private final int period;
+    /**
+     * Number of propagator calls before the next timed one
+     */
+    private int countdown;
 
     /**
      * A propagation engine profiler.
@@ -41,6 +49,15 @@ public class PropagationEngineObserver extends PropagationEngine {
     public PropagationEngineObserver(Model model, PropagationObserver observer) {
         super(model);
         this.observer = observer;
+        this.period = observer.getTimeSamplingPeriod();
+        this.countdown = period;
+    }
+
+    /**
+     * @return the observer notified by this engine
+     */
+    public PropagationObserver getObserver() {
+        return observer;
     }
 
     /**
@@ -59,6 +76,20 @@ public class PropagationEngineObserver extends PropagationEngine {
      */
     @Override
     protected void propagateEvents() throws ContradictionException {
+        if (period > 0 && --countdown == 0) {
+            countdown = period;
+            long start = System.nanoTime();
+            try {
+                observePropagateEvents();
+            } finally {
+                observer.onPropagationTime(lastProp, System.nanoTime() - start);
+            }
+        } else {
+            observePropagateEvents();
+        }
+    }
+
+    private void observePropagateEvents() throws ContradictionException {
         try {
             //lastProp
             if (lastProp.reactToFineEvent()) {
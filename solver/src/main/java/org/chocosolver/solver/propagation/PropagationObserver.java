@@ -22,6 +22,7 @@ import org.chocosolver.solver.variables.events.IEventType;
  * @author Charles Prud'homme
  * @see Solver#profilePropagation()
  * @see PropagationProfiler
+ * @see PropagationTimer
  * @since 13/10/2021
  */
 public interface PropagationObserver {
@@ -66,4 +67,25 @@ public interface PropagationObserver {
      * @param cause the cause of the filtering
      */
     void onVariableModification(Variable variable, IEventType type, ICause cause);
+
+    /**
+     * Indicates how often the propagation time should be measured:
+     * one propagator call out of <i>n</i> is timed, where <i>n</i> is the returned value.
+     *
+     * @return the sampling period of propagation time, 0 (default) if it should not be measured.
+     * @see #onPropagationTime(Propagator, long)
+     */
+    default int getTimeSamplingPeriod() {
+        return 0;
+    }
+
+    /**
+     * Anytime a timed propagator call ends, normally or on a failure, this method is called after.
+     *
+     * @param propagator the propagator that was called
+     * @param nanos      the duration of the call, in nanoseconds
+     * @see #getTimeSamplingPeriod()
+     */
+    default void onPropagationTime(Propagator<?> propagator, long nanos) {
+    }
 }
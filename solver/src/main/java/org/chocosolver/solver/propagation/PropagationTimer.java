@@ -0,0 +1,315 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Priority;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.TimeHistogram;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * This class observes a {@link PropagationEngine} in order to measure the time spent in propagators.
+ * <br/>
+ * One propagator call out of <i>period</i> is timed with {@link System#nanoTime()},
+ * and the durations are aggregated in {@link TimeHistogram}s per propagator,
+ * per propagator priority and per constraint name.
+ * Measuring one call out of a few keeps the overhead low on models with many cheap propagators.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropagationTimer implements PropagationObserver {
+
+    private final Model model;
+    private final int period;
+    private final TimeHistogram all;
+    private final HashMap<Propagator<?>, TimeHistogram> byPropagator;
+    private final HashMap<Priority, TimeHistogram> byPriority;
+    private final HashMap<String, TimeHistogram> byConstraint;
+
+    /**
+     * A propagation timer.
+     *
+     * @param model  the declaring model
+     * @param period one propagator call out of <i>period</i> is timed
+     */
+    public PropagationTimer(Model model, int period) {
+        if (period < 1) {
+            throw new SolverException("The sampling period of a PropagationTimer must be positive");
+        }
+        this.model = model;
+        this.period = period;
+        this.all = new TimeHistogram();
+        this.byPropagator = new HashMap<>();
+        this.byPriority = new HashMap<>();
+        this.byConstraint = new HashMap<>();
+    }
+
+    @Override
+    public int getTimeSamplingPeriod() {
+        return period;
+    }
+
+    @Override
+    public void onPropagationTime(Propagator<?> propagator, long nanos) {
+        all.record(nanos);
+        byPropagator.computeIfAbsent(propagator, k -> new TimeHistogram()).record(nanos);
+        byPriority.computeIfAbsent(propagator.getPriority(), k -> new TimeHistogram()).record(nanos);
+        byConstraint.computeIfAbsent(nameOf(propagator), k -> new TimeHistogram()).record(nanos);
+    }
+
+    private static String nameOf(Propagator<?> propagator) {
+        Constraint c = propagator.getConstraint();
+        return c == null ? propagator.getClass().getSimpleName() : c.getName();
+    }
+
+    @Override
+    public void onCoarseEvent(Propagator<?> propagator) {
+    }
+
+    @Override
+    public void onFineEvent(Propagator<?> propagator) {
+    }
+
+    @Override
+    public void onFailure(ICause cause, Propagator<?> propagator) {
+    }
+
+    @Override
+    public void onFiltering(ICause cause, Propagator<?> propagator) {
+    }
+
+    @Override
+    public void onVariableModification(Variable variable, IEventType type, ICause cause) {
+    }
+
+    /**
+     * @return the sampling period, one propagator call out of <i>period</i> is timed
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return the histogram of all timed propagator calls
+     */
+    public TimeHistogram getHistogram() {
+        return all;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the histogram of the timed calls to <i>propagator</i>, empty if none
+     */
+    public TimeHistogram getHistogram(Propagator<?> propagator) {
+        return byPropagator.getOrDefault(propagator, new TimeHistogram());
+    }
+
+    /**
+     * @return the histograms of the timed propagator calls, per propagator priority
+     */
+    public Map<Priority, TimeHistogram> getHistogramsPerPriority() {
+        return Collections.unmodifiableMap(byPriority);
+    }
+
+    /**
+     * @return the histograms of the timed propagator calls, per constraint name
+     */
+    public Map<String, TimeHistogram> getHistogramsPerConstraint() {
+        return Collections.unmodifiableMap(byConstraint);
+    }
+
+    /**
+     * Forget all measures
+     */
+    public void clear() {
+        all.clear();
+        byPropagator.clear();
+        byPriority.clear();
+        byConstraint.clear();
+    }
+
+    /**
+     * @return a summary of the measures in a single line
+     */
+    public String toOneLineString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Propagation time (1/%d calls): %d calls, %.3fs estimated",
+                period, all.getCount(), all.getTotal() * period / 1e9));
+        sortedPriorities().forEach(p -> sb.append(String.format(", %s: %.1f%%",
+                p, byPriority.get(p).getTotal() * 100d / Math.max(1, all.getTotal()))));
+        return sb.toString();
+    }
+
+    private List<Priority> sortedPriorities() {
+        List<Priority> priorities = new ArrayList<>(byPriority.keySet());
+        priorities.sort(Comparator.comparingInt(Priority::getValue));
+        return priorities;
+    }
+
+    private List<String> sortedConstraints() {
+        List<String> names = new ArrayList<>(byConstraint.keySet());
+        names.sort(Comparator.comparingLong((String n) -> byConstraint.get(n).getTotal()).reversed());
+        return names;
+    }
+
+    private Propagator<?>[] propagators() {
+        return Stream.of(model.getCstrs()).flatMap(c -> Stream.of(c.getPropagators())).toArray(Propagator[]::new);
+    }
+
+    /**
+     * Write the measures to the file.
+     * It constructs a {@code FileWriter} given the {@code File} to write,
+     * then creates a new {@code PrintWriter}.
+     *
+     * @param file output file
+     * @throws IOException if the file exists but is a directory rather than a regular file,
+     *                     does not exist but cannot be created, or cannot be opened for any other reason
+     */
+    public void writeTo(File file) throws IOException {
+        FileWriter fileWriter = new FileWriter(file);
+        PrintWriter writer = new PrintWriter(fileWriter);
+        writeTo(writer);
+        writer.close();
+    }
+
+    /**
+     * <p>Write the measures to the print writer, times are given in nanoseconds.
+     * <code>writer</code> is not closed at the end of the call.
+     * </p>
+     * <pre> {@code
+     * PropagationTimer timer = solver.timePropagation(10);
+     * solver.findAllSolutions();
+     * PrintWriter pw = new PrintWriter(System.out);
+     * timer.writeTo(pw);
+     * pw.flush();
+     * }</pre>
+     *
+     * @param writer a print writer
+     */
+    public void writeTo(PrintWriter writer) {
+        writer.printf("Propagation time, one call out of %d is timed%n" +
+                " \n" +
+                "* calls   : number of timed calls\n" +
+                "* total   : sum of the timed calls\n" +
+                "* mean    : mean of the timed calls\n" +
+                "* p50     : median of the timed calls\n" +
+                "* p99     : 99th percentile of the timed calls\n" +
+                "* max     : longest timed call\n" +
+                " \n", period);
+        writer.println("Per priority\n" +
+                " \n" +
+                " priority        calls         total        mean       p50       p99       max");
+        for (Priority p : sortedPriorities()) {
+            writer.println(format(String.format(" %-12s", p), byPriority.get(p)));
+        }
+        writer.println(format(String.format(" %-12s", "Total"), all));
+        writer.println();
+        writer.println("Per constraint\n" +
+                " \n" +
+                " name            calls         total        mean       p50       p99       max");
+        for (String n : sortedConstraints()) {
+            writer.println(format(String.format(" %-12s", n), byConstraint.get(n)));
+        }
+        writer.println();
+        writer.println("Per propagator\n" +
+                " \n" +
+                " id              calls         total        mean       p50       p99       max  name");
+        Propagator<?>[] propagators = propagators();
+        for (int i = 0; i < propagators.length; i++) {
+            TimeHistogram h = byPropagator.get(propagators[i]);
+            if (h != null) {
+                writer.printf("%s  \"%s\"%n", format(String.format(" %-12d", i), h), propagators[i]);
+            }
+        }
+        writer.println();
+    }
+
+    private static String format(String head, TimeHistogram h) {
+        return String.format("%s %9d %13d %11.1f %9d %9d %9d", head, h.getCount(), h.getTotal(), h.getMean(),
+                h.getValueAtPercentile(50), h.getValueAtPercentile(99), h.getMax());
+    }
+
+    /**
+     * Return the measures as a JSON object, times are given in nanoseconds.
+     *
+     * @return a JSON object
+     */
+    public String toJSON() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"period\":").append(period);
+        sb.append(",\"all\":");
+        json(sb, all);
+        sb.append(",\"priorities\":{");
+        for (Priority p : sortedPriorities()) {
+            sb.append("\"").append(p).append("\":");
+            json(sb, byPriority.get(p));
+            sb.append(",");
+        }
+        close(sb, '}');
+        sb.append(",\"constraints\":{");
+        for (String n : sortedConstraints()) {
+            sb.append("\"").append(escape(n)).append("\":");
+            json(sb, byConstraint.get(n));
+            sb.append(",");
+        }
+        close(sb, '}');
+        sb.append(",\"propagators\":[");
+        Propagator<?>[] propagators = propagators();
+        for (int i = 0; i < propagators.length; i++) {
+            TimeHistogram h = byPropagator.get(propagators[i]);
+            if (h != null) {
+                sb.append("{\"id\":").append(i)
+                        .append(",\"name\":\"").append(escape(propagators[i].toString())).append("\"")
+                        .append(",\"time\":");
+                json(sb, h);
+                sb.append("},");
+            }
+        }
+        close(sb, ']');
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private static void json(StringBuilder sb, TimeHistogram h) {
+        sb.append("{\"calls\":").append(h.getCount())
+                .append(",\"total\":").append(h.getTotal())
+                .append(",\"min\":").append(h.getMin())
+                .append(",\"p50\":").append(h.getValueAtPercentile(50))
+                .append(",\"p90\":").append(h.getValueAtPercentile(90))
+                .append(",\"p99\":").append(h.getValueAtPercentile(99))
+                .append(",\"max\":").append(h.getMax())
+                .append("}");
+    }
+
+    private static void close(StringBuilder sb, char c) {
+        if (sb.charAt(sb.length() - 1) == ',') {
+            sb.setCharAt(sb.length() - 1, c);
+        } else {
+            sb.append(c);
+        }
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -10,8 +10,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.TObjectDoubleMap;
-import gnu.trove.map.hash.TObjectDoubleHashMap;
+import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Solver;
@@ -22,15 +21,21 @@ import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.variables.IVariableMonitor;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.IntHeap;
 
-import java.util.*;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
-import java.util.stream.Collectors;
+import java.util.function.IntToDoubleFunction;
 
 /**
  * <p>
  * Project: choco.
+ * <p>
+ * Failure data are stored in arrays indexed by propagator ID and by variable ID.
+ * When the score of a variable only depends on its own weight and domain
+ * (see {@link #incremental()}), uninstantiated variables are kept in a heap,
+ * updated on domain modifications and restored upon backtrack,
+ * so that selecting a variable does not require to scan all of them.
  *
  * @author Charles Prud'homme
  * @since 26/02/2020.
@@ -39,35 +44,39 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
         IVariableMonitor<V>, IMonitorContradiction, IMonitorRestart {
 
     /**
-     * An element helps to keep 2 things up to date:
+     * An element helps to keep 3 things up to date:
      * 1. failure counter (for DOMWDEG and DOMWDEG_REFINED) or failure history (for CHS)
      * 2. watched literals of non instantiated variables
+     * 3. refined weights, for DOMWDEG_REFINED and CHS
      */
     static class Element {
         int[] ws;
+        double[] weights;
 
         public Element(int count, int w0, int w1) {
             this.ws = new int[]{w0, w1, count};
         }
-    }
 
-    private final BiFunction<Propagator<?>, double[], double[]> remapWeights =
-            (p, w) -> {
-                if (w == null) {
-                    // if absent
-                    w = new double[p.getNbVars()];
-                } else if (w.length < p.getNbVars()) {
-                    // may happen propagators (like PropSat) with dynamic variable addition
-                    w = Arrays.copyOf(w, p.getNbVars());
-                }
-                return w;
-            };
+        /**
+         * @param n number of variables of the propagator
+         * @return the refined weights, extended to <i>n</i> if needed
+         */
+        double[] weights(int n) {
+            if (weights == null) {
+                weights = new double[n];
+            } else if (weights.length < n) {
+                // may happen propagators (like PropSat) with dynamic variable addition
+                weights = Arrays.copyOf(weights, n);
+            }
+            return weights;
+        }
+    }
 
     protected static final int FLUSH_TOPS = 20;
     protected static final double FLUSH_RATIO = .9 * FLUSH_TOPS;
     protected int flushThs;
 
-    protected final HashSet<Object> tops = new HashSet<>();
+    protected final TIntHashSet tops = new TIntHashSet();
     protected int loop = 0;
 
     /**
@@ -95,26 +104,79 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     int conflicts = 0;
     /**
-     * Stores for each propagator, its {@link Element}.
+     * Stores for each propagator, indexed by its ID, its {@link Element}.
+     */
+    Element[] failCount = new Element[0];
+    /**
+     * Required to store for each variable, indexed by its ID,
+     * the number of watchers (ie, propagator and futvars)
+     */
+    private int[] observed = new int[0];
+    /**
+     * Scoring for each variable, indexed by its ID, is updated dynamically.
+     */
+    double[] weights = new double[0];
+    /**
+     * IDs of the variables with a score, in order of appearance
+     */
+    final TIntArrayList weighted = new TIntArrayList();
+    /**
+     * Set to <i>true</i> for the variables in {@link #weighted}, indexed by their ID.
+     */
+    private boolean[] hasWeight = new boolean[0];
+
+    /**
+     * The decision variables the heap refers to, {@code null} if the heap is not built.
+     * As for a scan, instantiated variables are moved after {@link #last}.
+     */
+    private V[] heapVars;
+    /**
+     * Set to <i>true</i> when decision variables cannot be stored in a heap (eg, some appear twice)
+     */
+    private boolean scanOnly;
+    /**
+     * Slot of each decision variable, indexed by its ID, -1 if absent.
+     * The slot of a variable is its position in {@link #heapVars} when the heap was built.
+     */
+    private int[] slots = new int[0];
+    /**
+     * Decision variables, indexed by their slot
+     */
+    private V[] slotVars;
+    /**
+     * Current position in {@link #heapVars} of each slot
      */
-    final HashMap<Propagator<?>, Element> failCount = new HashMap<>();
+    private int[] at;
     /**
-     * Required to store for each variable the number of watchers (ie, propagator and futvars)
+     * Score of each variable in the heap, indexed by its slot
      */
-    private final HashMap<Variable, Integer> observed = new HashMap<>();
+    private double[] scores;
     /**
-     * Scoring for each variable, is updated dynamically.
+     * Last time stamp a variable, indexed by its slot, was modified
      */
-    final TObjectDoubleMap<Variable> weights = new TObjectDoubleHashMap<>(15, 1.5f, 0.);
+    private int[] stamps;
     /**
-     * Refined weights,
-     * for DOMWDEG_REFINED and CHS
+     * Slots of the variables whose score has to be updated in the heap
      */
-    final HashMap<Propagator<?>, double[]> refinedWeights = new HashMap<>();
-    static final double[] rw = {0.};
+    private final TIntArrayList dirty = new TIntArrayList();
+    private boolean[] isDirty;
+    /**
+     * Slots of uninstantiated variables, by decreasing score
+     */
+    private final IntHeap heap = new IntHeap((a, b) -> scores[a] > scores[b]);
+    /**
+     * Slots of the variables instantiated in the current branch, in order,
+     * only the first {@link #nbInstantiated} ones are relevant
+     */
+    private final TIntArrayList instantiated = new TIntArrayList();
+    private final IStateInt nbInstantiated;
+    /**
+     * Number of slots in {@link #instantiated} already moved after {@link #last}
+     */
+    private final IStateInt nbMoved;
 
     final BiConsumer<Variable, Propagator<?>> update = (v, p) -> {
-        Element elt = failCount.get(p);
+        Element elt = element(p);
         if (elt != null) {
             if (p.getVar(elt.ws[0]) == v) {
                 updateFutvars(p, elt, 0);
@@ -129,11 +191,19 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
         this.solver = vars[0].getModel().getSolver();
         this.environment = vars[0].getModel().getEnvironment();
         this.last = environment.makeInt(vars.length - 1);
+        this.nbInstantiated = environment.makeInt(0);
+        this.nbMoved = environment.makeInt(0);
         this.flushThs = flush;
     }
 
     @Override
     public final V getVariable(V[] vars) {
+        if (heapVars == null && !scanOnly && incremental()) {
+            buildHeap(vars);
+        }
+        if (vars == heapVars) {
+            return fromHeap();
+        }
         V best = null;
         bests.resetQuick();
         double w = Double.NEGATIVE_INFINITY;
@@ -170,6 +240,260 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
     protected abstract double weight(V v);
 
+    /**
+     * @return <i>true</i> if the score of a variable only changes when its domain or its own weight changes,
+     * in which case variables are selected from a heap instead of being scanned.
+     */
+    boolean incremental() {
+        return true;
+    }
+
+    //////////////////////////////////////////////////////////////////////
+    ////////////////// THIS IS RELATED TO THE HEAP OF VARIABLES //////////
+    //////////////////////////////////////////////////////////////////////
+
+    private void buildHeap(V[] vars) {
+        Arrays.fill(slots, -1);
+        for (int i = 0; i < vars.length; i++) {
+            int id = vars[i].getId();
+            slots = grow(slots, id, -1);
+            if (slots[id] >= 0) {
+                scanOnly = true;
+                return;
+            }
+            slots[id] = i;
+        }
+        heapVars = vars;
+        slotVars = vars.clone();
+        at = new int[vars.length];
+        scores = new double[vars.length];
+        stamps = new int[vars.length];
+        isDirty = new boolean[vars.length];
+        heap.clear();
+        dirty.resetQuick();
+        instantiated.resetQuick();
+        nbInstantiated.set(0);
+        nbMoved.set(0);
+        int to = last.get();
+        for (int i = 0; i < vars.length; i++) {
+            at[i] = i;
+            // decision variables are always observed
+            plug(vars[i]);
+            int domSize = vars[i].getDomainSize();
+            if (domSize > 1) {
+                scores[i] = weight(vars[i]) / domSize;
+                heap.insert(i);
+            } else if (i <= to) {
+                instantiated.add(i);
+                nbInstantiated.add(1);
+            }
+        }
+        // the heap reflects the domains of this world only
+        environment.save(() -> {
+            for (V var : slotVars) {
+                unplug(var);
+            }
+            heapVars = null;
+        });
+    }
+
+    private V fromHeap() {
+        moveInstantiated();
+        for (int k = 0; k < dirty.size(); k++) {
+            int i = dirty.getQuick(k);
+            isDirty[i] = false;
+            int domSize = slotVars[i].getDomainSize();
+            if (domSize > 1) {
+                scores[i] = weight(slotVars[i]) / domSize;
+                heap.update(i);
+            } else if (heap.contains(i)) {
+                scores[i] = Double.NEGATIVE_INFINITY;
+                heap.increase(i);
+            }
+        }
+        dirty.resetQuick();
+        while (!heap.isEmpty() && slotVars[heap.get(0)].getDomainSize() <= 1) {
+            int i = heap.removeMin();
+            // to be restored upon backtrack
+            environment.save(() -> markDirty(i));
+        }
+        if (heap.isEmpty()) {
+            return null;
+        }
+        // collect variables with the best score, they are at the top of the heap,
+        // then break ties as a scan of the decision variables would do
+        bests.resetQuick();
+        ties(0, scores[heap.get(0)]);
+        bests.sort();
+        return heapVars[bests.get(random.nextInt(bests.size()))];
+    }
+
+    private void ties(int p, double w) {
+        if (p < heap.size() && scores[heap.get(p)] == w) {
+            int i = heap.get(p);
+            if (slotVars[i].getDomainSize() > 1) {
+                bests.add(at[i]);
+            }
+            ties((p << 1) + 1, w);
+            ties((p << 1) + 2, w);
+        }
+    }
+
+    /**
+     * Move instantiated variables after {@link #last}, exactly as a scan of the decision variables does,
+     * but only considering the variables instantiated since the last call.
+     */
+    private void moveInstantiated() {
+        int n = nbInstantiated.get();
+        bests.resetQuick();
+        int to = last.get();
+        for (int k = nbMoved.get(); k < n; k++) {
+            int i = instantiated.getQuick(k);
+            if (at[i] <= to && slotVars[i].getDomainSize() <= 1) {
+                bests.add(at[i]);
+            }
+        }
+        bests.sort();
+        for (int k = 0; k < bests.size(); k++) {
+            int idx = bests.getQuick(k);
+            while (idx <= to && heapVars[idx].getDomainSize() <= 1) {
+                // swap
+                V tmp = heapVars[to];
+                heapVars[to] = heapVars[idx];
+                heapVars[idx] = tmp;
+                at[slots[heapVars[idx].getId()]] = idx;
+                at[slots[heapVars[to].getId()]] = to;
+                to--;
+            }
+        }
+        last.set(to);
+        nbMoved.set(n);
+    }
+
+    private void onInstantiation(int i) {
+        int n = nbInstantiated.get();
+        if (instantiated.size() > n) {
+            // forget slots of backtracked worlds
+            instantiated.remove(n, instantiated.size() - n);
+        }
+        instantiated.add(i);
+        nbInstantiated.set(n + 1);
+    }
+
+    private void markDirty(int i) {
+        if (!isDirty[i]) {
+            isDirty[i] = true;
+            dirty.add(i);
+        }
+    }
+
+    /**
+     * Inform the heap that the score of <i>var</i> has changed.
+     *
+     * @param var a variable
+     */
+    final void scoreChanged(Variable var) {
+        int id = var.getId();
+        if (heapVars != null && id < slots.length && slots[id] >= 0) {
+            markDirty(slots[id]);
+        }
+    }
+
+    /**
+     * Inform the heap that the score of any variable may have changed.
+     */
+    final void scoresChanged() {
+        if (heapVars != null) {
+            for (int i = 0; i < slotVars.length; i++) {
+                markDirty(i);
+            }
+        }
+    }
+
+    //////////////////////////////////////////////////////////////////////
+    ////////////////// THIS IS RELATED TO WEIGHTS ////////////////////////
+    //////////////////////////////////////////////////////////////////////
+
+    private static int[] grow(int[] a, int id, int def) {
+        if (id >= a.length) {
+            int l = a.length;
+            a = Arrays.copyOf(a, Math.max(id + 1, l * 3 / 2));
+            Arrays.fill(a, l, a.length, def);
+        }
+        return a;
+    }
+
+    /**
+     * @param prop a propagator
+     * @return the element of <i>prop</i>, or {@code null} if it never failed
+     */
+    final Element element(Propagator<?> prop) {
+        int id = prop.getId();
+        return id < failCount.length ? failCount[id] : null;
+    }
+
+    /**
+     * @param v a variable
+     * @return the weight of <i>v</i>
+     */
+    final double weightOf(Variable v) {
+        int id = v.getId();
+        return id < weights.length ? weights[id] : 0.;
+    }
+
+    /**
+     * Add <i>delta</i> to the weight of <i>v</i>
+     *
+     * @param v     a variable
+     * @param delta increment
+     */
+    final void addWeight(Variable v, double delta) {
+        if (v == null) {
+            // eg, unknown variable on failure
+            return;
+        }
+        setWeight(v, weightOf(v) + delta);
+    }
+
+    /**
+     * Set the weight of <i>v</i>
+     *
+     * @param v a variable
+     * @param w its new weight
+     */
+    final void setWeight(Variable v, double w) {
+        int id = v.getId();
+        if (id >= weights.length) {
+            int l = Math.max(id + 1, weights.length * 3 / 2);
+            weights = Arrays.copyOf(weights, l);
+            hasWeight = Arrays.copyOf(hasWeight, l);
+        }
+        if (!hasWeight[id]) {
+            hasWeight[id] = true;
+            weighted.add(id);
+        }
+        weights[id] = w;
+        scoreChanged(v);
+    }
+
+    /**
+     * Reset the weight of all variables to 0.
+     */
+    final void resetWeights() {
+        Arrays.fill(weights, 0.);
+        scoresChanged();
+    }
+
+    /**
+     * Forget the weight of all variables.
+     */
+    final void clearWeights() {
+        Arrays.fill(weights, 0.);
+        Arrays.fill(hasWeight, false);
+        weighted.resetQuick();
+        scoresChanged();
+    }
+
     @Override
     public void onContradiction(ContradictionException cex) {
         conflicts++;
@@ -178,10 +502,14 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
             if (prop.getNbVars() < 2 /*|| prop instanceof PropSat*/) return;
             // store the propagator if needed
             // then update its failure counter
-            Element elt = failCount.get(prop);
+            Element elt = element(prop);
             if (elt == null) {
                 elt = new Element(0, 0, 1);
-                failCount.put(prop, elt);
+                int id = prop.getId();
+                if (id >= failCount.length) {
+                    failCount = Arrays.copyOf(failCount, Math.max(id + 1, failCount.length * 3 / 2));
+                }
+                failCount[id] = elt;
             } else {
                 unplug(prop.getVar(elt.ws[0]));
                 unplug(prop.getVar(elt.ws[1]));
@@ -221,7 +549,7 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
             // create, update or get weights
             elt.ws[2] += remapInc();
-            double[] ws = refinedWeights.compute(prop, remapWeights);
+            double[] ws = elt.weights(prop.getNbVars());
             increase(prop, elt, ws);
             prop.updateWeight(ws[0]);
         }
@@ -234,18 +562,22 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
     }
 
     /**
-     * This method sorts elements wrt to their weight.
-     * If 90% of the top 20 elements remain unchanged, then weights are flushed
+     * This method sorts variables wrt to their score.
+     * If 90% of the top 20 variables remain unchanged, then weights are flushed
      *
+     * @param q score of a variable, given its ID
      * @return <i>true</i> if the weights should be flushed
      */
-    protected boolean flushWeights(TObjectDoubleMap<?> q) {
+    protected boolean flushWeights(IntToDoubleFunction q) {
         //if(true)return false;
-        List<Variable> temp = weights.keySet().stream()
-                .sorted(Comparator.comparingDouble(q::get))
+        int[] temp = weighted.toArray();
+        Arrays.sort(temp);
+        temp = Arrays.stream(temp).boxed()
+                .sorted((a, b) -> Double.compare(q.applyAsDouble(a), q.applyAsDouble(b)))
                 .limit(FLUSH_TOPS)
-                .collect(Collectors.toList());
-        long cnt = temp.stream().filter(tops::contains).count();
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long cnt = Arrays.stream(temp).filter(tops::contains).count();
         if (cnt >= FLUSH_RATIO) {
             loop++;
         } else {
@@ -265,24 +597,19 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
     ////////////////// THIS IS RELATED TO INCREMENTAL FUTVARS ////////////
     //////////////////////////////////////////////////////////////////////
 
-    private final BiFunction<Variable, Integer, Integer> inc = (v, i) -> i + 1;
     final void plug(Variable var) {
-        if (!observed.containsKey(var)) {
-            observed.put(var, 1);
+        int id = var.getId();
+        observed = grow(observed, id, 0);
+        if (observed[id]++ == 0) {
             var.addMonitor(this);
-        } else {
-            observed.computeIfPresent(var, inc);
         }
     }
 
-    private final BiFunction<Variable, Integer, Integer> dec = (v, i) -> i - 1;
-
     private void unplug(Variable var) {
-        assert observed.containsKey(var);
-        Integer obs = observed.computeIfPresent(var, dec);
-        if (obs != null && obs == 0) {
+        int id = var.getId();
+        assert id < observed.length && observed[id] > 0;
+        if (--observed[id] == 0) {
             var.removeMonitor(this);
-            observed.remove(var);
         }
     }
 
@@ -301,6 +628,19 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
         if (var.isInstantiated()) {
             var.forEachPropagator(update);
         }
+        int id = var.getId();
+        if (heapVars != null && id < slots.length && slots[id] >= 0) {
+            int i = slots[id];
+            markDirty(i);
+            if (var.isInstantiated()) {
+                onInstantiation(i);
+            }
+            // the domain is restored upon backtrack, so is the score
+            if (stamps[i] != environment.getTimeStamp()) {
+                stamps[i] = environment.getTimeStamp();
+                environment.save(() -> markDirty(i));
+            }
+        }
     }
 
     private void updateFutvars(Propagator<?> p, Element elt, int i) {
@@ -321,17 +661,20 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
                 // 'var' is the last one not instantiated,
                 // so this counter will not be taken into account
                 double[] delta = {0.};
-                double[] ws = refinedWeights.get(p);
+                double[] ws = elt.weights;
                 if (elt.ws[k] < ws.length) {
                     // may happen propagators (like PropSat) with dynamic variable addition
                     delta[0] = ws[elt.ws[k]];
                 }
-                weights.adjustValue(other, -delta[0]);
+                int id = other.getId();
+                if (id < hasWeight.length && hasWeight[id]) {
+                    setWeight(other, weights[id] - delta[0]);
+                }
                 // but it should be restored upon backtrack
                 environment.save(() -> {
-                    double ww = weights.get(other) + delta[0];
+                    double ww = weightOf(other) + delta[0];
                     ww = Math.max(ww, 0.);
-                    weights.put(other, ww);
+                    setWeight(other, ww);
                 });
             }
         }
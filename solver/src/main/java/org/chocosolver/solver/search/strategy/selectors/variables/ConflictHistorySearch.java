@@ -9,15 +9,12 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
-import gnu.trove.map.TObjectDoubleMap;
-import gnu.trove.map.TObjectIntMap;
-import gnu.trove.map.hash.TObjectDoubleHashMap;
-import gnu.trove.map.hash.TObjectIntHashMap;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.variables.Variable;
 
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
 
 /**
  * Source: "Conflict History Based Branching Heuristic for CSP Solving", Habet and Terrioux.
@@ -27,7 +24,6 @@ import java.util.stream.Stream;
  * @author Charles Prud'homme
  * @since 25/02/2020.
  */
-@SuppressWarnings("rawtypes")
 public class ConflictHistorySearch<V extends Variable>
         extends AbstractCriterionBasedVariableSelector<V>
         implements IMonitorRestart {
@@ -45,17 +41,34 @@ public class ConflictHistorySearch<V extends Variable>
     private static final double DECAY = .995;
 
     /**
-     * Score of each propagator.
+     * Score of each propagator, indexed by its ID.
      */
-    private final TObjectDoubleMap<Propagator> q = new TObjectDoubleHashMap<>(10, 0.5f, 0.0);
+    private double[] q = new double[0];
     /**
      * Step-size, 0 < a < 1.
      */
     private double alpha = .4d;
     /**
-     * Last {@link #conflicts} value where a propagator led to a failure.
+     * Last {@link #conflicts} value where a propagator, indexed by its ID, led to a failure.
      */
-    private final TObjectIntMap<Propagator> conflict = new TObjectIntHashMap<>(10, 0.5f, 0);
+    private int[] conflict = new int[0];
+    /**
+     * Temporary. Score of the variable being evaluated.
+     */
+    private double score;
+
+    private final BiConsumer<Variable, Propagator<?>> scorer = (v, prop) -> {
+        int fut = 0;
+        for (int i = 0; i < prop.getNbVars() && fut < 2; i++) {
+            if (prop.getVar(i).isInstantiated()) {
+                fut++;
+            }
+        }
+        if (fut > 1) {
+            Element elt = element(prop);
+            score += (elt == null ? 0. : elt.weights[0]) + D;
+        }
+    };
 
     public ConflictHistorySearch(V[] vars, long seed) {
         this(vars, seed, Integer.MAX_VALUE);
@@ -82,17 +95,18 @@ public class ConflictHistorySearch<V extends Variable>
 
     @Override
     protected double weight(Variable v) {
-        double[] w = {0.};
-        v.streamPropagators().forEach(prop ->{
-            long fut = Stream.of(prop.getVars())
-                    .filter(Variable::isInstantiated)
-                    .limit(2)
-                    .count();
-            if (fut > 1) {
-                w[0] += refinedWeights.getOrDefault(prop, rw)[0] + D;
-            }
-        });
-        return w[0];
+        score = 0.;
+        v.forEachPropagator(scorer);
+        return score;
+    }
+
+    /**
+     * @implNote The score of a variable depends on the state of its neighbors,
+     * variables are then scanned.
+     */
+    @Override
+    boolean incremental() {
+        return false;
     }
 
     @Override
@@ -109,16 +123,15 @@ public class ConflictHistorySearch<V extends Variable>
 
     @Override
     public void afterRestart() {
-        if (flushWeights(q)) {
-            q.clear();
-            conflict.forEachEntry((a1, b) -> {
-                conflict.put(a1, conflicts);
-                return true;
-            });
+        // in CHS, scores are held by propagators, not by variables
+        if (flushWeights(id -> 0.)) {
+            Arrays.fill(q, 0.);
+            Arrays.fill(conflict, conflicts);
         } else {
-            for (Propagator p : q.keySet()) {
-                double qj = q.get(p);
-                q.put(p, qj * Math.pow(DECAY, (conflicts - conflict.get(p))));
+            for (int p = 0; p < q.length; p++) {
+                if (q[p] != 0.) {
+                    q[p] *= Math.pow(DECAY, (conflicts - conflict[p]));
+                }
             }
             alpha = .4d;
         }
@@ -65,8 +65,8 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
 
     @Override
     protected final double weight(Variable v) {
-        //assert weightW(v) == weights.get(v) : "wrong weight for " + v + ", expected " + weightW(v) + ", but found " + weights.get(v);
-        return 1 + weights.get(v);
+        //assert weightW(v) == weightOf(v) : "wrong weight for " + v + ", expected " + weightW(v) + ", but found " + weightOf(v);
+        return 1 + weightOf(v);
     }
 
 
@@ -84,9 +84,9 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
             // recall that variable at 0 is the 'deepest' one
             if (i == elt.ws[0] && futVar1) {
                 // it should be restored upon backtrack
-                environment.saveAt(() -> weights.adjustOrPutValue(ivar, 1., 1.), dk);
+                environment.saveAt(() -> addWeight(ivar, 1.), dk);
             } else {
-                weights.adjustOrPutValue(ivar, 1., 1.);
+                addWeight(ivar, 1.);
             }
             ws[i] += 1;
         }
@@ -103,11 +103,8 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
             solution = vars[0].getModel().getSolver().getSolutionCount();
         }
         if (solution > 0 && top(20)) {*/
-        if (flushWeights(weights)) {
-            weights.forEachEntry((a1, b) -> {
-                weights.put(a1, 0.);
-                return true;
-            });
+        if (flushWeights(id -> weights[id])) {
+            resetWeights();
         }
     }
 
@@ -129,7 +126,7 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
         for (int i = 0; i < prop.getNbVars(); i++) {
             if (!prop.getVar(i).isInstantiated()) {
                 if (++futVars > 1) {
-                    Element elt = failCount.get(prop);
+                    Element elt = element(prop);
                     if (elt != null) {
                         return elt.ws[2];
                     } else break;
@@ -79,6 +79,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, 1, 1);
+                        scoreChanged(lv);
                     }
                 }
                 break;
@@ -87,6 +88,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, Ldeltas.get(i), Ldeltas.get(i));
+                        scoreChanged(lv);
                     }
                 }
                 break;
@@ -98,6 +100,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, amnt, amnt);
+                        scoreChanged(lv);
                     }
                 }
                 break;
@@ -111,6 +114,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, amnt, amnt);
+                        scoreChanged(lv);
                     }
                 }
                 break;
@@ -124,8 +128,8 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
     }
 
     public void afterRestart() {
-        if (flushWeights(weights)) {
-            weights.clear();
+        if (flushWeights(id -> weights[id])) {
+            clearWeights();
         }
     }
 }
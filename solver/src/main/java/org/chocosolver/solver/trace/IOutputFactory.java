@@ -15,6 +15,7 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.propagation.PropagationEngineObserver;
 import org.chocosolver.solver.propagation.PropagationObserver;
 import org.chocosolver.solver.propagation.PropagationProfiler;
+import org.chocosolver.solver.propagation.PropagationTimer;
 import org.chocosolver.solver.search.loop.monitors.*;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
@@ -87,6 +88,12 @@ public interface IOutputFactory extends ISelf<Solver> {
         printVersion();
         printFeatures();
         ref().log().println(ref().getMeasures().toString());
+        if (ref().getEngine() instanceof PropagationEngineObserver) {
+            PropagationObserver po = ((PropagationEngineObserver) ref().getEngine()).getObserver();
+            if (po instanceof PropagationTimer) {
+                ref().log().println(((PropagationTimer) po).toOneLineString());
+            }
+        }
     }
 
     /**
@@ -349,6 +356,34 @@ public interface IOutputFactory extends ISelf<Solver> {
         return po;
     }
 
+    /**
+     * <p>
+     * Plug a propagation timer.
+     * It measures the time spent in one propagator call out of <i>period</i>,
+     * and aggregates the durations per propagator, per propagator priority and per constraint name.
+     * Note, that this may impact the resolution statistics, since {@link System#nanoTime()} is called twice per timed call.
+     * </p>
+     * <p>
+     * Once plugged, {@link #printStatistics()} also prints a summary of the measures,
+     * calls to {@link PropagationTimer#writeTo(PrintWriter)} output them to a writer
+     * and calls to {@link PropagationTimer#toJSON()} return them as a JSON object.
+     * </p>
+     * <pre> {@code
+     * Solver s = m.getSolver();
+     * PropagationTimer timer = s.timePropagation(10);
+     * s.findSolution();
+     * System.out.println(timer.toJSON());
+     * }</pre>
+     *
+     * @param period one propagator call out of <i>period</i> is timed, 1 to time them all
+     * @return a propagation timer
+     */
+    default PropagationTimer timePropagation(int period) {
+        PropagationTimer pt = new PropagationTimer(ref().getModel(), period);
+        ref().observePropagation(pt);
+        return pt;
+    }
+
     /**
      * Create and return a {@link SolvingStatisticsFlow} object to observe solving statistics.
      * <p>
@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.impl.*;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
@@ -230,6 +231,8 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else if (boundedDomain) {
             return new IntervalIntVarImpl(name, lb, ub, ref());
+        } else if (ref().getSettings().enableSparseSetOnIntVar(ub - lb + 1)) {
+            return new SparseSetIntVarImpl(name, lb, ub, ref());
         } else {
             return new BitsetIntVarImpl(name, lb, ub, ref());
         }
@@ -252,7 +255,10 @@ public interface IVariableFactory extends ISelf<Model> {
 
     /**
      * Create an integer variable of initial domain <i>values</i>
-     * Uses an enumerated domain that supports holes
+     * Uses an enumerated domain that supports holes.
+     * The domain is stored as a list of ranges when it has wide holes
+     * (see {@link Settings#getMinHoleSizeForRangeList()}), as a sparse set when enabled
+     * (see {@link Settings#enableSparseSetOnIntVar(int)}), as a bitset otherwise.
      * @param name name of the variable
      * @param values initial domain
      * @return an IntVar of domain <i>values</i>
@@ -265,6 +271,19 @@ public interface IVariableFactory extends ISelf<Model> {
         } else if (values.length == 2 && values[0] == 0 && values[1] == 1) {
             return boolVar(name);
         } else {
+            int nbRanges = 1;
+            for (int i = 1; i < values.length; i++) {
+                if (values[i - 1] + 1 < values[i]) {
+                    nbRanges++;
+                }
+            }
+            long span = (long) values[values.length - 1] - values[0] + 1;
+            // average size of the holes, a contiguous domain has none
+            if (nbRanges > 1 && (span - values.length) / (nbRanges - 1) >= ref().getSettings().getMinHoleSizeForRangeList()) {
+                return new RangeListIntVarImpl(name, values, ref());
+            } else if (ref().getSettings().enableSparseSetOnIntVar((int) span)) {
+                return new SparseSetIntVarImpl(name, values, ref());
+            }
             return new BitsetIntVarImpl(name, values, ref());
         }
     }
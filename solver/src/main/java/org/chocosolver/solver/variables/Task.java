@@ -25,6 +25,10 @@ import static org.chocosolver.util.objects.setDataStructures.iterable.IntIterabl
 /**
  * Container representing a task:
  * It ensures that: start + duration = end
+ * <p>
+ * A task may be optional, in which case it is given a presence literal:
+ * scheduling constraints only consider the task when the literal is true.
+ * The relation start + duration = end is maintained whatever the value of the literal.
  *
  * @author Jean-Guillaume Fages
  * @since 04/02/2013
@@ -38,6 +42,7 @@ public class Task {
     private final IntVar start;
     private final IntVar duration;
     private final IntVar end;
+    private final BoolVar presence;
     private IVariableMonitor<IntVar> update;
 
     //***********************************************************************************
@@ -56,6 +61,7 @@ public class Task {
      * @param lct latest completion time time
      */
     public Task(Model model, int est, int lst, int d, int ect, int lct) {
+        presence = null;
         start = model.intVar(est, lst);
         duration = model.intVar(d);
         if(ect == est+d && lct == lst+d) {
@@ -74,6 +80,7 @@ public class Task {
      * @param d duration value
      */
     public Task(IntVar s, int d) {
+        presence = null;
         start = s;
         duration = start.getModel().intVar(d);
         end = start.getModel().offset(start, d);
@@ -88,6 +95,7 @@ public class Task {
      * @param e end variable
      */
     public Task(IntVar s, int d, IntVar e) {
+        presence = null;
         start = s;
         duration = start.getModel().intVar(d);
         end = e;
@@ -105,6 +113,20 @@ public class Task {
      * @param e end variable
      */
     public Task(IntVar s, IntVar d, IntVar e) {
+        this(s, d, e, null);
+    }
+
+    /**
+     * Container representing an optional task:
+     * It ensures that: start + duration = end
+     *
+     * @param s        start variable
+     * @param d        duration variable
+     * @param e        end variable
+     * @param presence presence literal, {@code null} for a mandatory task
+     */
+    public Task(IntVar s, IntVar d, IntVar e, BoolVar presence) {
+        this.presence = presence;
         start = s;
         duration = d;
         end = e;
@@ -166,6 +188,34 @@ public class Task {
         return end;
     }
 
+    /**
+     * @return the presence literal of this task, {@code null} if the task is mandatory
+     */
+    public BoolVar getPresence() {
+        return presence;
+    }
+
+    /**
+     * @return <i>true</i> if this task has a presence literal
+     */
+    public boolean isOptional() {
+        return presence != null;
+    }
+
+    /**
+     * @return <i>true</i> if this task is mandatory or its presence literal is true
+     */
+    public boolean isPresent() {
+        return presence == null || presence.getLB() == 1;
+    }
+
+    /**
+     * @return <i>true</i> if this task is mandatory or its presence literal is not false
+     */
+    public boolean mayBePresent() {
+        return presence == null || presence.getUB() == 1;
+    }
+
     public IVariableMonitor<IntVar> getMonitor() {
         return update;
     }
@@ -204,6 +254,7 @@ public class Task {
             "start=" + start +
             ", duration=" + duration +
             ", end=" + end +
+            (presence != null ? ", presence=" + presence : "") +
             ']';
     }
 
@@ -13,8 +13,10 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.variables.delta.IDelta;
 import org.chocosolver.solver.variables.events.IEventType;
@@ -279,6 +281,20 @@ public interface Variable extends Identity, Comparable<Variable> {
         return getModel().getEnvironment();
     }
 
+    /**
+     * Create a copy of this variable, with the same name and the same current domain, in the model built by <i>copier</i>.
+     * The variables this one depends on, like the ones a view observes, are copied beforehand
+     * and can be retrieved with {@link ModelCopier#get(Variable)}.
+     *
+     * @param copier the model copier
+     * @return the copy of this variable
+     * @throws SolverException if this type of variable cannot be copied
+     * @see ModelCopier
+     */
+    default Variable copy(ModelCopier copier) {
+        throw new SolverException(getClass().getSimpleName() + " does not support copy");
+    }
+
     /**
      * Return a MASK composed of 2 main information: TYPE and KIND.
      * <br/>TYPE is defined in the 3 first bits : VAR ( 1 << 0), CSTE (1 << 1) or VIEW (1 << 2)
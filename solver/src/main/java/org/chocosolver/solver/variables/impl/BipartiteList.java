@@ -178,8 +178,12 @@ final class BipartiteList implements IBipartiteList {
         }
         for (int p = s; p < last; p++) {
             Propagator<?> prop = propagators[p];
-            if (prop.isActive() && cause != prop) {
-                engine.schedule(prop, pindices[p], mask);
+            if (prop.isActive()) {
+                if (cause != prop || !prop.isIdempotent()) {
+                    engine.schedule(prop, pindices[p], mask);
+                } else {
+                    engine.onSkippedSelfEvent(prop);
+                }
             }
         }
     }
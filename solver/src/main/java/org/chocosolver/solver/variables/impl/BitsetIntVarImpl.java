@@ -14,6 +14,7 @@ import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.EnumDelta;
@@ -860,4 +861,15 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         }
         return this.literal;
     }
+
+    @Override
+    public IntVar copy(ModelCopier copier) {
+        int[] values = new int[getDomainSize()];
+        int i = 0;
+        int ub = getUB();
+        for (int v = getLB(); v <= ub; v = nextValue(v)) {
+            values[i++] = v;
+        }
+        return new BitsetIntVarImpl(getName(), values, copier.getCopy());
+    }
 }
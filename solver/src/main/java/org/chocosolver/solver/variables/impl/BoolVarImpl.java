@@ -10,9 +10,12 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.delta.IEnumDelta;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -510,4 +513,24 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
         }
         return this.literal;
     }
+
+    @Override
+    public BoolVar copy(ModelCopier copier) {
+        BoolVarImpl copy = new BoolVarImpl(getName(), copier.getCopy());
+        if (isInstantiated()) {
+            try {
+                copy.instantiateTo(getValue(), Cause.Null);
+            } catch (ContradictionException e) {
+                throw new SolverException("Unexpected contradiction while copying " + getName());
+            }
+        }
+        copy.setNot(isNot);
+        if (hasNot() && not.getId() < getId()) {
+            // the negation is not a view, link them now that both are copied
+            BoolVar neg = copier.get(not);
+            copy._setNot(neg);
+            neg._setNot(copy);
+        }
+        return copy;
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.impl.scheduler.BoolEvtScheduler;
@@ -106,4 +107,8 @@ public class FixedBoolVarImpl extends FixedIntVarImpl implements BoolVar {
         return this.literal;
     }
 
+    @Override
+    public BoolVar copy(ModelCopier copier) {
+        return cache(copier, new FixedBoolVarImpl(getName(), constante, copier.getCopy()));
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IVariableMonitor;
 import org.chocosolver.solver.variables.IntVar;
@@ -433,4 +434,21 @@ public class FixedIntVarImpl extends AbstractVariable implements IntVar {
         }
         return this.literal;
     }
+
+    @Override
+    public IntVar copy(ModelCopier copier) {
+        return cache(copier, new FixedIntVarImpl(getName(), constante, copier.getCopy()));
+    }
+
+    /**
+     * Register <i>copy</i> as a cached constant of the copy if this is a cached constant of its model
+     *
+     * @return <i>copy</i>
+     */
+    protected <V extends IntVar> V cache(ModelCopier copier, V copy) {
+        if (model.getCachedConstants().get(constante) == this) {
+            copier.getCopy().getCachedConstants().put(constante, copy);
+        }
+        return copy;
+    }
 }
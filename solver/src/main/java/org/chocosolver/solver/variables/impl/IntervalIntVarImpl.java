@@ -13,6 +13,7 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -547,4 +548,9 @@ public final class IntervalIntVarImpl extends AbstractVariable implements IntVar
         }
         return this.literal;
     }
+
+    @Override
+    public IntVar copy(ModelCopier copier) {
+        return new IntervalIntVarImpl(getName(), getLB(), getUB(), copier.getCopy());
+    }
 }
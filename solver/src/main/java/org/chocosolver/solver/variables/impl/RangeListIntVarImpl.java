@@ -0,0 +1,985 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.solver.variables.impl.siglit.SignedLiteral;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An enumerated IntVar whose domain is stored as a sorted list of disjoint ranges,
+ * like {@link IntIterableRangeSet} does, but in a backtrackable way.
+ * <br/>
+ * The memory footprint depends on the number of ranges and not on the distance between the bounds,
+ * which makes it suitable for large and sparse domains, such as {0..10, 1000000..1000010}.
+ * Bounds of the ranges are stored in {@link IStateInt}s, the ranges in use are the ones between two stored positions.
+ * Removing a value strictly inside a range splits it in two, which shifts the ranges on its right;
+ * removing values from the first or the last ranges only moves a position.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class RangeListIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Bounds of the ranges, the lower bound of a range is stored at an even position
+     * and its upper bound at the next position
+     */
+    private IStateInt[] ELEMENTS;
+    /**
+     * Position of the lower bound of the first range in use
+     */
+    private final IStateInt FROM;
+    /**
+     * Position following the upper bound of the last range in use
+     */
+    private final IStateInt TO;
+    /**
+     * Current size of domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    /**
+     * Signed Literal
+     */
+    private SignedLiteral.Set literal;
+
+    /**
+     * Create an enumerated IntVar based on a list of ranges
+     *
+     * @param name   name of the variable
+     * @param values original domain values, not empty
+     * @param model  declaring model
+     */
+    public RangeListIntVarImpl(String name, IntIterableRangeSet values, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        int n = values.getNbRanges() * 2;
+        this.ELEMENTS = new IStateInt[n];
+        for (int r = 0; r < n; r += 2) {
+            ELEMENTS[r] = env.makeInt(values.minOfRange(r >> 1));
+            ELEMENTS[r + 1] = env.makeInt(values.maxOfRange(r >> 1));
+        }
+        this.FROM = env.makeInt(0);
+        this.TO = env.makeInt(n);
+        this.SIZE = env.makeInt(values.cardinality());
+    }
+
+    /**
+     * Create an enumerated IntVar based on a list of ranges
+     *
+     * @param name         name of the variable
+     * @param sortedValues original domain values
+     * @param model        declaring model
+     */
+    public RangeListIntVarImpl(String name, int[] sortedValues, Model model) {
+        this(name, new IntIterableRangeSet(sortedValues), model);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @param x a value
+     * @return the position of the range that contains <i>x</i>, if any,
+     * <i>-p - 1</i> otherwise, where <i>p</i> is the position of the first range greater than <i>x</i>
+     */
+    private int rangeOf(int x) {
+        int l = FROM.get() >> 1;
+        int h = (TO.get() >> 1) - 1;
+        while (l <= h) {
+            int m = (l + h) >>> 1;
+            int p = m << 1;
+            if (x < ELEMENTS[p].get()) {
+                h = m - 1;
+            } else if (x > ELEMENTS[p + 1].get()) {
+                l = m + 1;
+            } else {
+                return p;
+            }
+        }
+        return -(l << 1) - 1;
+    }
+
+    /**
+     * Remove the values in [<i>f</i>, <i>t</i>] from the ranges.
+     * The caller has to make sure that the domain is not wiped out.
+     *
+     * @param f first value to remove
+     * @param t last value to remove
+     * @return the number of values removed
+     */
+    private int clear(int f, int t) {
+        if (f > t) {
+            return 0;
+        }
+        int from = FROM.get();
+        int to = TO.get();
+        int a = rangeOf(f);
+        if (a < 0) {
+            a = -a - 1;
+        }
+        int b = rangeOf(t);
+        if (b < 0) {
+            b = -b - 3;
+        }
+        if (a > b) {
+            return 0;
+        }
+        int removed = 0;
+        for (int p = a; p <= b; p += 2) {
+            removed += Math.min(ELEMENTS[p + 1].get(), t) - Math.max(ELEMENTS[p].get(), f) + 1;
+        }
+        int lo = ELEMENTS[a].get();
+        int hi = ELEMENTS[b + 1].get();
+        // number of bounds left from ranges a to b, and number of bounds they occupy
+        int k = (lo < f ? 2 : 0) + (hi > t ? 2 : 0);
+        int m = b + 2 - a;
+        if (k > m) {
+            // a range is split in two, ranges on its right are shifted
+            ensureCapacity(to + 2);
+            for (int p = to - 1; p >= b + 2; p--) {
+                ELEMENTS[p + 2].set(ELEMENTS[p].get());
+            }
+            write(a, lo, f, t, hi);
+            TO.set(to + 2);
+        } else if (a == from) {
+            write(b + 2 - k, lo, f, t, hi);
+            FROM.set(b + 2 - k);
+        } else {
+            write(a, lo, f, t, hi);
+            if (k < m) {
+                for (int p = b + 2; p < to; p++) {
+                    ELEMENTS[p - m + k].set(ELEMENTS[p].get());
+                }
+                TO.set(to - m + k);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Write, from position <i>p</i>, what is left of [<i>lo</i>, <i>hi</i>] once [<i>f</i>, <i>t</i>] is removed.
+     */
+    private void write(int p, int lo, int f, int t, int hi) {
+        if (lo < f) {
+            ELEMENTS[p++].set(lo);
+            ELEMENTS[p++].set(f - 1);
+        }
+        if (hi > t) {
+            ELEMENTS[p++].set(t + 1);
+            ELEMENTS[p].set(hi);
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        int oldCapacity = ELEMENTS.length;
+        if (minCapacity > oldCapacity) {
+            int newCapacity = Math.max(minCapacity, oldCapacity + (oldCapacity >> 1));
+            ELEMENTS = Arrays.copyOf(ELEMENTS, newCapacity);
+            IEnvironment env = model.getEnvironment();
+            for (int i = oldCapacity; i < newCapacity; i++) {
+                ELEMENTS[i] = env.makeInt(0);
+            }
+        }
+    }
+
+    /**
+     * Add the values of the current domain in [<i>f</i>, <i>t</i>] to the delta, if needed, in increasing order.
+     */
+    private void addToDelta(int f, int t, ICause cause) {
+        if (reactOnRemoval) {
+            //BEWARE: this loop significantly decreases performances
+            for (int v = nextValue(f - 1); v <= t; v = nextValue(v)) {
+                delta.add(v, cause);
+            }
+        }
+    }
+
+    /**
+     * Add the values of the current domain in [<i>f</i>, <i>t</i>] to the delta, if needed, in decreasing order,
+     * as {@link BitsetIntVarImpl} does when the upper bound is updated.
+     */
+    private void addToDeltaDown(int f, int t, ICause cause) {
+        if (reactOnRemoval) {
+            //BEWARE: this loop significantly decreases performances
+            for (int v = previousValue(t + 1); v >= f; v = previousValue(v)) {
+                delta.add(v, cause);
+            }
+        }
+    }
+
+    /**
+     * Remove the values of the current domain in [<i>f</i>, <i>t</i>],
+     * when they are not the last ones, and notify the observer and the delta.
+     *
+     * @param count current domain size
+     * @return the new domain size
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    private int remove(int f, int t, int count, ICause cause) throws ContradictionException {
+        for (int v = nextValue(f - 1); v <= t; v = nextValue(v)) {
+            model.getSolver().getEventObserver().removeValue(this, v, cause);
+            if (count == 1) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            count--;
+            if (reactOnRemoval) {
+                delta.add(v, cause);
+            }
+        }
+        clear(f, t);
+        return count;
+    }
+
+    /**
+     * Set the new domain size and notify propagators, the event depends on the modified bounds.
+     */
+    private void notifyRemovals(int olb, int oub, int count, ICause cause) throws ContradictionException {
+        SIZE.set(count);
+        IntEventType e;
+        if (count == 1) {
+            e = IntEventType.INSTANTIATE;
+        } else if (olb != getLB()) {
+            e = oub != getUB() ? IntEventType.BOUND : IntEventType.INCLOW;
+        } else if (oub != getUB()) {
+            e = IntEventType.DECUPP;
+        } else {
+            e = IntEventType.REMOVE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    /**
+     * Remove the values of the current domain in [<i>from</i>, <i>to</i>] that are not in <i>values</i>,
+     * or that are in <i>values</i> when <i>in</i> is set, and notify propagators.
+     * The bounds of the domain are expected to be kept.
+     *
+     * @return true if at least one value is removed
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    private boolean removeHoles(IntIterableSet values, boolean in, int from, int to, ICause cause) throws ContradictionException {
+        int count = SIZE.get();
+        int value = nextValue(from - 1);
+        while (value <= to) {
+            if (values.contains(value) == in) {
+                // values from 'value' to 'last' are removed
+                int last = Math.min(in ? values.nextValueOut(value) - 1 : values.nextValue(value) - 1, to);
+                count = remove(value, last, count, cause);
+                value = nextValue(last);
+            } else {
+                value = nextValue(in ? values.nextValue(value) - 1 : values.nextValueOut(value) - 1);
+            }
+        }
+        if (count < SIZE.get()) {
+            notifyRemovals(getLB(), getUB(), count, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean change = rangeOf(value) >= 0;
+        if (change) {
+            model.getSolver().getEventObserver().removeValue(this, value, cause);
+            if (SIZE.get() == 1) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            if (reactOnRemoval) {
+                delta.add(value, cause);
+            }
+            int olb = getLB();
+            int oub = getUB();
+            clear(value, value);
+            notifyRemovals(olb, oub, SIZE.get() - 1, cause);
+        }
+        return change;
+    }
+
+    /**
+     * Like {@link BitsetIntVarImpl}, the bounds are updated first, then the holes are made,
+     * so that propagators are notified the same way whatever the domain implementation.
+     */
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean hasChanged = false, fixpoint;
+        int vlb, vub;
+        do {
+            int nlb = getLB();
+            int nub = getUB();
+            vlb = values.nextValue(nlb - 1);
+            vub = values.previousValue(nub + 1);
+            if (!hasChanged && (vlb > nub || vub < nlb)) {
+                return false;
+            }
+            // look for the new lb
+            while (vlb == nlb && nlb < Integer.MAX_VALUE) {
+                nlb = nextValue(vlb);
+                vlb = values.nextValue(nlb - 1);
+            }
+            if (vlb <= vub) {
+                // look for the new ub
+                while (vub == nub && nub > Integer.MIN_VALUE) {
+                    nub = previousValue(vub);
+                    vub = values.previousValue(nub + 1);
+                }
+            }
+            // the new bounds are now known, delegate to the right method
+            fixpoint = updateBounds(nlb, nub, cause);
+            hasChanged |= fixpoint;
+        } while (fixpoint);
+        // now deal with holes
+        return removeHoles(values, true, vlb, vub, cause) || hasChanged;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean hasChanged = false, fixpoint;
+        int nlb, nub;
+        do {
+            int clb = getLB();
+            int cub = getUB();
+            nlb = values.nextValue(clb - 1);
+            nub = values.previousValue(cub + 1);
+            // look for the new lb
+            while (nlb != clb && clb < Integer.MAX_VALUE && nlb < Integer.MAX_VALUE) {
+                clb = nextValue(nlb - 1);
+                nlb = values.nextValue(clb - 1);
+            }
+            // look for the new ub
+            if (nlb <= nub) {
+                while (nub != cub && cub > Integer.MIN_VALUE && nub > Integer.MIN_VALUE) {
+                    cub = previousValue(nub + 1);
+                    nub = values.previousValue(cub + 1);
+                }
+            }
+            // the new bounds are now known, delegate to the right method
+            fixpoint = updateBounds(nlb, nub, cause);
+            hasChanged |= fixpoint;
+        } while (fixpoint);
+        // now deal with holes
+        return removeHoles(values, false, nlb, nub, cause) || hasChanged;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB())
+            return updateLowerBound(to + 1, cause);
+        else if (getUB() <= to)
+            return updateUpperBound(from - 1, cause);
+        else {
+            int olb = getLB();
+            int oub = getUB();
+            // the iteration is mandatory for delta and observers
+            int count = remove(from, to, SIZE.get(), cause);
+            if (count < SIZE.get()) {
+                notifyRemovals(olb, oub, count, cause);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            addToDelta(getLB(), value - 1, cause);
+            addToDelta(value + 1, getUB(), cause);
+            int from = FROM.get();
+            ELEMENTS[from].set(value);
+            ELEMENTS[from + 1].set(value);
+            TO.set(from + 2);
+            this.SIZE.set(1);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                IntEventType e = IntEventType.INCLOW;
+                addToDelta(old, value - 1, cause);
+                SIZE.add(-clear(old, value - 1));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getEventObserver().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                IntEventType e = IntEventType.DECUPP;
+                addToDeltaDown(value + 1, oub, cause);
+                SIZE.add(-clear(value + 1, oub));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            IntEventType e = null;
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                addToDelta(olb, lb - 1, cause);
+                SIZE.add(-clear(olb, lb - 1));
+                olb = getLB();
+            }
+            if (olb > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                addToDeltaDown(ub + 1, oub, cause);
+                SIZE.add(-clear(ub + 1, oub));
+            }
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        return rangeOf(aValue) >= 0;
+    }
+
+    @Override
+    public int getValue() throws IllegalStateException {
+        if (!isInstantiated()) {
+            throw new IllegalStateException("getValue() can be only called on instantiated variable. " +
+                    name + " is not instantiated");
+        }
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return ELEMENTS[FROM.get()].get();
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return ELEMENTS[TO.get() - 1].get();
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    /**
+     * @return the number of ranges in the current domain
+     */
+    public int getNbRanges() {
+        return (TO.get() - FROM.get()) >> 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        int lb = getLB();
+        if (aValue < lb) return lb;
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        int p = rangeOf(aValue + 1);
+        if (p >= 0) return aValue + 1;
+        return ELEMENTS[-p - 1].get();
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        if (getLB() - 1 <= aValue && aValue <= getUB()) {
+            int p = rangeOf(aValue + 1);
+            if (p >= 0) return ELEMENTS[p + 1].get() + 1;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        int ub = getUB();
+        if (aValue > ub) return ub;
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        int p = rangeOf(aValue - 1);
+        if (p >= 0) return aValue - 1;
+        return ELEMENTS[-p - 2].get();
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        if (getLB() <= aValue && aValue <= getUB() + 1) {
+            int p = rangeOf(aValue - 1);
+            if (p >= 0) return ELEMENTS[p].get() - 1;
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            int to = TO.get();
+            s.append('{');
+            for (int p = FROM.get(); p < to; p += 2) {
+                int lo = ELEMENTS[p].get();
+                int hi = ELEMENTS[p + 1].get();
+                s.append(lo);
+                if (lo < hi) s.append("..").append(hi);
+                if (p + 2 < to) s.append(",");
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler<IntEventType> createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Like the ones of {@link BitsetIntVarImpl}, iterators rely on values and not on positions,
+     * so that the values already returned can be removed while iterating.
+     * The position of the current range is only a hint, checked before being used,
+     * since removing a value may shift the ranges.
+     */
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Position of the range of the current value, if the ranges have not been shifted
+                 */
+                int p;
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.p = FROM.get();
+                    this.value = ELEMENTS[p].get();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.p = TO.get() - 2;
+                    this.value = ELEMENTS[p + 1].get();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return value != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return value != Integer.MIN_VALUE;
+                }
+
+                /**
+                 * @return <i>true</i> if <i>p</i> is still the position of the range that contains <i>v</i>
+                 */
+                private boolean isRangeOf(int v) {
+                    return FROM.get() <= p && p < TO.get() && ELEMENTS[p].get() <= v && v <= ELEMENTS[p + 1].get();
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    if (isRangeOf(old)) {
+                        if (old < ELEMENTS[p + 1].get()) {
+                            this.value++;
+                        } else {
+                            p += 2;
+                            this.value = p < TO.get() ? ELEMENTS[p].get() : Integer.MAX_VALUE;
+                        }
+                    } else {
+                        this.value = nextValue(old);
+                        p = rangeOf(value);
+                    }
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    if (isRangeOf(old)) {
+                        if (old > ELEMENTS[p].get()) {
+                            this.value--;
+                        } else {
+                            p -= 2;
+                            this.value = p >= FROM.get() ? ELEMENTS[p + 1].get() : Integer.MIN_VALUE;
+                        }
+                    } else {
+                        this.value = previousValue(old);
+                        p = rangeOf(value);
+                    }
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Position of the current range, if the ranges have not been shifted
+                 */
+                int p;
+                /**
+                 * Lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    read(FROM.get());
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    read(TO.get() - 2);
+                }
+
+                /**
+                 * Make the range at position <i>q</i> the current one, if any
+                 */
+                private void read(int q) {
+                    this.p = q;
+                    if (q < FROM.get()) {
+                        this.to = Integer.MIN_VALUE;
+                    } else if (q >= TO.get()) {
+                        this.from = Integer.MAX_VALUE;
+                    } else {
+                        this.from = ELEMENTS[q].get();
+                        this.to = ELEMENTS[q + 1].get();
+                    }
+                }
+
+                public boolean hasNext() {
+                    return from != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return to != Integer.MIN_VALUE;
+                }
+
+                public void next() {
+                    if (FROM.get() <= p && p < TO.get() && ELEMENTS[p + 1].get() == to) {
+                        read(p + 2);
+                    } else {
+                        int v = nextValue(to);
+                        read(v == Integer.MAX_VALUE ? TO.get() : rangeOf(v));
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    if (FROM.get() <= p && p < TO.get() && ELEMENTS[p].get() == from) {
+                        read(p - 2);
+                    } else {
+                        int v = previousValue(from);
+                        read(v == Integer.MIN_VALUE ? FROM.get() - 2 : rangeOf(v));
+                    }
+                }
+
+                @Override
+                public int min() {
+                    return from;
+                }
+
+                @Override
+                public int max() {
+                    return to;
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+
+    @Override
+    public void createLit(IntIterableRangeSet rootDomain) {
+        if (this.literal != null) {
+            throw new IllegalStateException("createLit(Implications) called twice");
+        }
+        this.literal = new SignedLiteral.Set(rootDomain);
+    }
+
+    @Override
+    public SignedLiteral getLit() {
+        if (this.literal == null) {
+            throw new NullPointerException("getLit() called on null, a call to createLit(Implications) is required");
+        }
+        return this.literal;
+    }
+
+    @Override
+    public IntVar copy(ModelCopier copier) {
+        return new RangeListIntVarImpl(getName(), new IntIterableRangeSet(this), copier.getCopy());
+    }
+}
@@ -12,6 +12,7 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.memory.IStateDouble;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
@@ -214,4 +215,9 @@ public class RealVarImpl extends AbstractVariable implements RealVar {
     public void init() {
         // void
     }
+
+    @Override
+    public RealVar copy(ModelCopier copier) {
+        return new RealVarImpl(getName(), getLB(), getUB(), precision, copier.getCopy());
+    }
 }
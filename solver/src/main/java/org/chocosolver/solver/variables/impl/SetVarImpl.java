@@ -13,6 +13,7 @@ import gnu.trove.set.hash.TIntHashSet;
 
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.set.PropCardinality;
@@ -282,4 +283,9 @@ public class SetVarImpl extends AbstractVariable implements SetVar {
             delta = new SetDelta(model.getEnvironment());
         }
     }
+
+	@Override
+	public SetVar copy(ModelCopier copier) {
+		return new SetVarImpl(getName(), lb.toArray(), lb.getSetType(), ub.toArray(), ub.getSetType(), copier.getCopy());
+	}
 }
@@ -0,0 +1,831 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCopier;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.solver.variables.impl.siglit.SignedLiteral;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Iterator;
+
+/**
+ * An enumerated IntVar based on a reversible sparse set.
+ * <br/>
+ * The values are stored in a dense array, the ones of the current domain come first,
+ * and a second array maps each value to its position in the dense array.
+ * Removing a value swaps it with the last value of the domain and decreases the size,
+ * so, upon backtrack, restoring the size restores the domain: the dense array is never trailed.
+ * Only the size and the bounds are stored.
+ * <p>
+ * Operations which touch many values, like instantiation or filtering against a set,
+ * iterate over the values of the current domain instead of all the values between the bounds.
+ * Finding the next or the previous value is in O(min(|D|, distance to the bound)).
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class SparseSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Dense array of values, the first {@link #SIZE} ones are in the domain
+     */
+    private final int[] VALUES;
+    /**
+     * Position in {@link #VALUES} of each value -- includes offset
+     */
+    private final int[] INDEXES;
+    /**
+     * Lower bound of the current domain
+     */
+    private final IStateInt LB;
+    /**
+     * Upper bound of the current domain
+     */
+    private final IStateInt UB;
+    /**
+     * Current size of domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * offset of the lower bound and the first value in the domain
+     */
+    private final int OFFSET;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    /**
+     * Signed Literal
+     */
+    private SignedLiteral.Set literal;
+
+    /**
+     * Create an enumerated IntVar based on a sparse set
+     *
+     * @param name         name of the variable
+     * @param sortedValues original domain values
+     * @param model        declaring model
+     */
+    public SparseSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        OFFSET = sortedValues[0];
+        int capacity = sortedValues[sortedValues.length - 1] - OFFSET + 1;
+        this.VALUES = new int[capacity];
+        this.INDEXES = new int[capacity];
+        // values of the domain come first, then the holes
+        int i = 0;
+        int j = sortedValues.length;
+        for (int v = OFFSET, k = 0; v < OFFSET + capacity; v++) {
+            int p;
+            if (v == sortedValues[k]) {
+                p = i++;
+                k++;
+            } else {
+                p = j++;
+            }
+            VALUES[p] = v;
+            INDEXES[v - OFFSET] = p;
+        }
+        this.LB = env.makeInt(OFFSET);
+        this.UB = env.makeInt(OFFSET + capacity - 1);
+        this.SIZE = env.makeInt(sortedValues.length);
+    }
+
+    /**
+     * Create an enumerated IntVar based on a sparse set
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param model declaring model
+     */
+    public SparseSetIntVarImpl(String name, int min, int max, Model model) {
+        this(name, ArrayUtils.array(min, max), model);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Move <i>value</i> to position <i>p</i> in {@link #VALUES}
+     */
+    private void swap(int value, int p) {
+        int q = INDEXES[value - OFFSET];
+        int w = VALUES[p];
+        VALUES[q] = w;
+        INDEXES[w - OFFSET] = q;
+        VALUES[p] = value;
+        INDEXES[value - OFFSET] = p;
+    }
+
+    /**
+     * @return the smallest value of the domain greater than or equal to <i>v</i>, or {@link Integer#MAX_VALUE}
+     */
+    private int nextIn(int v) {
+        int ub = UB.get();
+        int size = SIZE.get();
+        v = Math.max(v, LB.get());
+        if (ub - v < size) {
+            for (; v <= ub; v++) {
+                if (INDEXES[v - OFFSET] < size) return v;
+            }
+            return Integer.MAX_VALUE;
+        }
+        int m = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int w = VALUES[i];
+            if (v <= w && w < m) m = w;
+        }
+        return m;
+    }
+
+    /**
+     * @return the greatest value of the domain smaller than or equal to <i>v</i>, or {@link Integer#MIN_VALUE}
+     */
+    private int previousIn(int v) {
+        int lb = LB.get();
+        int size = SIZE.get();
+        v = Math.min(v, UB.get());
+        if (v - lb < size) {
+            for (; v >= lb; v--) {
+                if (INDEXES[v - OFFSET] < size) return v;
+            }
+            return Integer.MIN_VALUE;
+        }
+        int m = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int w = VALUES[i];
+            if (m < w && w <= v) m = w;
+        }
+        return m;
+    }
+
+    /**
+     * Remove the values of the current domain in [<i>f</i>, <i>t</i>], whichever iteration is the shortest:
+     * the values between <i>f</i> and <i>t</i> or the values of the domain.
+     * The stored size is not modified, the removal is effective once the caller sets it.
+     *
+     * @param count   current domain size
+     * @param observe set to <i>true</i> to notify the observer of each removal and to check for a wipe-out
+     * @return the new domain size
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    private int clear(int f, int t, int count, boolean observe, ICause cause) throws ContradictionException {
+        f = Math.max(f, LB.get());
+        t = Math.min(t, UB.get());
+        if (t - f < count) {
+            for (int v = f; v <= t; v++) {
+                if (INDEXES[v - OFFSET] < count) {
+                    count = remove(v, count, observe, cause);
+                }
+            }
+        } else {
+            for (int i = count - 1; i >= 0; i--) {
+                int v = VALUES[i];
+                if (f <= v && v <= t) {
+                    count = remove(v, count, observe, cause);
+                }
+            }
+        }
+        return count;
+    }
+
+    private int remove(int value, int count, boolean observe, ICause cause) throws ContradictionException {
+        if (observe) {
+            model.getSolver().getEventObserver().removeValue(this, value, cause);
+            if (count == 1) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+        }
+        if (reactOnRemoval) {
+            delta.add(value, cause);
+        }
+        swap(value, count - 1);
+        return count - 1;
+    }
+
+    /**
+     * Set the new domain size, restore the bounds and notify propagators,
+     * the event depends on the modified bounds.
+     */
+    private void notifyRemovals(int olb, int oub, int count, ICause cause) throws ContradictionException {
+        SIZE.set(count);
+        IntEventType e = IntEventType.REMOVE;
+        if (!contains(olb)) {
+            LB.set(nextIn(olb));
+            e = IntEventType.INCLOW;
+        }
+        if (!contains(oub)) {
+            UB.set(previousIn(oub));
+            e = e == IntEventType.INCLOW ? IntEventType.BOUND : IntEventType.DECUPP;
+        }
+        if (count == 1) {
+            e = IntEventType.INSTANTIATE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean change = contains(value);
+        if (change) {
+            int count = remove(value, SIZE.get(), true, cause);
+            notifyRemovals(getLB(), getUB(), count, cause);
+        }
+        return change;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int count = SIZE.get();
+        for (int v = values.nextValue(olb - 1); v <= oub; v = values.nextValue(v)) {
+            if (INDEXES[v - OFFSET] < count) {
+                count = remove(v, count, true, cause);
+            }
+        }
+        if (count < SIZE.get()) {
+            notifyRemovals(olb, oub, count, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int count = SIZE.get();
+        for (int i = count - 1; i >= 0; i--) {
+            int v = VALUES[i];
+            if (!values.contains(v)) {
+                count = remove(v, count, true, cause);
+            }
+        }
+        if (count < SIZE.get()) {
+            notifyRemovals(getLB(), getUB(), count, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB())
+            return updateLowerBound(to + 1, cause);
+        else if (getUB() <= to)
+            return updateUpperBound(from - 1, cause);
+        else {
+            // the iteration is mandatory for delta and observers
+            int count = clear(from, to, SIZE.get(), true, cause);
+            if (count < SIZE.get()) {
+                notifyRemovals(getLB(), getUB(), count, cause);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            if (reactOnRemoval) {
+                for (int i = SIZE.get() - 1; i >= 0; i--) {
+                    if (VALUES[i] != value) {
+                        delta.add(VALUES[i], cause);
+                    }
+                }
+            }
+            swap(value, 0);
+            this.LB.set(value);
+            this.UB.set(value);
+            this.SIZE.set(1);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                IntEventType e = IntEventType.INCLOW;
+                SIZE.set(clear(old, value - 1, SIZE.get(), false, cause));
+                LB.set(nextIn(value));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getEventObserver().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                IntEventType e = IntEventType.DECUPP;
+                SIZE.set(clear(value + 1, oub, SIZE.get(), false, cause));
+                UB.set(previousIn(value));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            IntEventType e = null;
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                SIZE.set(clear(olb, lb - 1, SIZE.get(), false, cause));
+                olb = nextIn(lb);
+                LB.set(olb);
+            }
+            if (olb > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                SIZE.set(clear(ub + 1, oub, SIZE.get(), false, cause));
+                UB.set(previousIn(ub));
+            }
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        aValue -= OFFSET;
+        return aValue >= 0 && aValue < INDEXES.length && INDEXES[aValue] < SIZE.get();
+    }
+
+    @Override
+    public int getValue() throws IllegalStateException {
+        if (!isInstantiated()) {
+            throw new IllegalStateException("getValue() can be only called on instantiated variable. " +
+                    name + " is not instantiated");
+        }
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return this.LB.get();
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return this.UB.get();
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        int lb = getLB();
+        if (aValue < lb) return lb;
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        return nextIn(aValue + 1);
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        if (getLB() - 1 <= aValue && aValue <= getUB()) {
+            do {
+                aValue++;
+            } while (contains(aValue));
+            return aValue;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        int ub = getUB();
+        if (aValue > ub) return ub;
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        return previousIn(aValue - 1);
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        if (getLB() <= aValue && aValue <= getUB() + 1) {
+            do {
+                aValue--;
+            } while (contains(aValue));
+            return aValue;
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            int v = getLB(), w;
+            s.append('{').append(v);
+            w = nextValueOut(v);
+            if (v < w - 1) s.append("..").append(w - 1);
+            v = nextValue(w);
+            while (v < Integer.MAX_VALUE) {
+                s.append(",").append(v);
+                w = nextValueOut(v);
+                if (v < w - 1) s.append("..").append(w - 1);
+                v = nextValue(w);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler<IntEventType> createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.value = getLB();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.value = getUB();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.value != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.value != Integer.MIN_VALUE;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    this.value = nextValue(this.value);
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    this.value = previousValue(this.value);
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.from = getLB();
+                    this.to = nextValueOut(from) - 1;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.to = getUB();
+                    this.from = previousValueOut(to) + 1;
+                }
+
+                public boolean hasNext() {
+                    return this.from != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.to != Integer.MIN_VALUE;
+                }
+
+                public void next() {
+                    this.from = nextValue(this.to);
+                    if (this.from != Integer.MAX_VALUE) {
+                        this.to = nextValueOut(this.from) - 1;
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    this.to = previousValue(this.from);
+                    if (this.to != Integer.MIN_VALUE) {
+                        this.from = previousValueOut(this.to) + 1;
+                    }
+                }
+
+                @Override
+                public int min() {
+                    return from;
+                }
+
+                @Override
+                public int max() {
+                    return to;
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+
+    @Override
+    public void createLit(IntIterableRangeSet rootDomain) {
+        if (this.literal != null) {
+            throw new IllegalStateException("createLit(Implications) called twice");
+        }
+        this.literal = new SignedLiteral.Set(rootDomain);
+    }
+
+    @Override
+    public SignedLiteral getLit() {
+        if (this.literal == null) {
+            throw new NullPointerException("getLit() called on null, a call to createLit(Implications) is required");
+        }
+        return this.literal;
+    }
+
+    @Override
+    public IntVar copy(ModelCopier copier) {
+        int[] values = new int[getDomainSize()];
+        int i = 0;
+        int ub = getUB();
+        for (int v = getLB(); v <= ub; v = nextValue(v)) {
+            values[i++] = v;
+        }
+        return new SparseSetIntVarImpl(getName(), values, copier.getCopy());
+    }
+}
@@ -10,8 +10,10 @@
 package org.chocosolver.solver.variables.view.bool;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.view.BoolIntView;
@@ -227,4 +229,9 @@ public final class BoolEqView<I extends IntVar> extends BoolIntView<I> {
             }
         }
     }
+
+    @Override
+    public BoolVar copy(ModelCopier copier) {
+        return new BoolEqView<>(copier.get(var), cste);
+    }
 }
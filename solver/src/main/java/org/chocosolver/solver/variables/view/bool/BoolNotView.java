@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view.bool;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.BoolVar;
@@ -305,4 +306,12 @@ public final class BoolNotView<B extends BoolVar> extends IntView<B> implements
         }
         return this.literal;
     }
+
+    @Override
+    public BoolVar copy(ModelCopier copier) {
+        B neg = copier.get(var);
+        BoolNotView<B> copy = new BoolNotView<>(neg);
+        neg._setNot(copy);
+        return copy;
+    }
 }
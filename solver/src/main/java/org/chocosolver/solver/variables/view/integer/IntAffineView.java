@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view.integer;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCopier;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -568,4 +569,8 @@ public final class IntAffineView<I extends IntVar> extends IntView<I> {
         }
     }
 
+    @Override
+    public IntVar copy(ModelCopier copier) {
+        return new IntAffineView<>(copier.get(var), p ? a : -a, b);
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative durations, in the style of HdrHistogram.
+ * <br/>
+ * Buckets have a logarithmic width: values are recorded with their 5 most significant bits,
+ * that is with a relative error of at most 1/16.
+ * Recording a value is done in constant time, with no allocation, and the memory footprint is fixed.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TimeHistogram {
+
+    /**
+     * Number of sub-buckets per power of two
+     */
+    private static final int SUB = 16;
+    /**
+     * log2(SUB)
+     */
+    private static final int SHIFT = 4;
+
+    private final long[] counts = new long[(64 - SHIFT) * SUB];
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Record a value
+     *
+     * @param value a non-negative value
+     */
+    public void record(long value) {
+        assert value >= 0;
+        counts[index(value)]++;
+        count++;
+        total += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Add the values recorded in <i>other</i> to this
+     *
+     * @param other another histogram
+     */
+    public void add(TimeHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Forget all recorded values
+     */
+    public void clear() {
+        Arrays.fill(counts, 0L);
+        count = total = 0L;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    private static int index(long value) {
+        if (value < SUB) {
+            return (int) value;
+        }
+        int e = 63 - Long.numberOfLeadingZeros(value);
+        int s = (int) (value >>> (e - SHIFT)) & (SUB - 1);
+        return (e - SHIFT + 1) * SUB + s;
+    }
+
+    /**
+     * @return the highest value that is recorded in the same bucket as the index-th one
+     */
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB) {
+            return index;
+        }
+        int e = index / SUB + SHIFT - 1;
+        long s = index % SUB;
+        return ((SUB + s + 1) << (e - SHIFT)) - 1;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of the recorded values
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the smallest recorded value, 0 if none
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * @return the largest recorded value, 0 if none
+     */
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * @return the mean of the recorded values, 0 if none
+     */
+    public double getMean() {
+        return count == 0 ? 0d : (double) total / count;
+    }
+
+    /**
+     * @param percentile a percentile, between 0 and 100
+     * @return a value such that <i>percentile</i> % of the recorded values are less than or equal to it,
+     * up to the precision of the histogram, 0 if no value was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100d, percentile) / 100d * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, highestEquivalentValue(i)));
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.1f, p50=%d, p99=%d, max=%d",
+                count, getMean(), getValueAtPercentile(50), getValueAtPercentile(99), getMax());
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.tree;
+
+import java.util.Arrays;
+
+/**
+ * A Θ-Λ-tree, as introduced by Vilím, to compute in O(log n) the energy envelope of a set of tasks.
+ * <p>
+ * Leaves are tasks sorted by non-decreasing earliest start time, a task is either
+ * absent, in Θ (white) or in Λ (gray).
+ * For a resource of capacity C, the energy envelope of Θ is:
+ * <pre>
+ *     Env(Θ) = max { C * est(Ω) + e(Ω) | Ω ⊆ Θ }
+ * </pre>
+ * where <i>e(Ω)</i> is the energy of the tasks of Ω and <i>est(Ω)</i> their smallest earliest start time.
+ * The tree also maintains the envelope of Θ extended by at most one task of Λ, together with the gray task
+ * responsible for it.
+ * With C = 1 and energies set to processing times, the envelope is the earliest completion time of Θ
+ * (unary resource).
+ * <p>
+ * See: "Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n)", P. Vilím, CP 2009.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ThetaLambdaTree {
+
+    /**
+     * Value of an empty envelope
+     */
+    public static final long NONE = Long.MIN_VALUE / 4;
+
+    /**
+     * Index of the first leaf
+     */
+    private int first;
+    /**
+     * Capacity of the resource
+     */
+    private long capacity;
+    /**
+     * Energy of Θ
+     */
+    private long[] e;
+    /**
+     * Envelope of Θ
+     */
+    private long[] env;
+    /**
+     * Energy of Θ extended by at most one gray task
+     */
+    private long[] eL;
+    /**
+     * Envelope of Θ extended by at most one gray task
+     */
+    private long[] envL;
+    /**
+     * Gray leaf responsible for <i>eL</i>, -1 if none
+     */
+    private int[] respE;
+    /**
+     * Gray leaf responsible for <i>envL</i>, -1 if none
+     */
+    private int[] respEnv;
+
+    /**
+     * Create a tree with at most <i>n</i> leaves
+     *
+     * @param n maximum number of leaves
+     */
+    public ThetaLambdaTree(int n) {
+        allocate(n);
+    }
+
+    private void allocate(int n) {
+        first = 1;
+        while (first < n) {
+            first <<= 1;
+        }
+        e = new long[2 * first];
+        env = new long[2 * first];
+        eL = new long[2 * first];
+        envL = new long[2 * first];
+        respE = new int[2 * first];
+        respEnv = new int[2 * first];
+    }
+
+    /**
+     * Empty the tree and make it ready to store <i>n</i> leaves for a resource of capacity <i>capacity</i>.
+     *
+     * @param n        number of leaves
+     * @param capacity capacity of the resource
+     */
+    public void reset(int n, long capacity) {
+        if (n > first) {
+            allocate(n);
+        }
+        this.capacity = capacity;
+        Arrays.fill(e, 0L);
+        Arrays.fill(env, NONE);
+        Arrays.fill(eL, NONE);
+        Arrays.fill(envL, NONE);
+        Arrays.fill(respE, -1);
+        Arrays.fill(respEnv, -1);
+    }
+
+    /**
+     * Put the task at leaf <i>leaf</i> in Θ.
+     *
+     * @param leaf   rank of the task by non-decreasing earliest start time
+     * @param est    earliest start time of the task
+     * @param energy energy of the task
+     */
+    public void addTheta(int leaf, long est, long energy) {
+        int i = first + leaf;
+        e[i] = eL[i] = energy;
+        env[i] = envL[i] = capacity * est + energy;
+        respE[i] = respEnv[i] = -1;
+        update(i >> 1);
+    }
+
+    /**
+     * Put the task at leaf <i>leaf</i> in Λ.
+     *
+     * @param leaf   rank of the task by non-decreasing earliest start time
+     * @param est    earliest start time of the task
+     * @param energy energy of the task
+     */
+    public void addLambda(int leaf, long est, long energy) {
+        int i = first + leaf;
+        e[i] = 0;
+        env[i] = NONE;
+        eL[i] = energy;
+        envL[i] = capacity * est + energy;
+        respE[i] = respEnv[i] = leaf;
+        update(i >> 1);
+    }
+
+    /**
+     * Remove the task at leaf <i>leaf</i> from Θ or Λ.
+     *
+     * @param leaf rank of the task by non-decreasing earliest start time
+     */
+    public void remove(int leaf) {
+        int i = first + leaf;
+        e[i] = 0;
+        env[i] = eL[i] = envL[i] = NONE;
+        respE[i] = respEnv[i] = -1;
+        update(i >> 1);
+    }
+
+    private void update(int i) {
+        while (i > 0) {
+            int l = i << 1;
+            int r = l + 1;
+            e[i] = e[l] + e[r];
+            env[i] = Math.max(env[r], env[l] + e[r]);
+            if (eL[l] + e[r] >= e[l] + eL[r]) {
+                eL[i] = eL[l] + e[r];
+                respE[i] = respE[l];
+            } else {
+                eL[i] = e[l] + eL[r];
+                respE[i] = respE[r];
+            }
+            long a = envL[r];
+            long b = env[l] + eL[r];
+            long c = envL[l] + e[r];
+            if (a >= b && a >= c) {
+                envL[i] = a;
+                respEnv[i] = respEnv[r];
+            } else if (b >= c) {
+                envL[i] = b;
+                respEnv[i] = respE[r];
+            } else {
+                envL[i] = c;
+                respEnv[i] = respEnv[l];
+            }
+            // keep empty values bounded
+            env[i] = Math.max(env[i], NONE);
+            eL[i] = Math.max(eL[i], NONE);
+            envL[i] = Math.max(envL[i], NONE);
+            i >>= 1;
+        }
+    }
+
+    /**
+     * @return the energy of Θ
+     */
+    public long energy() {
+        return e[1];
+    }
+
+    /**
+     * @return the energy envelope of Θ, or {@link #NONE} if Θ is empty
+     */
+    public long envelope() {
+        return env[1];
+    }
+
+    /**
+     * @return the energy envelope of Θ extended by at most one task of Λ, or {@link #NONE} if both are empty
+     */
+    public long lambdaEnvelope() {
+        return envL[1];
+    }
+
+    /**
+     * @return the leaf of the gray task responsible for {@link #lambdaEnvelope()}, -1 if none
+     */
+    public int responsibleLambda() {
+        return respEnv[1];
+    }
+}
@@ -12,7 +12,12 @@ package org.chocosolver.lp;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 /**
  * <br/>
@@ -356,6 +361,347 @@ public class LinearProgramTest {
         lp.makeVariables(2);
     }
 
+    @Test(groups = "1s")
+    public void testBounds() {
+        LinearProgram lp = new LinearProgram();
+        lp.makeVariables(2);
+        lp.addLeq(new double[]{4, 3}, 36);
+        lp.addLeq(new double[]{2, 3}, 48);
+        lp.setObjective(true, new double[]{5, 7});
+        lp.setBounds(1, 0, 8);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 3., 1e-8);
+        Assert.assertEquals(lp.value(1), 8., 1e-8);
+        Assert.assertEquals(lp.objective(), 71., 1e-8);
+        lp.setBounds(0, 4, 5);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 4., 1e-8);
+        Assert.assertEquals(lp.value(1), 6.6666666666666667, 1e-8);
+        lp.setBounds(0, 10, 12);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.INFEASIBLE);
+        lp.setBounds(0, 6, 5);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.INFEASIBLE);
+        lp.setBounds(0, 0, Double.POSITIVE_INFINITY);
+        lp.setBounds(1, 0, Double.POSITIVE_INFINITY);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 84, 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testBoundFlip() {
+        // a loose constraint: boxed variables are flipped to the bound of interest, without pivoting
+        LinearProgram lp = new LinearProgram();
+        lp.makeVariables(3);
+        lp.addLeq(new double[]{1, 1, 1}, 100);
+        lp.setBounds(0, 0, 2);
+        lp.setBounds(1, 1, 3);
+        lp.setBounds(2, 0, 4);
+        lp.setObjective(true, new double[]{1, -1, 2});
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 2., 1e-8);
+        Assert.assertEquals(lp.value(1), 1., 1e-8);
+        Assert.assertEquals(lp.value(2), 4., 1e-8);
+        Assert.assertEquals(lp.objective(), 9., 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testWarmStart() {
+        LinearProgram lp = new LinearProgram();
+        lp.makeVariables(2);
+        lp.addLeq(new double[]{1, 1}, 50);
+        lp.addLeq(new double[]{4, 7}, 280);
+        lp.setObjective(true, new double[]{5., 6.});
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 276.6666666666667, 1e-8);
+        // cut off the current optimum
+        lp.addLeq(0, 1, 23);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 23., 1e-8);
+        Assert.assertEquals(lp.value(1), 26.857142857142858, 1e-8);
+        Assert.assertTrue(lp.getNbIterations() <= 3);
+        // and back
+        lp.dropLast();
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 276.6666666666667, 1e-8);
+        lp.addGeq(1, 1, 30);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 17.5, 1e-8);
+        Assert.assertEquals(lp.value(1), 30., 1e-8);
+    }
+
+    /**
+     * Random LPs, of the form max c.x s.t. A.x &le; b, 0 &le; x &le; u, feasible by construction.
+     * Each LP is modified incrementally, and compared with a reference built from the generated data
+     * and solved by an independent dense simplex.
+     */
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        Random rnd = new Random(0);
+        for (int seed = 0; seed < 20; seed++) {
+            int n = 5 + rnd.nextInt(30);
+            int m = 5 + rnd.nextInt(60);
+            double[][] A = new double[m][n];
+            double[] b = new double[m];
+            double[] c = new double[n];
+            for (int j = 0; j < n; j++) {
+                c[j] = rnd.nextInt(21) - 5;
+            }
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (rnd.nextInt(3) == 0) {
+                        A[i][j] = rnd.nextInt(19) - 9;
+                    }
+                }
+                // a point with all variables set to 1 is feasible
+                double s = 0;
+                for (int j = 0; j < n; j++) {
+                    s += A[i][j];
+                }
+                b[i] = s + rnd.nextInt(10);
+            }
+            List<double[]> rows = new ArrayList<>(Arrays.asList(A));
+            List<Double> rhs = new ArrayList<>();
+            for (int i = 0; i < m; i++) {
+                rhs.add(b[i]);
+            }
+            double[] lo = new double[n];
+            double[] up = new double[n];
+            LinearProgram inc = new LinearProgram(A, b, c);
+            for (int j = 0; j < n; j++) {
+                inc.setBounds(j, 0, 10);
+                up[j] = 10;
+            }
+            Assert.assertEquals(inc.simplex(), LinearProgram.Status.FEASIBLE);
+            Assert.assertEquals(inc.objective(), referenceOptimum(rows, rhs, c, lo, up), 1e-6);
+            for (int step = 0; step < 5; step++) {
+                int j = rnd.nextInt(n);
+                double v = inc.value(j);
+                if (rnd.nextBoolean()) {
+                    lo[j] = Math.max(0, Math.floor(v) - 1);
+                    up[j] = Math.max(1, Math.floor(v));
+                    inc.setBounds(j, lo[j], up[j]);
+                } else {
+                    double[] a = new double[n];
+                    for (int k = 0; k < n; k++) {
+                        a[k] = rnd.nextInt(3);
+                    }
+                    double s = 0;
+                    for (int k = 0; k < n; k++) {
+                        s += a[k] * inc.value(k);
+                    }
+                    rows.add(a);
+                    rhs.add(Math.max(s - 1, 0));
+                    inc.addLeq(a, Math.max(s - 1, 0));
+                }
+                LinearProgram.Status st = inc.simplex();
+                double ref = referenceOptimum(rows, rhs, c, lo, up);
+                if (Double.isNaN(ref)) {
+                    Assert.assertEquals(st, LinearProgram.Status.INFEASIBLE);
+                    break;
+                }
+                Assert.assertEquals(st, LinearProgram.Status.FEASIBLE);
+                Assert.assertEquals(inc.objective(), ref, 1e-6);
+                checkFeasible(inc, rows, rhs);
+            }
+        }
+    }
+
+    /**
+     * Solves max c.x s.t. rows.x &le; rhs, lo &le; x &le; up with a dense two-phase tableau simplex
+     * and Bland's rule.
+     * Bounds must be finite.
+     *
+     * @return the optimal value, or {@link Double#NaN} if the problem is infeasible
+     */
+    private static double referenceOptimum(List<double[]> rows, List<Double> rhs,
+                                           double[] c, double[] lo, double[] up) {
+        int n = c.length;
+        int r = rows.size();
+        // x = lo + y, 0 <= y, one row per constraint and per upper bound, one slack per row
+        int m = r + n;
+        int x0 = n + m;
+        int rh = x0 + 1;
+        double[][] t = new double[m][rh + 1];
+        int[] basis = new int[m];
+        int worst = 0;
+        for (int i = 0; i < m; i++) {
+            if (i < r) {
+                double[] a = rows.get(i);
+                t[i][rh] = rhs.get(i);
+                for (int j = 0; j < n; j++) {
+                    t[i][j] = a[j];
+                    t[i][rh] -= a[j] * lo[j];
+                }
+            } else {
+                t[i][i - r] = 1;
+                t[i][rh] = up[i - r] - lo[i - r];
+            }
+            t[i][n + i] = 1;
+            t[i][x0] = -1;
+            basis[i] = n + i;
+            if (t[i][rh] < t[worst][rh]) {
+                worst = i;
+            }
+        }
+        if (t[worst][rh] < 0) {
+            // phase 1: maximize -x0 from the feasible basis obtained by entering x0
+            pivot(t, basis, worst, x0);
+            double[] aux = new double[x0 + 1];
+            aux[x0] = -1;
+            if (maximize(t, basis, aux, x0 + 1) < -1e-7) {
+                return Double.NaN;
+            }
+            for (int i = 0; i < m; i++) {
+                if (basis[i] == x0) {
+                    for (int j = 0; j < x0; j++) {
+                        if (Math.abs(t[i][j]) > 1e-9) {
+                            pivot(t, basis, i, j);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        double[] cost = Arrays.copyOf(c, x0 + 1);
+        double shift = 0;
+        for (int j = 0; j < n; j++) {
+            shift += c[j] * lo[j];
+        }
+        return maximize(t, basis, cost, x0) + shift;
+    }
+
+    private static double maximize(double[][] t, int[] basis, double[] cost, int nbCols) {
+        int rh = t[0].length - 1;
+        double[] z = new double[nbCols];
+        while (true) {
+            int e = -1;
+            for (int j = 0; j < nbCols && e < 0; j++) {
+                z[j] = cost[j];
+                for (int i = 0; i < t.length; i++) {
+                    z[j] -= cost[basis[i]] * t[i][j];
+                }
+                if (z[j] > 1e-9) {
+                    e = j;
+                }
+            }
+            if (e < 0) {
+                double obj = 0;
+                for (int i = 0; i < t.length; i++) {
+                    obj += cost[basis[i]] * t[i][rh];
+                }
+                return obj;
+            }
+            int l = -1;
+            for (int i = 0; i < t.length; i++) {
+                if (t[i][e] > 1e-9) {
+                    if (l < 0) {
+                        l = i;
+                    } else {
+                        double d = t[i][rh] / t[i][e] - t[l][rh] / t[l][e];
+                        if (d < -1e-12 || (d <= 1e-12 && basis[i] < basis[l])) {
+                            l = i;
+                        }
+                    }
+                }
+            }
+            // every variable is bounded by construction
+            Assert.assertTrue(l >= 0);
+            pivot(t, basis, l, e);
+        }
+    }
+
+    private static void pivot(double[][] t, int[] basis, int l, int e) {
+        double p = t[l][e];
+        for (int j = 0; j < t[l].length; j++) {
+            t[l][j] /= p;
+        }
+        for (int i = 0; i < t.length; i++) {
+            if (i != l && t[i][e] != 0) {
+                double f = t[i][e];
+                for (int j = 0; j < t[i].length; j++) {
+                    t[i][j] -= f * t[l][j];
+                }
+            }
+        }
+        basis[l] = e;
+    }
+
+    private static void checkFeasible(LinearProgram lp, List<double[]> rows, List<Double> rhs) {
+        for (int i = 0; i < rows.size(); i++) {
+            double[] a = rows.get(i);
+            double s = 0;
+            for (int j = 0; j < a.length; j++) {
+                s += a[j] * lp.value(j);
+            }
+            Assert.assertTrue(s <= rhs.get(i) + 1e-6);
+        }
+        for (int j = 0; j < rows.get(0).length; j++) {
+            Assert.assertTrue(lp.value(j) >= lp.getLowerBound(j) - 1e-6);
+            Assert.assertTrue(lp.value(j) <= lp.getUpperBound(j) + 1e-6);
+        }
+    }
+
+    /**
+     * A sparse LP with thousands of rows whose optimum is known by construction:
+     * a point x* is picked first, then the objective is built from nonnegative duals of the rows tight at x*
+     * and from reduced costs whose signs match the bound each variable sits at, so that x* is optimal.
+     */
+    @Test(groups = "10s", timeOut = 60000)
+    public void testLarge() {
+        Random rnd = new Random(0);
+        int n = 300, m = 3000;
+        double[] x = new double[n];
+        for (int j = 0; j < n; j++) {
+            int k = rnd.nextInt(3);
+            x[j] = k == 0 ? 0 : k == 1 ? 20 : 1 + rnd.nextInt(19);
+        }
+        LinearProgram lp = new LinearProgram();
+        lp.makeVariables(n);
+        double[] c = new double[n];
+        List<double[]> rows = new ArrayList<>();
+        List<Double> rhs = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            HashMap<Integer, Double> row = new HashMap<>();
+            for (int k = 0; k < 4; k++) {
+                row.put(rnd.nextInt(n), 1. + rnd.nextInt(5));
+            }
+            double[] a = new double[n];
+            double s = 0;
+            for (Map.Entry<Integer, Double> e : row.entrySet()) {
+                a[e.getKey()] = e.getValue();
+                s += e.getValue() * x[e.getKey()];
+            }
+            if (rnd.nextInt(10) == 0) {
+                // tight at x*, with a positive dual
+                double y = 1 + rnd.nextInt(3);
+                for (int j = 0; j < n; j++) {
+                    c[j] += y * a[j];
+                }
+            } else {
+                s += 1 + rnd.nextInt(40);
+            }
+            rows.add(a);
+            rhs.add(s);
+            lp.addLeq(row, s);
+        }
+        double opt = 0;
+        for (int j = 0; j < n; j++) {
+            lp.setBounds(j, 0, 20);
+            if (x[j] == 0) {
+                c[j] -= 1 + rnd.nextInt(5);
+            } else if (x[j] == 20) {
+                c[j] += 1 + rnd.nextInt(5);
+            }
+            opt += c[j] * x[j];
+        }
+        lp.setObjective(true, c);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.getNbConstraints(), m);
+        Assert.assertEquals(lp.objective(), opt, 1e-6);
+        checkFeasible(lp, rows, rhs);
+    }
+
+
     @Test(groups = "1s", expectedExceptions = UnsupportedOperationException.class)
     public void testError2() {
         LinearProgram lp = new LinearProgram();
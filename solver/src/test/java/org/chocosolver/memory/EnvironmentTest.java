@@ -9,11 +9,14 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.arena.HybridArena;
+import org.chocosolver.memory.copying.EnvironmentCopying;
 import org.chocosolver.memory.structure.OneWordS32BitSet;
 import org.chocosolver.memory.structure.OneWordS64BitSet;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
@@ -38,7 +41,10 @@ public class EnvironmentTest {
     public Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromArena().build()},
+                {new EnvironmentBuilder().fromCopy().build()},
+                {new EnvironmentBuilder().fromHybrid().build()}
         };
     }
 
@@ -418,4 +424,145 @@ public class EnvironmentTest {
         env.worldPop();
         Assert.assertEquals(val, new int[]{0, 1});
     }
-}
\ No newline at end of file
+
+    @DataProvider(name = "arena")
+    public Object[][] arena() {
+        return new Object[][]{
+                {new EnvironmentBuilder().setWorldSize(4).fromArena()},
+                {new EnvironmentBuilder().setWorldSize(4).fromCopy()},
+                {new EnvironmentBuilder().setWorldSize(4).fromHybrid()}
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "arena")
+    public void testArenaCommit(EnvironmentBuilder builder) {
+        EnvironmentTrailing env = builder.build();
+        IStateInt si = env.makeInt(0);
+        IStateDouble sd = env.makeFloat(0.);
+        env.worldPush();
+        si.set(2);
+        sd.set(2.);
+        env.worldPush();
+        si.set(4);
+        sd.set(4.);
+        env.worldPush();
+        si.set(6);
+        sd.set(6.);
+        env.worldCommit();
+        Assert.assertEquals(si.get(), 6);
+        Assert.assertEquals(sd.get(), 6.);
+        env.worldPop();
+        Assert.assertEquals(si.get(), 2);
+        Assert.assertEquals(sd.get(), 2.);
+        env.worldPop();
+        Assert.assertEquals(si.get(), 0);
+        Assert.assertEquals(sd.get(), 0.);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "arena")
+    public void testArenaGrowth(EnvironmentBuilder builder) {
+        EnvironmentTrailing env = builder.build();
+        IStateInt[] ints = new IStateInt[10000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = env.makeInt(i);
+        }
+        env.worldPush();
+        for (int i = 0; i < ints.length; i++) {
+            ints[i].add(1);
+        }
+        env.worldPush();
+        for (int i = 0; i < ints.length; i += 2) {
+            ints[i].set(-i);
+        }
+        env.worldPop();
+        for (int i = 0; i < ints.length; i++) {
+            Assert.assertEquals(ints[i].get(), i + 1);
+        }
+        env.worldPop();
+        for (int i = 0; i < ints.length; i++) {
+            Assert.assertEquals(ints[i].get(), i);
+        }
+        Assert.assertEquals(env.getArena().size(), 10000);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "arena")
+    public void testArenaRandom(EnvironmentBuilder builder) {
+        EnvironmentTrailing env = builder.build();
+        EnvironmentTrailing ref = new EnvironmentBuilder().fromFlat().build();
+        java.util.Random rnd = new java.util.Random(0);
+        java.util.List<IStateInt> a = new java.util.ArrayList<>();
+        java.util.List<IStateInt> b = new java.util.ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            a.add(env.makeInt(i));
+            b.add(ref.makeInt(i));
+        }
+        for (int k = 0; k < 20000; k++) {
+            int op = rnd.nextInt(100);
+            if (op < 8) {
+                env.worldPush();
+                ref.worldPush();
+            } else if (op < 14 && ref.getWorldIndex() > 0) {
+                env.worldPop();
+                ref.worldPop();
+            } else if (op < 15 && ref.getWorldIndex() > 0) {
+                env.worldCommit();
+                ref.worldCommit();
+            } else if (op < 16) {
+                int v = rnd.nextInt(10);
+                a.add(env.makeInt(v));
+                b.add(ref.makeInt(v));
+            } else {
+                // dense writes sometimes, to let the hybrid arena copy worlds
+                int n = op < 50 ? 1 : 10;
+                for (int j = 0; j < n; j++) {
+                    int i = rnd.nextInt(a.size());
+                    int v = rnd.nextInt(10);
+                    a.get(i).set(v);
+                    b.get(i).set(v);
+                }
+            }
+            Assert.assertEquals(env.getWorldIndex(), ref.getWorldIndex());
+            for (int i = 0; i < a.size(); i++) {
+                Assert.assertEquals(a.get(i).get(), b.get(i).get(), "at step " + k);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "arena")
+    public void testArenaSolve(EnvironmentBuilder builder) {
+        Model model = new Model(builder.build(), "arena", Settings.init());
+        IntVar[] q = model.intVarArray("Q", 8, 1, 8, false);
+        model.allDifferent(q, "BC").post();
+        for (int i = 0; i < 8; i++) {
+            for (int j = i + 1; j < 8; j++) {
+                model.arithm(q[i], "!=", q[j], "+", j - i).post();
+                model.arithm(q[i], "!=", q[j], "-", j - i).post();
+            }
+        }
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHybridSwitches() {
+        EnvironmentTrailing env = new EnvironmentBuilder().fromHybrid().build();
+        IStateInt[] ints = new IStateInt[16];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = env.makeInt(0);
+        }
+        for (int k = 1; k < 100; k++) {
+            env.worldPush();
+            for (IStateInt si : ints) {
+                si.set(k);
+            }
+            env.worldPop();
+        }
+        HybridArena arena = (HybridArena) env.getArena();
+        Assert.assertTrue(env instanceof EnvironmentCopying);
+        Assert.assertTrue(arena.getNbTrailedWorlds() > 0);
+        Assert.assertTrue(arena.getNbCopiedWorlds() > 0);
+        for (IStateInt si : ints) {
+            Assert.assertEquals(si.get(), 0);
+        }
+    }
+}
@@ -52,9 +52,9 @@ public class SatDecoratoTest {
         Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 2);
-        Assert.assertEquals(sat.trail_.size(), 2);
-        Assert.assertEquals(sat.trail_.get(0), 1);
-        Assert.assertEquals(sat.trail_.get(1), 3);
+        Assert.assertEquals(sat.trail_size_, 2);
+        Assert.assertEquals(sat.trail_[0], 1);
+        Assert.assertEquals(sat.trail_[1], 3);
         Assert.assertEquals(sat.trail_markers_.size(), 1);
         Assert.assertEquals(sat.trailMarker(), 1);
         Assert.assertEquals(sat.trail_markers_.get(0), 0);
@@ -64,11 +64,11 @@ public class SatDecoratoTest {
         Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lTrue);
         Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lTrue);
         Assert.assertEquals(sat.qhead_, 4);
-        Assert.assertEquals(sat.trail_.size(), 4);
-        Assert.assertEquals(sat.trail_.get(0), 1);
-        Assert.assertEquals(sat.trail_.get(1), 3);
-        Assert.assertEquals(sat.trail_.get(2), 5);
-        Assert.assertEquals(sat.trail_.get(3), 7);
+        Assert.assertEquals(sat.trail_size_, 4);
+        Assert.assertEquals(sat.trail_[0], 1);
+        Assert.assertEquals(sat.trail_[1], 3);
+        Assert.assertEquals(sat.trail_[2], 5);
+        Assert.assertEquals(sat.trail_[3], 7);
         Assert.assertEquals(sat.trail_markers_.size(), 2);
         Assert.assertEquals(sat.trailMarker(), 2);
         Assert.assertEquals(sat.trail_markers_.get(0), 0);
@@ -79,9 +79,9 @@ public class SatDecoratoTest {
         Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 2);
-        Assert.assertEquals(sat.trail_.size(), 2);
-        Assert.assertEquals(sat.trail_.get(0), 1);
-        Assert.assertEquals(sat.trail_.get(1), 3);
+        Assert.assertEquals(sat.trail_size_, 2);
+        Assert.assertEquals(sat.trail_[0], 1);
+        Assert.assertEquals(sat.trail_[1], 3);
         Assert.assertEquals(sat.trail_markers_.size(), 1);
         Assert.assertEquals(sat.trailMarker(), 1);
         Assert.assertEquals(sat.trail_markers_.get(0), 0);
@@ -91,7 +91,7 @@ public class SatDecoratoTest {
         Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 0);
-        Assert.assertEquals(sat.trail_.size(), 0);
+        Assert.assertEquals(sat.trail_size_, 0);
         Assert.assertEquals(sat.trail_markers_.size(), 0);
         Assert.assertEquals(sat.trailMarker(), 0);
     }
@@ -148,9 +148,9 @@ public class SatDecoratoTest {
         Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 2);
-        Assert.assertEquals(sat.trail_.size(), 2);
-        Assert.assertEquals(sat.trail_.get(0), 1);
-        Assert.assertEquals(sat.trail_.get(1), 3);
+        Assert.assertEquals(sat.trail_size_, 2);
+        Assert.assertEquals(sat.trail_[0], 1);
+        Assert.assertEquals(sat.trail_[1], 3);
         Assert.assertEquals(sat.trail_markers_.size(), 1);
         Assert.assertEquals(sat.trailMarker(), 1);
         Assert.assertEquals(sat.trail_markers_.get(0), 0);
@@ -162,9 +162,9 @@ public class SatDecoratoTest {
         Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 2);
-        Assert.assertEquals(sat.trail_.size(), 2);
-        Assert.assertEquals(sat.trail_.get(0), 1);
-        Assert.assertEquals(sat.trail_.get(1), 3);
+        Assert.assertEquals(sat.trail_size_, 2);
+        Assert.assertEquals(sat.trail_[0], 1);
+        Assert.assertEquals(sat.trail_[1], 3);
         Assert.assertEquals(sat.trail_markers_.size(), 2);
         Assert.assertEquals(sat.trailMarker(), 2);
         Assert.assertEquals(sat.trail_markers_.get(0), 0);
@@ -53,15 +53,15 @@ public class SatSolverTest {
 
     @Test(groups = "1s")
     public void testAddClause() throws Exception {
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(b), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(c), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(d), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(b), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
 
         Assert.assertTrue(sat.addClause(MiniSat.makeLiteral(a, true)));
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lTrue);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lTrue);
         Assert.assertTrue(sat.addClause(MiniSat.makeLiteral(b, false)));
-        Assert.assertEquals(sat.assignment_.get(b), MiniSat.Boolean.lFalse);
+        Assert.assertEquals(sat.valueVar(b), MiniSat.Boolean.lFalse);
         Assert.assertEquals(sat.qhead_, 2);
         Assert.assertEquals(sat.clauses.size(), 0);
     }
@@ -76,8 +76,8 @@ public class SatSolverTest {
         int ap = MiniSat.makeLiteral(a, true);
         int bp = MiniSat.makeLiteral(b, true);
         Assert.assertTrue(sat.addClause(ap, bp));
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(b), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(b), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.clauses.size(), 1);
         Assert.assertEquals(sat.qhead_, 0);
     }
@@ -88,9 +88,9 @@ public class SatSolverTest {
         int bp = MiniSat.makeLiteral(b, true);
         int cp = MiniSat.makeLiteral(c, true);
         Assert.assertTrue(sat.addClause(ap, bp, cp));
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(b), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(c), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(b), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 0);
         Assert.assertEquals(sat.clauses.size(), 1);
     }
@@ -102,10 +102,10 @@ public class SatSolverTest {
         int cp = MiniSat.makeLiteral(c, true);
         int dp = MiniSat.makeLiteral(d, true);
         Assert.assertTrue(sat.addClause(new TIntArrayList(new int[]{ap, bp, cp, dp})));
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(b), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(c), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(d), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(b), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 0);
         Assert.assertEquals(sat.clauses.size(), 1);
     }
@@ -114,10 +114,10 @@ public class SatSolverTest {
     public void testAddClause4() throws Exception {
         int a1 = MiniSat.makeLiteral(a, true);
         Assert.assertTrue(sat.addClause(new TIntArrayList(new int[]{a1, a1, a1, a1})));
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lTrue);
-        Assert.assertEquals(sat.assignment_.get(b), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(c), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(d), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lTrue);
+        Assert.assertEquals(sat.valueVar(b), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 1);
         Assert.assertEquals(sat.clauses.size(), 0);
     }
@@ -127,10 +127,10 @@ public class SatSolverTest {
         int a1 = MiniSat.makeLiteral(a, true);
         int a2 = MiniSat.makeLiteral(a, false);
         Assert.assertTrue(sat.addClause(new TIntArrayList(new int[]{a1, a2})));
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(b), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(c), MiniSat.Boolean.lUndef);
-        Assert.assertEquals(sat.assignment_.get(d), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(b), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(c), MiniSat.Boolean.lUndef);
+        Assert.assertEquals(sat.valueVar(d), MiniSat.Boolean.lUndef);
         Assert.assertEquals(sat.qhead_, 0);
         Assert.assertEquals(sat.clauses.size(), 0);
     }
@@ -139,11 +139,11 @@ public class SatSolverTest {
     public void testAddClause6() throws Exception {
         int ap = MiniSat.makeLiteral(a, true);
         sat.uncheckedEnqueue(ap);
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lTrue);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lTrue);
         int an = MiniSat.makeLiteral(a, false);
         Assert.assertFalse(sat.addClause(an));
         sat.propagate();
-        Assert.assertEquals(sat.assignment_.get(a), MiniSat.Boolean.lTrue);
+        Assert.assertEquals(sat.valueVar(a), MiniSat.Boolean.lTrue);
         Assert.assertEquals(sat.qhead_, 1);
         Assert.assertFalse(sat.ok_);
     }
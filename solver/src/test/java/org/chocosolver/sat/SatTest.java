@@ -9,6 +9,7 @@
  */
 package org.chocosolver.sat;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.util.ESat;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -20,7 +21,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 /**
  * <br/>
@@ -74,6 +77,62 @@ public class SatTest {
     }
 
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testClauseDatabase() {
+        int gcs = 0;
+        for (int seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            int n = 80;
+            int[][] cnf = new int[(int) (n * 4.26)][3];
+            for (int[] cl : cnf) {
+                for (int k = 0; k < 3; k++) {
+                    cl[k] = MiniSat.makeLiteral(rnd.nextInt(n), rnd.nextBoolean());
+                }
+            }
+            MiniSat ref = new MiniSat();
+            ref.garbage_frac = Double.MAX_VALUE;
+            ref.core_lbd = 0;
+            ref.tier2_lbd = 0;
+            MiniSat solver = new MiniSat();
+            // force frequent reductions and garbage collections
+            solver.learntsize_factor = 0.01;
+            solver.garbage_frac = 0.01;
+            ESat expected = solve(ref, n, cnf);
+            ESat actual = solve(solver, n, cnf);
+            Assert.assertEquals(actual, expected);
+            if (actual == ESat.TRUE) {
+                for (int[] cl : cnf) {
+                    Assert.assertTrue(Arrays.stream(cl).anyMatch(l -> solver.model.get(MiniSat.var(l))
+                            == (MiniSat.sgn(l) ? MiniSat.Boolean.lTrue : MiniSat.Boolean.lFalse)));
+                }
+            }
+            Assert.assertEquals(solver.ca_size_ - solver.wasted_, live(solver));
+            gcs += solver.garbage_collections;
+        }
+        Assert.assertTrue(gcs > 0);
+    }
+
+    private static ESat solve(MiniSat solver, int n, int[][] cnf) {
+        for (int i = 0; i < n; i++) {
+            solver.newVariable();
+        }
+        for (int[] cl : cnf) {
+            solver.addClause(new TIntArrayList(cl));
+        }
+        return solver.solve();
+    }
+
+    private static int live(MiniSat solver) {
+        int words = 0;
+        for (int i = 0; i < solver.clauses.size(); i++) {
+            words += 3 + solver.clauseSize(solver.clauses.get(i));
+        }
+        for (int i = 0; i < solver.learnts.size(); i++) {
+            words += 3 + solver.clauseSize(solver.learnts.get(i));
+        }
+        return words;
+    }
+
     private void run(String path, boolean sat) throws FileNotFoundException {
         String file = this.getClass().getResource(path).getFile();
         MiniSat solver = new MiniSat();
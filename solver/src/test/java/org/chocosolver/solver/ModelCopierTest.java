@@ -0,0 +1,240 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.CostAutomaton;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
+import org.chocosolver.solver.constraints.nary.sum.PropPseudoBoolean;
+import org.chocosolver.solver.constraints.nary.sum.PropScalarWithLong;
+import org.chocosolver.solver.constraints.nary.sum.PropSumWithLong;
+import org.chocosolver.solver.constraints.ternary.PropXplusYeqZ;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Variable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ModelCopierTest {
+
+    /**
+     * A model made of various constraints and views
+     */
+    private static Model model() {
+        Model model = new Model("copied");
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        IntVar y = model.intVar("y", new int[]{0, 2, 4, 6});
+        IntVar z = model.intVar("z", -5, 5, true);
+        BoolVar b = model.boolVar("b");
+        model.allDifferent(x).post();
+        model.arithm(x[0], "<", x[1]).post();
+        model.arithm(x[2], "+", x[3], "!=", 3).post();
+        model.sum(new IntVar[]{x[0], x[1], z}, "=", y).post();
+        model.element(y, new int[]{0, 2, 4, 6}, x[2]).post();
+        Tuples tuples = new Tuples(true);
+        tuples.add(0, 1);
+        tuples.add(1, 2);
+        tuples.add(2, 3);
+        tuples.add(3, 0);
+        model.table(new IntVar[]{x[1], x[3]}, tuples).post();
+        model.regular(x, new FiniteAutomaton("(0|1|2|3)*")).post();
+        model.reifyXeqC(z, 1, b);
+        model.arithm(b.not(), "<=", model.intEqView(x[0], 0)).post();
+        model.member(model.intOffsetView(z, 2), new int[]{1, 3, 5, 7}).post();
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSameSolutions() {
+        Model model = model();
+        ModelCopier copier = new ModelCopier(model);
+        Model copy = copier.getCopy();
+        Assert.assertEquals(copy.getName(), model.getName());
+        Assert.assertEquals(copy.getNbVars(), model.getNbVars());
+        Assert.assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        for (Variable v : model.getVars()) {
+            Variable c = copier.get(v);
+            Assert.assertNotSame(c, v);
+            Assert.assertSame(c.getModel(), copy);
+            Assert.assertEquals(c.getId(), v.getId());
+            Assert.assertEquals(c.getName(), v.getName());
+            Assert.assertEquals(c.getTypeAndKind(), v.getTypeAndKind());
+        }
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), model.getSolver().findAllSolutions().size());
+        Assert.assertTrue(model.getSolver().getSolutionCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCurrentDomains() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 9);
+        IntVar y = model.intVar("y", 0, 9);
+        model.arithm(x, ">", 6).post();
+        model.arithm(x, "<", y).post();
+        model.getSolver().propagate();
+        ModelCopier copier = new ModelCopier(model);
+        Assert.assertEquals(copier.get(x).getLB(), 7);
+        Assert.assertEquals(copier.get(y).getLB(), 8);
+        Assert.assertEquals(copier.getCopy().getSolver().findAllSolutions().size(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIndependent() {
+        Model model = model();
+        ModelCopier copier = new ModelCopier(model);
+        Model copy = copier.getCopy();
+        IntVar x0 = (IntVar) model.getVar(0);
+        copy.arithm(copier.get(x0), "=", 3).post();
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), 0);
+        Assert.assertTrue(model.getSolver().solve());
+        Assert.assertTrue(x0.isInstantiated());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testObjective() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        IntVar cost = model.intVar("cost", 0, 100);
+        model.allDifferent(x, "BC").post();
+        model.scalar(x, new int[]{3, 1, 4, 1, 5}, "=", cost).post();
+        int[][] costs = new int[5][5];
+        for (int i = 0; i < 5; i++) {
+            costs[i][i] = i;
+        }
+        model.costRegular(x, model.intVar("reg", 0, 8),
+                CostAutomaton.makeSingleResource(new FiniteAutomaton("(0|1|2|3|4)*"), costs, 0, 8)).post();
+        model.setObjective(Model.MAXIMIZE, cost);
+        Model copy = model.copy();
+        Assert.assertEquals(copy.getResolutionPolicy(), ResolutionPolicy.MAXIMIZE);
+        Assert.assertEquals(copy.getObjective().getName(), "cost");
+        Solution s1 = model.getSolver().findOptimalSolution(cost, Model.MAXIMIZE);
+        Solution s2 = copy.getSolver().findOptimalSolution((IntVar) copy.getObjective(), Model.MAXIMIZE);
+        Assert.assertNotNull(s1);
+        Assert.assertNotNull(s2);
+        Assert.assertEquals(s2.getIntVal((IntVar) copy.getObjective()), s1.getIntVal(cost));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConstants() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        model.arithm(x, ">=", model.intVar(3)).post();
+        ModelCopier copier = new ModelCopier(model);
+        Model copy = copier.getCopy();
+        Assert.assertSame(copy.intVar(3), copier.get(model.intVar(3)));
+        Assert.assertSame(copier.get(model.getCstrs()[0]).getPropagator(0).getModel(), copy);
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSetVar() {
+        Model model = new Model();
+        SetVar s = model.setVar("s", new int[]{1}, new int[]{1, 2, 3});
+        ModelCopier copier = new ModelCopier(model);
+        Assert.assertEquals(copier.get(s).getLB().size(), 1);
+        Assert.assertEquals(copier.get(s).getUB().size(), 3);
+    }
+
+    /**
+     * Copy <i>model</i> and check that the copy is made of the same propagators and has the same solutions
+     */
+    private static void assertSameSolutions(Model model) {
+        Model copy = model.copy();
+        Assert.assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        for (int i = 0; i < model.getNbCstrs(); i++) {
+            Propagator<?>[] props = model.getCstrs()[i].getPropagators();
+            Propagator<?>[] copies = copy.getCstrs()[i].getPropagators();
+            Assert.assertEquals(copies.length, props.length);
+            for (int j = 0; j < props.length; j++) {
+                Assert.assertEquals(copies[j].getClass(), props[j].getClass());
+            }
+        }
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), model.getSolver().findAllSolutions().size());
+        Assert.assertTrue(model.getSolver().getSolutionCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testArithmetic() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", -3, 3);
+        IntVar y = model.intVar("y", -3, 3, true);
+        IntVar z = model.intVar("z", -3, 3);
+        IntVar w = model.intVar("w", -9, 9);
+        Constraint sum = model.arithm(x, "+", y, "=", z);
+        Assert.assertTrue(sum.getPropagator(0) instanceof PropXplusYeqZ);
+        sum.post();
+        model.times(x, y, w).post();
+        model.div(w, y, model.intVar("d", -9, 9)).post();
+        model.max(model.intVar("max", -3, 3), x, z).post();
+        model.min(model.intVar("min", -3, 3), y, z).post();
+        model.absolute(model.intVar("abs", 0, 3), x).post();
+        model.square(model.intVar("sq", 0, 9), z).post();
+        model.mod(w, 4, model.intVar("m", -3, 3)).post();
+        model.distance(x, z, "<", 4).post();
+        model.distance(x, y, ">", model.intVar("dist", 0, 2)).post();
+        model.max(model.intVar("maxs", -3, 3), new IntVar[]{x, y, z}).post();
+        model.min(model.intVar("mins", -3, 3), new IntVar[]{x, y, z}).post();
+        assertSameSolutions(model);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBoolMinMax() {
+        Model model = new Model();
+        BoolVar[] b = model.boolVarArray("b", 4);
+        model.max(model.boolVar("max"), b).post();
+        model.min(model.boolVar("min"), b).post();
+        assertSameSolutions(model);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPseudoBoolean() {
+        Model model = new Model(Settings.init().setEnablePseudoBooleanOnBoolScalar(i -> true));
+        BoolVar[] b = model.boolVarArray("b", 12);
+        int[] c = new int[b.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = i % 3 - 1 + i % 2;
+        }
+        Constraint cstr = model.scalar(b, c, ">=", 3);
+        Assert.assertTrue(cstr.getPropagator(0) instanceof PropPseudoBoolean);
+        cstr.post();
+        assertSameSolutions(model);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSumWithLong() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.post(new Constraint("sum", new PropSumWithLong(x, 2, Operator.LE, 4)));
+        Constraint cstr = model.scalar(x, new int[]{300_000_000, 400_000_000, -500_000_000}, ">=", 0);
+        Assert.assertTrue(cstr.getPropagator(0) instanceof PropScalarWithLong);
+        cstr.post();
+        assertSameSolutions(model);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testUnsupported() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.circuit(x).post();
+        model.copy();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ModelDecomposerTest {
+
+    /**
+     * <i>n</i> independent sub-problems, each of them has a cost to minimize
+     */
+    private static IntVar[] sites(Model model, int n, int size) {
+        IntVar[] costs = new IntVar[n];
+        for (int k = 0; k < n; k++) {
+            IntVar[] x = model.intVarArray("x" + k, size, 0, size);
+            model.allDifferent(x).post();
+            model.arithm(x[0], ">", x[size - 1]).post();
+            int[] w = new int[size];
+            for (int i = 0; i < size; i++) {
+                w[i] = (k + i) % 3 + 1;
+            }
+            costs[k] = model.intVar("c" + k, 0, 1000);
+            model.scalar(x, w, "=", costs[k]).post();
+        }
+        return costs;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSubProblems() {
+        Model model = new Model();
+        IntVar[] costs = sites(model, 3, 4);
+        IntVar free = model.intVar("free", 0, 3);
+        IntVar cst = model.intVar(2);
+        IntVar obj = model.intVar("obj", 0, 3000);
+        model.sum(costs, "=", obj).post();
+        List<Variable[]> subProblems = new ModelAnalyser(model).getIndependentSubProblems();
+        // costs are linked by the sum
+        Assert.assertEquals(subProblems.size(), 2);
+        subProblems = new ModelAnalyser(model).getIndependentSubProblems(model.getCstrs()[model.getNbCstrs() - 1]);
+        // 3 sites, and the unconstrained variables
+        Assert.assertEquals(subProblems.size(), 4);
+        for (int k = 0; k < 3; k++) {
+            Assert.assertEquals(subProblems.get(k).length, 5);
+        }
+        Assert.assertEqualsNoOrder(subProblems.get(3), new Variable[]{free, obj});
+        for (Variable[] vars : subProblems) {
+            for (Variable v : vars) {
+                Assert.assertNotSame(v, cst);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFindSolution() throws ContradictionException {
+        Model model = new Model();
+        sites(model, 5, 5);
+        IntVar free = model.intVar("free", 0, 3);
+        ModelDecomposer decomposer = new ModelDecomposer(model);
+        Solution solution = decomposer.findSolution();
+        Assert.assertNotNull(solution);
+        Assert.assertEquals(decomposer.getNbSolvedSubProblems(), 6);
+        Assert.assertEquals(solution.getIntVal(free), 0);
+        model.getEnvironment().worldPush();
+        solution.restore();
+        Assert.assertEquals(model.getSolver().isSatisfied(), org.chocosolver.util.ESat.TRUE);
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasible() {
+        Model model = new Model();
+        sites(model, 3, 4);
+        IntVar[] x = model.intVarArray("y", 3, 0, 1);
+        model.allDifferent(x).post();
+        ModelDecomposer decomposer = new ModelDecomposer(model);
+        Assert.assertNull(decomposer.findSolution());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptimize() {
+        int n = 4;
+        int expected;
+        {
+            Model model = new Model();
+            IntVar[] costs = sites(model, n, 4);
+            IntVar obj = model.intVar("obj", 0, 1000 * n);
+            model.sum(costs, "=", obj).post();
+            Solution s = model.getSolver().findOptimalSolution(obj, false);
+            expected = s.getIntVal(obj);
+        }
+        Model model = new Model();
+        IntVar[] costs = sites(model, n, 4);
+        IntVar obj = model.intVar("obj", 0, 1000 * n);
+        model.sum(costs, "=", obj).post();
+        int nbVars = model.getNbVars();
+        int nbCstrs = model.getNbCstrs();
+        ModelDecomposer decomposer = new ModelDecomposer(model);
+        Solution solution = decomposer.findOptimalSolution(obj, false, costs);
+        Assert.assertNotNull(solution);
+        Assert.assertEquals(decomposer.getNbSolvedSubProblems(), n);
+        Assert.assertEquals(solution.getIntVal(obj), expected);
+        int sum = 0;
+        for (IntVar c : costs) {
+            sum += solution.getIntVal(c);
+        }
+        Assert.assertEquals(sum, expected);
+        // temporary variables and constraints are removed
+        Assert.assertEquals(model.getNbVars(), nbVars);
+        Assert.assertEquals(model.getNbCstrs(), nbCstrs);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptimizeSeveralTermsPerSubProblem() {
+        Model model = new Model();
+        IntVar[] costs = sites(model, 2, 4);
+        IntVar[] x = model.intVarArray("z", 2, 0, 5);
+        model.arithm(x[0], "+", x[1], ">=", 7).post();
+        model.arithm(x[0], "<=", costs[0]).post();
+        IntVar[] terms = {costs[0], costs[1], x[0], x[1]};
+        IntVar obj = model.intVar("obj", 0, 10000);
+        model.sum(terms, "=", obj).post();
+        ModelDecomposer decomposer = new ModelDecomposer(model);
+        Solution solution = decomposer.findOptimalSolution(obj, true, terms);
+        Assert.assertNotNull(solution);
+        Assert.assertEquals(decomposer.getNbSolvedSubProblems(), 2);
+        int value = solution.getIntVal(obj);
+        model.getSolver().reset();
+        Solution whole = model.getSolver().findOptimalSolution(obj, true);
+        Assert.assertEquals(value, whole.getIntVal(obj));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConcurrent() {
+        int n = 4;
+        Model ref = new Model();
+        IntVar[] refCosts = sites(ref, n, 4);
+        IntVar refObj = ref.intVar("obj", 0, 1000 * n);
+        ref.sum(refCosts, "=", refObj).post();
+        int expected = new ModelDecomposer(ref).findOptimalSolution(refObj, false, refCosts).getIntVal(refObj);
+        Model model = new Model();
+        IntVar[] costs = sites(model, n, 4);
+        IntVar free = model.intVar("free", 0, 3);
+        IntVar obj = model.intVar("obj", 0, 1000 * n);
+        model.sum(costs, "=", obj).post();
+        // the sub-problems are solved in copies of the model
+        Assert.assertNotNull(model.copy());
+        ModelDecomposer decomposer = new ModelDecomposer(model).setNbWorkers(3);
+        Solution solution = decomposer.findSolution();
+        Assert.assertNotNull(solution);
+        // the sites are linked by the sum, unless it is ignored as the objective
+        Assert.assertEquals(decomposer.getNbSolvedSubProblems(), 2);
+        Assert.assertEquals(solution.getIntVal(free), 0);
+        solution = decomposer.findOptimalSolution(obj, false, costs);
+        Assert.assertNotNull(solution);
+        Assert.assertEquals(decomposer.getNbSolvedSubProblems(), n + 1);
+        Assert.assertEquals(solution.getIntVal(obj), expected);
+        int sum = 0;
+        for (IntVar c : costs) {
+            sum += solution.getIntVal(c);
+        }
+        Assert.assertEquals(sum, expected);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoWorker() {
+        new ModelDecomposer(new Model()).setNbWorkers(0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFallback() {
+        Model model = new Model();
+        IntVar[] costs = sites(model, 3, 4);
+        // the sum of the best costs does not fit in the domain of the objective
+        IntVar obj = model.intVar("obj", 0, 30);
+        model.sum(costs, "=", obj).post();
+        ModelDecomposer decomposer = new ModelDecomposer(model);
+        Solution solution = decomposer.findOptimalSolution(obj, true, costs);
+        Assert.assertNotNull(solution);
+        Assert.assertEquals(decomposer.getNbSolvedSubProblems(), 0);
+        Assert.assertEquals(solution.getIntVal(obj), 30);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNotSeparable() {
+        Model model = new Model();
+        IntVar[] costs = sites(model, 2, 3);
+        IntVar obj = model.intVar("obj", 0, 3000);
+        model.sum(costs, "=", obj).post();
+        model.arithm(obj, "!=", costs[0], "+", 1).post();
+        new ModelDecomposer(model).findOptimalSolution(obj, false, new IntVar[]{costs[1]});
+    }
+}
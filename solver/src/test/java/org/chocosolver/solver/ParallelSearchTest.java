@@ -0,0 +1,98 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ParallelSearchTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutions() {
+        ParallelSearch ps = new ParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            ps.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(8));
+        }
+        List<Solution> solutions = ps.findAllSolutions();
+        Assert.assertTrue(ps.getNbCubes() > 1);
+        Assert.assertEquals(solutions.size(), 92);
+        Assert.assertEquals(ps.getSolutionCount(), 92);
+        Assert.assertEquals(solutions.stream().map(Solution::toString).distinct().count(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOneSolution() {
+        ParallelSearch ps = new ParallelSearch(4);
+        for (int i = 0; i < 3; i++) {
+            ps.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(10));
+        }
+        Assert.assertTrue(ps.solve());
+        Assert.assertEquals(ps.getSolutionCount(), 1);
+        Model m = ps.getModels().get(0);
+        IntVar[] qs = m.retrieveIntVars(true);
+        Solution s = ps.getBestSolution();
+        for (int i = 0; i < qs.length; i++) {
+            for (int j = i + 1; j < qs.length; j++) {
+                Assert.assertNotEquals(s.getIntVal(qs[i]), s.getIntVal(qs[j]));
+                Assert.assertNotEquals(Math.abs(s.getIntVal(qs[i]) - s.getIntVal(qs[j])), j - i);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        ParallelSearch ps = new ParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            Model model = new Model();
+            IntVar[] p = model.intVarArray("p", 7, 1, 6, false);
+            model.allDifferent(p, "NEQS").post();
+            ps.addModel(model);
+        }
+        Assert.assertFalse(ps.solve());
+        Assert.assertNull(ps.getBestSolution());
+        Assert.assertEquals(ps.getSolutionCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptimization() {
+        for (int k = 1; k < 5; k++) {
+            ParallelSearch ps = new ParallelSearch();
+            for (int i = 0; i < k; i++) {
+                ps.addModel(knapsack());
+            }
+            Assert.assertTrue(ps.solve());
+            IntVar obj = (IntVar) ps.getModels().get(0).getObjective();
+            Assert.assertEquals(ps.getBestSolution().getIntVal(obj), 51);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReuse() {
+        ParallelSearch ps = new ParallelSearch();
+        for (int i = 0; i < 2; i++) {
+            ps.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(6));
+        }
+        Assert.assertEquals(ps.findAllSolutions().size(), 4);
+        Assert.assertEquals(ps.findAllSolutions().size(), 4);
+        Assert.assertTrue(ps.solve());
+    }
+}
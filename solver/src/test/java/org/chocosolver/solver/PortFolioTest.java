@@ -9,9 +9,13 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.constraints.nary.clauses.ClauseExchange;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
+import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.restart.MonotonicCutoff;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -269,4 +273,79 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    private static Model pigeons(int n) {
+        Model model = new Model();
+        IntVar[] p = model.intVarArray("p", n + 1, 1, n, false);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n + 1; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testClauseExchange() {
+        Model m1 = pigeons(3);
+        Model m2 = pigeons(3);
+        Model m3 = pigeons(3);
+        ClauseExchange bus = new ClauseExchange(2, 2, 2);
+        Assert.assertEquals(bus.getCapacity(), 2);
+        ClauseExchange.Endpoint e1 = bus.connect(m1, true);
+        ClauseExchange.Endpoint e2 = bus.connect(m2, true);
+        ClauseExchange.Endpoint e3 = bus.connect(m3, false);
+        IntVar[] x = m1.retrieveIntVars(true);
+        IntIterableRangeSet[] r = {new IntIterableRangeSet(1), new IntIterableRangeSet(2, 3)};
+        Assert.assertFalse(e1.export(new IntVar[]{x[0], x[1], x[2]}, new IntIterableRangeSet[]{r[0], r[0], r[0]}, 1));
+        Assert.assertFalse(e1.export(new IntVar[]{x[0], x[1]}, r, 3));
+        Assert.assertTrue(e1.export(new IntVar[]{x[0], x[1]}, r, 2));
+        Assert.assertFalse(e3.export(new IntVar[]{x[0], x[1]}, r, 1));
+        Assert.assertEquals(e1.getNbExported(), 1);
+
+        ClauseStore s2 = m2.getClauseConstraint().getClauseStore();
+        e2.importInto(s2);
+        Assert.assertEquals(e2.getNbImported(), 1);
+        Assert.assertEquals(s2.getNbLearntClauses(), 1);
+        e2.importInto(s2);
+        Assert.assertEquals(e2.getNbImported(), 1);
+        // its own clauses are not imported back
+        e1.importInto(m1.getClauseConstraint().getClauseStore());
+        Assert.assertEquals(e1.getNbImported(), 0);
+
+        // the ring of m1 is lapped
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(e1.export(new IntVar[]{x[i], x[i + 1]}, r, 1));
+        }
+        ClauseStore s3 = m3.getClauseConstraint().getClauseStore();
+        e3.importInto(s3);
+        Assert.assertEquals(e3.getNbLost(), 2);
+        Assert.assertEquals(e3.getNbImported(), 2);
+        Assert.assertEquals(s3.getNbLearntClauses(), 2);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testShareClauses() {
+        ParallelPortfolio pares = new ParallelPortfolio(false);
+        for (int i = 0; i < 4; i++) {
+            Model m = pigeons(7);
+            IntVar[] p = m.retrieveIntVars(true);
+            Solver s = m.getSolver();
+            s.setSearch(i == 0 ? inputOrderLBSearch(p) : randomSearch(p, i));
+            s.setLearningSignedClauses();
+            s.setRestarts(c -> s.getFailCount() >= c, new MonotonicCutoff(50), Integer.MAX_VALUE);
+            pares.addModel(m, i < 3);
+        }
+        pares.shareClauses(64, 6, 3);
+        Assert.assertFalse(pares.solve());
+        for (Model m : pares.getModels()) {
+            Assert.assertEquals(m.getSolver().getSolutionCount(), 0);
+        }
+        Assert.assertTrue(pares.getModels().stream()
+                .anyMatch(m -> m.getSolver().getSearchState() == SearchState.TERMINATED));
+        Assert.assertTrue(pares.getModels().stream()
+                .mapToLong(m -> m.getClauseConstraint().getClauseStore().getExchange().getNbImported())
+                .sum() > 0);
+        System.gc();
+    }
 }
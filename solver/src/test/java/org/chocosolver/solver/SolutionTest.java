@@ -9,9 +9,16 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.*;
+
 public class SolutionTest {
 
     @Test
@@ -19,4 +26,115 @@ public class SolutionTest {
         final Solution emptySolution = new Solution(null);
         Assert.assertNotSame(emptySolution, emptySolution.copySolution());
     }
+
+    @Test(groups = "1s")
+    public void testRecordRestore() throws ContradictionException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] qs = model.retrieveIntVars(true);
+        Solution solution = new Solution(model);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        int[] values = new int[qs.length];
+        for (int i = 0; i < qs.length; i++) {
+            values[i] = qs[i].getValue();
+            Assert.assertEquals(solution.getIntVal(qs[i]), values[i]);
+        }
+        model.getSolver().reset();
+        model.getEnvironment().worldPush();
+        solution.restore();
+        for (int i = 0; i < qs.length; i++) {
+            Assert.assertEquals(qs[i].getValue(), values[i]);
+        }
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s")
+    public void testCopyIsIndependent() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        IntVar[] qs = model.retrieveIntVars(true);
+        Solution solution = new Solution(model, qs);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        Solution copy = solution.copySolution();
+        String first = copy.toString();
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        Assert.assertEquals(copy.toString(), first);
+        Assert.assertNotEquals(solution.toString(), first);
+        copy.setIntVal(qs[0], 42);
+        Assert.assertEquals(copy.getIntVal(qs[0]), 42);
+        Assert.assertNotEquals(solution.getIntVal(qs[0]), 42);
+    }
+
+    @Test(groups = "1s")
+    public void testEquivalentModel() {
+        Model m1 = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Model m2 = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solution solution = new Solution(m1);
+        Assert.assertTrue(m1.getSolver().solve());
+        solution.record();
+        IntVar[] q1 = m1.retrieveIntVars(true);
+        IntVar[] q2 = m2.retrieveIntVars(true);
+        for (int i = 0; i < q1.length; i++) {
+            Assert.assertEquals(solution.getIntVal(q2[i]), q1[i].getValue());
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testNotStored() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        Solution solution = new Solution(model, x);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        Assert.assertThrows(SolverException.class, () -> solution.getIntVal(y));
+        solution.setIntVal(y, 3);
+        Assert.assertEquals(solution.getIntVal(y), 3);
+        Assert.assertEquals(solution.getIntVal(model.intVar(7)), 7);
+    }
+
+    @Test(groups = "1s")
+    public void testWriteRead() throws IOException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] qs = model.retrieveIntVars(true);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{1, 2, 3});
+        model.member(qs[0], s).post();
+        Solution solution = new Solution(model);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        solution.writeTo(new DataOutputStream(bytes));
+
+        Model other = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] os = other.retrieveIntVars(true);
+        SetVar t = other.setVar("s", new int[]{}, new int[]{1, 2, 3});
+        other.member(os[0], t).post();
+        Solution read = new Solution(other)
+                .readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertEquals(read.toString(), solution.toString());
+        Assert.assertEquals(read.getSetVal(t), s.getValue().toArray());
+    }
+
+    @Test(groups = "1s")
+    public void testWriteReadDelta() throws IOException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solution previous = new Solution(model);
+        Assert.assertTrue(model.getSolver().solve());
+        previous.record();
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        previous.writeTo(new DataOutputStream(full));
+        Solution current = previous.copySolution();
+        Assert.assertTrue(model.getSolver().solve());
+        current.record();
+        ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        current.writeDeltaTo(new DataOutputStream(delta), previous);
+        Assert.assertTrue(delta.size() < full.size());
+
+        Solution read = new Solution(model)
+                .readFrom(new DataInputStream(new ByteArrayInputStream(full.toByteArray())));
+        Assert.assertEquals(read.toString(), previous.toString());
+        read.readDeltaFrom(new DataInputStream(new ByteArrayInputStream(delta.toByteArray())));
+        Assert.assertEquals(read.toString(), current.toString());
+    }
 }
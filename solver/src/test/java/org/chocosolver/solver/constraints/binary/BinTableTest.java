@@ -16,6 +16,10 @@ import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 import static org.testng.Assert.assertEquals;
 
@@ -27,7 +31,7 @@ import static org.testng.Assert.assertEquals;
  */
 public class BinTableTest {
 
-    private static final String[] ALGOS = {"FC", "AC2001", "AC3", "AC3rm", "AC3bit+rm"};
+    private static final String[] ALGOS = {"FC", "AC2001", "AC3", "AC3rm", "AC3bit+rm", "ACbit+res"};
 
     private Model s;
     private IntVar v1, v2;
@@ -243,4 +247,41 @@ public class BinTableTest {
             }
         }
     }
+
+    private static long[] solveRandom(long seed, String algo) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        int n = 4;
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            int lb = rnd.nextInt(10) - 5;
+            // a dense domain, with a few holes
+            vars[i] = model.intVar("X" + i, IntStream.rangeClosed(lb, lb + 60 + rnd.nextInt(100))
+                    .filter(v -> rnd.nextInt(10) > 0).toArray());
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                Tuples tuples = new Tuples(rnd.nextBoolean());
+                for (int k = 0; k < 3000; k++) {
+                    tuples.add(vars[i].getLB() + rnd.nextInt(vars[i].getUB() - vars[i].getLB() + 1),
+                            vars[j].getLB() + rnd.nextInt(vars[j].getUB() - vars[j].getLB() + 1));
+                }
+                model.table(vars[i], vars[j], tuples, algo).post();
+            }
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(vars));
+        model.getSolver().limitSolution(1000);
+        while (model.getSolver().solve()) ;
+        return new long[]{model.getSolver().getSolutionCount(), model.getSolver().getNodeCount()};
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testBitResidues() {
+        for (int seed = 0; seed < 40; seed++) {
+            long[] ref = solveRandom(seed, "AC3bit+rm");
+            long[] res = solveRandom(seed, "ACbit+res");
+            assertEquals(res[0], ref[0], "seed " + seed);
+            assertEquals(res[1], ref[1], "seed " + seed);
+        }
+    }
 }
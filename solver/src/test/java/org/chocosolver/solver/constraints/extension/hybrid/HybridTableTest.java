@@ -10,15 +10,20 @@
 package org.chocosolver.solver.constraints.extension.hybrid;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTableSmart;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.chocosolver.solver.constraints.extension.hybrid.HybridTuples.*;
 
@@ -405,4 +410,145 @@ public class HybridTableTest {
         solver.findAllSolutions();
         Assert.assertEquals(solver.getSolutionCount(), 0);
     }
+
+    @Test(groups = "1s")
+    public void testCompressed() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 1, 3);
+        IntVar y = model.intVar("y", 1, 3);
+        IntVar z = model.intVar("z", 1, 3);
+        HybridTuples tuples = new HybridTuples();
+        tuples.add(ne(1), any(), eq(3));
+        tuples.add(le(2), lt(col(0)), any());
+        tuples.add(eq(5), any(), any());
+        IntIterableRangeSet[][] ctuples = tuples.toCompressed(new IntVar[]{x, y, z});
+        // the second tuple is sliced on x (x = 1 has no support), the third one is dropped
+        Assert.assertEquals(ctuples.length, 2);
+        Assert.assertEquals(ctuples[0][0], new IntIterableRangeSet(2, 3));
+        Assert.assertNull(ctuples[0][1]);
+        Assert.assertEquals(ctuples[0][2], new IntIterableRangeSet(3));
+        Assert.assertEquals(ctuples[1][0], new IntIterableRangeSet(2));
+        Assert.assertEquals(ctuples[1][1], new IntIterableRangeSet(1));
+        Assert.assertNull(ctuples[1][2]);
+        Assert.assertTrue(tuples.nbCompressedTuples(new IntVar[]{x, y, z}) >= ctuples.length);
+    }
+
+    @Test(groups = "1s")
+    public void testDefaultAlgorithm() {
+        HybridTuples tuples = new HybridTuples();
+        tuples.add(eq(1), any(), col(0));
+        tuples.add(ne(2), le(3), any());
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 9);
+        Assert.assertTrue(model.table(x, tuples).getPropagator(0) instanceof PropCompactTableSmart);
+        model = new Model(Settings.init().setMaxSupportBitsForHybridCompactTable(10));
+        x = model.intVarArray("x", 3, 0, 9);
+        Assert.assertTrue(model.table(x, tuples).getPropagator(0) instanceof PropHybridTable);
+    }
+
+    @Test(groups = "1s")
+    public void testSlice() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        Tuples slice = new Tuples(true);
+        slice.setUniversalValue(-1);
+        slice.add(0, 1);
+        slice.add(2, -1);
+        HybridTuples tuples = new HybridTuples();
+        tuples.addSlice(new ISupportable[]{eq(1), any()}, slice);
+        tuples.addSlice(new ISupportable[]{eq(2), col(0)}, slice);
+        Assert.assertEquals(tuples.nbTuples(), 4);
+        model.table(x, tuples, "CT+").post();
+        Solver solver = model.getSolver();
+        while (solver.solve()) {
+            Assert.assertTrue(x[0].getValue() == 1 || x[1].getValue() == 2);
+            Assert.assertTrue(x[2].getValue() == 2 || x[2].getValue() == 0 && x[3].getValue() == 1);
+        }
+        // 4 * (1 + 4) + 1 * (1 + 4)
+        Assert.assertEquals(solver.getSolutionCount(), 25);
+    }
+
+    private static HybridTuples random(Random rnd, int n, int d, int nbTuples) {
+        HybridTuples tuples = new HybridTuples();
+        for (int t = 0; t < nbTuples; t++) {
+            ISupportable[] tuple = new ISupportable[n];
+            for (int i = 0; i < n; i++) {
+                int v = rnd.nextInt(d);
+                int j = rnd.nextInt(n);
+                switch (rnd.nextInt(12)) {
+                    case 0:
+                    case 1:
+                        tuple[i] = any();
+                        break;
+                    case 2:
+                        tuple[i] = ne(v);
+                        break;
+                    case 3:
+                        tuple[i] = le(v);
+                        break;
+                    case 4:
+                        tuple[i] = ge(v);
+                        break;
+                    case 5:
+                        tuple[i] = in(v, rnd.nextInt(d), rnd.nextInt(d));
+                        break;
+                    case 6:
+                        tuple[i] = j == i ? any() : eq(col(j), rnd.nextInt(3) - 1);
+                        break;
+                    case 7:
+                        tuple[i] = j == i ? any() : ne(col(j));
+                        break;
+                    case 8:
+                        tuple[i] = j == i ? any() : le(col(j), rnd.nextInt(3) - 1);
+                        break;
+                    case 9:
+                        tuple[i] = j == i ? any() : gt(col(j));
+                        break;
+                    default:
+                        tuple[i] = eq(v);
+                        break;
+                }
+            }
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
+    private static boolean satisfies(int[] t, int seed, int d, int nbTuples) {
+        Model model = new Model();
+        IntVar[] x = Arrays.stream(t).mapToObj(model::intVar).toArray(IntVar[]::new);
+        model.table(x, random(new Random(seed), t.length, d, nbTuples), "STR2+").post();
+        model.table(x, random(new Random(seed + 1000), t.length, d, nbTuples), "STR2+").post();
+        return model.getSolver().solve();
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testCompactTableRandom() {
+        for (int seed = 0; seed < 300; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(3);
+            int d = 2 + rnd.nextInt(4);
+            int nbTuples = 1 + rnd.nextInt(8);
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", n, 0, d - 1);
+            model.table(x, random(new Random(seed), n, d, nbTuples), "CT+").post();
+            // a second table, to stress propagation
+            model.table(x, random(new Random(seed + 1000), n, d, nbTuples), "CT+").post();
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.randomSearch(x, seed));
+            while (solver.solve()) ;
+            // compare with the tuples checked one by one
+            long ref = 0;
+            int[] t = new int[n];
+            for (int c = 0; c < Math.pow(d, n); c++) {
+                for (int i = 0, r = c; i < n; i++, r /= d) {
+                    t[i] = r % d;
+                }
+                if (satisfies(t, seed, d, nbTuples)) {
+                    ref++;
+                }
+            }
+            Assert.assertEquals(solver.getSolutionCount(), ref, "seed " + seed);
+        }
+    }
 }
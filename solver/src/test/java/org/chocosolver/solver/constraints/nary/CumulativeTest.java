@@ -9,17 +9,22 @@
  */
 package org.chocosolver.solver.constraints.nary;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 
@@ -186,6 +191,151 @@ public class CumulativeTest {
 		}
 	}
 
+	private static long[] solveFixed(int n, long seed, Cumulative.Filter... filters) {
+		Random rnd = new Random(seed);
+		Model model = new Model();
+		int capa = 1 + rnd.nextInt(4);
+		Task[] tasks = new Task[n];
+		IntVar[] starts = new IntVar[n];
+		IntVar[] heights = new IntVar[n];
+		int[] durations = new int[n];
+		int nrj = 0;
+		for (int i = 0; i < n; i++) {
+			durations[i] = 1 + rnd.nextInt(4);
+			heights[i] = model.intVar(1 + rnd.nextInt(capa));
+			nrj += durations[i] * heights[i].getValue();
+		}
+		int horizon = (nrj + capa - 1) / capa + rnd.nextInt(3);
+		for (int i = 0; i < n; i++) {
+			int est = rnd.nextInt(3);
+			starts[i] = model.intVar("s" + i, est, Math.max(est, horizon - durations[i] - rnd.nextInt(2)));
+			tasks[i] = new Task(starts[i], durations[i]);
+		}
+		model.cumulative(tasks, heights, model.intVar(capa), false, filters).post();
+		Solver solver = model.getSolver();
+		solver.setSearch(inputOrderLBSearch(starts));
+		while (solver.solve()) ;
+		return new long[]{solver.getSolutionCount(), solver.getNodeCount()};
+	}
+
+	@Test(groups="10s", timeOut=120000)
+	public void testEdgeFinding(){
+		for (int seed = 0; seed < 100; seed++) {
+			int n = 2 + seed % 5;
+			long[] ref = solveFixed(n, seed, Cumulative.Filter.TIME);
+			long[] ef = solveFixed(n, seed, Cumulative.Filter.TIME, Cumulative.Filter.EDGE_FINDING);
+			Assert.assertEquals(ef[0], ref[0], "seed " + seed);
+			Assert.assertTrue(ef[1] <= ref[1], "seed " + seed);
+			long[] ttef = solveFixed(n, seed, Cumulative.Filter.TIME, Cumulative.Filter.TIME_TABLE_EDGE_FINDING);
+			Assert.assertEquals(ttef[0], ref[0], "seed " + seed);
+			Assert.assertTrue(ttef[1] <= ref[1], "seed " + seed);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testEdgeFindingPruning() throws ContradictionException {
+		// a (height 1) cannot end before b and c (height 2) on a resource of capacity 2
+		Model m = new Model();
+		Task a = new Task(m.intVar("a", 0, 20), 4);
+		Task b = new Task(m.intVar("b", 0, 5), 3);
+		Task c = new Task(m.intVar("c", 0, 4), 4);
+		IntVar[] h = new IntVar[]{m.intVar(1), m.intVar(2), m.intVar(2)};
+		m.cumulative(new Task[]{a, b, c}, h, m.intVar(2), false, Cumulative.Filter.EDGE_FINDING).post();
+		m.getSolver().propagate();
+		Assert.assertEquals(a.getStart().getLB(), 6);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testTimeTableEdgeFindingPruning() throws ContradictionException {
+		// b has a compulsory part in [4,6), c must be in [0,6): a cannot start before 6
+		Model m = new Model();
+		Task a = new Task(m.intVar("a", 0, 20), 3);
+		Task b = new Task(m.intVar("b", 3, 4), 3);
+		Task c = new Task(m.intVar("c", 0, 2), 4);
+		IntVar[] h = new IntVar[]{m.intVar(1), m.intVar(1), m.intVar(1)};
+		m.cumulative(new Task[]{a, b, c}, h, m.intVar(1), false, Cumulative.Filter.TIME_TABLE_EDGE_FINDING).post();
+		m.getSolver().propagate();
+		Assert.assertTrue(a.getStart().getLB() >= 6);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testOptionalPruning() throws ContradictionException {
+		// b is present in [2,6), a cannot fit in [0,7) next to it on a resource of capacity 1
+		Model m = new Model();
+		Task a = new Task(m.intVar("a", 0, 4), m.intVar(3), m.intVar("ea", 0, 7), m.boolVar("pa"));
+		Task b = new Task(m.intVar("b", 2), 4);
+		IntVar[] h = new IntVar[]{m.intVar(1), m.intVar(1)};
+		m.cumulative(new Task[]{a, b}, h, m.intVar(1)).post();
+		m.getSolver().propagate();
+		Assert.assertTrue(a.getPresence().isInstantiatedTo(0));
+		Assert.assertEquals(a.getStart().getUB(), 4);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testOptionalPresentAfterCapacity() throws ContradictionException {
+		// the capacity bound is lowered first, the tasks become present afterwards
+		Model m = new Model();
+		Task a = new Task(m.intVar("a", 0, 10), m.intVar("da", 1, 3), m.intVar("ea", 0, 20), m.boolVar("pa"));
+		Task b = new Task(m.intVar("b", 0, 10), m.intVar("db", 0, 3), m.intVar("eb", 0, 20), m.boolVar("pb"));
+		IntVar[] h = new IntVar[]{m.intVar("ha", 0, 10), m.intVar("hb", 5)};
+		IntVar capa = m.intVar("capa", 0, 10);
+		m.cumulative(new Task[]{a, b}, h, capa).post();
+		Solver solver = m.getSolver();
+		solver.propagate();
+		capa.updateUpperBound(3, Cause.Null);
+		solver.propagate();
+		Assert.assertEquals(h[0].getUB(), 10);
+		Assert.assertFalse(b.getDuration().isInstantiated());
+		a.getPresence().setToTrue(Cause.Null);
+		b.getPresence().setToTrue(Cause.Null);
+		solver.propagate();
+		Assert.assertEquals(h[0].getUB(), 3);
+		Assert.assertTrue(b.getDuration().isInstantiatedTo(0));
+	}
+
+	private static long solveOptional(int n, long seed, boolean decomposition) {
+		Random rnd = new Random(seed);
+		Model model = new Model();
+		int capa = 1 + rnd.nextInt(3);
+		int horizon = 4 + rnd.nextInt(4);
+		Task[] tasks = new Task[n];
+		IntVar[] starts = new IntVar[n];
+		IntVar[] heights = new IntVar[n];
+		BoolVar[] present = new BoolVar[n];
+		for (int i = 0; i < n; i++) {
+			int d = 1 + rnd.nextInt(3);
+			starts[i] = model.intVar("s" + i, 0, horizon - d);
+			heights[i] = model.intVar(1 + rnd.nextInt(capa + 1));
+			present[i] = rnd.nextBoolean() ? model.boolVar("p" + i) : model.boolVar(true);
+			tasks[i] = new Task(starts[i], model.intVar(d), model.intVar("e" + i, d, horizon), present[i]);
+		}
+		if (decomposition) {
+			for (int t = 0; t < horizon; t++) {
+				BoolVar[] uses = new BoolVar[n];
+				for (int i = 0; i < n; i++) {
+					uses[i] = model.and(present[i],
+							model.arithm(starts[i], "<=", t).reify(),
+							model.arithm(tasks[i].getEnd(), ">", t).reify()).reify();
+				}
+				model.scalar(uses, Arrays.stream(heights).mapToInt(IntVar::getValue).toArray(), "<=", capa).post();
+			}
+		} else {
+			model.cumulative(tasks, heights, model.intVar(capa)).post();
+		}
+		Solver solver = model.getSolver();
+		solver.setSearch(inputOrderLBSearch(ArrayUtils.append(present, starts)));
+		while (solver.solve()) ;
+		return solver.getSolutionCount();
+	}
+
+	@Test(groups="10s", timeOut=120000)
+	public void testOptional(){
+		for (int seed = 0; seed < 100; seed++) {
+			int n = 2 + seed % 4;
+			Assert.assertEquals(solveOptional(n, seed, false), solveOptional(n, seed, true), "seed " + seed);
+		}
+	}
+
     @Test(groups="10s", timeOut=60000)
     public void testADelsol1(){
 		int[] height = new int[]{0, 1, 3, 5, 1, 4, 4, 3, 4, 3, 0};
@@ -0,0 +1,91 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Tests the diffN constraint over optional rectangles
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class DiffNTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptionalPruning() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = new IntVar[]{model.intVar(0), model.intVar(1, 2)};
+        IntVar[] y = new IntVar[]{model.intVar(0), model.intVar(0, 1)};
+        IntVar[] w = new IntVar[]{model.intVar(3), model.intVar(2)};
+        IntVar[] h = new IntVar[]{model.intVar(3), model.intVar(2)};
+        BoolVar[] p = new BoolVar[]{model.boolVar(true), model.boolVar("p1")};
+        model.diffN(x, y, w, h, p, false).post();
+        model.getSolver().propagate();
+        // the second rectangle necessarily overlaps the first one
+        Assert.assertTrue(p[1].isInstantiatedTo(0));
+        Assert.assertEquals(x[1].getLB(), 1);
+    }
+
+    private static long solveOptional(int n, long seed, boolean decomposition, boolean cumulative) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        int size = 3 + rnd.nextInt(2);
+        IntVar[] x = new IntVar[n];
+        IntVar[] y = new IntVar[n];
+        IntVar[] w = new IntVar[n];
+        IntVar[] h = new IntVar[n];
+        BoolVar[] p = new BoolVar[n];
+        for (int i = 0; i < n; i++) {
+            w[i] = model.intVar(1 + rnd.nextInt(2));
+            h[i] = model.intVar(1 + rnd.nextInt(2));
+            x[i] = model.intVar("x" + i, 0, size - w[i].getValue());
+            y[i] = model.intVar("y" + i, 0, size - h[i].getValue());
+            p[i] = rnd.nextBoolean() ? model.boolVar("p" + i) : model.boolVar(true);
+        }
+        if (decomposition) {
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    model.or(p[i].not(), p[j].not(),
+                            model.arithm(x[i], "+", w[i], "<=", x[j]).reify(),
+                            model.arithm(x[j], "+", w[j], "<=", x[i]).reify(),
+                            model.arithm(y[i], "+", h[i], "<=", y[j]).reify(),
+                            model.arithm(y[j], "+", h[j], "<=", y[i]).reify()).post();
+                }
+            }
+        } else {
+            model.diffN(x, y, w, h, p, cumulative).post();
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.append(p, x, y)));
+        while (solver.solve()) ;
+        return solver.getSolutionCount();
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testOptionalRandom() {
+        for (int seed = 0; seed < 100; seed++) {
+            int n = 2 + seed % 3;
+            long ref = solveOptional(n, seed, true, false);
+            Assert.assertEquals(solveOptional(n, seed, false, false), ref, "seed " + seed);
+            Assert.assertEquals(solveOptional(n, seed, false, true), ref, "seed " + seed);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Tests the disjunctive constraint
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class DisjunctiveTest {
+
+    private static Task task(Model model, int est, int lct, int p) {
+        return new Task(model.intVar(est, lct - p), p);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        Model model = new Model();
+        Task a = task(model, 0, 30, 4);
+        Task b = task(model, 0, 10, 3);
+        Task c = task(model, 0, 10, 4);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        // a cannot end before b and c both end
+        Assert.assertEquals(a.getStart().getLB(), 7);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDetectablePrecedences() throws ContradictionException {
+        Model model = new Model();
+        Task a = task(model, 0, 15, 5);
+        Task b = task(model, 2, 7, 4);
+        model.disjunctive(new Task[]{a, b}).post();
+        model.getSolver().propagate();
+        // lst(b) < ect(a), so b precedes a
+        Assert.assertEquals(a.getStart().getLB(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNotLast() throws ContradictionException {
+        Model model = new Model();
+        Task a = task(model, 0, 6, 1);
+        Task b = task(model, 0, 8, 3);
+        Task c = task(model, 0, 8, 3);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        // a cannot be the last one
+        Assert.assertEquals(a.getEnd().getUB(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testOverload() throws ContradictionException {
+        Model model = new Model();
+        Task a = task(model, 0, 10, 4);
+        Task b = task(model, 2, 8, 3);
+        Task c = task(model, 1, 9, 3);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptional() throws ContradictionException {
+        Model model = new Model();
+        Task a = new Task(model.intVar(0, 4), model.intVar(4), model.intVar(4, 8), model.boolVar("pa"));
+        Task b = task(model, 0, 8, 3);
+        Task c = task(model, 0, 8, 4);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        // b and c fill [0,8) but for one unit, a cannot be present
+        Assert.assertTrue(a.getPresence().isInstantiatedTo(0));
+        Assert.assertEquals(a.getStart().getLB(), 0);
+    }
+
+    private static long solveOptional(int n, long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        int horizon = 4 + rnd.nextInt(5);
+        Task[] tasks = new Task[n];
+        IntVar[] starts = new IntVar[n];
+        BoolVar[] present = new BoolVar[n];
+        for (int i = 0; i < n; i++) {
+            int p = 1 + rnd.nextInt(3);
+            starts[i] = model.intVar("s" + i, 0, horizon - p);
+            present[i] = rnd.nextBoolean() ? model.boolVar("p" + i) : model.boolVar(true);
+            tasks[i] = new Task(starts[i], model.intVar(p), model.intVar("e" + i, p, horizon), present[i]);
+        }
+        if (disjunctive) {
+            model.disjunctive(tasks).post();
+        } else {
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    model.or(present[i].not(), present[j].not(),
+                            model.arithm(tasks[i].getEnd(), "<=", starts[j]).reify(),
+                            model.arithm(tasks[j].getEnd(), "<=", starts[i]).reify()).post();
+                }
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.append(present, starts)));
+        while (solver.solve()) ;
+        return solver.getSolutionCount();
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testOptionalRandom() {
+        for (int seed = 0; seed < 200; seed++) {
+            int n = 2 + seed % 4;
+            Assert.assertEquals(solveOptional(n, seed, true), solveOptional(n, seed, false), "seed " + seed);
+        }
+    }
+
+    private static long[] solve(int n, long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        Task[] tasks = new Task[n];
+        IntVar[] starts = new IntVar[n];
+        int horizon = 0;
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = rnd.nextInt(5);
+            horizon += p[i];
+        }
+        horizon += rnd.nextInt(3);
+        for (int i = 0; i < n; i++) {
+            int est = rnd.nextInt(3);
+            starts[i] = model.intVar("s" + i, est, Math.max(est, horizon - p[i] - rnd.nextInt(3)));
+            tasks[i] = new Task(starts[i], p[i]);
+        }
+        if (disjunctive) {
+            model.disjunctive(tasks).post();
+        } else {
+            IntVar[] heights = model.intVarArray("h", n, 1, 1);
+            model.cumulative(tasks, heights, model.intVar(1), false, Cumulative.Filter.TIME).post();
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(starts));
+        while (solver.solve()) ;
+        return new long[]{solver.getSolutionCount(), solver.getNodeCount()};
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testRandom() {
+        for (int seed = 0; seed < 200; seed++) {
+            int n = 2 + seed % 5;
+            long[] ref = solve(n, seed, false);
+            long[] res = solve(n, seed, true);
+            Assert.assertEquals(res[0], ref[0], "seed " + seed);
+            Assert.assertTrue(res[1] <= ref[1], "seed " + seed);
+        }
+    }
+}
@@ -50,7 +50,7 @@ public class TableTest {
 
     private static final String[] ALGOS = {"CT+", "FC", "GAC2001", "GACSTR+", "GAC2001+", "GAC3rm+", "GAC3rm", "STR2+", "MDD+"};
 
-    private static final String[] BIN_ALGOS = {"FC", "AC2001", "AC3", "AC3rm", "AC3bit+rm", "CT+"};
+    private static final String[] BIN_ALGOS = {"FC", "AC2001", "AC3", "AC3rm", "AC3bit+rm", "ACbit+res", "CT+"};
 
     @DataProvider(name = "algos")
     public Object[][] algos() {
@@ -655,7 +655,7 @@ public class TableTest {
 
     @Test(groups = "1s", timeOut = 60000, dataProvider = "balgos")
     public void testMVAV(String a) {
-        if ("AC3bit+rm".equals(a)) return;
+        if ("AC3bit+rm".equals(a) || "ACbit+res".equals(a)) return;
         Model model = new Model("Table MWE");
         IntVar foo = model.intVar("foo", 0, 7, true);
         IntVar bar = model.intVar("bar", 0, 7, true);
@@ -670,7 +670,7 @@ public class TableTest {
 
     @Test(groups = "1s", timeOut = 60000, dataProvider = "balgos")
     public void testMVAV0(String a) {
-        if ("AC3bit+rm".equals(a)) return;
+        if ("AC3bit+rm".equals(a) || "ACbit+res".equals(a)) return;
         Model model = new Model("Table MWE");
         IntVar foo = model.intVar("foo", 0, 3, true);
         IntVar bar = model.intVar("bar", 0, 1_000_000, true);
@@ -0,0 +1,159 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class LinearRelaxationTest {
+
+    private static Model assignment(int n, long seed, boolean relax) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        BoolVar[][] x = model.boolVarMatrix("x", n, n);
+        int[][] costs = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                costs[i][j] = 1 + rnd.nextInt(50);
+            }
+            model.sum(x[i], "=", 1).post();
+            model.sum(ArrayUtils.getColumn(x, i), "=", 1).post();
+        }
+        IntVar cost = model.intVar("cost", 0, 50 * n);
+        model.scalar(ArrayUtils.flatten(x), ArrayUtils.flatten(costs), "=", cost).post();
+        model.setObjective(Model.MINIMIZE, cost);
+        if (relax) {
+            model.linearRelaxation().post();
+        }
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        Model ref = knapsack();
+        while (ref.getSolver().solve()) ;
+        Model model = knapsack();
+        model.linearRelaxation().post();
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), ref.getSolver().getBestSolutionValue());
+        Assert.assertTrue(model.getSolver().getNodeCount() <= ref.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAssignment() throws ContradictionException {
+        for (int seed = 0; seed < 5; seed++) {
+            Model ref = assignment(7, seed, false);
+            while (ref.getSolver().solve()) ;
+            Model model = assignment(7, seed, true);
+            while (model.getSolver().solve()) ;
+            Assert.assertEquals(model.getSolver().getBestSolutionValue(), ref.getSolver().getBestSolutionValue());
+            Assert.assertTrue(model.getSolver().getNodeCount() < ref.getSolver().getNodeCount() / 4,
+                    model.getSolver().getNodeCount() + " vs. " + ref.getSolver().getNodeCount());
+            // the assignment polytope is integral
+            Model root = assignment(7, seed, true);
+            root.getSolver().propagate();
+            Assert.assertEquals(((IntVar) root.getObjective()).getLB(), ref.getSolver().getBestSolutionValue().intValue());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNothingToRelax() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        model.allDifferent(x).post();
+        model.linearRelaxation();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testInfeasible() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 2);
+        for (int i = 0; i < 4; i++) {
+            model.sum(new IntVar[]{x[i], x[(i + 1) % 4], x[(i + 2) % 4]}, "<=", 3).post();
+        }
+        model.sum(x, ">=", 5).post();
+        model.linearRelaxation().post();
+        model.getSolver().propagate();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReducedCostFixing() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 8);
+        IntVar obj = model.intVar("obj", 0, 100, true);
+        model.scalar(x, new int[]{5, 3, 1}, "=", obj).post();
+        model.sum(x, "<=", 10).post();
+        model.setObjective(Model.MAXIMIZE, obj);
+        model.linearRelaxation().post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        Assert.assertEquals(obj.getUB(), 46);
+        // any solution of value at least 45 is x = (8, 2, 0)
+        model.getEnvironment().worldPush();
+        obj.updateLowerBound(45, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x[0].getLB(), 8);
+        Assert.assertEquals(x[2].getUB(), 0);
+        Assert.assertTrue(x[1].isInstantiatedTo(2));
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x[2].getUB(), 8);
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testRandom() {
+        for (int seed = 0; seed < 20; seed++) {
+            Number[] best = new Number[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 5, -3, 6);
+                for (int r = 0; r < 4; r++) {
+                    int[] c = new int[x.length];
+                    for (int j = 0; j < c.length; j++) {
+                        c[j] = rnd.nextInt(11) - 5;
+                    }
+                    model.scalar(x, c, rnd.nextBoolean() ? "<=" : ">=", rnd.nextInt(21) - 10).post();
+                }
+                int[] c = new int[x.length];
+                for (int j = 0; j < c.length; j++) {
+                    c[j] = rnd.nextInt(11) - 5;
+                }
+                IntVar obj = model.intVar("obj", -1000, 1000, true);
+                model.scalar(x, c, "=", obj).post();
+                model.setObjective(rnd.nextBoolean(), obj);
+                if (k == 1) {
+                    model.linearRelaxation().post();
+                }
+                Solver solver = model.getSolver();
+                while (solver.solve()) ;
+                best[k] = solver.getSolutionCount() > 0 ? solver.getBestSolutionValue() : null;
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+        }
+    }
+}
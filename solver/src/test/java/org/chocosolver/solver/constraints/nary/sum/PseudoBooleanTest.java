@@ -0,0 +1,165 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * Tests the pseudo-boolean propagator
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PseudoBooleanTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPruning() throws ContradictionException {
+        // 5.a + 4.b + 3.c + 2.d >= 8
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 4);
+        PropPseudoBoolean prop = new PropPseudoBoolean(x, new int[]{5, 4, 3, 2}, Operator.GE, 8);
+        model.post(new Constraint("test", prop));
+        Solver solver = model.getSolver();
+        solver.propagate();
+        Assert.assertFalse(x[0].isInstantiated());
+        x[0].setToFalse(Cause.Null);
+        solver.propagate();
+        Assert.assertTrue(x[1].isInstantiatedTo(1));
+        Assert.assertTrue(x[2].isInstantiatedTo(1));
+        Assert.assertTrue(x[3].isInstantiatedTo(1));
+        Assert.assertEquals(prop.isEntailed(), ESat.TRUE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNegativeCoefficients() throws ContradictionException {
+        // 3.a - 4.b + 2.c <= -1
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 3);
+        PropPseudoBoolean prop = new PropPseudoBoolean(x, new int[]{3, -4, 2}, Operator.LE, -1);
+        model.post(new Constraint("test", prop));
+        model.getSolver().propagate();
+        Assert.assertTrue(x[1].isInstantiatedTo(1));
+        Assert.assertFalse(x[0].isInstantiated());
+        x[2].setToTrue(Cause.Null);
+        model.getSolver().propagate();
+        Assert.assertTrue(x[0].isInstantiatedTo(0));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testExplanation() throws ContradictionException {
+        // 5.a + 4.b + 3.c + 2.d >= 8
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 4);
+        PropPseudoBoolean prop = new PropPseudoBoolean(x, new int[]{5, 4, 3, 2}, Operator.GE, 8);
+        model.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(model.getSolver(), i -> x[0].setToFalse(Cause.Null), prop, x[1]);
+        // b is true as soon as a is false
+        Assert.assertEquals(lits.size(), 2);
+        Assert.assertEquals(lits.get(x[0]), new IntIterableRangeSet(1));
+        Assert.assertEquals(lits.get(x[1]), new IntIterableRangeSet(1));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDisabledByDefault() {
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 12);
+        Constraint cstr = model.scalar(x, IntStream.rangeClosed(1, 12).toArray(), ">=", 3);
+        Assert.assertFalse(cstr.getPropagator(0) instanceof PropPseudoBoolean);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLinearRelaxation() throws ContradictionException {
+        // 5.a + 4.b + 3.c + 2.d <= 8, maximize 5.a + 4.b + 3.c + 2.d
+        Model model = new Model(Settings.init().setEnablePseudoBooleanOnBoolScalar(i -> true));
+        BoolVar[] x = model.boolVarArray("x", 4);
+        Constraint cstr = model.scalar(x, new int[]{5, 4, 3, 2}, "<=", 8);
+        Assert.assertTrue(cstr.getPropagator(0) instanceof PropPseudoBoolean);
+        cstr.post();
+        IntVar obj = model.intVar("obj", 0, 20, true);
+        model.scalar(x, new int[]{5, 4, 3, 2}, "=", obj).post();
+        model.setObjective(Model.MAXIMIZE, obj);
+        model.getSolver().propagate();
+        Assert.assertEquals(obj.getUB(), 14);
+        // the bound comes from the row of the pseudo-boolean constraint
+        model.linearRelaxation().post();
+        model.getSolver().propagate();
+        Assert.assertEquals(obj.getUB(), 8);
+    }
+
+    private static long solve(int n, long seed, boolean pb, boolean reif, boolean learn) {
+        Random rnd = new Random(seed);
+        Model model = new Model(Settings.init().setEnablePseudoBooleanOnBoolScalar(i -> pb));
+        BoolVar[] x = model.boolVarArray("x", n);
+        int[] c = new int[n];
+        int sum = 0;
+        for (int i = 0; i < n; i++) {
+            c[i] = rnd.nextInt(21) - 10;
+            sum += Math.abs(c[i]);
+        }
+        String op = rnd.nextBoolean() ? "<=" : ">=";
+        int b = rnd.nextInt(sum + 1) - sum / 2;
+        Constraint cstr = model.scalar(x, c, op, b);
+        if (reif) {
+            BoolVar r = model.boolVar("r");
+            cstr.reifyWith(r);
+            model.scalar(x, c, op.equals("<=") ? ">=" : "<=", b).reifyWith(r.not());
+        } else {
+            cstr.post();
+        }
+        // a second constraint, to stress propagation
+        model.scalar(x, rnd.ints(n, 1, 6).toArray(), "<=", n).post();
+        Solver solver = model.getSolver();
+        if (learn) {
+            solver.setLearningSignedClauses();
+        }
+        solver.setSearch(Search.randomSearch(x, seed));
+        while (solver.solve()) ;
+        return solver.getSolutionCount();
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testRandom() {
+        for (int seed = 0; seed < 200; seed++) {
+            int n = 11 + seed % 6;
+            long ref = solve(n, seed, false, false, false);
+            Assert.assertEquals(solve(n, seed, true, false, false), ref, "seed " + seed);
+            Assert.assertEquals(solve(n, seed, true, false, true), ref, "seed " + seed);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testRandomReif() {
+        for (int seed = 0; seed < 100; seed++) {
+            int n = 11 + seed % 4;
+            long ref = solve(n, seed, false, true, false);
+            Assert.assertEquals(solve(n, seed, true, true, false), ref, "seed " + seed);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.binary.PropGreaterOrEqualX_YC;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
@@ -33,6 +34,8 @@ import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -959,4 +962,109 @@ public class EventRecorderTest {
         Runtime.getRuntime().removeShutdownHook(t);
     }
 
+    @Test(groups = "expl", timeOut = 60000)
+    public void testMinimize() {
+        boolean minimize = XParameters.MINIMIZE_CLAUSE;
+        try {
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                XParameters.MINIMIZE_CLAUSE = k == 0;
+                Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+                model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("vars")));
+                model.getSolver().setLearningSignedClauses();
+                counts[k] = model.getSolver().findAllSolutions().size();
+            }
+            Assert.assertEquals(counts[0], 92);
+            Assert.assertEquals(counts[1], 92);
+        } finally {
+            XParameters.MINIMIZE_CLAUSE = minimize;
+        }
+    }
+
+    @Test(groups = "expl", timeOut = 60000)
+    public void testMinimizeRootLiterals() {
+        boolean minimize = XParameters.MINIMIZE_CLAUSE;
+        try {
+            for (int k = 0; k < 2; k++) {
+                XParameters.MINIMIZE_CLAUSE = k == 0;
+                Model model = new Model();
+                IntVar x = model.intVar("x", 0, 5);
+                IntVar y = model.intVar("y", 0, 5);
+                IntVar z = model.intVar("z", 0, 5);
+                IntVar w = model.intVar("w", 0, 5);
+                model.arithm(w, ">=", 1).post();
+                model.arithm(x, "+", w, "<=", z).post();
+                model.arithm(y, "+", w, "<=", z).post();
+                model.arithm(x, "+", y, ">=", 4).post();
+                Solver r = model.getSolver();
+                r.setLearningSignedClauses();
+                ExplanationForSignedClause ex =
+                        ((LearnSignedClauses<ExplanationForSignedClause>) r.getLearner()).getExplanation();
+                try {
+                    r.propagate();
+                    Decision<IntVar> d = inputOrderLBSearch(z).getDecision();
+                    d.buildNext();
+                    d.apply();
+                    r.propagate();
+                    Assert.fail("z = 1 should fail");
+                } catch (ContradictionException c) {
+                    ex.learnSignedClause(c);
+                }
+                // w >= 1 at root node, so the literal w = 0 is removed by minimisation
+                Assert.assertTrue(ex.contains(z));
+                Assert.assertEquals(ex.contains(w), k == 1);
+                Assert.assertEquals(ex.getCardinality(), k == 0 ? 1 : 2);
+            }
+        } finally {
+            XParameters.MINIMIZE_CLAUSE = minimize;
+        }
+    }
+
+    @Test(groups = "expl", timeOut = 60000)
+    public void testGlueClauses() {
+        Assert.assertEquals(Settings.init().getMaxLBDOfGlueClauses(), 2);
+        for (int g = 0; g < 4; g += 2) {
+            Model model = new Model(Settings.init().setNbMaxLearntClauses(10).setMaxLBDOfGlueClauses(g));
+            IntVar[] qs = model.intVarArray("q", 10, 1, 10);
+            for (int i = 0; i < 10; i++) {
+                for (int j = i + 1; j < 10; j++) {
+                    model.arithm(qs[i], "!=", qs[j]).post();
+                    model.arithm(qs[i], "-", qs[j], "!=", j - i).post();
+                    model.arithm(qs[i], "-", qs[j], "!=", i - j).post();
+                }
+            }
+            model.getSolver().setSearch(inputOrderLBSearch(qs));
+            model.getSolver().setLearningSignedClauses();
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(), 724);
+        }
+    }
+
+    @Test(groups = "expl", timeOut = 60000)
+    public void testGlueClausesKept() throws ContradictionException {
+        for (int g = 1; g <= 2; g++) {
+            Model model = new Model(Settings.init()
+                    .setNbMaxLearntClauses(10)
+                    .setRatioForClauseStoreReduction(.5f)
+                    .setMaxLBDOfGlueClauses(g));
+            IntVar[] x = model.intVarArray("x", 24, 0, 5);
+            model.getSolver().setLearningSignedClauses();
+            model.getSolver().propagate();
+            ClauseStore store = model.getClauseConstraint().getClauseStore();
+            IntIterableRangeSet zero = new IntIterableRangeSet(0);
+            // 10 clauses with a LBD of 2, 2 clauses with a LBD of 5
+            for (int i = 0; i < 12; i++) {
+                store.setNextLBD(i == 3 || i == 7 ? 5 : 2);
+                store.add(new IntVar[]{x[2 * i], x[2 * i + 1]}, new IntIterableRangeSet[]{zero, zero});
+            }
+            Assert.assertEquals(store.getNbLearntClauses(), 12);
+            store.forget();
+            if (g == 2) {
+                // all glue clauses survive, even above the reduction ratio
+                Assert.assertEquals(store.getNbLearntClauses(), 10);
+            } else {
+                // half of the clauses are kept, plus the last learnt one
+                Assert.assertEquals(store.getNbLearntClauses(), 7);
+            }
+        }
+    }
 }
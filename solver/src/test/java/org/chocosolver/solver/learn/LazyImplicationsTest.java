@@ -41,7 +41,7 @@ public class LazyImplicationsTest {
         solver.setEventObserver(ee);
         while (solver.solve()) {
             for (IntVar q : qs) {
-                int i = aGI.rootEntries.get(q).p;
+                int i = aGI.rootEntries[q.getId()].p;
                 IntIterableRangeSet set = aGI.entries[i].d;
                 Assert.assertTrue(set.contains(q.getValue()));
                 Assert.assertEquals(set.size(), 1);
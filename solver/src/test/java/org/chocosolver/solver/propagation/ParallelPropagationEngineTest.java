@@ -0,0 +1,155 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ParallelPropagationEngineTest {
+
+    /**
+     * <i>n</i> independent cost flow problems, the sum of their costs is to minimize
+     */
+    private static Model flows(int n, IntVar[][] fs) {
+        Model model = new Model();
+        int[] starts = {1, 1, 2, 2, 3};
+        int[] ends = {2, 3, 3, 4, 4};
+        int[] balance = {5, 0, 0, -5};
+        int[] weight = {1, 3, 1, 4, 1};
+        IntVar[] costs = new IntVar[n];
+        for (int k = 0; k < n; k++) {
+            fs[k] = model.intVarArray("f" + k, 5, 0, 4);
+            costs[k] = model.intVar("c" + k, 0, 100);
+            model.costFlow(starts, ends, balance, weight, fs[k], costs[k], 1);
+        }
+        IntVar obj = model.intVar("obj", 0, 100 * n);
+        model.sum(costs, "=", obj).post();
+        model.setObjective(Model.MINIMIZE, obj);
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFlows() {
+        int n = 4;
+        int[] bests = new int[2];
+        for (int e = 0; e < 2; e++) {
+            IntVar[][] fs = new IntVar[n][];
+            Model model = flows(n, fs);
+            Solver solver = model.getSolver();
+            ParallelPropagationEngine engine = null;
+            if (e == 1) {
+                engine = new ParallelPropagationEngine(model, 2, PropagatorPriority.QUADRATIC);
+                solver.setEngine(engine);
+            }
+            solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.flatten(fs)));
+            Solution best = solver.findOptimalSolution(model.getObjective().asIntVar(), false);
+            Assert.assertNotNull(best);
+            bests[e] = best.getIntVal(model.getObjective().asIntVar());
+            if (engine != null) {
+                Assert.assertTrue(engine.getBatchCount() > 0);
+                Assert.assertTrue(engine.getParallelExecutionCount() >= 2 * engine.getBatchCount());
+            }
+        }
+        // 3 units on 1->2->3->4, 1 unit on 1->2->4 and 1 unit on 1->3->4
+        Assert.assertEquals(bests[0], 4 * 18);
+        Assert.assertEquals(bests[1], bests[0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDefaultPriority() {
+        IntVar[][] fs = new IntVar[3][];
+        Model model = flows(3, fs);
+        Solver solver = model.getSolver();
+        ParallelPropagationEngine engine = new ParallelPropagationEngine(model, 2);
+        solver.setEngine(engine);
+        solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.flatten(fs)));
+        Solution best = solver.findOptimalSolution(model.getObjective().asIntVar(), false);
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(model.getObjective().asIntVar()), 3 * 18);
+        // the cost flow propagators are sent to the workers
+        Assert.assertTrue(engine.getBatchCount() > 0);
+        Assert.assertTrue(engine.getParallelExecutionCount() >= 2 * engine.getBatchCount());
+        engine.close();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDeterministic() {
+        long[] nodes = new long[3];
+        for (int e = 0; e < 3; e++) {
+            IntVar[][] fs = new IntVar[3][];
+            Model model = flows(3, fs);
+            Solver solver = model.getSolver();
+            solver.setEngine(new ParallelPropagationEngine(model, 1 + e, PropagatorPriority.QUADRATIC));
+            solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.flatten(fs)));
+            solver.findOptimalSolution(model.getObjective().asIntVar(), false);
+            nodes[e] = solver.getNodeCount();
+        }
+        Assert.assertEquals(nodes[1], nodes[0]);
+        Assert.assertEquals(nodes[2], nodes[0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int k = 0; k < 2; k++) {
+                IntVar[][] fs = new IntVar[3][];
+                Model model = flows(3, fs);
+                Solver solver = model.getSolver();
+                ParallelPropagationEngine engine = new ParallelPropagationEngine(model, pool, PropagatorPriority.QUADRATIC);
+                solver.setEngine(engine);
+                solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.flatten(fs)));
+                Assert.assertNotNull(solver.findOptimalSolution(model.getObjective().asIntVar(), false));
+                Assert.assertTrue(engine.getBatchCount() > 0);
+                engine.close();
+                Assert.assertFalse(pool.isShutdown());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testClose() {
+        IntVar[][] fs = new IntVar[3][];
+        Model model = flows(3, fs);
+        Solver solver = model.getSolver();
+        ParallelPropagationEngine engine = new ParallelPropagationEngine(model, 2, PropagatorPriority.QUADRATIC);
+        solver.setEngine(engine);
+        engine.close();
+        // a closed engine runs the propagators sequentially
+        solver.setSearch(Search.inputOrderLBSearch(ArrayUtils.flatten(fs)));
+        Solution best = solver.findOptimalSolution(model.getObjective().asIntVar(), false);
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(model.getObjective().asIntVar()), 3 * 18);
+        Assert.assertEquals(engine.getBatchCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoWorker() {
+        new ParallelPropagationEngine(new Model(), 0);
+    }
+}
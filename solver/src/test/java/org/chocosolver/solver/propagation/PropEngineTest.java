@@ -192,4 +192,62 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    private static Propagator<IntVar> oneStep(IntVar x, boolean idempotent) {
+        return new Propagator<IntVar>(new IntVar[]{x}, UNARY, true) {
+
+            @Override
+            public boolean isIdempotent() {
+                return idempotent;
+            }
+
+            @Override
+            public void propagate(int evtmask) throws ContradictionException {
+                // only one step towards the fixpoint
+                if (vars[0].getUB() > 50) {
+                    vars[0].updateUpperBound(vars[0].getUB() - 1, this);
+                }
+            }
+
+            @Override
+            public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+                propagate(0);
+            }
+
+            @Override
+            public ESat isEntailed() {
+                return ESat.UNDEFINED;
+            }
+        };
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testIdempotent() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 100);
+        new Constraint("one step", oneStep(x, true)).post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        assertEquals(x.getUB(), 99);
+        assertEquals(solver.getEngine().getSkippedSelfEventCount(), 1);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNotIdempotent() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 100);
+        new Constraint("one step", oneStep(x, false)).post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        assertEquals(x.getUB(), 50);
+        assertEquals(solver.getEngine().getSkippedSelfEventCount(), 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSkippedSelfEvents() {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        Solver solver = model.getSolver();
+        solver.findSolution();
+        Assert.assertTrue(solver.getEngine().getSkippedSelfEventCount() > 0);
+    }
 }
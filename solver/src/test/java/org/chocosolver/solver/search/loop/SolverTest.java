@@ -15,6 +15,7 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.propagation.PropagationProfiler;
+import org.chocosolver.solver.propagation.PropagationTimer;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.monitors.SolvingStatisticsFlow;
@@ -29,6 +30,7 @@ import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.objects.TimeHistogram;
 import org.chocosolver.util.tools.VariableUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -38,6 +40,7 @@ import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static org.chocosolver.solver.search.strategy.Search.*;
 import static org.chocosolver.util.ProblemMaker.makeGolombRuler;
@@ -410,6 +413,32 @@ public class SolverTest {
                 " 9              0         0         0         0         0  \"cste -- 24576\"\n\n");
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimer() {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        Solver solver = model.getSolver();
+        PropagationTimer timer = solver.timePropagation(3);
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getSolutionCount(), 92);
+        TimeHistogram all = timer.getHistogram();
+        Assert.assertTrue(all.getCount() > 0);
+        Assert.assertEquals(timer.getHistogramsPerPriority().values().stream().mapToLong(TimeHistogram::getCount).sum(),
+                all.getCount());
+        Assert.assertEquals(timer.getHistogramsPerConstraint().values().stream().mapToLong(TimeHistogram::getCount).sum(),
+                all.getCount());
+        Assert.assertEquals(Stream.of(model.getCstrs()).flatMap(c -> Stream.of(c.getPropagators()))
+                .mapToLong(p -> timer.getHistogram(p).getCount()).sum(), all.getCount());
+        Assert.assertTrue(timer.getHistogramsPerConstraint().containsKey("ALLDIFFERENT"));
+        String json = timer.toJSON();
+        Assert.assertTrue(json.startsWith("{\"period\":3,\"all\":{\"calls\":" + all.getCount() + ","), json);
+        Assert.assertTrue(json.contains("\"ALLDIFFERENT\":{\"calls\":"), json);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintWriter pw = new PrintWriter(baos);
+        timer.writeTo(pw);
+        pw.flush();
+        Assert.assertTrue(baos.toString().startsWith("Propagation time, one call out of 3 is timed"));
+    }
+
     @Test(groups = "1s")
     public void testSolvingFlow() {
         Model model = ProblemMaker.makeGolombRuler(9);
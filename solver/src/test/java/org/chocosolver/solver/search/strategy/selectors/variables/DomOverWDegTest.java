@@ -0,0 +1,106 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class DomOverWDegTest {
+
+    /**
+     * Check, at each decision, that the variable selected from the heap has the best score.
+     */
+    private static void check(Model model, IntVar[] vars, AbstractCriterionBasedVariableSelector<IntVar> sel) {
+        VariableSelector<IntVar> checker = new VariableSelector<IntVar>() {
+            @Override
+            public IntVar getVariable(IntVar[] variables) {
+                IntVar var = sel.getVariable(variables);
+                double best = Double.NEGATIVE_INFINITY;
+                for (IntVar v : variables) {
+                    if (v.getDomainSize() > 1) {
+                        best = Math.max(best, sel.weight(v) / v.getDomainSize());
+                    }
+                }
+                if (var == null) {
+                    Assert.assertEquals(best, Double.NEGATIVE_INFINITY);
+                } else {
+                    Assert.assertTrue(var.getDomainSize() > 1);
+                    Assert.assertEquals(sel.weight(var) / var.getDomainSize(), best, 0.);
+                }
+                return var;
+            }
+
+            @Override
+            public boolean init() {
+                return sel.init();
+            }
+
+            @Override
+            public void remove() {
+                sel.remove();
+            }
+        };
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(checker, new IntDomainMin(), vars));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBestScore() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(10);
+        IntVar[] vars = model.retrieveIntVars(true);
+        DomOverWDeg<IntVar> sel = new DomOverWDeg<>(vars, 0);
+        check(model, vars, sel);
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 724);
+        Assert.assertTrue(sel.weighted.size() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBestScoreRef() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(10);
+        IntVar[] vars = model.retrieveIntVars(true);
+        check(model, vars, new DomOverWDegRef<>(vars, 0));
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 724);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRestarts() {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        IntVar[] vars = (IntVar[]) model.getHook("ticks");
+        check(model, vars, new DomOverWDeg<>(vars, 0, 1));
+        model.getSolver().setLubyRestart(10, new FailCounter(model, 10), 1000);
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 34);
+        Assert.assertTrue(model.getSolver().getRestartCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConflictHistorySearch() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(10);
+        IntVar[] vars = model.retrieveIntVars(true);
+        check(model, vars, new ConflictHistorySearch<>(vars, 0));
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 724);
+    }
+}
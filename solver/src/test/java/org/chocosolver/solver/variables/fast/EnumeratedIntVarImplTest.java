@@ -0,0 +1,342 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Tests shared by the implementations of enumerated integer domains,
+ * which are checked against {@link BitsetIntVarImpl}.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public abstract class EnumeratedIntVarImplTest {
+
+    IntVar var;
+
+    /**
+     * @return a variable whose domain is made of <i>values</i>, stored in the implementation under test
+     */
+    public abstract IntVar create(String name, int[] values, Model model);
+
+    /**
+     * @return <i>settings</i>, updated to store enumerated domains in the implementation under test,
+     * or not, depending on <i>enabled</i>
+     */
+    public abstract Settings enable(Settings settings, boolean enabled);
+
+    public void setUp() {
+        var = create("test", new int[]{-5, 0, 3, 4, 5}, new Model());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testUpdateInfeasBounds() throws Exception {
+        setUp();
+        var.updateBounds(1, -1, Cause.Null);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemoveValue() throws Exception {
+        setUp();
+        Assert.assertFalse(var.removeValue(7, Cause.Null));
+        Assert.assertFalse(var.removeValue(1, Cause.Null));
+        Assert.assertTrue(var.removeValue(4, Cause.Null));
+        Assert.assertFalse(var.contains(4));
+        Assert.assertEquals(var.getDomainSize(), 4);
+        Assert.assertEquals(var.toString(), "test = {-5,0,3,5}");
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemoveInterval() throws Exception {
+        setUp();
+        Assert.assertFalse(var.removeInterval(7, 8, Cause.Null));
+        Assert.assertFalse(var.removeInterval(1, 2, Cause.Null));
+        Assert.assertFalse(var.removeInterval(4, 3, Cause.Null));
+        Assert.assertTrue(var.removeInterval(0, 3, Cause.Null));
+        Assert.assertFalse(var.contains(0));
+        Assert.assertFalse(var.contains(3));
+        Assert.assertEquals(var.getDomainSize(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUpdateBounds() throws Exception {
+        setUp();
+        Assert.assertFalse(var.updateLowerBound(-6, Cause.Null));
+        Assert.assertTrue(var.updateLowerBound(-4, Cause.Null));
+        Assert.assertEquals(var.getLB(), 0);
+        Assert.assertFalse(var.updateUpperBound(6, Cause.Null));
+        Assert.assertTrue(var.updateUpperBound(4, Cause.Null));
+        Assert.assertEquals(var.getUB(), 4);
+        Assert.assertEquals(var.getDomainSize(), 3);
+        Assert.assertTrue(var.updateBounds(1, 3, Cause.Null));
+        Assert.assertTrue(var.isInstantiatedTo(3));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNextPreviousValue() {
+        setUp();
+        Assert.assertEquals(var.nextValue(-6), -5);
+        Assert.assertEquals(var.nextValue(-5), 0);
+        Assert.assertEquals(var.nextValue(3), 4);
+        Assert.assertEquals(var.nextValue(5), Integer.MAX_VALUE);
+        Assert.assertEquals(var.previousValue(6), 5);
+        Assert.assertEquals(var.previousValue(3), 0);
+        Assert.assertEquals(var.previousValue(-5), Integer.MIN_VALUE);
+        Assert.assertEquals(var.nextValueOut(-6), -4);
+        Assert.assertEquals(var.nextValueOut(2), 6);
+        Assert.assertEquals(var.nextValueOut(-10), -9);
+        Assert.assertEquals(var.previousValueOut(4), 2);
+        Assert.assertEquals(var.previousValueOut(-5), -6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIterators() {
+        setUp();
+        DisposableValueIterator vit = var.getValueIterator(true);
+        int[] values = {-5, 0, 3, 4, 5};
+        for (int v : values) {
+            Assert.assertTrue(vit.hasNext());
+            Assert.assertEquals(vit.next(), v);
+        }
+        Assert.assertFalse(vit.hasNext());
+        vit.dispose();
+        vit = var.getValueIterator(false);
+        for (int i = values.length - 1; i >= 0; i--) {
+            Assert.assertTrue(vit.hasPrevious());
+            Assert.assertEquals(vit.previous(), values[i]);
+        }
+        Assert.assertFalse(vit.hasPrevious());
+        vit.dispose();
+        DisposableRangeIterator rit = var.getRangeIterator(true);
+        Assert.assertEquals(rit.min(), -5);
+        rit.next();
+        Assert.assertEquals(rit.min(), 0);
+        rit.next();
+        Assert.assertEquals(rit.min(), 3);
+        Assert.assertEquals(rit.max(), 5);
+        rit.next();
+        Assert.assertFalse(rit.hasNext());
+        rit.dispose();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBacktrack() throws ContradictionException {
+        Model model = new Model();
+        IEnvironment env = model.getEnvironment();
+        IntVar x = create("x", new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, model);
+        env.worldPush();
+        for (int v = 1; v < 9; v += 2) {
+            x.removeValue(v, Cause.Null);
+        }
+        env.worldPush();
+        x.updateBounds(3, 7, Cause.Null);
+        Assert.assertEquals(x.toString(), "x = {4,6}");
+        env.worldPop();
+        Assert.assertEquals(x.toString(), "x = {0,2,4,6,8..9}");
+        env.worldPop();
+        Assert.assertEquals(x.toString(), "x = {0..9}");
+        Assert.assertEquals(x.getDomainSize(), 10);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDelta() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = create("x", new int[]{0, 1, 2, 5, 6, 7, 100, 101}, model);
+        x.createDelta();
+        model.getEnvironment().worldPush();
+        x.removeInterval(1, 6, Cause.Null);
+        x.updateUpperBound(100, Cause.Null);
+        IEnumDelta delta = (IEnumDelta) x.getDelta();
+        Assert.assertEquals(delta.size(), 5);
+        Assert.assertEquals(delta.get(0), 1);
+        Assert.assertEquals(delta.get(3), 6);
+        Assert.assertEquals(delta.get(4), 101);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testRandom() {
+        Random rnd = new Random();
+        for (int seed = 0; seed < 200; seed++) {
+            rnd.setSeed(seed);
+            Model model = new Model();
+            IEnvironment env = model.getEnvironment();
+            int[] values = new int[20 + rnd.nextInt(20)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rnd.nextInt(60) - 10;
+            }
+            IntIterableRangeSet set = new IntIterableRangeSet(values);
+            BitsetIntVarImpl b = new BitsetIntVarImpl("b", set.toArray(), model);
+            IntVar r = create("r", set.toArray(), model);
+            int depth = 0;
+            for (int k = 0; k < 60; k++) {
+                if (rnd.nextInt(4) == 0 && depth > 0) {
+                    env.worldPop();
+                    depth--;
+                } else {
+                    env.worldPush();
+                    depth++;
+                    int v = rnd.nextInt(60) - 10;
+                    int w = v + rnd.nextInt(10) - 2;
+                    IntIterableRangeSet vals = new IntIterableRangeSet();
+                    for (int i = rnd.nextInt(5); i >= 0; i--) {
+                        vals.add(rnd.nextInt(60) - 10);
+                    }
+                    int op = rnd.nextInt(7);
+                    if (op == 6) {
+                        vals.addBetween(v, Math.max(v, w));
+                    }
+                    int rb = apply(b, op, v, w, vals);
+                    int rr = apply(r, op, v, w, vals);
+                    Assert.assertEquals(rr, rb, "seed " + seed);
+                    if (rr < 0) {
+                        env.worldPop();
+                        depth--;
+                        continue;
+                    }
+                }
+                Assert.assertEquals(new IntIterableRangeSet(r).toString(), new IntIterableRangeSet(b).toString(), "seed " + seed);
+                Assert.assertEquals(r.getDomainSize(), b.getDomainSize());
+                for (int v = -12; v < 52; v++) {
+                    Assert.assertEquals(r.nextValue(v), b.nextValue(v));
+                    Assert.assertEquals(r.previousValue(v), b.previousValue(v));
+                    Assert.assertEquals(r.nextValueOut(v), b.nextValueOut(v));
+                    Assert.assertEquals(r.previousValueOut(v), b.previousValueOut(v));
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemoveWhileIterating() throws ContradictionException {
+        Random rnd = new Random();
+        for (int seed = 0; seed < 200; seed++) {
+            rnd.setSeed(seed);
+            Model model = new Model();
+            int[] values = new int[5 + rnd.nextInt(20)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rnd.nextInt(60) - 10;
+            }
+            IntIterableRangeSet set = new IntIterableRangeSet(values);
+            IntIterableRangeSet toRemove = new IntIterableRangeSet();
+            for (int i = rnd.nextInt(10); i >= 0; i--) {
+                toRemove.add(rnd.nextInt(60) - 10);
+            }
+            boolean bottomUp = rnd.nextBoolean();
+            BitsetIntVarImpl b = new BitsetIntVarImpl("b", set.toArray(), model);
+            IntVar r = create("r", set.toArray(), model);
+            Assert.assertEquals(removeWhileIterating(r, toRemove, bottomUp),
+                    removeWhileIterating(b, toRemove, bottomUp), "seed " + seed);
+            Assert.assertEquals(new IntIterableRangeSet(r).toString(), new IntIterableRangeSet(b).toString(), "seed " + seed);
+            Assert.assertEquals(removeRangesWhileIterating(r), removeRangesWhileIterating(b), "seed " + seed);
+            Assert.assertEquals(new IntIterableRangeSet(r).toString(), new IntIterableRangeSet(b).toString(), "seed " + seed);
+        }
+    }
+
+    /**
+     * Remove from <i>x</i> the values of <i>toRemove</i> met while iterating over its domain, as some propagators do.
+     *
+     * @return the values met
+     */
+    private static String removeWhileIterating(IntVar x, IntIterableRangeSet toRemove, boolean bottomUp) throws ContradictionException {
+        StringBuilder met = new StringBuilder();
+        DisposableValueIterator it = x.getValueIterator(bottomUp);
+        while (bottomUp ? it.hasNext() : it.hasPrevious()) {
+            int v = bottomUp ? it.next() : it.previous();
+            met.append(v).append(' ');
+            if (toRemove.contains(v) && x.getDomainSize() > 1) {
+                x.removeValue(v, Cause.Null);
+            }
+        }
+        it.dispose();
+        return met.toString();
+    }
+
+    /**
+     * Remove from <i>x</i> the ranges of odd size, and the second value of the other ones, met while iterating.
+     *
+     * @return the ranges met
+     */
+    private static String removeRangesWhileIterating(IntVar x) throws ContradictionException {
+        StringBuilder met = new StringBuilder();
+        DisposableRangeIterator it = x.getRangeIterator(true);
+        while (it.hasNext()) {
+            int lo = it.min();
+            int hi = it.max();
+            met.append(lo).append("..").append(hi).append(' ');
+            if ((hi - lo) % 2 == 0 && x.getDomainSize() > hi - lo + 1) {
+                x.removeInterval(lo, hi, Cause.Null);
+            } else if (lo < hi) {
+                x.removeValue(lo + 1, Cause.Null);
+            }
+            it.next();
+        }
+        it.dispose();
+        return met.toString();
+    }
+
+    /**
+     * @return -1 if a contradiction occurs, 1 if the domain of <i>x</i> is modified, 0 otherwise
+     */
+    private static int apply(IntVar x, int op, int v, int w, IntIterableRangeSet vals) {
+        try {
+            switch (op) {
+                case 0:
+                    return x.removeValue(v, Cause.Null) ? 1 : 0;
+                case 1:
+                    return x.removeInterval(v, w, Cause.Null) ? 1 : 0;
+                case 2:
+                    return x.updateLowerBound(v, Cause.Null) ? 1 : 0;
+                case 3:
+                    return x.updateUpperBound(w, Cause.Null) ? 1 : 0;
+                case 4:
+                    return x.updateBounds(v, w + 20, Cause.Null) ? 1 : 0;
+                case 5:
+                    return x.removeValues(vals, Cause.Null) ? 1 : 0;
+                default:
+                    return x.removeAllValuesBut(vals, Cause.Null) ? 1 : 0;
+            }
+        } catch (ContradictionException e) {
+            return -1;
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSolve() {
+        int[] counts = new int[2];
+        for (int i = 0; i < 2; i++) {
+            Model model = new Model(enable(Settings.init(), i == 0));
+            IntVar[] x = new IntVar[4];
+            for (int j = 0; j < x.length; j++) {
+                x[j] = model.intVar("x" + j, new int[]{1, 2, 5, 100 * j, 1000, 1001});
+            }
+            model.allDifferent(x).post();
+            model.arithm(x[0], "<", x[1]).post();
+            model.sum(x, "<=", 2000).post();
+            counts[i] = model.getSolver().findAllSolutions().size();
+        }
+        Assert.assertTrue(counts[0] > 0);
+        Assert.assertEquals(counts[0], counts[1]);
+    }
+}
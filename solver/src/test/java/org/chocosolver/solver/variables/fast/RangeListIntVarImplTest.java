@@ -0,0 +1,89 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.RangeListIntVarImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class RangeListIntVarImplTest extends EnumeratedIntVarImplTest {
+
+    @Override
+    public IntVar create(String name, int[] values, Model model) {
+        return new RangeListIntVarImpl(name, values, model);
+    }
+
+    @Override
+    public Settings enable(Settings settings, boolean enabled) {
+        return settings.setMinHoleSizeForRangeList(enabled ? 1 : Integer.MAX_VALUE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNbRanges() throws ContradictionException {
+        Model model = new Model();
+        IEnvironment env = model.getEnvironment();
+        RangeListIntVarImpl x = new RangeListIntVarImpl("x", new int[]{-5, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, model);
+        Assert.assertEquals(x.getNbRanges(), 2);
+        env.worldPush();
+        for (int v = 1; v < 9; v += 2) {
+            x.removeValue(v, Cause.Null);
+        }
+        Assert.assertEquals(x.getNbRanges(), 6);
+        x.removeValue(-5, Cause.Null);
+        Assert.assertEquals(x.getNbRanges(), 5);
+        env.worldPop();
+        Assert.assertEquals(x.getNbRanges(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactory() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10,
+                1_000_000, 1_000_001, 1_000_002, 1_000_003, 1_000_004, 1_000_005});
+        Assert.assertTrue(x instanceof RangeListIntVarImpl);
+        Assert.assertEquals(x.getDomainSize(), 17);
+        IntVar y = model.intVar("y", new int[]{0, 2, 4, 6});
+        Assert.assertTrue(y instanceof BitsetIntVarImpl);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactoryDense() {
+        Model model = new Model();
+        for (int n : new int[]{50, 64, 100, 1000}) {
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = i;
+            }
+            Assert.assertTrue(model.intVar("x" + n, values) instanceof BitsetIntVarImpl);
+            // a few small holes do not make a domain sparse
+            values[n / 2] = values[n / 2 - 1];
+            values[n / 3] = values[n / 3 - 1];
+            Assert.assertTrue(model.intVar("y" + n, values) instanceof BitsetIntVarImpl);
+        }
+        int[] values = new int[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 * i;
+        }
+        Assert.assertTrue(model.intVar("z", values) instanceof RangeListIntVarImpl);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.SparseSetIntVarImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class SparseSetIntVarImplTest extends EnumeratedIntVarImplTest {
+
+    @Override
+    public IntVar create(String name, int[] values, Model model) {
+        return new SparseSetIntVarImpl(name, values, model);
+    }
+
+    @Override
+    public Settings enable(Settings settings, boolean enabled) {
+        return settings.setEnableSparseSetOnIntVar(s -> enabled);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactory() {
+        Model model = new Model();
+        Assert.assertTrue(model.intVar("x", 0, 999, false) instanceof BitsetIntVarImpl);
+        model = new Model(Settings.init().setEnableSparseSetOnIntVar(s -> s >= 256));
+        Assert.assertTrue(model.intVar("x", 0, 999, false) instanceof SparseSetIntVarImpl);
+        Assert.assertTrue(model.intVar("y", 0, 9, false) instanceof BitsetIntVarImpl);
+        int[] values = new int[300];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 2 * i;
+        }
+        Assert.assertTrue(model.intVar("z", values) instanceof SparseSetIntVarImpl);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInstantiate() throws ContradictionException {
+        Model model = new Model();
+        SparseSetIntVarImpl x = new SparseSetIntVarImpl("x", 0, 9, model);
+        x.createDelta();
+        model.getEnvironment().worldPush();
+        Assert.assertTrue(x.instantiateTo(4, Cause.Null));
+        Assert.assertEquals(x.getDelta().size(), 9);
+        Assert.assertEquals(x.nextValue(0), 4);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getDomainSize(), 10);
+        Assert.assertEquals(x.toString(), "x = {0..9}");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TimeHistogramTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEmpty() {
+        TimeHistogram h = new TimeHistogram();
+        Assert.assertEquals(h.getCount(), 0);
+        Assert.assertEquals(h.getMin(), 0);
+        Assert.assertEquals(h.getMax(), 0);
+        Assert.assertEquals(h.getValueAtPercentile(50), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSmallValues() {
+        TimeHistogram h = new TimeHistogram();
+        for (int i = 0; i < 10; i++) {
+            h.record(i);
+        }
+        Assert.assertEquals(h.getCount(), 10);
+        Assert.assertEquals(h.getTotal(), 45);
+        Assert.assertEquals(h.getMin(), 0);
+        Assert.assertEquals(h.getMax(), 9);
+        // small values are exact
+        Assert.assertEquals(h.getValueAtPercentile(50), 4);
+        Assert.assertEquals(h.getValueAtPercentile(100), 9);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPrecision() {
+        Random rnd = new Random(0);
+        long[] values = new long[10_000];
+        TimeHistogram h = new TimeHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(rnd.nextDouble() * 30);
+            h.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[]{1, 10, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long approx = h.getValueAtPercentile(p);
+            Assert.assertTrue(approx >= exact && approx <= exact + exact / 16, p + ": " + approx + " vs " + exact);
+        }
+        Assert.assertEquals(h.getValueAtPercentile(100), values[values.length - 1]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAdd() {
+        TimeHistogram h1 = new TimeHistogram();
+        TimeHistogram h2 = new TimeHistogram();
+        h1.record(100);
+        h2.record(1_000_000);
+        h2.record(5);
+        h1.add(h2);
+        Assert.assertEquals(h1.getCount(), 3);
+        Assert.assertEquals(h1.getTotal(), 1_000_105);
+        Assert.assertEquals(h1.getMin(), 5);
+        Assert.assertEquals(h1.getMax(), 1_000_000);
+        h1.clear();
+        Assert.assertEquals(h1.getCount(), 0);
+    }
+}